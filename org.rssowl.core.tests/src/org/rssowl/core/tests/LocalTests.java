@@ -27,12 +27,14 @@ package org.rssowl.core.tests;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
+import org.rssowl.core.tests.connection.ConnectionPoolTest;
 import org.rssowl.core.tests.controller.ControllerTestLocal;
 import org.rssowl.core.tests.controller.ControllerTestLocalLBS;
 import org.rssowl.core.tests.controller.ReloadTestLocal;
 import org.rssowl.core.tests.controller.ReloadTestLocalLBS;
 import org.rssowl.core.tests.importer.ImporterTest;
 import org.rssowl.core.tests.interpreter.InterpreterTest;
+import org.rssowl.core.tests.interpreter.StreamingInterpreterTest;
 import org.rssowl.core.tests.model.ApplicationLayerTest;
 import org.rssowl.core.tests.model.ApplicationLayerTestLBS;
 import org.rssowl.core.tests.model.DBManagerTest;
@@ -53,6 +55,8 @@ import org.rssowl.core.tests.model.PreferencesDAOTest;
 import org.rssowl.core.tests.model.PreferencesDAOTestLBS;
 import org.rssowl.core.tests.model.PreferencesScopeTest;
 import org.rssowl.core.tests.model.PreferencesScopeTestLBS;
+import org.rssowl.core.tests.persist.ConcurrentLongMapTest;
+import org.rssowl.core.tests.persist.FeedMergeTest;
 import org.rssowl.core.tests.persist.INewsTest;
 import org.rssowl.core.tests.persist.LongArrayListTest;
 import org.rssowl.core.tests.persist.MigrationsTest;
@@ -60,6 +64,7 @@ import org.rssowl.core.tests.ui.ExpandingReaderTests;
 import org.rssowl.core.tests.ui.RetentionStrategyTests;
 import org.rssowl.core.tests.ui.TreeTraversalTest;
 import org.rssowl.core.tests.util.CoreUtilsTest;
+import org.rssowl.core.tests.util.DateUtilsTest;
 import org.rssowl.core.tests.util.MergeUtilsTest;
 import org.rssowl.core.tests.util.StringUtilsTest;
 import org.rssowl.core.tests.util.SyncUtilsTest;
@@ -74,6 +79,7 @@ import org.rssowl.core.tests.util.URIUtilsTest;
 @RunWith(Suite.class)
 @SuiteClasses({
   InterpreterTest.class,
+  StreamingInterpreterTest.class,
   ImporterTest.class,
   ControllerTestLocal.class,
   ControllerTestLocalLBS.class, //Running twice to test with large block size
@@ -101,14 +107,18 @@ import org.rssowl.core.tests.util.URIUtilsTest;
   PreferencesScopeTestLBS.class, //Running twice to test with large block size
   MergeUtilsTest.class,
   INewsTest.class,
+  FeedMergeTest.class,
   StringUtilsTest.class,
   SyncUtilsTest.class,
   CoreUtilsTest.class,
   URIUtilsTest.class,
+  DateUtilsTest.class,
   MigrationsTest.class,
   LongArrayListTest.class,
+  ConcurrentLongMapTest.class,
   RetentionStrategyTests.class,
   TreeTraversalTest.class,
-  ExpandingReaderTests.class
+  ExpandingReaderTests.class,
+  ConnectionPoolTest.class
 })
 public class LocalTests {}
\ No newline at end of file
@@ -29,6 +29,7 @@ import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 import org.rssowl.core.tests.importer.FileImportTest;
 import org.rssowl.core.tests.importer.ImportExportOPMLTest;
+import org.rssowl.core.tests.ui.AdaptiveReloadIntervalTest;
 import org.rssowl.core.tests.ui.CleanUpTests;
 import org.rssowl.core.tests.ui.DownloadServiceTests;
 import org.rssowl.core.tests.ui.EntityPropertyPageTests;
@@ -62,5 +63,6 @@ import org.rssowl.core.tests.ui.UndoTest;
   DownloadServiceTests.class,
   NewsBrowserViewModelTests.class,
   SyncServiceTest.class,
-  UndoTest.class })
+  UndoTest.class,
+  AdaptiveReloadIntervalTest.class })
 public class UITests {}
\ No newline at end of file
@@ -0,0 +1,173 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2009 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.tests.connection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.rssowl.core.internal.connection.DefaultProtocolHandler;
+import org.rssowl.core.internal.connection.PooledConnectionManager;
+import org.rssowl.core.persist.IConditionalGet;
+import org.rssowl.core.persist.IFeed;
+import org.rssowl.core.util.Triple;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tests reuse of Connections by the {@link PooledConnectionManager} against a
+ * local {@link HttpStubServer}.
+ */
+@SuppressWarnings("nls")
+public class ConnectionPoolTest {
+  private static final String FEED = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><rss version=\"2.0\"><channel><title>Stub</title><item><title>News</title><link>http://www.rssowl.org/news</link></item></channel></rss>";
+  private static final int REQUESTS = 20;
+
+  private HttpStubServer fServer;
+  private PooledConnectionManager fConnectionManager;
+
+  /**
+   * @throws Exception
+   */
+  @Before
+  public void setUp() throws Exception {
+    fConnectionManager = DefaultProtocolHandler.getConnectionManager();
+    fConnectionManager.closeIdleConnections(0);
+    fConnectionManager.resetStatistics();
+  }
+
+  /**
+   * @throws Exception
+   */
+  @After
+  public void tearDown() throws Exception {
+    if (fServer != null)
+      fServer.stop();
+    fConnectionManager.closeIdleConnections(0);
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testReloadReusesConnection() throws Exception {
+    fServer = new HttpStubServer(FEED.getBytes("UTF-8"), true, 0);
+    URI link = fServer.getLink("/feed.xml");
+    DefaultProtocolHandler handler = new DefaultProtocolHandler();
+
+    for (int i = 0; i < REQUESTS; i++) {
+      Triple<IFeed, IConditionalGet, URI> result = handler.reload(link, new NullProgressMonitor(), null);
+      assertEquals(1, result.getFirst().getNews().size());
+    }
+
+    assertEquals(REQUESTS, fServer.getRequests());
+    assertEquals(1, fServer.getAcceptedConnections());
+    assertEquals(REQUESTS, fConnectionManager.getRequestCount());
+    assertEquals(REQUESTS - 1, fConnectionManager.getReuseCount());
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testOpenStreamReleasesConnectionOnClose() throws Exception {
+    fServer = new HttpStubServer(FEED.getBytes("UTF-8"), true, 0);
+    URI link = fServer.getLink("/feed.xml");
+    DefaultProtocolHandler handler = new DefaultProtocolHandler();
+
+    for (int i = 0; i < REQUESTS; i++) {
+      InputStream inS = handler.openStream(link, new NullProgressMonitor(), null);
+      inS.read();
+      inS.close();
+    }
+
+    assertEquals(REQUESTS, fServer.getRequests());
+    assertEquals(1, fServer.getAcceptedConnections());
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testConnectionClosedByServer() throws Exception {
+    fServer = new HttpStubServer(FEED.getBytes("UTF-8"), false, 0);
+    URI link = fServer.getLink("/feed.xml");
+    DefaultProtocolHandler handler = new DefaultProtocolHandler();
+
+    for (int i = 0; i < REQUESTS; i++)
+      handler.reload(link, new NullProgressMonitor(), null);
+
+    assertEquals(REQUESTS, fServer.getRequests());
+    assertEquals(REQUESTS, fServer.getAcceptedConnections());
+    assertEquals(0, fConnectionManager.getReuseCount());
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testConcurrentReloadsAreLimitedPerHost() throws Exception {
+    fServer = new HttpStubServer(FEED.getBytes("UTF-8"), true, 0);
+    final URI link = fServer.getLink("/feed.xml");
+    final List<Exception> ex = Collections.synchronizedList(new ArrayList<Exception>());
+
+    List<Thread> threads = new ArrayList<Thread>();
+    for (int i = 0; i < 8; i++) {
+      threads.add(new Thread() {
+        @Override
+        public void run() {
+          DefaultProtocolHandler handler = new DefaultProtocolHandler();
+          for (int j = 0; j < REQUESTS; j++) {
+            try {
+              handler.reload(link, new NullProgressMonitor(), null);
+            } catch (Exception e) {
+              ex.add(e);
+            }
+          }
+        }
+      });
+    }
+
+    for (Thread thread : threads)
+      thread.start();
+    for (Thread thread : threads)
+      thread.join();
+
+    if (!ex.isEmpty())
+      throw ex.get(0);
+
+    int maxConnectionsPerHost = fConnectionManager.getParams().getDefaultMaxConnectionsPerHost();
+    assertEquals(8 * REQUESTS, fServer.getRequests());
+    assertTrue(fServer.getAcceptedConnections() <= maxConnectionsPerHost);
+    assertTrue(fConnectionManager.getReuseCount() >= 8 * REQUESTS - maxConnectionsPerHost);
+  }
+}
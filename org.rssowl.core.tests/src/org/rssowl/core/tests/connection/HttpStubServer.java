@@ -0,0 +1,184 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2009 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.tests.connection;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A minimal HTTP/1.1 Server on the loopback interface that answers every GET
+ * Request with the same Body. Connections are kept alive unless configured
+ * otherwise, which allows to test and measure reuse of Connections without
+ * network access.
+ */
+public class HttpStubServer {
+  private final ServerSocket fServerSocket;
+  private final byte[] fBody;
+  private final boolean fKeepAlive;
+  private final long fConnectDelay;
+  private final AtomicInteger fAcceptedConnections = new AtomicInteger();
+  private final AtomicInteger fRequests = new AtomicInteger();
+  private volatile boolean fStopped;
+
+  /**
+   * @param body the Body to answer every Request with.
+   * @param keepAlive <code>true</code> to keep Connections open after a
+   * Response and <code>false</code> to close them.
+   * @param connectDelay a delay in millis to apply on every new Connection to
+   * simulate the costs of connecting to a remote Host.
+   * @throws IOException in case the Server Socket can not be opened.
+   */
+  public HttpStubServer(byte[] body, boolean keepAlive, long connectDelay) throws IOException {
+    fBody = body;
+    fKeepAlive = keepAlive;
+    fConnectDelay = connectDelay;
+    fServerSocket = new ServerSocket(0, 50, InetAddress.getByName("127.0.0.1")); //$NON-NLS-1$
+
+    Thread acceptor = new Thread("HttpStubServer Acceptor") { //$NON-NLS-1$
+      @Override
+      public void run() {
+        while (!fStopped) {
+          try {
+            final Socket socket = fServerSocket.accept();
+            fAcceptedConnections.incrementAndGet();
+            Thread handler = new Thread("HttpStubServer Connection") { //$NON-NLS-1$
+              @Override
+              public void run() {
+                serve(socket);
+              }
+            };
+            handler.setDaemon(true);
+            handler.start();
+          } catch (IOException e) {
+            /* Server Socket closed */
+          }
+        }
+      }
+    };
+    acceptor.setDaemon(true);
+    acceptor.start();
+  }
+
+  /**
+   * @param path the path to append.
+   * @return a Link to this Server with the given path.
+   * @throws URISyntaxException in case of an invalid path.
+   */
+  public URI getLink(String path) throws URISyntaxException {
+    return new URI("http://127.0.0.1:" + fServerSocket.getLocalPort() + path); //$NON-NLS-1$
+  }
+
+  /**
+   * @return the number of Connections that have been accepted.
+   */
+  public int getAcceptedConnections() {
+    return fAcceptedConnections.get();
+  }
+
+  /**
+   * @return the number of Requests that have been answered.
+   */
+  public int getRequests() {
+    return fRequests.get();
+  }
+
+  /**
+   * Stops this Server.
+   */
+  public void stop() {
+    fStopped = true;
+    try {
+      fServerSocket.close();
+    } catch (IOException e) {
+      /* Ignore */
+    }
+  }
+
+  private void serve(Socket socket) {
+    try {
+      if (fConnectDelay > 0)
+        Thread.sleep(fConnectDelay);
+
+      socket.setTcpNoDelay(true);
+      InputStream in = new BufferedInputStream(socket.getInputStream());
+      OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+      while (!fStopped && readRequest(in)) {
+        fRequests.incrementAndGet();
+
+        StringBuilder header = new StringBuilder();
+        header.append("HTTP/1.1 200 OK\r\n"); //$NON-NLS-1$
+        header.append("Content-Type: text/xml; charset=UTF-8\r\n"); //$NON-NLS-1$
+        header.append("Content-Length: ").append(fBody.length).append("\r\n"); //$NON-NLS-1$ //$NON-NLS-2$
+        if (!fKeepAlive)
+          header.append("Connection: close\r\n"); //$NON-NLS-1$
+        header.append("\r\n"); //$NON-NLS-1$
+
+        out.write(header.toString().getBytes("US-ASCII")); //$NON-NLS-1$
+        out.write(fBody);
+        out.flush();
+
+        if (!fKeepAlive)
+          break;
+      }
+    } catch (IOException e) {
+      /* Connection closed by Client */
+    } catch (InterruptedException e) {
+      /* Stop serving */
+    } finally {
+      try {
+        socket.close();
+      } catch (IOException e) {
+        /* Ignore */
+      }
+    }
+  }
+
+  /* Reads the Request Header and returns false on end of stream */
+  private boolean readRequest(InputStream in) throws IOException {
+    ByteArrayOutputStream line = new ByteArrayOutputStream();
+    int b;
+    while ((b = in.read()) != -1) {
+      if (b == '\n') {
+        if (line.size() == 0)
+          return true;
+        line.reset();
+      } else if (b != '\r') {
+        line.write(b);
+      }
+    }
+
+    return false;
+  }
+}
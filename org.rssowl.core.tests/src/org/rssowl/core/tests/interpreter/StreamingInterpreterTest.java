@@ -0,0 +1,190 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2009 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.tests.interpreter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.core.runtime.FileLocator;
+import org.eclipse.core.runtime.Platform;
+import org.jdom.Document;
+import org.junit.Test;
+import org.rssowl.core.Owl;
+import org.rssowl.core.internal.interpreter.DefaultSaxParserImpl;
+import org.rssowl.core.internal.persist.Feed;
+import org.rssowl.core.persist.IFeed;
+import org.rssowl.core.persist.IPersistable;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Tests that interpreting a Feed while it is being parsed produces the same
+ * Feed as interpreting the entire <code>org.jdom.Document</code>.
+ */
+@SuppressWarnings("nls")
+public class StreamingInterpreterTest {
+
+  /* Getters that are not filled from the Document or point back to a parent */
+  private static final List<String> IGNORED_GETTERS = Arrays.asList("getId", "getReceiveDate", "getParentId", "getFeed", "getFeedReference", "getVisibleNews");
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testInterpreterCorpus() throws Exception {
+    assertSameAsDocument(getFeedFiles("data/interpreter"));
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testPerformanceCorpus() throws Exception {
+    assertSameAsDocument(getFeedFiles("data/performance"));
+  }
+
+  private File[] getFeedFiles(String path) throws Exception {
+    URI pluginLocation = FileLocator.toFileURL(Platform.getBundle("org.rssowl.core.tests").getEntry("/")).toURI();
+    File[] files = new File(pluginLocation.resolve(path)).listFiles(new FileFilter() {
+      public boolean accept(File file) {
+        return file.getName().endsWith(".xml");
+      }
+    });
+
+    assertTrue(files.length > 0);
+    return files;
+  }
+
+  private void assertSameAsDocument(File[] files) throws Exception {
+    for (File file : files) {
+      IFeed documentFeed = new Feed(new URI("http://www.rssowl.org/" + file.getName()));
+      IFeed streamedFeed = new Feed(new URI("http://www.rssowl.org/" + file.getName()));
+
+      String documentResult;
+      InputStream inS = new FileInputStream(file);
+      try {
+        Document document = new DefaultSaxParserImpl().parse(inS, null);
+        Owl.getInterpreter().interpretJDomDocument(document, documentFeed);
+        documentResult = describe(documentFeed);
+      } catch (Exception e) {
+        documentResult = e.getClass().getName();
+      }
+
+      String streamedResult;
+      inS = new FileInputStream(file);
+      try {
+        Owl.getInterpreter().interpret(inS, streamedFeed, null);
+        streamedResult = describe(streamedFeed);
+      } catch (Exception e) {
+        streamedResult = e.getClass().getName();
+      }
+
+      assertEquals(file.getName(), documentResult, streamedResult);
+    }
+  }
+
+  /**
+   * Describes the given Object and all reachable Model Types by the values of
+   * their getters.
+   *
+   * @param object the Object to describe.
+   * @return a String describing the Object.
+   * @throws Exception in case of an error invoking a getter.
+   */
+  static String describe(Object object) throws Exception {
+    StringBuilder str = new StringBuilder();
+    describe(object, str, new IdentityHashMap<Object, Object>());
+    return str.toString();
+  }
+
+  private static void describe(Object object, StringBuilder str, Map<Object, Object> visited) throws Exception {
+    if (object == null)
+      str.append("null");
+    else if (object instanceof Collection<?>) {
+      str.append('[');
+      for (Object element : (Collection<?>) object) {
+        describe(element, str, visited);
+        str.append(", ");
+      }
+      str.append(']');
+    } else if (object instanceof Map<?, ?>) {
+      str.append(new TreeMap<Object, Object>((Map<?, ?>) object));
+    } else if (object instanceof int[]) {
+      str.append(Arrays.toString((int[]) object));
+    } else if (object instanceof Date) {
+      str.append(((Date) object).getTime());
+    } else if (object instanceof IPersistable) {
+      if (visited.put(object, object) != null) {
+        str.append("<cycle>");
+        return;
+      }
+
+      str.append(object.getClass().getSimpleName()).append(" {");
+      for (Method getter : getGetters(object.getClass())) {
+        str.append(getter.getName()).append('=');
+        describe(getter.invoke(object), str, visited);
+        str.append("; ");
+      }
+      str.append('}');
+    } else
+      str.append(object);
+  }
+
+  /* Returns the getters of all Model Types the given Class implements, sorted by name */
+  private static Collection<Method> getGetters(Class<?> clazz) {
+    Map<String, Method> getters = new TreeMap<String, Method>();
+    List<Class<?>> types = new ArrayList<Class<?>>();
+    for (Class<?> type = clazz; type != null; type = type.getSuperclass())
+      types.addAll(Arrays.asList(type.getInterfaces()));
+
+    for (int i = 0; i < types.size(); i++) {
+      Class<?> type = types.get(i);
+      types.addAll(Arrays.asList(type.getInterfaces()));
+      if (!type.getName().startsWith("org.rssowl.core.persist"))
+        continue;
+
+      for (Method method : type.getMethods()) {
+        String name = method.getName();
+        if (method.getParameterTypes().length == 0 && (name.startsWith("get") || name.startsWith("is")) && !IGNORED_GETTERS.contains(name))
+          getters.put(name, method);
+      }
+    }
+
+    return getters.values();
+  }
+}
@@ -31,14 +31,20 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
 import org.junit.Before;
 import org.junit.Test;
 import org.rssowl.core.IApplicationService;
 import org.rssowl.core.Owl;
 import org.rssowl.core.internal.persist.Feed;
+import org.rssowl.core.internal.persist.Label;
 import org.rssowl.core.internal.persist.MergeResult;
 import org.rssowl.core.internal.persist.pref.DefaultPreferences;
+import org.rssowl.core.internal.persist.service.DBManager;
+import org.rssowl.core.internal.persist.service.GroupCommit;
 import org.rssowl.core.internal.persist.service.PersistenceServiceImpl;
 import org.rssowl.core.persist.IAttachment;
 import org.rssowl.core.persist.IBookMark;
@@ -60,6 +66,9 @@ import org.rssowl.core.persist.event.BookMarkEvent;
 import org.rssowl.core.persist.event.BookMarkListener;
 import org.rssowl.core.persist.event.FolderEvent;
 import org.rssowl.core.persist.event.FolderListener;
+import org.rssowl.core.persist.event.LabelAdapter;
+import org.rssowl.core.persist.event.LabelEvent;
+import org.rssowl.core.persist.event.LabelListener;
 import org.rssowl.core.persist.event.NewsAdapter;
 import org.rssowl.core.persist.event.NewsEvent;
 import org.rssowl.core.persist.event.NewsListener;
@@ -71,7 +80,11 @@ import org.rssowl.core.persist.reference.FeedReference;
 import org.rssowl.core.persist.reference.FolderReference;
 import org.rssowl.core.persist.reference.NewsReference;
 import org.rssowl.core.tests.TestUtils;
+import org.rssowl.core.util.ITask;
 import org.rssowl.core.util.ReparentInfo;
+import org.rssowl.core.util.TaskAdapter;
+
+import com.db4o.ObjectContainer;
 
 import java.net.URI;
 import java.util.ArrayList;
@@ -80,8 +93,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * This TestCase is for testing the IApplicationLayer.
@@ -1304,4 +1321,197 @@ public class ApplicationLayerTest extends LargeBlockSizeTest {
         DynamicDAO.removeEntityListener(INews.class, newsListener);
     }
   }
+
+  /**
+   * Tests that concurrent calls to
+   * {@link IApplicationService#handleFeedReload(IBookMark, IFeed, org.rssowl.core.persist.IConditionalGet, boolean, org.eclipse.core.runtime.IProgressMonitor)}
+   * that may share a commit fire exactly one persist event per news and only
+   * return after the events of the reloaded feed have been fired.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testConcurrentHandleFeedReloadFiresEventsPerNews() throws Exception {
+    final int feedCount = 12;
+    final int newsCount = 5;
+
+    IFolder folder = fFactory.createFolder(null, null, "Folder");
+    final List<IBookMark> marks = new ArrayList<IBookMark>();
+    for (int i = 0; i < feedCount; i++) {
+      IFeed feed = fFactory.createFeed(null, new URI("http://www.feed" + i + ".com"));
+      DynamicDAO.save(feed);
+      marks.add(fFactory.createBookMark(null, folder, new FeedLinkReference(feed.getLink()), "Mark" + i));
+    }
+    DynamicDAO.save(folder);
+
+    final List<Long> persistedNews = Collections.synchronizedList(new ArrayList<Long>());
+    final List<String> failures = Collections.synchronizedList(new ArrayList<String>());
+    NewsListener newsListener = new NewsAdapter() {
+      @Override
+      public void entitiesAdded(Set<NewsEvent> events) {
+        for (NewsEvent event : events)
+          persistedNews.add(event.getEntity().getId());
+      }
+    };
+    DynamicDAO.addEntityListener(INews.class, newsListener);
+    try {
+      List<ITask> tasks = new ArrayList<ITask>();
+      for (final IBookMark mark : marks) {
+        tasks.add(new TaskAdapter() {
+          public IStatus run(IProgressMonitor monitor) {
+            try {
+              IFeed feed = fFactory.createFeed(null, mark.getFeedLinkReference().getLink());
+              List<INews> news = new ArrayList<INews>();
+              for (int i = 0; i < newsCount; i++) {
+                INews item = fFactory.createNews(null, feed, new Date());
+                item.setLink(new URI(feed.getLink() + "/" + i));
+                news.add(item);
+              }
+
+              fAppService.handleFeedReload(mark, feed, null, false, new NullProgressMonitor());
+
+              for (INews item : news) {
+                if (!persistedNews.contains(item.getId()))
+                  failures.add("Event missing after reload: " + item.getLink());
+              }
+            } catch (Exception e) {
+              failures.add(e.toString());
+            }
+
+            return Status.OK_STATUS;
+          }
+        });
+      }
+
+      TestUtils.executeAndWait(tasks, 4);
+
+      assertEquals(failures.toString(), 0, failures.size());
+      assertEquals(feedCount * newsCount, persistedNews.size());
+      assertEquals(feedCount * newsCount, new HashSet<Long>(persistedNews).size());
+
+      NewsCounter newsCounter = DynamicDAO.getDAO(INewsCounterDAO.class).load();
+      for (IBookMark mark : marks)
+        assertEquals(newsCount, newsCounter.getNewCount(mark.getFeedLinkReference().getLinkAsText()));
+    } finally {
+      DynamicDAO.removeEntityListener(INews.class, newsListener);
+    }
+  }
+
+  /**
+   * Tests that a Unit that fails in a group commit does not make the other
+   * Units of the same batch fail.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testGroupCommitIsolatesFailingUnit() throws Exception {
+    final ObjectContainer db = DBManager.getDefault().getObjectContainer();
+    ReadWriteLock lock = new ReentrantReadWriteLock();
+    final GroupCommit groupCommit = new GroupCommit(db, lock.writeLock(), 32, 0);
+    final int unitCount = 5;
+    final int failingUnit = 2;
+    final RuntimeException[] results = new RuntimeException[unitCount];
+    final AtomicInteger prepared = new AtomicInteger();
+    final AtomicInteger finished = new AtomicInteger();
+
+    List<Thread> threads = new ArrayList<Thread>();
+    for (int i = 0; i < unitCount; i++) {
+      final int index = i;
+      threads.add(new Thread() {
+        @Override
+        public void run() {
+          try {
+            groupCommit.commit(new GroupCommit.Unit() {
+              public void prepare() {
+                prepared.incrementAndGet();
+              }
+
+              public void write() {
+                if (index == failingUnit)
+                  throw new IllegalStateException("Unit " + index);
+
+                db.ext().set(new Label(1000000L + index, "GroupCommit " + index), 1);
+              }
+
+              public void finish() {
+                finished.incrementAndGet();
+              }
+            });
+          } catch (RuntimeException e) {
+            results[index] = e;
+          }
+        }
+      });
+    }
+
+    /* Queue all Units while the Lock is held, so that they are written in one Batch */
+    lock.writeLock().lock();
+    try {
+      for (Thread thread : threads) {
+        thread.start();
+        while (thread.getState() != Thread.State.WAITING)
+          Thread.sleep(5);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    for (Thread thread : threads)
+      thread.join(10000);
+
+    for (int i = 0; i < unitCount; i++) {
+      if (i == failingUnit) {
+        assertNotNull(results[i]);
+        assertEquals("Unit " + i, results[i].getMessage());
+      } else
+        assertNull(results[i]);
+    }
+
+    assertEquals(prepared.get(), finished.get());
+
+    Set<String> names = new HashSet<String>();
+    for (Label label : db.query(Label.class)) {
+      if (label.getName().startsWith("GroupCommit "))
+        names.add(label.getName());
+    }
+
+    assertEquals(unitCount - 1, names.size());
+    assertFalse(names.contains("GroupCommit " + failingUnit));
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testGroupCommitLogsFailingListener() throws Exception {
+    final ObjectContainer db = DBManager.getDefault().getObjectContainer();
+    ReadWriteLock lock = new ReentrantReadWriteLock();
+    GroupCommit groupCommit = new GroupCommit(db, lock.writeLock(), 32, 0);
+    final AtomicInteger notified = new AtomicInteger();
+
+    LabelListener labelListener = new LabelAdapter() {
+      @Override
+      public void entitiesAdded(Set<LabelEvent> events) {
+        notified.incrementAndGet();
+        throw new IllegalStateException("Listener");
+      }
+    };
+
+    DynamicDAO.addEntityListener(ILabel.class, labelListener);
+    try {
+      groupCommit.commit(new GroupCommit.Unit() {
+        public void prepare() {}
+
+        public void write() {
+          db.ext().set(new Label(2000000L, "GroupCommit Listener"), 1);
+        }
+
+        public void finish() {}
+      });
+    } finally {
+      DynamicDAO.removeEntityListener(ILabel.class, labelListener);
+    }
+
+    assertEquals(1, notified.get());
+  }
 }
\ No newline at end of file
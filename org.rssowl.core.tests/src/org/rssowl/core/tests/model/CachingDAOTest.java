@@ -26,6 +26,7 @@ package org.rssowl.core.tests.model;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertSame;
 import static junit.framework.Assert.assertTrue;
 import static junit.framework.Assert.fail;
 
@@ -34,6 +35,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.rssowl.core.Owl;
+import org.rssowl.core.internal.persist.dao.BoundedEntityCache;
 import org.rssowl.core.internal.persist.dao.CachingDAO;
 import org.rssowl.core.internal.persist.service.DBManager;
 import org.rssowl.core.internal.persist.service.PersistenceServiceImpl;
@@ -42,6 +44,7 @@ import org.rssowl.core.persist.IEntity;
 import org.rssowl.core.persist.IFeed;
 import org.rssowl.core.persist.IFolder;
 import org.rssowl.core.persist.ILabel;
+import org.rssowl.core.persist.IMark;
 import org.rssowl.core.persist.IModelFactory;
 import org.rssowl.core.persist.INews;
 import org.rssowl.core.persist.INews.State;
@@ -1413,4 +1416,51 @@ public class CachingDAOTest extends LargeBlockSizeTest {
     assertEquals("Foo Bar", label3.getName());
     assertEquals("value", label3.getProperty("key"));
   }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testBoundedEntityCache() throws Exception {
+    IFolder folder = fFactory.createFolder(null, null, "Root");
+    for (int i = 0; i < 10; i++) {
+      IFeed feed = fFactory.createFeed(null, new URI("http://www.feed" + i + ".com"));
+      DynamicDAO.save(feed);
+      fFactory.createBookMark(null, folder, new FeedLinkReference(feed.getLink()), "Mark " + i);
+    }
+    DynamicDAO.save(folder);
+
+    List<IMark> marks = folder.getMarks();
+    BoundedEntityCache<IBookMark> cache = new BoundedEntityCache<IBookMark>(DynamicDAO.getDAO(IBookMarkDAO.class), 3);
+
+    /* Filled on Demand */
+    for (IMark mark : marks)
+      assertSame(mark, cache.load(mark.getId()));
+
+    assertEquals(3, cache.size());
+    assertEquals(0, cache.getHitCount());
+    assertEquals(10, cache.getMissCount());
+    assertEquals(7, cache.getEvictionCount());
+
+    /* Evicted Bookmarks are still referenced from the Folder */
+    for (IMark mark : marks) {
+      assertSame(mark, cache.load(mark.getId()));
+      assertTrue(cache.exists(mark.getId()));
+    }
+
+    assertEquals(3, cache.size());
+    assertEquals(10, cache.getHitCount());
+    assertEquals(10, cache.getMissCount());
+    assertEquals(0.5, cache.getHitRate());
+
+    /* Removed Bookmarks are loaded from the DAO again */
+    IBookMark mark = (IBookMark) marks.get(9);
+    cache.remove(mark);
+    assertSame(mark, cache.load(mark.getId()));
+    assertEquals(11, cache.getMissCount());
+
+    /* Unknown IDs are not cached */
+    assertEquals(null, cache.load(Long.MAX_VALUE));
+    assertEquals(false, cache.exists(Long.MAX_VALUE));
+  }
 }
\ No newline at end of file
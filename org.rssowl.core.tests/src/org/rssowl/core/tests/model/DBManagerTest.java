@@ -39,6 +39,7 @@ import org.rssowl.core.Owl.StartLevel;
 import org.rssowl.core.internal.InternalOwl;
 import org.rssowl.core.internal.persist.BookMark;
 import org.rssowl.core.internal.persist.Category;
+import org.rssowl.core.internal.persist.Description;
 import org.rssowl.core.internal.persist.Feed;
 import org.rssowl.core.internal.persist.Folder;
 import org.rssowl.core.internal.persist.Guid;
@@ -126,6 +127,7 @@ import java.util.Date;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -613,6 +615,45 @@ public class DBManagerTest extends LargeBlockSizeTest {
     assertFalse(fDb.ext().isStored(newsContainer));
   }
 
+  /**
+   * Tests that {@link INewsDAO#loadAll(long[])} loads the news of close and
+   * distant ids in the order of the ids.
+   */
+  @Test
+  public void testLoadAllByIds() {
+    IFeed feed = createFeed();
+    List<INews> news = new ArrayList<INews>();
+    for (int i = 0; i < 20; i++)
+      news.add(fTypesFactory.createNews(null, feed, new Date()));
+
+    DynamicDAO.save(feed);
+
+    INewsDAO newsDao = DynamicDAO.getDAO(INewsDAO.class);
+    long[] ids = new long[] { news.get(5).getId(), news.get(0).getId(), news.get(19).getId(), news.get(6).getId(), Long.MAX_VALUE, news.get(7).getId() };
+    List<INews> loadedNews = newsDao.loadAll(ids);
+    assertEquals(5, loadedNews.size());
+    assertTrue(news.get(5) == loadedNews.get(0));
+    assertTrue(news.get(0) == loadedNews.get(1));
+    assertTrue(news.get(19) == loadedNews.get(2));
+    assertTrue(news.get(6) == loadedNews.get(3));
+    assertTrue(news.get(7) == loadedNews.get(4));
+
+    /* Same Entities as loaded one by one */
+    for (INews item : loadedNews)
+      assertTrue(item == newsDao.load(item.getId()));
+
+    /* Entities of other types are ignored */
+    assertTrue(newsDao.loadAll(new long[] { feed.getId() }).isEmpty());
+    assertTrue(newsDao.loadAll(new long[0]).isEmpty());
+
+    /* Cached Entities */
+    IFolder folder = fTypesFactory.createFolder(null, null, "Folder");
+    DynamicDAO.save(folder);
+    List<IFolder> loadedFolders = DynamicDAO.loadAll(IFolder.class, new long[] { folder.getId(), Long.MAX_VALUE });
+    assertEquals(1, loadedFolders.size());
+    assertTrue(folder == loadedFolders.get(0));
+  }
+
   /**
    * Tests that deleting a news bin is not sending out folder-deleted events.
    */
@@ -1712,6 +1753,54 @@ public class DBManagerTest extends LargeBlockSizeTest {
     assertEquals(sourceLink, news.getSource().getLink());
   }
 
+  /**
+   * Tests that long descriptions are stored compressed and that descriptions
+   * are returned unchanged from {@link INews#getDescription()} and
+   * {@link INewsDAO#loadDescriptions(long[])}.
+   */
+  @Test
+  public void testCompressedDescriptions() {
+    StringBuilder longDescription = new StringBuilder();
+    for (int i = 0; i < 50; i++)
+      longDescription.append("<p>Paragraph ").append(i).append(" of the news with some <b>markup</b> and \u00fcml\u00e4uts.</p>");
+
+    IFeed feed = createFeed();
+    INews longNews = fTypesFactory.createNews(null, feed, new Date());
+    longNews.setDescription(longDescription.toString());
+    INews shortNews = fTypesFactory.createNews(null, feed, new Date());
+    shortNews.setDescription("Short description");
+    INews emptyNews = fTypesFactory.createNews(null, feed, new Date());
+    DynamicDAO.save(feed);
+
+    Query query = fDb.query();
+    query.constrain(Description.class);
+    List<Description> descriptions = query.execute();
+    assertEquals(2, descriptions.size());
+    for (Description description : descriptions) {
+      fDb.activate(description, Integer.MAX_VALUE);
+      assertEquals(longNews.getId().longValue() == description.getNews().getId(), description.isCompressed());
+    }
+
+    long longNewsId = longNews.getId();
+    long shortNewsId = shortNews.getId();
+    long emptyNewsId = emptyNews.getId();
+    feed = null;
+    longNews = null;
+    shortNews = null;
+    emptyNews = null;
+    System.gc();
+
+    assertEquals(longDescription.toString(), fNewsDAO.load(longNewsId).getDescription());
+    assertEquals("Short description", fNewsDAO.load(shortNewsId).getDescription());
+    assertNull(fNewsDAO.load(emptyNewsId).getDescription());
+
+    Map<Long, String> loadedDescriptions = fNewsDAO.loadDescriptions(new long[] { emptyNewsId, longNewsId, shortNewsId });
+    assertEquals(2, loadedDescriptions.size());
+    assertEquals(longDescription.toString(), loadedDescriptions.get(longNewsId));
+    assertEquals("Short description", loadedDescriptions.get(shortNewsId));
+    assertTrue(fNewsDAO.loadDescriptions(new long[0]).isEmpty());
+  }
+
   private INews createNews(IFeed feed) {
     INews news = fTypesFactory.createNews(null, feed, createDate());
     IAttachment attachment = fTypesFactory.createAttachment(null, news);
@@ -2586,6 +2675,90 @@ public class DBManagerTest extends LargeBlockSizeTest {
     assertEquals(0, bookmark.getNewsCount(INews.State.getVisible()));
   }
 
+  /**
+   * Tests {@link NewsCounterService} for counts of all states that survive a
+   * restart.
+   */
+  @Test
+  public void testNewsCounterCountsAllStates() {
+    IFeed feed1 = DynamicDAO.save(createFeed("http://www.feed1.com"));
+    IFeed feed2 = DynamicDAO.save(createFeed("http://www.feed2.com"));
+
+    INews news1 = createNews(feed1);
+    news1.setState(INews.State.READ);
+    INews news2 = createNews(feed1);
+    news2.setState(INews.State.READ);
+    news2.setFlagged(true);
+    INews news3 = createNews(feed1);
+    news3.setState(INews.State.HIDDEN);
+    DynamicDAO.save(feed1);
+
+    INews news4 = createNews(feed2);
+    news4.setState(INews.State.UPDATED);
+    DynamicDAO.save(feed2);
+
+    IFolder folder = Owl.getModelFactory().createFolder(null, null, "Root");
+    IBookMark bookmark1 = Owl.getModelFactory().createBookMark(null, folder, new FeedLinkReference(feed1.getLink()), "Bookmark 1");
+    IBookMark bookmark2 = Owl.getModelFactory().createBookMark(null, folder, new FeedLinkReference(feed2.getLink()), "Bookmark 2");
+    DynamicDAO.save(folder);
+
+    assertEquals(2, bookmark1.getNewsCount(EnumSet.of(INews.State.READ)));
+    assertEquals(1, bookmark1.getNewsCount(EnumSet.of(INews.State.HIDDEN)));
+    assertEquals(3, bookmark1.getNewsCount(EnumSet.allOf(INews.State.class)));
+    assertEquals(1, bookmark1.getStickyNewsCount());
+    assertEquals(1, bookmark2.getNewsCount(EnumSet.of(INews.State.UPDATED)));
+
+    DynamicDAO.getDAO(INewsDAO.class).setState(Collections.singleton(news1), INews.State.UNREAD, false, false);
+    DynamicDAO.getDAO(INewsDAO.class).setState(Collections.singleton(news2), INews.State.DELETED, false, false);
+
+    assertEquals(0, bookmark1.getNewsCount(EnumSet.of(INews.State.READ)));
+    assertEquals(1, bookmark1.getNewsCount(EnumSet.of(INews.State.UNREAD)));
+    assertEquals(1, bookmark1.getNewsCount(EnumSet.of(INews.State.DELETED)));
+    assertEquals(0, bookmark1.getStickyNewsCount());
+
+    Long bookmark1Id = bookmark1.getId();
+    Long bookmark2Id = bookmark2.getId();
+    Owl.getPersistenceService().shutdown(false);
+    Owl.getPersistenceService().startup(new TestUtils.NullProgressLongOperationMonitor(), false, false);
+
+    bookmark1 = DynamicDAO.load(IBookMark.class, bookmark1Id);
+    bookmark2 = DynamicDAO.load(IBookMark.class, bookmark2Id);
+    assertEquals(0, bookmark1.getNewsCount(EnumSet.of(INews.State.READ)));
+    assertEquals(1, bookmark1.getNewsCount(EnumSet.of(INews.State.UNREAD)));
+    assertEquals(1, bookmark1.getNewsCount(EnumSet.of(INews.State.HIDDEN)));
+    assertEquals(1, bookmark1.getNewsCount(EnumSet.of(INews.State.DELETED)));
+    assertEquals(1, bookmark2.getNewsCount(EnumSet.of(INews.State.UPDATED)));
+  }
+
+  /**
+   * Tests {@link NewsCounterService} for a removed News whose State changed
+   * after it was saved.
+   */
+  @Test
+  public void testNewsCounterRemovesPersistedState() {
+    IFeed feed = DynamicDAO.save(createFeed("http://www.feed1.com"));
+
+    INews news1 = createNews(feed);
+    news1.setState(INews.State.READ);
+    INews news2 = createNews(feed);
+    news2.setState(INews.State.READ);
+    DynamicDAO.save(feed);
+
+    IFolder folder = Owl.getModelFactory().createFolder(null, null, "Root");
+    IBookMark bookmark = Owl.getModelFactory().createBookMark(null, folder, new FeedLinkReference(feed.getLink()), "Bookmark");
+    DynamicDAO.save(folder);
+
+    assertEquals(2, bookmark.getNewsCount(EnumSet.of(INews.State.READ)));
+
+    /* Change the State without saving it */
+    news1.setState(INews.State.UNREAD);
+    DynamicDAO.delete(news1);
+
+    assertEquals(1, bookmark.getNewsCount(EnumSet.of(INews.State.READ)));
+    assertEquals(0, bookmark.getNewsCount(EnumSet.of(INews.State.UNREAD)));
+    assertEquals(1, bookmark.getNewsCount(EnumSet.allOf(INews.State.class)));
+  }
+
   /**
    * @throws Exception
    */
@@ -26,6 +26,9 @@ package org.rssowl.core.tests.model;
 
 import static junit.framework.Assert.assertTrue;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.fail;
 
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.junit.Test;
@@ -33,12 +36,14 @@ import org.rssowl.core.persist.IAttachment;
 import org.rssowl.core.persist.ICategory;
 import org.rssowl.core.persist.IEntity;
 import org.rssowl.core.persist.IFeed;
+import org.rssowl.core.persist.IFolder;
 import org.rssowl.core.persist.ILabel;
 import org.rssowl.core.persist.INews;
 import org.rssowl.core.persist.INews.State;
 import org.rssowl.core.persist.IPerson;
 import org.rssowl.core.persist.ISearchCondition;
 import org.rssowl.core.persist.ISearchField;
+import org.rssowl.core.persist.ISearchMark;
 import org.rssowl.core.persist.ISource;
 import org.rssowl.core.persist.SearchSpecifier;
 import org.rssowl.core.persist.dao.DynamicDAO;
@@ -46,14 +51,21 @@ import org.rssowl.core.persist.dao.INewsDAO;
 import org.rssowl.core.persist.reference.NewsReference;
 import org.rssowl.core.persist.service.PersistenceException;
 import org.rssowl.core.tests.TestUtils;
+import org.rssowl.core.util.Pair;
 import org.rssowl.core.util.SearchHit;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Test searching types from the persistence layer.
@@ -1875,4 +1887,155 @@ public class ModelSearchTest1 extends AbstractModelSearchTest {
       TestUtils.fail(e);
     }
   }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testMatchNews() throws Exception {
+    try {
+      IFeed feed = fFactory.createFeed(null, new URI("http://www.feed.com/feed.xml"));
+      INews news1 = createNews(feed, "Foo Bar", "http://www.news.com/news1.html", State.NEW);
+      INews news2 = createNews(feed, "Foo", "http://www.news.com/news2.html", State.READ);
+      INews news3 = createNews(feed, "Bar", "http://www.news.com/news3.html", State.UNREAD);
+      DynamicDAO.save(feed);
+
+      IFolder folder = fFactory.createFolder(null, null, "Root");
+      ISearchField field = fFactory.createSearchField(INews.TITLE, fNewsEntityName);
+      ISearchMark fooMark = fFactory.createSearchMark(null, folder, "Foo");
+      fFactory.createSearchCondition(null, fooMark, field, SearchSpecifier.CONTAINS, "foo");
+      ISearchMark barMark = fFactory.createSearchMark(null, folder, "Bar");
+      fFactory.createSearchCondition(null, barMark, field, SearchSpecifier.CONTAINS, "bar");
+      ISearchMark noneMark = fFactory.createSearchMark(null, folder, "None");
+      fFactory.createSearchCondition(null, noneMark, field, SearchSpecifier.CONTAINS, "none");
+      DynamicDAO.save(folder);
+
+      /* Match all News */
+      List<ISearchMark> searchMarks = Arrays.asList(fooMark, barMark, noneMark);
+      Map<ISearchMark, List<SearchHit<NewsReference>>> matches = fModelSearch.matchNews(feed.getNews(), searchMarks);
+      assertEquals(2, matches.size());
+      assertSame(matches.get(fooMark), news1, news2);
+      assertSame(matches.get(barMark), news1, news3);
+      assertEquals(INews.State.READ, findHit(matches.get(fooMark), news2).getData(INews.STATE));
+
+      /* Wait for Indexer */
+      waitForIndexer();
+
+      /* Same Results from the Index */
+      assertSame(fModelSearch.searchNews(fooMark), news1, news2);
+      assertSame(fModelSearch.searchNews(barMark), news1, news3);
+      assertTrue(fModelSearch.searchNews(noneMark).isEmpty());
+
+      /* Update Result of a Search Mark for changed News only */
+      fooMark.setNewsRefs(toResultsMap(fModelSearch.searchNews(fooMark)));
+      news2.setTitle("Changed");
+      INews news4 = createNews(feed, "Foo 4", "http://www.news.com/news4.html", State.NEW);
+      DynamicDAO.save(feed);
+
+      List<INews> changedNews = Arrays.asList(news2, news4);
+      matches = fModelSearch.matchNews(changedNews, searchMarks);
+      assertSame(matches.get(fooMark), news4);
+      assertFalse(matches.containsKey(barMark));
+
+      Set<Long> changedIds = new HashSet<Long>(Arrays.asList(news2.getId(), news4.getId()));
+      Pair<Boolean, Boolean> result = fooMark.updateNewsRefs(changedIds, toResultsMap(matches.get(fooMark)));
+      assertTrue(result.getFirst());
+      assertTrue(result.getSecond());
+      assertEquals(2, fooMark.getNewsRefs().size());
+      assertEquals(2, fooMark.getNewsRefs(EnumSet.of(INews.State.NEW)).size());
+      assertEquals(0, fooMark.getNewsRefs(EnumSet.of(INews.State.READ)).size());
+      assertTrue(fooMark.containsNews(news1));
+      assertTrue(fooMark.containsNews(news4));
+
+      /* Updating again does not change the Result */
+      result = fooMark.updateNewsRefs(changedIds, toResultsMap(matches.get(fooMark)));
+      assertFalse(result.getFirst());
+      assertFalse(result.getSecond());
+
+      /* Nothing to match */
+      assertTrue(fModelSearch.matchNews(Collections.<INews> emptyList(), searchMarks).isEmpty());
+    } catch (PersistenceException e) {
+      TestUtils.fail(e);
+    }
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testSearchNewsReadsIdsAndStates() throws Exception {
+    try {
+      IFeed feed = fFactory.createFeed(null, new URI("http://www.feed.com/feed.xml"));
+      for (int i = 0; i < 40; i++)
+        createNews(feed, "News " + i, "http://www.news.com/news" + i + ".html", i % 4 == 0 ? State.READ : State.NEW);
+      INews uniqueNews = createNews(feed, "Unique", "http://www.news.com/unique.html", State.UNREAD);
+      DynamicDAO.save(feed);
+
+      /* Wait for Indexer */
+      waitForIndexer();
+
+      ISearchField stateField = fFactory.createSearchField(INews.STATE, fNewsEntityName);
+      ISearchCondition stateCondition = fFactory.createSearchCondition(stateField, SearchSpecifier.IS, EnumSet.of(State.NEW, State.READ, State.UNREAD));
+      ISearchField titleField = fFactory.createSearchField(INews.TITLE, fNewsEntityName);
+      ISearchCondition titleCondition = fFactory.createSearchCondition(titleField, SearchSpecifier.CONTAINS, "unique");
+
+      /* Few Hits */
+      List<SearchHit<NewsReference>> hits = fModelSearch.searchNews(list(titleCondition), false);
+      assertEquals(1, hits.size());
+      assertEquals(uniqueNews.getId().longValue(), hits.get(0).getResult().getId());
+      assertEquals(State.UNREAD, hits.get(0).getData(INews.STATE));
+
+      /* Many Hits */
+      hits = fModelSearch.searchNews(list(stateCondition), false);
+      assertEquals(feed.getNews().size(), hits.size());
+      for (INews news : feed.getNews()) {
+        SearchHit<NewsReference> hit = findHit(hits, news);
+        assertNotNull(hit);
+        assertEquals(news.getState(), hit.getData(INews.STATE));
+      }
+
+      /* Same Hit from the List */
+      assertTrue(hits.get(0) == hits.get(0));
+
+      /* Few Hits once the Index is read entirely */
+      hits = fModelSearch.searchNews(list(titleCondition), false);
+      assertEquals(1, hits.size());
+      assertEquals(uniqueNews.getId().longValue(), hits.get(0).getResult().getId());
+      assertEquals(State.UNREAD, hits.get(0).getData(INews.STATE));
+
+      /* Hits can not be modified */
+      try {
+        hits.remove(0);
+        fail("Expected UnsupportedOperationException");
+      } catch (UnsupportedOperationException e) {
+        /* Expected */
+      }
+    } catch (PersistenceException e) {
+      TestUtils.fail(e);
+    }
+  }
+
+  private SearchHit<NewsReference> findHit(List<SearchHit<NewsReference>> hits, INews news) {
+    for (SearchHit<NewsReference> hit : hits) {
+      if (hit.getResult().getId() == news.getId())
+        return hit;
+    }
+
+    return null;
+  }
+
+  private Map<INews.State, List<NewsReference>> toResultsMap(List<SearchHit<NewsReference>> hits) {
+    Map<INews.State, List<NewsReference>> resultsMap = new EnumMap<INews.State, List<NewsReference>>(INews.State.class);
+    for (SearchHit<NewsReference> hit : hits) {
+      INews.State state = (State) hit.getData(INews.STATE);
+      List<NewsReference> newsRefs = resultsMap.get(state);
+      if (newsRefs == null) {
+        newsRefs = new ArrayList<NewsReference>();
+        resultsMap.put(state, newsRefs);
+      }
+      newsRefs.add(hit.getResult());
+    }
+
+    return resultsMap;
+  }
 }
\ No newline at end of file
@@ -38,22 +38,26 @@ import org.rssowl.core.persist.IFolderChild;
 import org.rssowl.core.persist.ILabel;
 import org.rssowl.core.persist.INews;
 import org.rssowl.core.persist.INews.State;
+import org.rssowl.core.persist.INewsBin;
 import org.rssowl.core.persist.IPerson;
 import org.rssowl.core.persist.ISearchCondition;
 import org.rssowl.core.persist.ISearchField;
 import org.rssowl.core.persist.ISource;
 import org.rssowl.core.persist.SearchSpecifier;
 import org.rssowl.core.persist.dao.DynamicDAO;
+import org.rssowl.core.persist.dao.IFolderDAO;
 import org.rssowl.core.persist.reference.FeedLinkReference;
 import org.rssowl.core.persist.reference.NewsReference;
 import org.rssowl.core.persist.service.PersistenceException;
 import org.rssowl.core.tests.TestUtils;
+import org.rssowl.core.util.ReparentInfo;
 import org.rssowl.core.util.SearchHit;
 import org.rssowl.ui.internal.util.ModelUtils;
 
 import java.net.URI;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
 import java.util.EnumSet;
 import java.util.List;
@@ -1953,4 +1957,133 @@ public class ModelSearchTest2 extends AbstractModelSearchTest {
       assertSame(result, news4, news6);
     }
   }
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testSearchNewsWithLocationAfterReparenting() throws Exception {
+
+    /* First add some Types */
+    IFolder rootFolder = fFactory.createFolder(null, null, "Root");
+    DynamicDAO.save(rootFolder);
+
+    IFolder subFolder1 = fFactory.createFolder(null, rootFolder, "Sub Folder 1");
+    DynamicDAO.save(subFolder1);
+
+    IFolder subFolder2 = fFactory.createFolder(null, rootFolder, "Sub Folder 2");
+    DynamicDAO.save(subFolder2);
+
+    IFeed feed1 = fFactory.createFeed(null, new URI("http://www.testSearchNewsWithLocationAfterReparenting1.com"));
+    IFeed feed2 = fFactory.createFeed(null, new URI("http://www.testSearchNewsWithLocationAfterReparenting2.com"));
+
+    INews news1 = createNews(feed1, "First News of Feed One", "http://www.news.com/news1.html", State.UNREAD);
+    INews news2 = createNews(feed2, "First News of Feed Two", "http://www.news.com/news2.html", State.NEW);
+
+    DynamicDAO.save(feed1);
+    DynamicDAO.save(feed2);
+
+    IBookMark mark1 = fFactory.createBookMark(null, subFolder1, new FeedLinkReference(feed1.getLink()), "mark1");
+    DynamicDAO.save(mark1);
+
+    INewsBin bin = fFactory.createNewsBin(null, subFolder1, "bin");
+    DynamicDAO.save(bin);
+
+    /* Wait for Indexer */
+    waitForIndexer();
+
+    ISearchField field = fFactory.createSearchField(INews.LOCATION, fNewsEntityName);
+    ISearchCondition subFolder1Condition = fFactory.createSearchCondition(field, SearchSpecifier.IS, ModelUtils.toPrimitive(Arrays.asList(new IFolderChild[] { subFolder1 })));
+    ISearchCondition subFolder2Condition = fFactory.createSearchCondition(field, SearchSpecifier.IS, ModelUtils.toPrimitive(Arrays.asList(new IFolderChild[] { subFolder2 })));
+
+    /* Location IS Sub Folder 1 */
+    assertSame(fModelSearch.searchNews(list(subFolder1Condition), true), news1);
+    assertTrue(fModelSearch.searchNews(list(subFolder2Condition), true).isEmpty());
+
+    /* Add a BookMark to Sub Folder 1 */
+    IBookMark mark2 = fFactory.createBookMark(null, subFolder1, new FeedLinkReference(feed2.getLink()), "mark2");
+    DynamicDAO.save(mark2);
+
+    assertSame(fModelSearch.searchNews(list(subFolder1Condition), true), news1, news2);
+
+    /* Move the BookMark to Sub Folder 2 */
+    DynamicDAO.getDAO(IFolderDAO.class).reparent(Collections.singletonList(new ReparentInfo<IFolderChild, IFolder>(mark2, subFolder2, null, null)));
+
+    assertSame(fModelSearch.searchNews(list(subFolder1Condition), true), news1);
+    assertSame(fModelSearch.searchNews(list(subFolder2Condition), true), news2);
+
+    /* Copy a News into the News Bin of Sub Folder 1 */
+    INews copiedNews = fFactory.createNews(news2, bin);
+    DynamicDAO.save(copiedNews);
+    DynamicDAO.save(bin);
+
+    /* Wait for Indexer */
+    waitForIndexer();
+
+    assertSame(fModelSearch.searchNews(list(subFolder1Condition), true), news1, copiedNews);
+    assertSame(fModelSearch.searchNews(list(subFolder2Condition), true), news2);
+
+    /* Move Sub Folder 2 into Sub Folder 1 */
+    DynamicDAO.getDAO(IFolderDAO.class).reparent(Collections.singletonList(new ReparentInfo<IFolderChild, IFolder>(subFolder2, subFolder1, null, null)));
+
+    assertSame(fModelSearch.searchNews(list(subFolder1Condition), true), news1, news2, copiedNews);
+
+    /* Delete the BookMark */
+    DynamicDAO.delete(mark1);
+
+    /* Wait for Indexer */
+    waitForIndexer();
+
+    assertSame(fModelSearch.searchNews(list(subFolder1Condition), true), news2, copiedNews);
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testSearchNewsWithLocationAfterReopen() throws Exception {
+    IFolder rootFolder = fFactory.createFolder(null, null, "Root");
+    DynamicDAO.save(rootFolder);
+
+    IFeed feed1 = fFactory.createFeed(null, new URI("http://www.testSearchNewsWithLocationAfterReopen1.com"));
+    IFeed feed2 = fFactory.createFeed(null, new URI("http://www.testSearchNewsWithLocationAfterReopen2.com"));
+
+    INews news1 = createNews(feed1, "First News of Feed One", "http://www.news.com/news1.html", State.NEW);
+    INews news2 = createNews(feed2, "First News of Feed Two", "http://www.news.com/news2.html", State.NEW);
+
+    DynamicDAO.save(feed1);
+    DynamicDAO.save(feed2);
+
+    IBookMark mark1 = fFactory.createBookMark(null, rootFolder, new FeedLinkReference(feed1.getLink()), "mark1");
+    DynamicDAO.save(mark1);
+
+    /* Wait for Indexer */
+    waitForIndexer();
+
+    ISearchField field = fFactory.createSearchField(INews.LOCATION, fNewsEntityName);
+    ISearchCondition condition = fFactory.createSearchCondition(field, SearchSpecifier.IS, ModelUtils.toPrimitive(Arrays.asList(new IFolderChild[] { rootFolder })));
+
+    assertSame(fModelSearch.searchNews(list(condition), true), news1);
+
+    /* Add News to both Feeds (the Reader is reopened) */
+    INews news3 = createNews(feed1, "Second News of Feed One", "http://www.news.com/news3.html", State.NEW);
+    createNews(feed2, "Second News of Feed Two", "http://www.news.com/news4.html", State.NEW);
+    DynamicDAO.save(feed1);
+    DynamicDAO.save(feed2);
+
+    /* Wait for Indexer */
+    waitForIndexer();
+
+    assertSame(fModelSearch.searchNews(list(condition), true), news1, news3);
+
+    /* Update a News (the Reader is reopened with a deleted Document) */
+    news1.setState(State.READ);
+    DynamicDAO.save(news1);
+    news2.setState(State.READ);
+    DynamicDAO.save(news2);
+
+    /* Wait for Indexer */
+    waitForIndexer();
+
+    assertSame(fModelSearch.searchNews(list(condition), true), news1, news3);
+  }
 }
\ No newline at end of file
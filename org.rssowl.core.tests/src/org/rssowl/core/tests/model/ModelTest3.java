@@ -103,6 +103,7 @@ import org.rssowl.core.tests.TestUtils;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
@@ -2435,6 +2436,61 @@ public class ModelTest3 extends LargeBlockSizeTest {
     assertEquals(INews.State.UNREAD, news2.getState());
   }
 
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testSetStateAffectsEquivalentNewsAfterGuidChangeAndDelete() throws Exception {
+    IFeed feed1 = fFactory.createFeed(null, new URI("http://www.foo1.com"));
+    INews news1 = fFactory.createNews(null, feed1, new Date());
+    fFactory.createGuid(news1, "http://www.news.com/guid", true);
+
+    IFeed feed2 = fFactory.createFeed(null, new URI("http://www.foo2.com"));
+    INews news2 = fFactory.createNews(null, feed2, new Date());
+    fFactory.createGuid(news2, "HTTP://WWW.NEWS.COM/GUID", true);
+
+    IFeed feed3 = fFactory.createFeed(null, new URI("http://www.foo3.com"));
+    INews news3 = fFactory.createNews(null, feed3, new Date());
+    fFactory.createGuid(news3, "http://www.news.com/guid", true);
+
+    DynamicDAO.save(feed1);
+    DynamicDAO.save(feed2);
+    DynamicDAO.save(feed3);
+
+    INewsDAO newsDao = DynamicDAO.getDAO(INewsDAO.class);
+
+    newsDao.setState(Arrays.asList(news1, news3), INews.State.READ, true, false);
+
+    assertEquals(INews.State.READ, news1.getState());
+    assertEquals(INews.State.READ, news2.getState());
+    assertEquals(INews.State.READ, news3.getState());
+
+    fFactory.createGuid(news2, "http://www.news.com/other", true);
+    DynamicDAO.save(news2);
+
+    newsDao.setState(Collections.singleton(news1), INews.State.UNREAD, true, false);
+
+    assertEquals(INews.State.UNREAD, news1.getState());
+    assertEquals(INews.State.READ, news2.getState());
+    assertEquals(INews.State.UNREAD, news3.getState());
+
+    fFactory.createGuid(news2, "http://www.news.com/guid", true);
+    DynamicDAO.save(news2);
+
+    newsDao.setState(Collections.singleton(news1), INews.State.READ, true, false);
+
+    assertEquals(INews.State.READ, news1.getState());
+    assertEquals(INews.State.READ, news2.getState());
+    assertEquals(INews.State.READ, news3.getState());
+
+    DynamicDAO.delete(news3);
+
+    newsDao.setState(Collections.singleton(news2), INews.State.UNREAD, true, false);
+
+    assertEquals(INews.State.UNREAD, news1.getState());
+    assertEquals(INews.State.UNREAD, news2.getState());
+  }
+
   /**
    * @throws Exception
    */
@@ -28,12 +28,14 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.rssowl.core.Owl;
 import org.rssowl.core.internal.persist.LazyList;
+import org.rssowl.core.internal.persist.News;
 import org.rssowl.core.internal.persist.NewsBin;
 import org.rssowl.core.internal.persist.service.PersistenceServiceImpl;
 import org.rssowl.core.persist.IBookMark;
@@ -651,4 +653,129 @@ public class ModelTest4 extends LargeBlockSizeTest {
       DynamicDAO.removeEntityListener(INews.class, listener);
     }
   }
+
+  /**
+   * Tests that a News can be read but not written from the Thread holding the
+   * special read lock and that other Threads wait to write until it is
+   * released.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testNewsReadLockSpecial() throws Exception {
+    IFeed feed = fFactory.createFeed(null, new URI("feed"));
+    final News news = (News) fFactory.createNews(null, feed, new Date());
+    news.setTitle("Title");
+
+    news.acquireReadLockSpecial();
+    try {
+      assertEquals("Title", news.getTitle());
+      news.setTitle("Other");
+      fail("Expected IllegalStateException");
+    } catch (IllegalStateException e) {
+      /* Expected */
+    } finally {
+      news.releaseReadLockSpecial();
+    }
+
+    news.setTitle("Title");
+    assertEquals("Title", news.getTitle());
+
+    Thread writer = new Thread() {
+      @Override
+      public void run() {
+        news.setTitle("Other");
+      }
+    };
+
+    news.acquireReadLockSpecial();
+    try {
+      writer.start();
+      writer.join(200);
+      assertTrue(writer.isAlive());
+      assertEquals("Title", news.getTitle());
+    } finally {
+      news.releaseReadLockSpecial();
+    }
+
+    writer.join();
+    assertEquals("Other", news.getTitle());
+  }
+
+  /**
+   * Tests that releasing a read lock that is not held fails instead of
+   * corrupting the Lock of the News.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testNewsUnbalancedReleaseReadLock() throws Exception {
+    IFeed feed = fFactory.createFeed(null, new URI("feed"));
+    final News news = (News) fFactory.createNews(null, feed, new Date());
+    news.setTitle("Title");
+
+    try {
+      news.releaseReadLockSpecial();
+      fail("Expected IllegalStateException");
+    } catch (IllegalStateException e) {
+      /* Expected */
+    }
+
+    Thread writer = new Thread() {
+      @Override
+      public void run() {
+        news.setTitle("Other");
+      }
+    };
+    writer.start();
+    writer.join(5000);
+    assertFalse(writer.isAlive());
+    assertEquals("Other", news.getTitle());
+  }
+
+  /**
+   * Tests that new readers wait for a writer that waits for the Lock, while
+   * the Thread holding the read lock can continue to read.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testNewsReadersWaitForWaitingWriter() throws Exception {
+    IFeed feed = fFactory.createFeed(null, new URI("feed"));
+    final News news = (News) fFactory.createNews(null, feed, new Date());
+    news.setTitle("Title");
+
+    Thread writer = new Thread() {
+      @Override
+      public void run() {
+        news.setTitle("Other");
+      }
+    };
+
+    final String[] readTitle = new String[1];
+    Thread reader = new Thread() {
+      @Override
+      public void run() {
+        readTitle[0] = news.getTitle();
+      }
+    };
+
+    news.acquireReadLockSpecial();
+    try {
+      writer.start();
+      while (writer.getState() != Thread.State.WAITING)
+        Thread.sleep(5);
+
+      reader.start();
+      reader.join(200);
+      assertTrue(reader.isAlive());
+      assertEquals("Title", news.getTitle());
+    } finally {
+      news.releaseReadLockSpecial();
+    }
+
+    writer.join();
+    reader.join();
+    assertEquals("Other", readTitle[0]);
+  }
 }
\ No newline at end of file
@@ -34,10 +34,12 @@ import org.junit.Before;
 import org.junit.Test;
 import org.rssowl.core.Owl;
 import org.rssowl.core.internal.InternalOwl;
+import org.rssowl.core.internal.connection.DefaultProtocolHandler;
 import org.rssowl.core.internal.persist.BookMark;
 import org.rssowl.core.internal.persist.Feed;
 import org.rssowl.core.internal.persist.Folder;
 import org.rssowl.core.internal.persist.News;
+import org.rssowl.core.internal.persist.dao.CachingDAO;
 import org.rssowl.core.internal.persist.pref.DefaultPreferences;
 import org.rssowl.core.internal.persist.service.PersistenceServiceImpl;
 import org.rssowl.core.persist.IAttachment;
@@ -65,18 +67,26 @@ import org.rssowl.core.persist.ISource;
 import org.rssowl.core.persist.ITextInput;
 import org.rssowl.core.persist.SearchSpecifier;
 import org.rssowl.core.persist.dao.DynamicDAO;
+import org.rssowl.core.persist.dao.IBookMarkDAO;
 import org.rssowl.core.persist.dao.INewsDAO;
 import org.rssowl.core.persist.pref.IPreferenceScope;
 import org.rssowl.core.persist.reference.FeedLinkReference;
 import org.rssowl.core.persist.reference.FeedReference;
+import org.rssowl.core.persist.reference.NewsReference;
 import org.rssowl.core.persist.service.IModelSearch;
 import org.rssowl.core.persist.service.PersistenceException;
 import org.rssowl.core.tests.Activator;
 import org.rssowl.core.tests.TestUtils;
+import org.rssowl.core.tests.connection.HttpStubServer;
+import org.rssowl.core.tests.util.DateUtilsTest;
+import org.rssowl.core.tests.util.LegacyDateParser;
+import org.rssowl.core.util.DateUtils;
 import org.rssowl.core.util.ITask;
+import org.rssowl.core.util.SearchHit;
 import org.rssowl.core.util.TaskAdapter;
 import org.rssowl.ui.internal.Controller;
 import org.rssowl.ui.internal.services.SavedSearchService;
+import org.rssowl.ui.internal.views.explorer.FolderNewsCounter;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
@@ -89,15 +99,19 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Collection;
 import java.util.Date;
 import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -797,6 +811,227 @@ public class PerformanceTest {
       throw ex.get(0);
   }
 
+  /**
+   * @throws Exception
+   */
+  @SuppressWarnings("nls")
+  @Test
+  public void searchNewsWarm() throws Exception {
+    IModelFactory factory = Owl.getModelFactory();
+    fModelSearch.startup();
+
+    /* Save some Feeds first */
+    saveFeedsHelper();
+
+    /* Many Hits: News is *new*, *unread*, *updated*, *read* */
+    ISearchField stateField = factory.createSearchField(INews.STATE, INews.class.getName());
+    List<ISearchCondition> manyHits = new ArrayList<ISearchCondition>();
+    manyHits.add(factory.createSearchCondition(stateField, SearchSpecifier.IS, EnumSet.of(INews.State.NEW, State.UNREAD, State.UPDATED, State.READ)));
+
+    /* Few Hits: Title contains 'news' */
+    ISearchField titleField = factory.createSearchField(INews.TITLE, INews.class.getName());
+    List<ISearchCondition> fewHits = new ArrayList<ISearchCondition>();
+    fewHits.add(factory.createSearchCondition(titleField, SearchSpecifier.CONTAINS, "news"));
+
+    /* 3 Warmup and 5 measured Iterations each */
+    long manyDuration = 0;
+    long fewDuration = 0;
+    int manyCount = 0;
+    int fewCount = 0;
+    for (int i = 0; i < 8; i++) {
+      long start = System.currentTimeMillis();
+      manyCount = readSearchHits(fModelSearch.searchNews(manyHits, false));
+      if (i >= 3)
+        manyDuration += System.currentTimeMillis() - start;
+
+      start = System.currentTimeMillis();
+      fewCount = readSearchHits(fModelSearch.searchNews(fewHits, false));
+      if (i >= 3)
+        fewDuration += System.currentTimeMillis() - start;
+    }
+
+    System.out.println("Searching [States (" + manyCount + " results, Occur.SHOULD, Warm)] in " + FEEDS + " Feeds took: " + manyDuration / 5 + "ms");
+    System.out.println("Searching [Title (" + fewCount + " results, Occur.SHOULD, Warm)] in " + FEEDS + " Feeds took: " + fewDuration / 5 + "ms\n");
+  }
+
+  /**
+   * @throws Exception
+   */
+  @SuppressWarnings("nls")
+  @Test
+  public void searchNewsInLocation() throws Exception {
+    int folderCount = 20;
+    int feedsPerFolder = 100;
+    IModelFactory factory = Owl.getModelFactory();
+    fModelSearch.startup();
+
+    /* Root Folder with Sub Folders of BookMarks */
+    IFolder root = factory.createFolder(null, null, "Root");
+    List<IFeed> feeds = new ArrayList<IFeed>();
+    for (int i = 0; i < folderCount; i++) {
+      IFolder folder = factory.createFolder(null, root, "Folder " + i);
+      for (int j = 0; j < feedsPerFolder; j++) {
+        IFeed feed = new Feed(new URI("http://www.rssowl.org/performance/location/" + i + "/" + j + ".xml"));
+        for (int k = 0; k < 3; k++) {
+          INews news = new News(null, feed, new Date());
+          news.setTitle("News " + k);
+          news.setLink(new URI("http://www.rssowl.org/performance/location/" + i + "/" + j + "/" + k));
+          feed.addNews(news);
+        }
+
+        feeds.add(feed);
+        factory.createBookMark(null, folder, new FeedLinkReference(feed.getLink()), "BookMark " + j);
+      }
+    }
+
+    DynamicDAO.saveAll(feeds);
+    DynamicDAO.save(root);
+    Thread.sleep(2000);
+
+    /* Location IS Root Folder AND State IS New */
+    ISearchField locationField = factory.createSearchField(INews.LOCATION, INews.class.getName());
+    ISearchField stateField = factory.createSearchField(INews.STATE, INews.class.getName());
+    List<ISearchCondition> conditions = new ArrayList<ISearchCondition>();
+    conditions.add(factory.createSearchCondition(locationField, SearchSpecifier.IS, new Long[][] { { root.getId() }, null, null }));
+    conditions.add(factory.createSearchCondition(stateField, SearchSpecifier.IS, EnumSet.of(INews.State.NEW)));
+
+    /* 3 Warmup and 5 measured Iterations */
+    long duration = 0;
+    int count = 0;
+    for (int i = 0; i < 8; i++) {
+      long start = System.currentTimeMillis();
+      count = fModelSearch.searchNews(conditions, true).size();
+      if (i >= 3)
+        duration += System.currentTimeMillis() - start;
+    }
+
+    System.out.println("Searching [Location (" + count + " results, " + folderCount * feedsPerFolder + " BookMarks, Occur.MUST, Warm)] took: " + duration / 5 + "ms\n");
+  }
+
+  /**
+   * @throws Exception
+   */
+  @SuppressWarnings("nls")
+  @Test
+  public void newsCountOfBookMarks() throws Exception {
+    int feedCount = 1000;
+    IModelFactory factory = Owl.getModelFactory();
+
+    /* BookMarks of Feeds with Read and Sticky News */
+    IFolder root = factory.createFolder(null, null, "Root");
+    List<IFeed> feeds = new ArrayList<IFeed>();
+    for (int i = 0; i < feedCount; i++) {
+      IFeed feed = new Feed(new URI("http://www.rssowl.org/performance/count/" + i + ".xml"));
+      for (int j = 0; j < 20; j++) {
+        INews news = new News(null, feed, new Date());
+        news.setTitle("News " + j);
+        news.setState(j % 2 == 0 ? INews.State.READ : INews.State.UNREAD);
+        news.setFlagged(j % 5 == 0);
+        feed.addNews(news);
+      }
+
+      feeds.add(feed);
+      factory.createBookMark(null, root, new FeedLinkReference(feed.getLink()), "BookMark " + i);
+    }
+
+    DynamicDAO.saveAll(feeds);
+    DynamicDAO.save(root);
+    feeds = null;
+    System.gc();
+
+    /* Decorate all BookMarks as the Explorer does */
+    long start = System.currentTimeMillis();
+    int count = 0;
+    for (IMark mark : root.getMarks()) {
+      IBookMark bookMark = (IBookMark) mark;
+      count += bookMark.getNewsCount(EnumSet.of(INews.State.READ));
+      count += bookMark.getNewsCount(EnumSet.of(INews.State.NEW, INews.State.UNREAD, INews.State.UPDATED, INews.State.READ));
+      count += bookMark.getStickyNewsCount();
+    }
+
+    System.out.println("Counting News of " + feedCount + " BookMarks (" + count + " News) took: " + (System.currentTimeMillis() - start) + "ms\n");
+  }
+
+  /**
+   * @throws Exception
+   */
+  @SuppressWarnings("nls")
+  @Test
+  public void decorateFoldersOfExplorer() throws Exception {
+    int folderCount = 20;
+    int subFolderCount = 25;
+    int marksPerFolder = 20;
+    IModelFactory factory = Owl.getModelFactory();
+
+    /* 500 Folders with 10000 BookMarks of Feeds with unread News */
+    IFolder root = factory.createFolder(null, null, "Root");
+    List<IFolder> folders = new ArrayList<IFolder>();
+    List<IBookMark> marks = new ArrayList<IBookMark>();
+    List<IFeed> feeds = new ArrayList<IFeed>();
+    for (int i = 0; i < folderCount; i++) {
+      IFolder folder = factory.createFolder(null, root, "Folder " + i);
+      folders.add(folder);
+      for (int j = 0; j < subFolderCount - 1; j++)
+        folders.add(factory.createFolder(null, folder, "Folder " + i + "/" + j));
+    }
+
+    for (int i = 0; i < folders.size(); i++) {
+      for (int j = 0; j < marksPerFolder; j++) {
+        IFeed feed = new Feed(new URI("http://www.rssowl.org/performance/explorer/" + i + "/" + j + ".xml"));
+        INews news = new News(null, feed, new Date());
+        news.setTitle("News");
+        news.setFlagged(j == 0);
+        feed.addNews(news);
+        feeds.add(feed);
+        marks.add(factory.createBookMark(null, folders.get(i), new FeedLinkReference(feed.getLink()), "BookMark " + j));
+      }
+    }
+
+    DynamicDAO.saveAll(feeds);
+    DynamicDAO.save(root);
+    feeds = null;
+
+    /* Refresh of all Folders computing every Decoration */
+    long start = System.currentTimeMillis();
+    int unreadCount = 0;
+    for (IFolder folder : folders)
+      unreadCount += new FolderNewsCounter().getCounts(folder).getUnreadCount();
+
+    System.out.println("Decorating " + folders.size() + " Folders with " + marks.size() + " BookMarks (" + unreadCount + " unread News, Uncached) took: " + (System.currentTimeMillis() - start) + "ms");
+
+    /* Refresh of all Folders with aggregated Counts */
+    FolderNewsCounter counter = new FolderNewsCounter();
+    start = System.currentTimeMillis();
+    unreadCount = 0;
+    for (IFolder folder : folders)
+      unreadCount += counter.getCounts(folder).getUnreadCount();
+
+    System.out.println("Decorating " + folders.size() + " Folders with " + marks.size() + " BookMarks (" + unreadCount + " unread News, Cached) took: " + (System.currentTimeMillis() - start) + "ms");
+
+    /* Reload Wave: Update 1000 BookMarks and their Parents */
+    start = System.currentTimeMillis();
+    for (int i = 0; i < marks.size(); i += 10) {
+      IFolder parent = marks.get(i).getParent();
+      counter.invalidate(parent);
+      while (parent != null) {
+        counter.getCounts(parent);
+        parent = parent.getParent();
+      }
+    }
+
+    System.out.println("Decorating Parents of " + marks.size() / 10 + " updated BookMarks (Cached) took: " + (System.currentTimeMillis() - start) + "ms\n");
+  }
+
+  private int readSearchHits(List<SearchHit<NewsReference>> hits) {
+    int count = 0;
+    for (SearchHit<NewsReference> hit : hits) {
+      if (hit.getResult().getId() != 0 && hit.getData(INews.STATE) != null)
+        count++;
+    }
+
+    return count;
+  }
+
   /**
    * @throws Exception
    */
@@ -904,6 +1139,416 @@ public class PerformanceTest {
     return str.toString();
   }
 
+  /**
+   * @throws Exception
+   */
+  @SuppressWarnings("nls")
+  @Test
+  public void saveFeedsThroughput() throws Exception {
+    int[] subscriptions = new int[] { 500, 5000 };
+    for (int count : subscriptions) {
+      ((PersistenceServiceImpl) Owl.getPersistenceService()).recreateSchemaForTests();
+      List<Exception> ex = new ArrayList<Exception>();
+      List<ITask> tasks = getSaveFeedsTasks(count, ex);
+      System.gc();
+
+      /* Initial Save: all News are new */
+      long l1 = TestUtils.executeAndWait(tasks, JOBS);
+      System.out.println("Saving Feeds: " + count + " Subscriptions [Initial - " + JOBS + " Jobs] took: " + l1 + "ms (" + (count * 1000L / Math.max(1, l1)) + " Feeds/s)");
+
+      /* Second Save: all News are merged into existing ones */
+      long l2 = TestUtils.executeAndWait(tasks, JOBS);
+      System.out.println("Saving Feeds: " + count + " Subscriptions [Update - " + JOBS + " Jobs] took: " + l2 + "ms (" + (count * 1000L / Math.max(1, l2)) + " Feeds/s)\n");
+
+      if (ex.size() > 0)
+        throw ex.get(0);
+    }
+  }
+
+  private List<ITask> getSaveFeedsTasks(int count, final List<Exception> ex) throws URISyntaxException {
+    List<ITask> tasks = new ArrayList<ITask>(count);
+
+    /* Create Feeds with unique Links that are backed by the performance corpus */
+    List<IFeed> feeds = new ArrayList<IFeed>(count);
+    for (int i = 0; i < count; i++)
+      feeds.add(new Feed(new URI("http://www.rssowl.org/performance/" + count + "/" + i + ".xml")));
+    DynamicDAO.saveAll(feeds);
+
+    /* Create Folder with all Bookmarks */
+    IFolder rootFolder = new Folder(null, null, "Root");
+    for (IFeed feed : feeds) {
+      IBookMark bookmark = new BookMark(null, rootFolder, new FeedLinkReference(feed.getLink()), "Bookmark");
+      rootFolder.addMark(bookmark, null, false);
+    }
+    DynamicDAO.save(rootFolder);
+
+    /* Create Tasks: interpret the corpus file and hand it to the save pipeline */
+    List<IMark> marks = rootFolder.getMarks();
+    for (int i = 0; i < marks.size(); i++) {
+      final IBookMark bookmark = (IBookMark) marks.get(i);
+      final URI corpusFile = fPluginLocation.resolve("data/performance/" + ((i % FEEDS) + 1) + ".xml");
+
+      tasks.add(new TaskAdapter() {
+        public IStatus run(IProgressMonitor monitor) {
+          try {
+            IFeed interpretedFeed = new Feed(bookmark.getFeedLinkReference().getLink());
+            Owl.getInterpreter().interpret(loadFileProtocol(corpusFile), interpretedFeed, null);
+            Owl.getApplicationService().handleFeedReload(bookmark, interpretedFeed, null, false, new NullProgressMonitor());
+          } catch (Exception e) {
+            ex.add(e);
+          }
+          return Status.OK_STATUS;
+        }
+      });
+    }
+
+    return tasks;
+  }
+
+  /**
+   * @throws Exception
+   */
+  @SuppressWarnings("nls")
+  @Test
+  public void newsGetterThroughputAndFootprint() throws Exception {
+    int count = 200000;
+    IFeed feed = new Feed(new URI("http://www.rssowl.org/performance/news.xml"));
+
+    /* Retained Size: News with the same (shared) Feed Link and Receive Date */
+    Date receiveDate = new Date();
+    long before = getUsedMemory();
+    final List<INews> news = new ArrayList<INews>(count);
+    for (int i = 0; i < count; i++)
+      news.add(new News(null, feed, receiveDate));
+    long after = getUsedMemory();
+    System.out.println("News Footprint: " + count + " News retain " + ((after - before) / count) + " Bytes per News");
+
+    /* Getter Throughput: 5 Warmup and 5 measured Iterations per Thread Count */
+    final int calls = 2000000;
+    for (int jobs : new int[] { 1, JOBS }) {
+      List<ITask> tasks = new ArrayList<ITask>(jobs);
+      for (int i = 0; i < jobs; i++) {
+        final int offset = i * 7919;
+        tasks.add(new TaskAdapter() {
+          public IStatus run(IProgressMonitor monitor) {
+            int size = news.size();
+            for (int j = 0; j < calls; j++) {
+              INews item = news.get((offset + j) % size);
+              item.getState();
+              item.getTitle();
+            }
+            return Status.OK_STATUS;
+          }
+        });
+      }
+
+      for (int i = 0; i < 5; i++)
+        TestUtils.executeAndWait(tasks, jobs);
+
+      long duration = 0;
+      for (int i = 0; i < 5; i++)
+        duration += TestUtils.executeAndWait(tasks, jobs);
+
+      long totalCalls = 5L * jobs * calls * 2;
+      System.out.println("News Getters: " + jobs + " Threads took: " + duration / 5 + "ms (" + (totalCalls / Math.max(1, duration)) + " Calls/ms)");
+    }
+    System.out.println();
+
+    news.clear();
+  }
+
+  private long getUsedMemory() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 5; i++)
+      System.gc();
+
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  /**
+   * @throws Exception
+   */
+  @SuppressWarnings("nls")
+  @Test
+  public void searchNewsLatencyWhileIndexing() throws Exception {
+    final List<Exception> ex = new ArrayList<Exception>();
+    final List<Long> latencies = Collections.synchronizedList(new ArrayList<Long>());
+    final IModelFactory factory = Owl.getModelFactory();
+    fModelSearch.startup();
+
+    /* Save some Feeds first */
+    saveFeedsHelper();
+
+    /* Writers: reload Feeds (which indexes their News) */
+    List<ITask> writerTasks = getSaveFeedsTasks(FEEDS * 2, ex);
+    final AtomicInteger pendingWriters = new AtomicInteger(writerTasks.size());
+
+    /* Readers: search while any Writer is pending */
+    List<ITask> tasks = new ArrayList<ITask>();
+    int readers = 2;
+    for (int i = 0; i < readers; i++) {
+      tasks.add(new TaskAdapter() {
+        public IStatus run(IProgressMonitor monitor) {
+          List<ISearchCondition> stateConditions = new ArrayList<ISearchCondition>();
+          ISearchField stateField = factory.createSearchField(INews.STATE, INews.class.getName());
+          stateConditions.add(factory.createSearchCondition(stateField, SearchSpecifier.IS, EnumSet.of(INews.State.NEW, State.UNREAD, State.UPDATED)));
+
+          List<ISearchCondition> textConditions = new ArrayList<ISearchCondition>();
+          ISearchField textField = factory.createSearchField(IEntity.ALL_FIELDS, INews.class.getName());
+          textConditions.add(factory.createSearchCondition(textField, SearchSpecifier.CONTAINS, "news"));
+
+          try {
+            for (int j = 0; pendingWriters.get() > 0; j++) {
+              long start = System.nanoTime();
+              fModelSearch.searchNews(j % 2 == 0 ? stateConditions : textConditions, false);
+              latencies.add(System.nanoTime() - start);
+            }
+          } catch (Exception e) {
+            ex.add(e);
+          }
+          return Status.OK_STATUS;
+        }
+      });
+    }
+
+    for (final ITask writerTask : writerTasks) {
+      tasks.add(new TaskAdapter() {
+        public IStatus run(IProgressMonitor monitor) {
+          try {
+            return writerTask.run(monitor);
+          } finally {
+            pendingWriters.decrementAndGet();
+          }
+        }
+      });
+    }
+
+    long duration = TestUtils.executeAndWait(tasks, JOBS);
+
+    /* Report Percentiles */
+    List<Long> sorted = new ArrayList<Long>(latencies);
+    Collections.sort(sorted);
+    System.out.println("Searching while Indexing: " + sorted.size() + " Searches [" + readers + " Readers, " + (JOBS - readers) + " Writers] took: " + duration + "ms");
+    if (!sorted.isEmpty())
+      System.out.println("Search Latency: p50=" + getPercentile(sorted, 50) + "ms, p90=" + getPercentile(sorted, 90) + "ms, p99=" + getPercentile(sorted, 99) + "ms, max=" + getPercentile(sorted, 100) + "ms\n");
+
+    if (ex.size() > 0)
+      throw ex.get(0);
+  }
+
+  /**
+   * @throws Exception
+   */
+  @SuppressWarnings("nls")
+  @Test
+  public void loadBookMarksThroughput() throws Exception {
+    int count = 10000;
+    int readers = 16;
+
+    /* Create Folder with Bookmarks */
+    IFolder rootFolder = new Folder(null, null, "Root");
+    for (int i = 0; i < count; i++) {
+      IBookMark bookmark = new BookMark(null, rootFolder, new FeedLinkReference(new URI("http://www.rssowl.org/performance/bookmarks/" + i + ".xml")), "Bookmark " + i);
+      rootFolder.addMark(bookmark, null, false);
+    }
+    DynamicDAO.save(rootFolder);
+
+    final long[] ids = new long[count];
+    List<IMark> marks = rootFolder.getMarks();
+    for (int i = 0; i < count; i++)
+      ids[i] = marks.get(i).getId();
+
+    /* Readers: load and check Bookmarks by ID like label providers do */
+    final IBookMarkDAO dao = DynamicDAO.getDAO(IBookMarkDAO.class);
+    final int calls = 1000000;
+    final List<Exception> ex = new ArrayList<Exception>();
+    List<ITask> tasks = new ArrayList<ITask>(readers);
+    for (int i = 0; i < readers; i++) {
+      final int offset = i * 7919;
+      tasks.add(new TaskAdapter() {
+        public IStatus run(IProgressMonitor monitor) {
+          for (int j = 0; j < calls; j++) {
+            long id = ids[(offset + j) % ids.length];
+            if (dao.load(id) == null || !dao.exists(id)) {
+              ex.add(new IllegalStateException("Bookmark not found: " + id));
+              break;
+            }
+          }
+          return Status.OK_STATUS;
+        }
+      });
+    }
+
+    /* 3 Warmup and 5 measured Iterations */
+    for (int i = 0; i < 3; i++)
+      TestUtils.executeAndWait(tasks, readers);
+
+    long duration = 0;
+    for (int i = 0; i < 5; i++)
+      duration += TestUtils.executeAndWait(tasks, readers);
+
+    long totalCalls = 5L * readers * calls * 2;
+    System.out.println("Loading Bookmarks: " + count + " Bookmarks, " + readers + " Threads took: " + duration / 5 + "ms (" + (totalCalls / Math.max(1, duration)) + " Calls/ms)");
+
+    /* Statistics of a bounded Cache (-Drssowl.cache.size) */
+    if (dao instanceof CachingDAO<?, ?, ?, ?> && ((CachingDAO<?, ?, ?, ?>) dao).getBoundedCache() != null)
+      System.out.println("Bookmark Cache: " + ((CachingDAO<?, ?, ?, ?>) dao).getBoundedCache());
+
+    System.out.println();
+
+    if (ex.size() > 0)
+      throw ex.get(0);
+  }
+
+  /**
+   * @throws Exception
+   */
+  @SuppressWarnings("nls")
+  @Test
+  public void loadNewsOfFolder() throws Exception {
+    int feedCount = 20;
+    int newsPerFeed = 500;
+
+    /* Create Feeds with News like a Folder of Bookmarks */
+    List<IFeed> feeds = new ArrayList<IFeed>(feedCount);
+    for (int i = 0; i < feedCount; i++) {
+      IFeed feed = new Feed(new URI("http://www.rssowl.org/performance/folder/" + i + ".xml"));
+      for (int j = 0; j < newsPerFeed; j++) {
+        INews news = new News(null, feed, new Date());
+        news.setTitle("News " + j);
+        news.setLink(new URI("http://www.rssowl.org/performance/folder/" + i + "/" + j));
+        feed.addNews(news);
+      }
+      feeds.add(feed);
+    }
+    DynamicDAO.saveAll(feeds);
+
+    /* Collect IDs in the (unordered) way a Folder News Mark does */
+    Set<Long> newsIds = new HashSet<Long>();
+    for (IFeed feed : feeds) {
+      for (INews news : feed.getNews())
+        newsIds.add(news.getId());
+    }
+
+    long[] ids = new long[newsIds.size()];
+    int index = 0;
+    for (Long id : newsIds)
+      ids[index++] = id;
+
+    INewsDAO newsDao = DynamicDAO.getDAO(INewsDAO.class);
+
+    /* 3 Warmup and 5 measured Iterations each */
+    long singleDuration = 0;
+    long batchDuration = 0;
+    for (int i = 0; i < 8; i++) {
+      long start = System.currentTimeMillis();
+      List<INews> single = new ArrayList<INews>(ids.length);
+      for (long id : ids)
+        single.add(newsDao.load(id));
+      if (i >= 3)
+        singleDuration += System.currentTimeMillis() - start;
+
+      start = System.currentTimeMillis();
+      List<INews> batch = newsDao.loadAll(ids);
+      if (i >= 3)
+        batchDuration += System.currentTimeMillis() - start;
+
+      if (!single.equals(batch))
+        throw new IllegalStateException("Batch Loading returned different News");
+    }
+
+    System.out.println("Loading News of Folder: " + ids.length + " News one by one took: " + singleDuration / 5 + "ms");
+    System.out.println("Loading News of Folder: " + ids.length + " News in Batches took: " + batchDuration / 5 + "ms");
+    System.out.println();
+  }
+
+  /**
+   * @throws Exception
+   */
+  @SuppressWarnings("nls")
+  @Test
+  public void parseDatesThroughput() throws Exception {
+    int threads = 10;
+    final int rounds = 100;
+    final List<String> dates = DateUtilsTest.loadFeedDates();
+
+    /* Parse all Dates of the Performance Feeds from all Threads */
+    List<ITask> legacyTasks = new ArrayList<ITask>(threads);
+    List<ITask> tasks = new ArrayList<ITask>(threads);
+    for (int i = 0; i < threads; i++) {
+      legacyTasks.add(new TaskAdapter() {
+        public IStatus run(IProgressMonitor monitor) {
+          for (int j = 0; j < rounds; j++) {
+            for (String date : dates)
+              LegacyDateParser.parseDate(date);
+          }
+          return Status.OK_STATUS;
+        }
+      });
+
+      tasks.add(new TaskAdapter() {
+        public IStatus run(IProgressMonitor monitor) {
+          for (int j = 0; j < rounds; j++) {
+            for (String date : dates)
+              DateUtils.parseDate(date);
+          }
+          return Status.OK_STATUS;
+        }
+      });
+    }
+
+    /* 3 Warmup and 5 measured Iterations each */
+    for (int i = 0; i < 3; i++) {
+      TestUtils.executeAndWait(legacyTasks, threads);
+      TestUtils.executeAndWait(tasks, threads);
+    }
+
+    long legacyDuration = 0;
+    long duration = 0;
+    for (int i = 0; i < 5; i++) {
+      legacyDuration += TestUtils.executeAndWait(legacyTasks, threads);
+      duration += TestUtils.executeAndWait(tasks, threads);
+    }
+
+    long totalCalls = 5L * threads * rounds * dates.size();
+    System.out.println("Parsing Dates with Date Formats: " + dates.size() + " Dates, " + threads + " Threads took: " + legacyDuration / 5 + "ms (" + (totalCalls / Math.max(1, legacyDuration)) + " Calls/ms)");
+    System.out.println("Parsing Dates: " + dates.size() + " Dates, " + threads + " Threads took: " + duration / 5 + "ms (" + (totalCalls / Math.max(1, duration)) + " Calls/ms)");
+    System.out.println();
+  }
+
+  /**
+   * @throws Exception
+   */
+  @SuppressWarnings("nls")
+  @Test
+  public void reindexThroughput() throws Exception {
+    fModelSearch.startup();
+
+    /* Save some Feeds first */
+    saveFeedsHelper();
+    int newsCount = DynamicDAO.getDAO(INewsDAO.class).loadAll().size();
+
+    /* Warmup */
+    fModelSearch.reindexAll(new NullProgressMonitor());
+
+    /* Reindex 3 Times */
+    long duration = 0;
+    for (int i = 0; i < 3; i++) {
+      long start = System.currentTimeMillis();
+      fModelSearch.reindexAll(new NullProgressMonitor());
+      duration += System.currentTimeMillis() - start;
+    }
+
+    System.out.println("Reindexing " + newsCount + " News [" + Runtime.getRuntime().availableProcessors() + " Processors] took: " + duration / 3 + "ms (" + (newsCount * 3000L / Math.max(1, duration)) + " Documents/s)\n");
+  }
+
+  private double getPercentile(List<Long> sortedNanos, int percentile) {
+    int index = (int) Math.ceil(percentile / 100d * sortedNanos.size()) - 1;
+    long nanos = sortedNanos.get(Math.max(0, Math.min(index, sortedNanos.size() - 1)));
+
+    return Math.round(nanos / 10000d) / 100d;
+  }
+
   /**
    * @throws Exception
    */
@@ -1107,6 +1752,111 @@ public class PerformanceTest {
       throw ex.get(0);
   }
 
+  /**
+   * @throws Exception
+   */
+  @SuppressWarnings("nls")
+  @Test
+  public void reloadFeedsFromServer() throws Exception {
+    File feedFile = new File(fPluginLocation.resolve("data/performance/1.xml"));
+    byte[] body = new byte[(int) feedFile.length()];
+    InputStream inS = new FileInputStream(feedFile);
+    try {
+      for (int read = 0; read < body.length;)
+        read += inS.read(body, read, body.length - read);
+    } finally {
+      inS.close();
+    }
+
+    /* Simulate the costs of connecting to a remote Host */
+    int connectDelay = 20;
+
+    for (boolean keepAlive : new boolean[] { false, true }) {
+      HttpStubServer server = new HttpStubServer(body, keepAlive, connectDelay);
+      try {
+        List<ITask> tasks = getReloadFeedsFromServerTasks(server);
+
+        /* Cold-Start: Reload Feeds from the Server */
+        long l0 = TestUtils.executeAndWait(tasks, JOBS);
+
+        /* Warm-Start: Reload Feeds from the Server */
+        long l1 = TestUtils.executeAndWait(tasks, JOBS);
+        long l2 = TestUtils.executeAndWait(tasks, JOBS);
+
+        String mode = keepAlive ? "Keep-Alive" : "Connection: close";
+        System.out.println("Reloading " + FEEDS + " Feeds from Server [" + mode + ", Cold - " + JOBS + " Jobs] took: " + l0 + "ms");
+        System.out.println("Reloading " + FEEDS + " Feeds from Server [" + mode + ", Warm - " + JOBS + " Jobs] took: " + (l1 + l2) / 2 + "ms (" + server.getAcceptedConnections() + " Connections for " + server.getRequests() + " Requests)");
+        System.out.println(DefaultProtocolHandler.getConnectionManager() + "\n");
+      } finally {
+        server.stop();
+        DefaultProtocolHandler.getConnectionManager().closeIdleConnections(0);
+        DefaultProtocolHandler.getConnectionManager().resetStatistics();
+      }
+    }
+  }
+
+  @SuppressWarnings("nls")
+  private List<ITask> getReloadFeedsFromServerTasks(HttpStubServer server) throws Exception {
+    List<ITask> tasks = new ArrayList<ITask>();
+    final DefaultProtocolHandler handler = new DefaultProtocolHandler();
+    for (int i = 1; i < FEEDS + 1; i++) {
+      final URI feedLink = server.getLink("/" + i + ".xml");
+      tasks.add(new TaskAdapter() {
+        public IStatus run(IProgressMonitor monitor) {
+          try {
+            handler.reload(feedLink, new NullProgressMonitor(), null);
+          } catch (Exception e) {
+            Activator.getDefault().logError(e.getMessage(), e);
+          }
+          return Status.OK_STATUS;
+        }
+      });
+    }
+
+    return tasks;
+  }
+
+  /**
+   * @throws Exception
+   */
+  @SuppressWarnings("nls")
+  @Test
+  public void mergeNews() throws Exception {
+    for (int newsCount : new int[] { 1000, 5000, 20000 }) {
+
+      /* Cold-Start: Merge Feeds where half of the News are new */
+      System.out.println("Merging " + newsCount + " News [Cold] took: " + mergeNewsHelper(newsCount) + "ms");
+
+      /* Warm-Start: Merge Feeds where half of the News are new */
+      long l1 = mergeNewsHelper(newsCount);
+      long l2 = mergeNewsHelper(newsCount);
+
+      System.out.println("Merging " + newsCount + " News [Warm] took: " + (l1 + l2) / 2 + "ms\n");
+    }
+  }
+
+  @SuppressWarnings("nls")
+  private long mergeNewsHelper(int newsCount) throws Exception {
+    URI feedLink = new URI("http://www.merge.com/feed.xml");
+    IFeed existingFeed = new Feed(feedLink);
+    IFeed incomingFeed = new Feed(feedLink);
+
+    /* News without GUID are compared by their Link */
+    for (int i = 0; i < newsCount; i++) {
+      INews news = Owl.getModelFactory().createNews(null, existingFeed, new Date(0));
+      news.setLink(new URI("http://www.merge.com/news/" + i));
+      news.setTitle("News " + i);
+
+      news = Owl.getModelFactory().createNews(null, incomingFeed, new Date(0));
+      news.setLink(new URI("http://www.merge.com/news/" + (i + newsCount / 2)));
+      news.setTitle("News " + (i + newsCount / 2));
+    }
+
+    long start = System.currentTimeMillis();
+    existingFeed.mergeAndCleanUp(incomingFeed);
+    return System.currentTimeMillis() - start;
+  }
+
   /**
    * @throws Exception
    */
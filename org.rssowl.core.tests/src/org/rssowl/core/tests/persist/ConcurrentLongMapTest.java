@@ -0,0 +1,176 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2009 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.tests.persist;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.rssowl.core.internal.persist.ConcurrentLongMap;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for ConcurrentLongMap.
+ */
+public class ConcurrentLongMapTest {
+
+  /**
+   * Tests put, get, containsKey and replacing values.
+   */
+  @Test
+  public void testPutAndGet() {
+    ConcurrentLongMap<String> map = new ConcurrentLongMap<String>();
+    assertTrue(map.isEmpty());
+    assertNull(map.get(0));
+
+    assertNull(map.put(0, "zero"));
+    assertNull(map.put(1, "one"));
+    assertNull(map.put(-1, "minus one"));
+    assertNull(map.put(Long.MAX_VALUE, "max"));
+    assertEquals(4, map.size());
+
+    assertEquals("zero", map.get(0));
+    assertEquals("one", map.get(1));
+    assertEquals("minus one", map.get(-1));
+    assertEquals("max", map.get(Long.MAX_VALUE));
+    assertTrue(map.containsKey(1));
+    assertFalse(map.containsKey(2));
+
+    assertEquals("one", map.put(1, "uno"));
+    assertEquals("uno", map.get(1));
+    assertEquals(4, map.size());
+  }
+
+  /**
+   * Tests removing keys, also while the table grows.
+   */
+  @Test
+  public void testRemove() {
+    ConcurrentLongMap<Long> map = new ConcurrentLongMap<Long>();
+    for (long i = 0; i < 10000; i++)
+      map.put(i, i);
+
+    /* Conditional Remove */
+    assertNull(map.remove(5, Long.valueOf(6)));
+    assertEquals(Long.valueOf(5), map.remove(5, Long.valueOf(5)));
+    assertNull(map.remove(5));
+
+    /* Remove every other Key */
+    for (long i = 0; i < 10000; i += 2)
+      map.remove(i);
+
+    assertEquals(5000 - 1, map.size());
+    for (long i = 0; i < 10000; i++) {
+      if (i % 2 == 0 || i == 5)
+        assertNull(map.get(i));
+      else
+        assertEquals(Long.valueOf(i), map.get(i));
+    }
+
+    /* Reuse removed Slots */
+    for (long i = 0; i < 10000; i += 2)
+      map.put(i, i);
+
+    assertEquals(10000 - 1, map.size());
+
+    map.clear();
+    assertTrue(map.isEmpty());
+    assertNull(map.get(1));
+  }
+
+  /**
+   * Tests that values() reflects the contents of the map.
+   */
+  @Test
+  public void testValues() {
+    ConcurrentLongMap<Long> map = new ConcurrentLongMap<Long>();
+    for (long i = 1; i <= 100; i++)
+      map.put(i, i);
+    map.remove(50);
+
+    Set<Long> values = new HashSet<Long>(map.values());
+    assertEquals(99, map.values().size());
+    assertEquals(99, values.size());
+    assertFalse(values.contains(50L));
+    assertTrue(values.contains(100L));
+  }
+
+  /**
+   * Tests that readers always find keys that are never removed while other
+   * keys are added and removed concurrently.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testConcurrentReads() throws Exception {
+    final ConcurrentLongMap<Long> map = new ConcurrentLongMap<Long>();
+    for (long i = 0; i < 1000; i++)
+      map.put(i, i);
+
+    final AtomicBoolean done = new AtomicBoolean();
+    final AtomicInteger misses = new AtomicInteger();
+    List<Thread> readers = new ArrayList<Thread>();
+    for (int i = 0; i < 4; i++) {
+      Thread reader = new Thread() {
+        @Override
+        public void run() {
+          while (!done.get()) {
+            for (long j = 0; j < 1000; j++) {
+              Long value = map.get(j);
+              if (value == null || value.longValue() != j)
+                misses.incrementAndGet();
+            }
+          }
+        }
+      };
+      reader.start();
+      readers.add(reader);
+    }
+
+    for (int round = 0; round < 20; round++) {
+      for (long i = 1000; i < 20000; i++)
+        map.put(i, i);
+      for (long i = 1000; i < 20000; i++)
+        map.remove(i);
+    }
+
+    done.set(true);
+    for (Thread reader : readers)
+      reader.join();
+
+    assertEquals(0, misses.get());
+    assertEquals(1000, map.size());
+    assertSame(map.get(999), map.get(999));
+  }
+}
@@ -0,0 +1,140 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2009 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.tests.persist;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.rssowl.core.Owl;
+import org.rssowl.core.internal.persist.service.PersistenceServiceImpl;
+import org.rssowl.core.persist.IFeed;
+import org.rssowl.core.persist.IModelFactory;
+import org.rssowl.core.persist.INews;
+import org.rssowl.core.persist.dao.DynamicDAO;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests that merging the News of a Feed pairs existing and incoming News
+ * exactly like comparing each of them with {@link INews#isEquivalent(INews)}.
+ */
+@SuppressWarnings("nls")
+public class FeedMergeTest {
+  private static final String[] GUIDS = new String[] { null, "guid1", "guid1/", "guid2", "guid3", "" };
+  private static final String[] LINKS = new String[] { null, "http://www.link1.com", "http://www.link1.com/", "http://www.link2.com", "http://www.link3.com" };
+  private static final String[] TITLES = new String[] { null, "Title 1", "Title 2" };
+
+  private IModelFactory fFactory;
+
+  /**
+   * @throws Exception
+   */
+  @Before
+  public void setUp() throws Exception {
+    ((PersistenceServiceImpl) Owl.getPersistenceService()).recreateSchemaForTests();
+    fFactory = Owl.getModelFactory();
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testMergeMatchesEquivalence() throws Exception {
+    Random random = new Random(1);
+    for (int i = 0; i < 500; i++) {
+      URI feedLink = new URI("http://www.feed.com/" + i);
+      IFeed existingFeed = fFactory.createFeed(null, feedLink);
+      IFeed incomingFeed = fFactory.createFeed(null, feedLink);
+      createNews(existingFeed, random.nextInt(30), random, "Existing");
+      createNews(incomingFeed, random.nextInt(30), random, "Incoming");
+
+      /* News of the existing Feed are always persisted */
+      DynamicDAO.save(existingFeed);
+
+      List<INews> existingNews = existingFeed.getNews();
+
+      /* Expected Result: Compare each News with all others */
+      List<INews> incomingNews = new ArrayList<INews>();
+      for (INews news : incomingFeed.getNews()) {
+        boolean containsNews = false;
+        for (INews otherNews : incomingNews) {
+          if (otherNews.isEquivalent(news)) {
+            containsNews = true;
+            break;
+          }
+        }
+
+        if (!containsNews)
+          incomingNews.add(news);
+      }
+
+      String[] expectedComments = new String[existingNews.size()];
+      for (int j = existingNews.size() - 1; j >= 0; --j) {
+        expectedComments[j] = existingNews.get(j).getComments();
+        for (int k = 0; k < incomingNews.size(); k++) {
+          if (existingNews.get(j).isEquivalent(incomingNews.get(k))) {
+            expectedComments[j] = incomingNews.remove(k).getComments();
+            break;
+          }
+        }
+      }
+
+      existingFeed.merge(incomingFeed);
+
+      List<INews> mergedNews = existingFeed.getNews();
+      assertEquals(existingNews.size() + incomingNews.size(), mergedNews.size());
+      for (int j = 0; j < existingNews.size(); j++) {
+        assertSame(existingNews.get(j), mergedNews.get(j));
+        assertEquals(expectedComments[j], mergedNews.get(j).getComments());
+      }
+
+      for (int j = 0; j < incomingNews.size(); j++)
+        assertSame(incomingNews.get(j), mergedNews.get(existingNews.size() + j));
+    }
+  }
+
+  private void createNews(IFeed feed, int count, Random random, String comments) throws Exception {
+    for (int i = 0; i < count; i++) {
+      INews news = fFactory.createNews(null, feed, new Date());
+      news.setComments(comments + " " + i);
+
+      String guid = GUIDS[random.nextInt(GUIDS.length)];
+      if (guid != null)
+        fFactory.createGuid(news, guid, random.nextBoolean());
+
+      String link = LINKS[random.nextInt(LINKS.length)];
+      if (link != null)
+        news.setLink(new URI(link));
+
+      news.setTitle(TITLES[random.nextInt(TITLES.length)]);
+    }
+  }
+}
@@ -30,6 +30,10 @@ import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 import org.rssowl.core.internal.persist.LongArrayList;
+import org.rssowl.core.internal.persist.SortedLongArrayList;
+
+import java.util.Arrays;
+import java.util.HashSet;
 
 /**
  * Unit tests for LongArrayList.
@@ -99,4 +103,30 @@ public class LongArrayListTest {
     assertEquals(2, list.size());
     assertFalse(list.isEmpty());
   }
+
+  /**
+   * Tests removing all elements of a Set.
+   */
+  @Test
+  public void testRemoveAllOfSet() {
+    LongArrayList list = new LongArrayList(10);
+    for (int i = 0; i < 6; i++)
+      list.add(i);
+
+    LongArrayList removed = new LongArrayList(0);
+    assertTrue(list.removeAll(new HashSet<Long>(Arrays.asList(1L, 3L, 7L)), removed));
+    assertTrue(list.elementsEqual(new long[] { 0, 2, 4, 5 }));
+    assertTrue(removed.elementsEqual(new long[] { 1, 3 }));
+
+    assertFalse(list.removeAll(new HashSet<Long>(Arrays.asList(8L)), null));
+    assertEquals(4, list.size());
+
+    SortedLongArrayList sortedList = new SortedLongArrayList(10);
+    sortedList.add(5);
+    sortedList.add(1);
+    sortedList.add(3);
+    assertTrue(sortedList.removeAll(new HashSet<Long>(Arrays.asList(3L)), null));
+    assertTrue(sortedList.elementsEqual(new long[] { 1, 5 }));
+    assertEquals(1, sortedList.indexOf(5));
+  }
 }
\ No newline at end of file
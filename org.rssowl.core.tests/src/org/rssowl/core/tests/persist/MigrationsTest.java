@@ -26,14 +26,33 @@ package org.rssowl.core.tests.persist;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.junit.Test;
+import org.rssowl.core.Owl;
+import org.rssowl.core.internal.persist.Description;
+import org.rssowl.core.internal.persist.migration.Migration6To7;
 import org.rssowl.core.internal.persist.migration.MigrationResult;
 import org.rssowl.core.internal.persist.migration.Migrations;
 import org.rssowl.core.internal.persist.migration.Migrations.ChainedMigration;
 import org.rssowl.core.internal.persist.service.ConfigurationFactory;
+import org.rssowl.core.internal.persist.service.DBManager;
 import org.rssowl.core.internal.persist.service.Migration;
+import org.rssowl.core.persist.IFeed;
+import org.rssowl.core.persist.INews;
+
+import com.db4o.Db4o;
+import com.db4o.ObjectContainer;
+import com.db4o.config.Configuration;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Tests for Migrations.
@@ -116,4 +135,85 @@ public class MigrationsTest {
     assertEquals(migrations.getMigrations().get(3), chainedMigration.getMigrations().get(1));
     assertEquals(migrations.getMigrations().get(10), chainedMigration.getMigrations().get(2));
   }
+
+  /**
+   * Tests that Migration6To7 compresses the large Descriptions of a format 6
+   * database and keeps the content of all Descriptions.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testMigration6To7CompressesDescriptions() throws Exception {
+    StringBuilder longValue = new StringBuilder();
+    StringBuilder longUnicodeValue = new StringBuilder();
+    for (int i = 0; i < 100; i++) {
+      longValue.append("<p>Paragraph ").append(i).append(" of a long description.</p>");
+      longUnicodeValue.append("\u00c4\u00f6\u00fc \u20ac \u65e5\u672c ");
+    }
+
+    Map<Long, String> values = new HashMap<Long, String>();
+    values.put(1L, "A short description");
+    values.put(2L, longValue.toString());
+    values.put(3L, longUnicodeValue.toString());
+    values.put(4L, "");
+
+    File dbFile = File.createTempFile("rssowl", ".db");
+    try {
+
+      /* Write Descriptions like format 6 did (never compressed) */
+      ObjectContainer db = Db4o.openFile(DBManager.createConfiguration(false), dbFile.getAbsolutePath());
+      try {
+        IFeed feed = Owl.getModelFactory().createFeed(null, new URI("http://www.feed.com"));
+        for (Map.Entry<Long, String> entry : values.entrySet()) {
+          INews news = Owl.getModelFactory().createNews(entry.getKey(), feed, new Date());
+          Description description = new Description(news, entry.getValue());
+          setField(description, "fValue", entry.getValue());
+          setField(description, "fCompressedValue", null);
+          assertFalse(description.isCompressed());
+          db.set(description);
+        }
+        db.commit();
+      } finally {
+        db.close();
+      }
+
+      /* Migrate */
+      ConfigurationFactory configFactory = new ConfigurationFactory() {
+        public Configuration createConfiguration() {
+          return DBManager.createConfiguration(false);
+        }
+      };
+      new Migration6To7().migrate(configFactory, dbFile.getAbsolutePath(), new NullProgressMonitor());
+
+      /* Check Descriptions */
+      db = Db4o.openFile(DBManager.createConfiguration(false), dbFile.getAbsolutePath());
+      try {
+        int count = 0;
+        for (Description description : db.query(Description.class)) {
+          db.activate(description, Integer.MAX_VALUE);
+          long newsId = description.getNews().getId();
+          String value = values.get(newsId);
+          assertEquals(value, description.getValue());
+          if (value.length() >= Description.COMPRESSION_THRESHOLD)
+            assertTrue(description.isCompressed());
+          else
+            assertFalse(description.isCompressed());
+
+          count++;
+        }
+
+        assertEquals(values.size(), count);
+      } finally {
+        db.close();
+      }
+    } finally {
+      dbFile.delete();
+    }
+  }
+
+  private void setField(Object object, String fieldName, Object value) throws Exception {
+    Field field = object.getClass().getDeclaredField(fieldName);
+    field.setAccessible(true);
+    field.set(object, value);
+  }
 }
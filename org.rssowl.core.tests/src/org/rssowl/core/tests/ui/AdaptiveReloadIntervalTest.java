@@ -0,0 +1,229 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2009 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.tests.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.rssowl.core.internal.persist.Feed;
+import org.rssowl.core.persist.IFeed;
+import org.rssowl.ui.internal.services.AdaptiveReloadInterval;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+
+/**
+ * Tests for the {@link AdaptiveReloadInterval}.
+ */
+public class AdaptiveReloadIntervalTest {
+  private static final long MINUTE = 60 * 1000;
+  private static final long HOUR = 60 * MINUTE;
+  private static final long DAY = 24 * HOUR;
+
+  /* Monday, 2010-01-04 10:00 GMT */
+  private static final long NOW = createTime(2010, Calendar.JANUARY, 4, 10);
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testBackOffWithoutNewNews() throws Exception {
+    AdaptiveReloadInterval interval = new AdaptiveReloadInterval(10 * MINUTE);
+    Date newsDate = new Date(NOW - HOUR);
+
+    long[] expected = new long[] { 10, 10, 10, 20, 40, 80, 160, 320, 320 };
+    for (int i = 0; i < expected.length; i++)
+      assertEquals(expected[i] * MINUTE, interval.nextReload(NOW, newsDate) - NOW);
+
+    /* New News resets the Back Off (to half the Time between new News) */
+    assertEquals((HOUR - MINUTE) / 2, interval.nextReload(NOW, new Date(NOW - MINUTE)) - NOW);
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testBackOffIsLimitedToOneDay() throws Exception {
+    AdaptiveReloadInterval interval = new AdaptiveReloadInterval(2 * HOUR);
+    long next = 0;
+    for (int i = 0; i < 20; i++)
+      next = interval.nextReload(NOW, null);
+
+    assertEquals(DAY, next - NOW);
+
+    /* Configured Interval above one Day is kept */
+    interval = new AdaptiveReloadInterval(2 * DAY);
+    for (int i = 0; i < 20; i++)
+      next = interval.nextReload(NOW, null);
+
+    assertEquals(2 * DAY, next - NOW);
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testFollowsRateOfNewNews() throws Exception {
+    AdaptiveReloadInterval interval = new AdaptiveReloadInterval(10 * MINUTE);
+
+    /* New News every 4 Hours */
+    long now = NOW;
+    assertEquals(10 * MINUTE, interval.nextReload(now, new Date(now)) - now);
+    now += 4 * HOUR;
+    assertEquals(2 * HOUR, interval.nextReload(now, new Date(now)) - now);
+    now += 4 * HOUR;
+    assertEquals(2 * HOUR, interval.nextReload(now, new Date(now)) - now);
+
+    /* New News faster than the configured Interval */
+    now += MINUTE;
+    interval.nextReload(now, new Date(now));
+    now += MINUTE;
+    interval.nextReload(now, new Date(now));
+    now += MINUTE;
+    interval.nextReload(now, new Date(now));
+    now += MINUTE;
+    assertEquals(10 * MINUTE, interval.nextReload(now, new Date(now)) - now);
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testBackOffOnErrors() throws Exception {
+    AdaptiveReloadInterval interval = new AdaptiveReloadInterval(10 * MINUTE);
+
+    interval.setError(true);
+    assertEquals(20 * MINUTE, interval.nextReload(NOW, new Date(NOW)) - NOW);
+
+    interval.setError(true);
+    interval.setError(true);
+    assertEquals(80 * MINUTE, interval.nextReload(NOW, new Date(NOW + 1)) - NOW);
+
+    for (int i = 0; i < 10; i++)
+      interval.setError(true);
+    assertEquals(320 * MINUTE, interval.nextReload(NOW, new Date(NOW + 2)) - NOW);
+
+    interval.setError(false);
+    assertEquals(10 * MINUTE, interval.nextReload(NOW, new Date(NOW + 3)) - NOW);
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testRespectsTTLAndUpdatePeriod() throws Exception {
+    AdaptiveReloadInterval interval = new AdaptiveReloadInterval(10 * MINUTE);
+
+    IFeed feed = new Feed(new URI("http://www.rssowl.org/feed.xml"));
+    feed.setTTL(60);
+    interval.setHints(feed);
+    assertEquals(HOUR, interval.nextReload(NOW, new Date(NOW)) - NOW);
+
+    feed.setUpdatePeriod(IFeed.PERIODS.indexOf("daily"));
+    feed.setUpdateFrequency(2);
+    interval.setHints(feed);
+    assertEquals(12 * HOUR, interval.nextReload(NOW, new Date(NOW + 1)) - NOW);
+
+    /* Hints are limited to one Day */
+    feed.setUpdatePeriod(IFeed.PERIODS.indexOf("weekly"));
+    feed.setUpdateFrequency(0);
+    interval.setHints(feed);
+    assertEquals(DAY, interval.nextReload(NOW, new Date(NOW + 2)) - NOW);
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testSkipHoursAndDays() throws Exception {
+    AdaptiveReloadInterval interval = new AdaptiveReloadInterval(30 * MINUTE);
+
+    /* Skip 10:00 - 12:59 GMT */
+    IFeed feed = new Feed(new URI("http://www.rssowl.org/feed.xml"));
+    feed.addHourToSkip(10);
+    feed.addHourToSkip(11);
+    feed.addHourToSkip(12);
+    interval.setHints(feed);
+    assertEquals(createTime(2010, Calendar.JANUARY, 4, 13), interval.nextReload(NOW, new Date(NOW)));
+
+    /* Skip Monday and Tuesday */
+    feed = new Feed(new URI("http://www.rssowl.org/feed.xml"));
+    feed.addDayToSkip(IFeed.DAYS.indexOf("monday"));
+    feed.addDayToSkip(IFeed.DAYS.indexOf("tuesday"));
+    interval.setHints(feed);
+    assertEquals(createTime(2010, Calendar.JANUARY, 6, 0), interval.nextReload(NOW, new Date(NOW + 1)));
+
+    /* Skipping all Hours is ignored */
+    feed = new Feed(new URI("http://www.rssowl.org/feed.xml"));
+    for (int i = 0; i < 24; i++)
+      feed.addHourToSkip(i);
+    interval.setHints(feed);
+    assertEquals(NOW + 30 * MINUTE, interval.nextReload(NOW, new Date(NOW + 2)));
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testFeedHints() throws Exception {
+    IFeed feed = new Feed(new URI("http://www.rssowl.org/feed.xml"));
+    assertNull(feed.getHoursToSkip());
+    assertNull(feed.getDaysToSkip());
+    assertEquals(-1, feed.getUpdatePeriod());
+    assertEquals(0, feed.getUpdateFrequency());
+
+    feed.addHourToSkip(23);
+    feed.addHourToSkip(0);
+    feed.addHourToSkip(24);
+    feed.addDayToSkip(6);
+    feed.setUpdatePeriod(0);
+    feed.setUpdateFrequency(4);
+
+    assertTrue(Arrays.equals(new int[] { 0, 23 }, feed.getHoursToSkip()));
+    assertTrue(Arrays.equals(new int[] { 6 }, feed.getDaysToSkip()));
+    assertEquals(0, feed.getUpdatePeriod());
+    assertEquals(4, feed.getUpdateFrequency());
+
+    /* Merge */
+    IFeed otherFeed = new Feed(new URI("http://www.rssowl.org/feed.xml"));
+    otherFeed.merge(feed);
+    assertTrue(Arrays.equals(new int[] { 0, 23 }, otherFeed.getHoursToSkip()));
+    assertTrue(Arrays.equals(new int[] { 6 }, otherFeed.getDaysToSkip()));
+    assertEquals(0, otherFeed.getUpdatePeriod());
+    assertEquals(4, otherFeed.getUpdateFrequency());
+  }
+
+  private static long createTime(int year, int month, int day, int hour) {
+    Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("GMT"));
+    calendar.clear();
+    calendar.set(year, month, day, hour, 0, 0);
+    return calendar.getTimeInMillis();
+  }
+}
@@ -26,6 +26,7 @@ package org.rssowl.core.tests.ui;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import org.eclipse.core.runtime.NullProgressMonitor;
@@ -36,6 +37,7 @@ import org.rssowl.core.Owl;
 import org.rssowl.core.internal.persist.BookMark;
 import org.rssowl.core.internal.persist.Feed;
 import org.rssowl.core.internal.persist.Folder;
+import org.rssowl.core.internal.persist.pref.DefaultPreferences;
 import org.rssowl.core.internal.persist.service.PersistenceServiceImpl;
 import org.rssowl.core.persist.IAttachment;
 import org.rssowl.core.persist.IBookMark;
@@ -63,10 +65,21 @@ import org.rssowl.ui.internal.actions.ToggleReadStateAction;
 import org.rssowl.ui.internal.editors.feed.NewsColumn;
 import org.rssowl.ui.internal.editors.feed.NewsColumnViewModel;
 import org.rssowl.ui.internal.editors.feed.NewsComparator;
-
+import org.rssowl.ui.internal.editors.feed.NewsFragmentCache;
+import org.rssowl.ui.internal.editors.feed.NewsSortKeys;
+import org.rssowl.ui.internal.services.FeedReloadService;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
 import java.net.URI;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * Testing the <code>RSSOwlUI</code> facade.
@@ -446,6 +459,91 @@ public class MiscUITests {
     assertEquals("B News", ((INews) elements[2]).getTitle());
   }
 
+  /**
+   * Tests the {@link NewsSortKeys} used by the {@link NewsComparator}.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testNewsSortKeys() throws Exception {
+    IFeed feed = Owl.getModelFactory().createFeed(null, new URI("feed"));
+    INews news = Owl.getModelFactory().createNews(null, feed, new Date());
+    news.setTitle("<b>Foo &amp; Bar</b>");
+
+    NewsSortKeys keys = new NewsSortKeys();
+    assertEquals("Foo & Bar", keys.getHeadline(news));
+    assertEquals("foo & bar", keys.getHeadlineKey(news));
+
+    /* Keys follow a changed Title */
+    news.setTitle("Other");
+    assertEquals("Other", keys.getHeadline(news));
+    assertEquals("other", keys.getHeadlineKey(news));
+
+    /* Headline from Description */
+    news.setTitle(null);
+    news.setDescription("Description");
+    assertEquals("Description", keys.getHeadline(news));
+    news.setDescription("Changed");
+    assertEquals("Changed", keys.getHeadline(news));
+
+    /* Keys compare like compareToIgnoreCase() */
+    String[] values = new String[] { "abc", "ABD", "\u00c4rger", "\u00e4rger", "Zebra", "\u00dcber", "a", "" };
+    for (String value1 : values) {
+      for (String value2 : values)
+        assertEquals(Integer.signum(value1.compareToIgnoreCase(value2)), Integer.signum(NewsSortKeys.toKey(value1).compareTo(NewsSortKeys.toKey(value2))));
+    }
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testNewsFragmentCache() throws Exception {
+    ILabel label = DynamicDAO.save(fFactory.createLabel(null, "Label"));
+
+    IFeed feed = fFactory.createFeed(null, new URI("feed"));
+    fFactory.createNews(null, feed, new Date()).setTitle("News 1");
+    fFactory.createNews(null, feed, new Date()).setTitle("News 2");
+    feed = DynamicDAO.save(feed);
+
+    INews news1 = feed.getNews().get(0);
+    INews news2 = feed.getNews().get(1);
+
+    NewsFragmentCache cache = new NewsFragmentCache();
+    try {
+      cache.put(news1.getId(), "options", "Fragment 1", cache.getStamp());
+      cache.put(news2.getId(), "options", "Fragment 2", cache.getStamp());
+      assertEquals("Fragment 1", cache.get(news1.getId(), "options"));
+      assertNull(cache.get(news1.getId(), "other options"));
+
+      /* Changed News are invalidated */
+      news1.setState(INews.State.READ);
+      DynamicDAO.save(news1);
+      assertNull(cache.get(news1.getId(), "options"));
+      assertEquals("Fragment 2", cache.get(news2.getId(), "options"));
+
+      /* Fragments rendered before a change are not cached */
+      long stamp = cache.getStamp();
+      news2.setFlagged(true);
+      DynamicDAO.save(news2);
+      cache.put(news1.getId(), "options", "Outdated", stamp);
+      assertNull(cache.get(news1.getId(), "options"));
+
+      /* Changed Labels invalidate all */
+      cache.put(news1.getId(), "options", "Fragment 1", cache.getStamp());
+      label.setColor("0,0,0");
+      DynamicDAO.save(label);
+      assertEquals(0, cache.size());
+
+      /* Cache is bounded */
+      for (long i = 0; i < 1000; i++)
+        cache.put(i, "options", "Fragment", cache.getStamp());
+      assertTrue(cache.size() < 1000);
+    } finally {
+      cache.dispose();
+    }
+  }
+
   /**
    * TODO Not complete because the ApplicationServer requires a
    * {@link NewsBrowserViewer} instance to function.
@@ -491,4 +589,129 @@ public class MiscUITests {
     String bmUrl = server.toUrl("foo", bm);
     assertTrue(URIUtils.looksLikeLink(bmUrl));
   }
+
+  /**
+   * Tests that the ApplicationServer keeps a HTTP/1.1 Connection alive and
+   * answers a conditional Request for a cached Resource with a 304.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testApplicationServerKeepAliveAndETag() throws Exception {
+    ApplicationServer server = ApplicationServer.getDefault();
+    server.startup();
+
+    URI resourceUri = new URI(server.toResourceUrl("/icons/elcl16/expanded.gif"));
+    String requestLine = "GET /?" + resourceUri.getRawQuery() + " HTTP/1.1\r\n";
+
+    Socket socket = new Socket(resourceUri.getHost(), resourceUri.getPort());
+    try {
+      socket.setSoTimeout(10000);
+      InputStream inS = new BufferedInputStream(socket.getInputStream());
+      OutputStream outS = socket.getOutputStream();
+
+      /* First Request returns the Resource with an ETag */
+      outS.write((requestLine + "Host: " + resourceUri.getHost() + "\r\n\r\n").getBytes("US-ASCII"));
+      outS.flush();
+
+      Map<String, String> headers = new HashMap<String, String>();
+      assertEquals("HTTP/1.1 200 OK", readResponseHeaders(inS, headers));
+      assertNull(headers.get("connection"));
+      String eTag = headers.get("etag");
+      assertNotNull(eTag);
+
+      int length = Integer.parseInt(headers.get("content-length"));
+      assertTrue(length > 0);
+      for (int i = 0; i < length; i++)
+        assertTrue(inS.read() != -1);
+
+      /* Second Request over the same Connection is not modified */
+      outS.write((requestLine + "Host: " + resourceUri.getHost() + "\r\nIf-None-Match: " + eTag + "\r\n\r\n").getBytes("US-ASCII"));
+      outS.flush();
+
+      headers.clear();
+      assertEquals("HTTP/1.1 304 Not Modified", readResponseHeaders(inS, headers));
+      assertEquals(eTag, headers.get("etag"));
+      assertNull(headers.get("content-length"));
+
+      /* Client closes the Connection with the third Request */
+      outS.write((requestLine + "Host: " + resourceUri.getHost() + "\r\nConnection: close\r\n\r\n").getBytes("US-ASCII"));
+      outS.flush();
+
+      headers.clear();
+      assertEquals("HTTP/1.1 200 OK", readResponseHeaders(inS, headers));
+      assertEquals("close", headers.get("connection"));
+      for (int i = 0; i < length; i++)
+        assertTrue(inS.read() != -1);
+      assertEquals(-1, inS.read());
+    } finally {
+      socket.close();
+    }
+  }
+
+  /* Reads the Status-Line and lower-cased HTTP-Headers of a Response */
+  private String readResponseHeaders(InputStream inS, Map<String, String> headers) throws IOException {
+    String statusLine = readLine(inS);
+    String line;
+    while ((line = readLine(inS)).length() > 0) {
+      int index = line.indexOf(':');
+      headers.put(line.substring(0, index).trim().toLowerCase(Locale.ENGLISH), line.substring(index + 1).trim());
+    }
+
+    return statusLine;
+  }
+
+  private String readLine(InputStream inS) throws IOException {
+    StringBuilder line = new StringBuilder();
+    int c;
+    while ((c = inS.read()) != '\n') {
+      assertTrue(c != -1);
+      if (c != '\r')
+        line.append((char) c);
+    }
+
+    return line.toString();
+  }
+
+  /**
+   * Tests that the reload service wakes up for a reload that is due earlier
+   * than the reload it is sleeping for.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testFeedReloadServiceWakesUpForEarlierReload() throws Exception {
+    IFolder root = fFactory.createFolder(null, null, "Root");
+    IBookMark hourly = fFactory.createBookMark(null, root, new FeedLinkReference(new URI("http://www.hourly.com/feed.xml")), "Hourly");
+    IBookMark frequent = fFactory.createBookMark(null, root, new FeedLinkReference(new URI("http://www.frequent.com/feed.xml")), "Frequent");
+
+    IPreferenceScope hourlyPrefs = Owl.getPreferenceService().getEntityScope(hourly);
+    hourlyPrefs.putBoolean(DefaultPreferences.BM_UPDATE_INTERVAL_STATE, true);
+    hourlyPrefs.putLong(DefaultPreferences.BM_UPDATE_INTERVAL, 3600);
+    DynamicDAO.save(root);
+
+    FeedReloadService service = new FeedReloadService();
+    try {
+
+      /* Scheduler is now sleeping for the hourly Reload */
+      long timeout = System.currentTimeMillis() + 10000;
+      while (service.getScheduledCount() == 0 && System.currentTimeMillis() < timeout)
+        Thread.sleep(50);
+      assertEquals(1, service.getScheduledCount());
+
+      /* Reload that is due within 2 Seconds */
+      IPreferenceScope frequentPrefs = Owl.getPreferenceService().getEntityScope(frequent);
+      frequentPrefs.putBoolean(DefaultPreferences.BM_UPDATE_INTERVAL_STATE, true);
+      frequentPrefs.putLong(DefaultPreferences.BM_UPDATE_INTERVAL, 2);
+      service.sync(frequent);
+      assertEquals(2, service.getScheduledCount());
+
+      timeout = System.currentTimeMillis() + 10000;
+      while (service.getDispatchedCount() == 0 && System.currentTimeMillis() < timeout)
+        Thread.sleep(50);
+      assertTrue(service.getDispatchedCount() > 0);
+    } finally {
+      service.stopService();
+    }
+  }
 }
\ No newline at end of file
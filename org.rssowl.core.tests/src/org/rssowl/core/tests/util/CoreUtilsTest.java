@@ -2090,4 +2090,34 @@ public class CoreUtilsTest {
     assertTrue(CoreUtils.isOrphaned(search8));
     assertTrue(!CoreUtils.isOrphaned(search9));
   }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testGetNumberProperties() throws Exception {
+    String property = "rssowl.tests.coreutils.property";
+    try {
+      assertEquals(5, CoreUtils.getIntProperty(property, 5));
+      assertEquals(5L, CoreUtils.getLongProperty(property, 5L));
+
+      System.setProperty(property, "42");
+      assertEquals(42, CoreUtils.getIntProperty(property, 5));
+      assertEquals(42L, CoreUtils.getLongProperty(property, 5L));
+
+      System.setProperty(property, "0");
+      assertEquals(5, CoreUtils.getIntProperty(property, 5));
+      assertEquals(5L, CoreUtils.getLongProperty(property, 5L));
+
+      System.setProperty(property, "foo");
+      assertEquals(5, CoreUtils.getIntProperty(property, 5));
+      assertEquals(5L, CoreUtils.getLongProperty(property, 5L));
+
+      System.setProperty(property, "10000000000");
+      assertEquals(Integer.MAX_VALUE, CoreUtils.getIntProperty(property, 5));
+      assertEquals(10000000000L, CoreUtils.getLongProperty(property, 5L));
+    } finally {
+      System.clearProperty(property);
+    }
+  }
 }
\ No newline at end of file
@@ -0,0 +1,280 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2009 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.tests.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+import org.rssowl.core.util.DateUtils;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Tests {@link DateUtils#parseDate(String)} against the {@link LegacyDateParser}.
+ */
+@SuppressWarnings("nls")
+public class DateUtilsTest {
+
+  /* Building blocks for Date Strings */
+  private static final String[] DAYS = { "Mon", "Tue", "wed", "THU", "Friday", "Sat", "Sun", "Xyz" };
+  private static final String[] MONTHS = { "Jan", "feb", "MAR", "Apr", "May", "June", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec", "Foo" };
+  private static final String[] ZONES = { "GMT", "UTC", "gmt", "UT", "Z", "EST", "EDT", "CST", "CDT", "MST", "MDT", "PST", "PDT", "CET", "CEST", "BST", "IST", "JST", "XYZ", "GMT+02:00", "+0000", "-0500", "+0130", "+01:00", "-08:00", "+4:00", "-9:30", "+2400", "+0160", "+01", "-0500 (EST)" };
+  private static final String[] FRACTIONS = { ".0", ".12", ".985", ".1234" };
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testParseDate() throws Exception {
+    assertNull(DateUtils.parseDate(null));
+    assertNull(DateUtils.parseDate(""));
+    assertNull(DateUtils.parseDate("foo bar"));
+
+    assertEquals(utc(2005, 7, 19, 23, 0, 51, 0), DateUtils.parseDate("Tue, 19 Jul 2005 23:00:51 GMT"));
+    assertEquals(utc(2005, 7, 19, 23, 0, 51, 0), DateUtils.parseDate("Tue, 19 Jul 05 23:00:51 GMT"));
+    assertEquals(utc(2005, 12, 19, 22, 0, 0, 0), DateUtils.parseDate("Mon, 19 Dec 2005 17:00:00 -0500"));
+    assertEquals(utc(2005, 12, 19, 15, 0, 21, 0), DateUtils.parseDate("Mon, 19 Dec 2005 07:00:21 PST"));
+    assertEquals(utc(2005, 12, 16, 4, 0, 0, 0), DateUtils.parseDate("Fri, 16 Dec 2005 00:00:00 EDT"));
+    assertEquals(utc(2005, 12, 16, 0, 0, 0, 0), DateUtils.parseDate("2005-12-16T00:00:00Z"));
+    assertEquals(utc(2005, 12, 16, 10, 29, 19, 0), DateUtils.parseDate("2005-12-16T11:29:19+01:00"));
+    assertEquals(utc(2009, 11, 4, 13, 44, 55, 985), DateUtils.parseDate("2009-11-04T06:44:55.985-07:00"));
+    assertEquals(utc(2005, 12, 16, 0, 0, 0, 0), DateUtils.parseDate("2005-12-16"));
+    assertEquals(utc(2005, 12, 16, 0, 0, 0, 0), DateUtils.parseDate(" 2005-12-16 "));
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testParseDateLikeLegacyParser() throws Exception {
+    String[] dates = new String[] {
+      "Tue, 19 Jul 2005 23:00:51 GMT",
+      "Tue, 19 Jul 2005 23:00:51",
+      "Tue, 19 Jul 2005 23:00",
+      "Tue, 19 Jul 2005 23:00 GMT",
+      "Tue 19 Jul 2005 23:00:51 +0200",
+      "Tuesday, 19 Jul 2005 23:00:51 GMT",
+      "Tue, 19 July 2005 23:00:51 GMT",
+      "Tue, 9 Jul 2005 3:00:51 GMT",
+      "Tue,  9 Jul 2005 23:00:51 -0500",
+      "Tue,  19 Jul 2005 23:00:51 -0500",
+      "Tue, 19 Jul 1969 23:00:51 BST",
+      "Tue, 19 Jul 1969 23:00:51 EST",
+      "Tue, 31 Feb 2005 23:00:51 GMT",
+      "Tue, 19 Jul 2005 24:00:00 GMT",
+      "Tue, 19 Jul 2005 23:00:60 GMT",
+      "Tue, 19 Jul 2005 23:00:51 GMT+02:00",
+      "Tue, 19 Jul 2005 23:00:51 -0500 (EST)",
+      "19 Jul 2005 23:00:51 GMT",
+      "19 Jul 2005 23:00:51",
+      "19 Jul 2005 23:00 +0100",
+      "Jul 19 2005",
+      "July 19, 2005",
+      "2005-07-19",
+      "2005-7-19",
+      "2005-07-19T23:00:51",
+      "2005-07-19T23:00:51Z",
+      "2005-07-19T23:00:51z",
+      "2005-07-19T23:00:51.123",
+      "2005-07-19T23:00:51.123Z",
+      "2005-07-19T23:00:51.123+01:00",
+      "2005-07-19T23:00:51.5+01:00",
+      "2005-07-19T23:00:51 +01:00",
+      "2005-07-19T23:00",
+      "2005-07-19T23:00Z",
+      "2005-07-19T23:00-05:00",
+      "2005-07-19T230051.123+0100",
+      "2005-07-19 23:00:51",
+      "2006-01-12 22:29",
+      "1500-07-19T23:00:51Z",
+      "2000-02-29T00:00:00Z",
+      "1900-02-29T00:00:00Z"
+    };
+
+    for (String date : dates)
+      assertEquals(date, LegacyDateParser.parseDate(date), DateUtils.parseDate(date));
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testParseGeneratedDatesLikeLegacyParser() throws Exception {
+    Random random = new Random(822);
+    for (int i = 0; i < 50000; i++) {
+      String date = random.nextBoolean() ? createRfc822Date(random) : createIso8601Date(random);
+      assertEquals(date, LegacyDateParser.parseDate(date), DateUtils.parseDate(date));
+    }
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testParseFeedDatesLikeLegacyParser() throws Exception {
+    List<String> dates = loadFeedDates();
+    for (String date : dates)
+      assertEquals(date, LegacyDateParser.parseDate(date), DateUtils.parseDate(date));
+  }
+
+  /**
+   * @throws Exception
+   */
+  @Test
+  public void testParseDateConcurrently() throws Exception {
+    final List<String> dates = loadFeedDates();
+    final List<Date> expected = new ArrayList<Date>(dates.size());
+    for (String date : dates)
+      expected.add(LegacyDateParser.parseDate(date));
+
+    final List<String> failures = new ArrayList<String>();
+    List<Thread> threads = new ArrayList<Thread>();
+    for (int i = 0; i < 8; i++) {
+      final int offset = i;
+      Thread thread = new Thread() {
+        @Override
+        public void run() {
+          for (int j = 0; j < dates.size() * 5; j++) {
+            int index = (offset + j) % dates.size();
+            Date date = DateUtils.parseDate(dates.get(index));
+            if (expected.get(index) == null ? date != null : !expected.get(index).equals(date)) {
+              synchronized (failures) {
+                failures.add(dates.get(index));
+              }
+            }
+          }
+        }
+      };
+      threads.add(thread);
+      thread.start();
+    }
+
+    for (Thread thread : threads)
+      thread.join();
+
+    assertEquals(failures.toString(), 0, failures.size());
+  }
+
+  /**
+   * @return The distinct Dates used in the Feeds of the Performance Tests.
+   * @throws Exception
+   */
+  public static List<String> loadFeedDates() throws Exception {
+    Pattern datePattern = Pattern.compile("<(pubDate|dc:date|updated|published|modified|issued|lastBuildDate)>([^<]*)<");
+    List<String> dates = new ArrayList<String>();
+    for (int i = 1; i <= 200; i++) {
+      InputStream inS = DateUtilsTest.class.getResourceAsStream("/data/performance/" + i + ".xml");
+      BufferedReader reader = new BufferedReader(new InputStreamReader(inS, "UTF-8"));
+      try {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          Matcher matcher = datePattern.matcher(line);
+          while (matcher.find()) {
+            String date = matcher.group(2);
+            if (!dates.contains(date))
+              dates.add(date);
+          }
+        }
+      } finally {
+        reader.close();
+      }
+    }
+
+    return dates;
+  }
+
+  private String createRfc822Date(Random random) {
+    StringBuilder str = new StringBuilder();
+    if (random.nextInt(4) != 0)
+      str.append(pick(random, DAYS)).append(random.nextInt(10) != 0 ? ", " : " ");
+
+    str.append(random.nextInt(8) != 0 ? "" : " ").append(random.nextInt(33)).append(' ');
+    str.append(pick(random, MONTHS)).append(' ');
+    str.append(random.nextBoolean() ? pad(random.nextInt(100), 2) : String.valueOf(1990 + random.nextInt(40)));
+    str.append(' ').append(pad(random.nextInt(25), random.nextInt(10) != 0 ? 2 : 1));
+    str.append(':').append(pad(random.nextInt(61), 2));
+    if (random.nextInt(4) != 0)
+      str.append(':').append(pad(random.nextInt(61), 2));
+
+    if (random.nextInt(5) != 0)
+      str.append(' ').append(pick(random, ZONES));
+
+    return str.toString();
+  }
+
+  private String createIso8601Date(Random random) {
+    StringBuilder str = new StringBuilder();
+    str.append(1990 + random.nextInt(40)).append('-');
+    str.append(pad(random.nextInt(14), 2)).append('-');
+    str.append(pad(random.nextInt(33), 2));
+    if (random.nextInt(8) == 0)
+      return str.toString();
+
+    str.append(random.nextInt(10) != 0 ? 'T' : ' ');
+    str.append(pad(random.nextInt(25), 2));
+    str.append(':').append(pad(random.nextInt(61), 2));
+    if (random.nextInt(4) != 0) {
+      str.append(':').append(pad(random.nextInt(61), 2));
+      if (random.nextInt(3) == 0)
+        str.append(pick(random, FRACTIONS));
+    }
+
+    if (random.nextInt(5) != 0)
+      str.append(random.nextInt(10) != 0 ? "" : " ").append(pick(random, ZONES));
+
+    return str.toString();
+  }
+
+  private String pick(Random random, String[] values) {
+    return values[random.nextInt(values.length)];
+  }
+
+  private String pad(int value, int digits) {
+    String str = String.valueOf(value);
+    while (str.length() < digits)
+      str = "0" + str;
+
+    return str;
+  }
+
+  private Date utc(int year, int month, int day, int hour, int minute, int second, int millis) {
+    Calendar cal = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+    cal.clear();
+    cal.set(year, month - 1, day, hour, minute, second);
+    cal.set(Calendar.MILLISECOND, millis);
+    return cal.getTime();
+  }
+}
@@ -44,10 +44,11 @@ public interface IApplicationService {
 
   /**
    * Handles all the persistence-related operations for a feed that has been
-   * provided by the interpreter. This includes: <li>Merging the contents of the
-   * interpreted feed with the currently saved one.</li> <li>Running the
-   * retention policy.</li> <li>Updating the ConditionalGet object associated
-   * with the feed.</li>
+   * provided by the interpreter. This method is safe to be called concurrently
+   * for different feeds, calls for the same feed are processed one after the
+   * other. This includes: <li>Merging the contents of the interpreted feed
+   * with the currently saved one.</li> <li>Running the retention policy.</li>
+   * <li>Updating the ConditionalGet object associated with the feed.</li>
    *
    * @param bookMark The BookMark that contains the feed that has been reloaded.
    * @param interpretedFeed The IFeed object that has been supplied by the
@@ -60,6 +60,7 @@ import org.rssowl.core.internal.persist.service.DatabaseEvent;
 import org.rssowl.core.internal.persist.service.DatabaseListener;
 import org.rssowl.core.internal.persist.service.EventManager;
 import org.rssowl.core.internal.persist.service.EventsMap;
+import org.rssowl.core.internal.persist.service.GroupCommit;
 import org.rssowl.core.persist.IAttachment;
 import org.rssowl.core.persist.IBookMark;
 import org.rssowl.core.persist.IConditionalGet;
@@ -104,9 +105,9 @@ import java.util.ListIterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * db4o and Lucene implementation of IApplicationService.
@@ -116,10 +117,61 @@ public class ApplicationServiceImpl implements IApplicationService {
   /* ID of the contributed News Actions */
   private static final String NEWS_ACTION_EXTENSION_POINT = "org.rssowl.core.NewsAction"; //$NON-NLS-1$
 
+  /* Number of Partitions to serialize Reloads of the same Feed */
+  private static final int FEED_PARTITIONS = 64;
+
   private final Map<String, INewsAction> fNewsActions;
+  private final Lock[] fFeedPartitionLocks;
   private volatile ObjectContainer fDb;
   private volatile ReadWriteLock fLock;
   private volatile Lock fWriteLock;
+  private volatile GroupCommit fGroupCommit;
+
+  /* Holds the objects of a reloaded Feed to write as part of a Group Commit */
+  private final class FeedSave implements GroupCommit.Unit {
+    private final IFeed fFeed;
+    private final MergeResult fMergeResult;
+    private final IBookMark fBookMark;
+    private final IConditionalGet fConditionalGet;
+    private final boolean fDeleteConditionalGet;
+
+    FeedSave(IFeed feed, MergeResult mergeResult, IBookMark bookMark, IConditionalGet conditionalGet, boolean deleteConditionalGet) {
+      fFeed = feed;
+      fMergeResult = mergeResult;
+      fBookMark = bookMark;
+      fConditionalGet = conditionalGet;
+      fDeleteConditionalGet = deleteConditionalGet;
+    }
+
+    public void prepare() {
+      lockNewsObjects(fMergeResult);
+    }
+
+    public void write() {
+
+      /* Feed could have been deleted meanwhile! */
+      if (!fDb.ext().isStored(fFeed))
+        return;
+
+      saveFeed(fMergeResult);
+
+      /* Update Date of last added news in Bookmark */
+      if (fBookMark != null)
+        fDb.set(fBookMark);
+
+      /* Update Conditional GET */
+      if (fConditionalGet != null) {
+        if (fDeleteConditionalGet)
+          fDb.delete(fConditionalGet);
+        else
+          fDb.ext().set(fConditionalGet, 1);
+      }
+    }
+
+    public void finish() {
+      unlockNewsObjects(fMergeResult);
+    }
+  }
 
   /**
    * Creates an instance of this class.
@@ -128,15 +180,21 @@ public class ApplicationServiceImpl implements IApplicationService {
     fNewsActions = new HashMap<String, INewsAction>();
     loadNewsActions();
 
+    fFeedPartitionLocks = new Lock[FEED_PARTITIONS];
+    for (int i = 0; i < fFeedPartitionLocks.length; i++)
+      fFeedPartitionLocks[i] = new ReentrantLock();
+
     DBManager.getDefault().addEntityStoreListener(new DatabaseListener() {
       public void databaseOpened(DatabaseEvent event) {
         fDb = event.getObjectContainer();
         fLock = event.getLock();
         fWriteLock = fLock.writeLock();
+        fGroupCommit = DBManager.getDefault().getGroupCommit();
       }
 
       public void databaseClosed(DatabaseEvent event) {
         fDb = null;
+        fGroupCommit = null;
       }
     });
   }
@@ -163,119 +221,180 @@ public class ApplicationServiceImpl implements IApplicationService {
    * org.rssowl.core.persist.IConditionalGet, boolean,
    * org.eclipse.core.runtime.IProgressMonitor)
    */
-  public final void handleFeedReload(final IBookMark bookMark, IFeed interpretedFeed, IConditionalGet conditionalGet, boolean deleteConditionalGet, final IProgressMonitor monitor) {
-    fWriteLock.lock();
-    MergeResult mergeResult = null;
-    try {
+  public final void handleFeedReload(IBookMark bookMark, IFeed interpretedFeed, IConditionalGet conditionalGet, boolean deleteConditionalGet, IProgressMonitor monitor) {
 
-      /* Resolve reloaded Feed */
-      IFeed feed = bookMark.getFeedLinkReference().resolve();
+    /* Reloads of the same Feed are never processed concurrently */
+    Lock partitionLock = getFeedPartitionLock(bookMark);
+    partitionLock.lock();
+    try {
 
-      /* Feed could have been deleted meanwhile! */
-      if (feed == null)
-        return;
+      /* Merge, Retention and News Filters */
+      FeedSave feedSave = null;
+      try {
+        feedSave = prepareFeedSave(bookMark, interpretedFeed, conditionalGet, deleteConditionalGet, monitor);
+      } catch (Db4oException e) {
+        fWriteLock.lock();
+        try {
+          throw DBHelper.rollbackAndPE(fDb, e);
+        } finally {
+          fWriteLock.unlock();
+        }
+      }
 
-      /* Return early on cancellation */
-      if (monitor.isCanceled() || Owl.isShuttingDown())
-        return;
+      /* Write and Commit (possibly together with other Feeds) */
+      if (feedSave != null) {
+        try {
+          fGroupCommit.commit(feedSave);
+        } catch (RuntimeException e) {
 
-      /* Copy over Properties to reloaded Feed to keep them */
-      Map<String, Serializable> feedProperties = feed.getProperties();
-      if (feedProperties != null) {
-        feedProperties.entrySet();
-        for (Map.Entry<String, Serializable> entry : feedProperties.entrySet())
-          interpretedFeed.setProperty(entry.getKey(), entry.getValue());
+          /* Transaction was rolled back, do not fire its Events */
+          DBHelper.cleanUpEvents();
+          throw e;
+        }
       }
 
-      /* Return early on cancellation */
-      if (monitor.isCanceled() || Owl.isShuttingDown())
-        return;
+      DBHelper.cleanUpAndFireEvents();
+    } finally {
+      partitionLock.unlock();
+    }
+  }
 
-      /* Create labels as necessary from Sync and assign to news */
-      boolean isSynced = SyncUtils.isSynchronized(bookMark);
-      if (isSynced) {
+  private Lock getFeedPartitionLock(IBookMark bookMark) {
+    int hash = bookMark.getFeedLinkReference().getLinkAsText().hashCode();
+    return fFeedPartitionLocks[(hash & Integer.MAX_VALUE) % fFeedPartitionLocks.length];
+  }
 
-        /* Determine those Labels the user has explicitly deleted and ignore */
-        String[] labelsToIgnore = Owl.getPreferenceService().getGlobalScope().getStrings(DefaultPreferences.DELETED_LABELS);
-        List<String> labelsToIgnoreList = (labelsToIgnore != null) ? new ArrayList<String>(labelsToIgnore.length) : Collections.<String> emptyList();
-        if (labelsToIgnore != null) {
-          for (String label : labelsToIgnore) {
-            labelsToIgnoreList.add(label);
-          }
+  /*
+   * Merges the interpreted Feed into the persisted one and runs Retention and
+   * News Filters on the result. Only resolving the Feed and creating synced
+   * Labels happen without the DB write lock, the write lock is released before
+   * the objects are written in the group commit. Returns the objects to write
+   * or NULL if the reload should be skipped.
+   */
+  private FeedSave prepareFeedSave(final IBookMark bookMark, IFeed interpretedFeed, IConditionalGet conditionalGet, boolean deleteConditionalGet, final IProgressMonitor monitor) {
+
+    /* Resolve reloaded Feed */
+    IFeed feed = bookMark.getFeedLinkReference().resolve();
+
+    /* Feed could have been deleted meanwhile! */
+    if (feed == null)
+      return null;
+
+    /* Return early on cancellation */
+    if (monitor.isCanceled() || Owl.isShuttingDown())
+      return null;
+
+    /* Copy over Properties to reloaded Feed to keep them */
+    Map<String, Serializable> feedProperties = feed.getProperties();
+    if (feedProperties != null) {
+      feedProperties.entrySet();
+      for (Map.Entry<String, Serializable> entry : feedProperties.entrySet())
+        interpretedFeed.setProperty(entry.getKey(), entry.getValue());
+    }
+
+    /* Return early on cancellation */
+    if (monitor.isCanceled() || Owl.isShuttingDown())
+      return null;
+
+    /* Create labels as necessary from Sync and assign to news */
+    boolean isSynced = SyncUtils.isSynchronized(bookMark);
+    if (isSynced) {
+
+      /* Determine those Labels the user has explicitly deleted and ignore */
+      String[] labelsToIgnore = Owl.getPreferenceService().getGlobalScope().getStrings(DefaultPreferences.DELETED_LABELS);
+      List<String> labelsToIgnoreList = (labelsToIgnore != null) ? new ArrayList<String>(labelsToIgnore.length) : Collections.<String> emptyList();
+      if (labelsToIgnore != null) {
+        for (String label : labelsToIgnore) {
+          labelsToIgnoreList.add(label);
         }
+      }
 
-        /* Collect All Incoming Labels */
-        boolean hasLabels = false;
-        Set<String> incomingLabels = new HashSet<String>();
-        for (INews item : interpretedFeed.getNews()) {
-          Object labelsObj = item.getProperty(SyncUtils.GOOGLE_LABELS);
-          if (labelsObj != null && labelsObj instanceof String[]) {
-            String[] labels = (String[]) labelsObj;
-            for (String label : labels) {
-              if (!labelsToIgnoreList.contains(label))
-                incomingLabels.add(label);
-            }
-            hasLabels = true;
+      /* Collect All Incoming Labels */
+      boolean hasLabels = false;
+      Set<String> incomingLabels = new HashSet<String>();
+      for (INews item : interpretedFeed.getNews()) {
+        Object labelsObj = item.getProperty(SyncUtils.GOOGLE_LABELS);
+        if (labelsObj != null && labelsObj instanceof String[]) {
+          String[] labels = (String[]) labelsObj;
+          for (String label : labels) {
+            if (!labelsToIgnoreList.contains(label))
+              incomingLabels.add(label);
           }
+          hasLabels = true;
         }
+      }
 
-        /* Determine the New Labels to Create */
-        if (!incomingLabels.isEmpty()) {
+      /* Determine the New Labels to Create */
+      if (!incomingLabels.isEmpty()) {
 
-          /* Existing Labels */
-          Collection<ILabel> existingLabels = DynamicDAO.loadAll(ILabel.class);
-          Map<String, ILabel> mapNameToLabel = new HashMap<String, ILabel>();
-          for (ILabel label : existingLabels) {
-            mapNameToLabel.put(label.getName(), label);
-          }
+        /* Existing Labels */
+        Collection<ILabel> existingLabels = DynamicDAO.loadAll(ILabel.class);
+        Map<String, ILabel> mapNameToLabel = new HashMap<String, ILabel>();
+        for (ILabel label : existingLabels) {
+          mapNameToLabel.put(label.getName(), label);
+        }
 
-          /* New Labels to Create */
-          Set<ILabel> labelsToCreate = new HashSet<ILabel>();
-          for (String incomingLabel : incomingLabels) {
-            if (!mapNameToLabel.containsKey(incomingLabel)) {
-              ILabel newLabel = Owl.getModelFactory().createLabel(null, incomingLabel);
-              newLabel.setColor("0,0,0"); //$NON-NLS-1$
-              newLabel.setOrder(mapNameToLabel.size());
-              mapNameToLabel.put(incomingLabel, newLabel);
+        /* New Labels to Create */
+        Set<ILabel> labelsToCreate = new HashSet<ILabel>();
+        for (String incomingLabel : incomingLabels) {
+          if (!mapNameToLabel.containsKey(incomingLabel)) {
+            ILabel newLabel = Owl.getModelFactory().createLabel(null, incomingLabel);
+            newLabel.setColor("0,0,0"); //$NON-NLS-1$
+            newLabel.setOrder(mapNameToLabel.size());
+            mapNameToLabel.put(incomingLabel, newLabel);
 
-              labelsToCreate.add(newLabel);
-            }
+            labelsToCreate.add(newLabel);
           }
+        }
 
-          /* Save new Labels */
-          if (!labelsToCreate.isEmpty())
-            DynamicDAO.saveAll(labelsToCreate);
-
-          /* Assign Labels to News */
-          for (INews item : interpretedFeed.getNews()) {
-            Object labelsObj = item.getProperty(SyncUtils.GOOGLE_LABELS);
-            if (labelsObj != null && labelsObj instanceof String[]) {
-              String[] labels = (String[]) labelsObj;
-              for (String labelName : labels) {
-                ILabel label = mapNameToLabel.get(labelName);
-                if (label != null)
-                  item.addLabel(label);
-              }
+        /* Save new Labels */
+        if (!labelsToCreate.isEmpty())
+          DynamicDAO.saveAll(labelsToCreate);
+
+        /* Assign Labels to News */
+        for (INews item : interpretedFeed.getNews()) {
+          Object labelsObj = item.getProperty(SyncUtils.GOOGLE_LABELS);
+          if (labelsObj != null && labelsObj instanceof String[]) {
+            String[] labels = (String[]) labelsObj;
+            for (String labelName : labels) {
+              ILabel label = mapNameToLabel.get(labelName);
+              if (label != null)
+                item.addLabel(label);
             }
-            item.removeProperty(SyncUtils.GOOGLE_LABELS);
           }
+          item.removeProperty(SyncUtils.GOOGLE_LABELS);
         }
+      }
 
-        /* Otherwise make sure to clean up properties for Labels */
-        else if (hasLabels) {
-          for (INews item : interpretedFeed.getNews()) {
-            item.removeProperty(SyncUtils.GOOGLE_LABELS);
-          }
+      /* Otherwise make sure to clean up properties for Labels */
+      else if (hasLabels) {
+        for (INews item : interpretedFeed.getNews()) {
+          item.removeProperty(SyncUtils.GOOGLE_LABELS);
         }
-
-        /* Return early on cancellation */
-        if (monitor.isCanceled() || Owl.isShuttingDown())
-          return;
       }
 
+      /* Return early on cancellation */
+      if (monitor.isCanceled() || Owl.isShuttingDown())
+        return null;
+    }
+
+    /*
+     * The persisted Feed and its News are modified from here on. Other writers
+     * (e.g. saving the Feed or running Retention from the UI) must never see
+     * them half merged, so everything up to the save is done under the DB write
+     * lock. Once merged, the Feed is always saved and cancellation only skips
+     * the optional steps.
+     */
+    final MergeResult mergeResult;
+    final List<INews> newNewsAdded;
+    final List<INews> deletedNews;
+    boolean saveBookMark = false;
+    fWriteLock.lock();
+    try {
+
       /* Merge with existing */
       mergeResult = feed.mergeAndCleanUp(interpretedFeed);
-      final List<INews> newNewsAdded = getNewNewsAdded(feed);
+      newNewsAdded = getNewNewsAdded(feed);
 
       /* Now adjust News State based on Sync */
       if (isSynced) {
@@ -295,53 +414,34 @@ public class ApplicationServiceImpl implements IApplicationService {
         }
       }
 
-      /* Return early on cancellation */
-      if (monitor.isCanceled() || Owl.isShuttingDown())
-        return;
-
       /* Update Date of last added news in Bookmark */
       if (!newNewsAdded.isEmpty()) {
         Date mostRecentDate = DateUtils.getRecentDate(newNewsAdded);
         Date previousMostRecentDate = bookMark.getMostRecentNewsDate();
         if (previousMostRecentDate == null || mostRecentDate.after(previousMostRecentDate)) {
           bookMark.setMostRecentNewsDate(mostRecentDate);
-          fDb.set(bookMark);
+          saveBookMark = true;
         }
       }
 
-      /* Return early on cancellation */
-      if (monitor.isCanceled() || Owl.isShuttingDown())
-        return;
-
       /* Update state of added news if equivalent news already exists */
-      SafeRunner.run(new LoggingSafeRunnable() {
-        public void run() throws Exception { //See Bug 1216 (NPE in ModelSearchImpl.getCurrentSearcher)
-          if (Owl.getPreferenceService().getGlobalScope().getBoolean(DefaultPreferences.MARK_READ_DUPLICATES))
-            updateStateOfUnsavedNewNews(newNewsAdded, monitor);
-        }
-      });
-
-      /* Return early on cancellation */
-      if (monitor.isCanceled() || Owl.isShuttingDown())
-        return;
+      if (!monitor.isCanceled() && !Owl.isShuttingDown()) {
+        SafeRunner.run(new LoggingSafeRunnable() {
+          public void run() throws Exception { //See Bug 1216 (NPE in ModelSearchImpl.getCurrentSearcher)
+            if (Owl.getPreferenceService().getGlobalScope().getBoolean(DefaultPreferences.MARK_READ_DUPLICATES))
+              updateStateOfUnsavedNewNews(newNewsAdded, monitor);
+          }
+        });
+      }
 
       /* Retention Policy */
-      final List<INews> deletedNews = RetentionStrategy.process(bookMark, feed);
+      deletedNews = RetentionStrategy.process(bookMark, feed);
       for (INews news : deletedNews)
         mergeResult.addUpdatedObject(news);
 
-      /* Return early on cancellation */
-      if (monitor.isCanceled() || Owl.isShuttingDown())
-        return;
-
       /* Set ID to News and handle Description entity */
       IDGenerator generator = Owl.getPersistenceService().getIDGenerator();
       for (INews news : newNewsAdded) {
-
-        /* Return early on cancellation */
-        if (monitor.isCanceled() || Owl.isShuttingDown())
-          return;
-
         long id;
         if (generator instanceof DB4OIDGenerator)
           id = ((DB4OIDGenerator) generator).getNext(false);
@@ -356,48 +456,21 @@ public class ApplicationServiceImpl implements IApplicationService {
         }
       }
 
-      /* Return early on cancellation */
-      if (monitor.isCanceled() || Owl.isShuttingDown())
-        return;
-
       /* Run News Filters */
-      final AtomicBoolean someNewsFiltered = new AtomicBoolean(false);
-      SafeRunner.run(new LoggingSafeRunnable() {
-        public void run() throws Exception {
-          newNewsAdded.removeAll(deletedNews);
-          if (!newNewsAdded.isEmpty()) {
-            boolean result = runNewsFilters(newNewsAdded, bookMark.getFeedLinkReference().getLinkAsText(), monitor);
-            someNewsFiltered.set(result);
+      if (!monitor.isCanceled() && !Owl.isShuttingDown()) {
+        SafeRunner.run(new LoggingSafeRunnable() {
+          public void run() throws Exception {
+            newNewsAdded.removeAll(deletedNews);
+            if (!newNewsAdded.isEmpty())
+              runNewsFilters(newNewsAdded, bookMark.getFeedLinkReference().getLinkAsText(), monitor);
           }
-        }
-      });
-
-      /* Return early on cancellation and if no filter was running */
-      if ((monitor.isCanceled() || Owl.isShuttingDown()) && !someNewsFiltered.get())
-        return;
-
-      try {
-        lockNewsObjects(mergeResult);
-        saveFeed(mergeResult);
-
-        /* Update Conditional GET */
-        if (conditionalGet != null) {
-          if (deleteConditionalGet)
-            fDb.delete(conditionalGet);
-          else
-            fDb.ext().set(conditionalGet, 1);
-        }
-        DBHelper.preCommit(fDb);
-        fDb.commit();
-      } finally {
-        unlockNewsObjects(mergeResult);
+        });
       }
-    } catch (Db4oException e) {
-      DBHelper.rollbackAndPE(fDb, e);
     } finally {
       fWriteLock.unlock();
     }
-    DBHelper.cleanUpAndFireEvents();
+
+    return new FeedSave(feed, mergeResult, saveBookMark ? bookMark : null, conditionalGet, deleteConditionalGet);
   }
 
   private Set<ISearchFilter> loadEnabledFilters(String feedLink) {
@@ -731,6 +804,9 @@ public class ApplicationServiceImpl implements IApplicationService {
     for (int i = 0, c = descriptionUpdatedIds.size(); i < c; ++i) {
       long newsId = descriptionUpdatedIds.get(i);
       INews news = newsDao.load(newsId);
+      if (news == null)
+        continue;
+
       INews oldNews = DBHelper.peekPersistedNews(fDb, news);
       EventsMap.getInstance().putUpdateEvent(new NewsEvent(oldNews, news, false));
     }
@@ -141,6 +141,9 @@ public class ConnectionServiceImpl implements IConnectionService {
    */
   public void shutdown() {
     unregisterListeners();
+
+    /* Close all Connections that are kept alive */
+    DefaultProtocolHandler.getConnectionManager().closeIdleConnections(0);
   }
 
   private void unregisterListeners() {
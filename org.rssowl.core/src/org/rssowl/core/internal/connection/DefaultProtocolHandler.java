@@ -29,7 +29,6 @@ import org.apache.commons.httpclient.HttpClient;
 import org.apache.commons.httpclient.HttpException;
 import org.apache.commons.httpclient.HttpMethodBase;
 import org.apache.commons.httpclient.NTCredentials;
-import org.apache.commons.httpclient.SimpleHttpConnectionManager;
 import org.apache.commons.httpclient.URIException;
 import org.apache.commons.httpclient.UsernamePasswordCredentials;
 import org.apache.commons.httpclient.auth.AuthScope;
@@ -37,6 +36,7 @@ import org.apache.commons.httpclient.auth.AuthState;
 import org.apache.commons.httpclient.cookie.CookiePolicy;
 import org.apache.commons.httpclient.methods.GetMethod;
 import org.apache.commons.httpclient.methods.PostMethod;
+import org.apache.commons.httpclient.params.HttpConnectionParams;
 import org.apache.commons.httpclient.protocol.DefaultProtocolSocketFactory;
 import org.apache.commons.httpclient.protocol.Protocol;
 import org.apache.commons.httpclient.protocol.ProtocolSocketFactory;
@@ -145,6 +145,9 @@ public class DefaultProtocolHandler implements IProtocolHandler {
   /* Timeout for loading a Favicon */
   private static final int FAVICON_CON_TIMEOUT = 5000;
 
+  /* Connections are shared and kept alive between Requests */
+  private static final PooledConnectionManager fgConnectionManager = new PooledConnectionManager();
+
   private static final String USER_AGENT = CoreUtils.getUserAgent();
   private static boolean fgSSLInitialized;
   private static boolean fgFeedProtocolInitialized;
@@ -187,6 +190,9 @@ public class DefaultProtocolHandler implements IProtocolHandler {
         return null;
       }
 
+      /* Start over with an empty Feed in case it was filled while parsing */
+      feed = typesFactory.createFeed(null, link);
+
       /* Re-retrieve InputStream from the Feed's Link */
       inS = openStream(link, properties);
 
@@ -506,7 +512,7 @@ public class DefaultProtocolHandler implements IProtocolHandler {
 
     /* In case the Feed has not been modified since */
     else if (statusCode == HTTP_STATUS_NOT_MODIFIED) {
-      abortAndRelease(method);
+      method.releaseConnection(); //No body to skip, keep the connection alive for reuse
 
       throw new NotModifiedException(Activator.getDefault().createInfoStatus(Messages.DefaultProtocolHandler_INFO_NOT_MODIFIED_SINCE, null));
     }
@@ -732,18 +738,29 @@ public class DefaultProtocolHandler implements IProtocolHandler {
     if (properties != null && properties.containsKey(IConnectionPropertyConstants.CON_TIMEOUT))
       conTimeout = (Integer) properties.get(IConnectionPropertyConstants.CON_TIMEOUT);
 
-    /* Create a new HttpClient */
-    HttpClient client = new HttpClient(new SimpleHttpConnectionManager(true));
+    /* Create a new HttpClient using the shared Pool of Connections */
+    HttpClient client = new HttpClient(fgConnectionManager);
 
     /* Socket Timeout - Max. time to wait for an answer */
-    client.getHttpConnectionManager().getParams().setSoTimeout(conTimeout);
+    client.getParams().setSoTimeout(conTimeout);
 
     /* Connection Timeout - Max. time to wait for a connection */
-    client.getHttpConnectionManager().getParams().setConnectionTimeout(conTimeout);
+    client.getHostConfiguration().getParams().setIntParameter(HttpConnectionParams.CONNECTION_TIMEOUT, conTimeout);
+
+    /* Pool Timeout - Max. time to wait for a free connection from the Pool */
+    client.getParams().setConnectionManagerTimeout(conTimeout);
 
     return client;
   }
 
+  /**
+   * @return the {@link PooledConnectionManager} that is shared by all instances
+   * of this protocol handler to keep connections alive between requests.
+   */
+  public static PooledConnectionManager getConnectionManager() {
+    return fgConnectionManager;
+  }
+
   private HttpMethodBase initConnection(URI link, Map<Object, Object> properties) throws IOException {
 
     /* Create the Method. Wrap any RuntimeException into an IOException */
@@ -0,0 +1,164 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2009 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.internal.connection;
+
+import org.apache.commons.httpclient.ConnectionPoolTimeoutException;
+import org.apache.commons.httpclient.HostConfiguration;
+import org.apache.commons.httpclient.HttpConnection;
+import org.apache.commons.httpclient.MultiThreadedHttpConnectionManager;
+import org.apache.commons.httpclient.params.HttpConnectionParams;
+import org.apache.commons.httpclient.util.IdleConnectionTimeoutThread;
+import org.rssowl.core.util.CoreUtils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link MultiThreadedHttpConnectionManager} that is shared by all requests
+ * of the {@link DefaultProtocolHandler}. Connections are kept alive after a
+ * request completed so that subsequent requests to the same host can reuse
+ * them instead of opening a new TCP (and SSL) connection. The number of
+ * connections is bounded per host and in total and connections that have been
+ * idle for too long are closed from a background thread.
+ * <p>
+ * Since all connections of a pool share the parameters of this manager, the
+ * connection timeout of a request is read from the parameters of the
+ * {@link HostConfiguration} it is executed with.
+ * </p>
+ */
+public class PooledConnectionManager extends MultiThreadedHttpConnectionManager {
+
+  /* System Property to override the maximum number of Connections per Host */
+  private static final String MAX_CONNECTIONS_PER_HOST_PROPERTY = "rssowl.connection.maxperhost"; //$NON-NLS-1$
+
+  /* System Property to override the maximum number of Connections */
+  private static final String MAX_CONNECTIONS_PROPERTY = "rssowl.connection.max"; //$NON-NLS-1$
+
+  /* System Property to override the time in millis after which idle Connections are closed */
+  private static final String IDLE_TIMEOUT_PROPERTY = "rssowl.connection.idletimeout"; //$NON-NLS-1$
+
+  /* Default maximum number of Connections per Host */
+  private static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 4;
+
+  /* Default maximum number of Connections */
+  private static final int DEFAULT_MAX_CONNECTIONS = 40;
+
+  /* Default time in millis after which idle Connections are closed */
+  private static final long DEFAULT_IDLE_TIMEOUT = 30000;
+
+  /* Interval in millis to check for idle Connections */
+  private static final long IDLE_CHECK_INTERVAL = 5000;
+
+  private final IdleConnectionTimeoutThread fIdleConnectionTimeoutThread;
+  private final AtomicLong fRequestCount = new AtomicLong();
+  private final AtomicLong fReuseCount = new AtomicLong();
+
+  /**
+   * Creates a new pool configured from System Properties or the defaults.
+   */
+  public PooledConnectionManager() {
+    this(CoreUtils.getIntProperty(MAX_CONNECTIONS_PER_HOST_PROPERTY, DEFAULT_MAX_CONNECTIONS_PER_HOST), CoreUtils.getIntProperty(MAX_CONNECTIONS_PROPERTY, DEFAULT_MAX_CONNECTIONS), CoreUtils.getLongProperty(IDLE_TIMEOUT_PROPERTY, DEFAULT_IDLE_TIMEOUT));
+  }
+
+  /**
+   * @param maxConnectionsPerHost the maximum number of Connections to a single
+   * Host.
+   * @param maxConnections the maximum number of Connections to all Hosts.
+   * @param idleTimeout the time in millis after which an idle Connection is
+   * closed.
+   */
+  public PooledConnectionManager(int maxConnectionsPerHost, int maxConnections, long idleTimeout) {
+    getParams().setDefaultMaxConnectionsPerHost(maxConnectionsPerHost);
+    getParams().setMaxTotalConnections(maxConnections);
+
+    fIdleConnectionTimeoutThread = new IdleConnectionTimeoutThread();
+    fIdleConnectionTimeoutThread.setName("RSSOwl Idle Connection Timeout Thread"); //$NON-NLS-1$
+    fIdleConnectionTimeoutThread.setConnectionTimeout(idleTimeout);
+    fIdleConnectionTimeoutThread.setTimeoutInterval(Math.min(idleTimeout, IDLE_CHECK_INTERVAL));
+    fIdleConnectionTimeoutThread.addConnectionManager(this);
+    fIdleConnectionTimeoutThread.start();
+  }
+
+  /*
+   * @see org.apache.commons.httpclient.MultiThreadedHttpConnectionManager#getConnectionWithTimeout(org.apache.commons.httpclient.HostConfiguration, long)
+   */
+  @Override
+  public HttpConnection getConnectionWithTimeout(HostConfiguration hostConfiguration, long timeout) throws ConnectionPoolTimeoutException {
+    HttpConnection connection = super.getConnectionWithTimeout(hostConfiguration, timeout);
+
+    /* Update Statistics */
+    fRequestCount.incrementAndGet();
+    if (connection.isOpen())
+      fReuseCount.incrementAndGet();
+
+    /* Apply Connection Timeout of the Request in case the Connection is (re)opened */
+    Object connectionTimeout = hostConfiguration.getParams().getParameter(HttpConnectionParams.CONNECTION_TIMEOUT);
+    if (connectionTimeout instanceof Integer)
+      connection.getParams().setConnectionTimeout((Integer) connectionTimeout);
+
+    return connection;
+  }
+
+  /*
+   * @see org.apache.commons.httpclient.MultiThreadedHttpConnectionManager#shutdown()
+   */
+  @Override
+  public synchronized void shutdown() {
+    fIdleConnectionTimeoutThread.shutdown();
+    super.shutdown();
+  }
+
+  /**
+   * @return the number of Connections that have been handed out for Requests.
+   */
+  public long getRequestCount() {
+    return fRequestCount.get();
+  }
+
+  /**
+   * @return the number of Connections that have been handed out for Requests
+   * while being open already from a previous Request.
+   */
+  public long getReuseCount() {
+    return fReuseCount.get();
+  }
+
+  /**
+   * Resets the values of {@link #getRequestCount()} and
+   * {@link #getReuseCount()} to 0.
+   */
+  public void resetStatistics() {
+    fRequestCount.set(0);
+    fReuseCount.set(0);
+  }
+
+  /*
+   * @see java.lang.Object#toString()
+   */
+  @Override
+  @SuppressWarnings("nls")
+  public String toString() {
+    return "PooledConnectionManager (Requests: " + getRequestCount() + ", Reused: " + getReuseCount() + ", Open: " + getConnectionsInPool() + ")";
+  }
+}
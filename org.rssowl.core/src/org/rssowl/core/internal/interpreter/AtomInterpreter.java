@@ -29,6 +29,8 @@ import org.jdom.Document;
 import org.jdom.Element;
 import org.jdom.output.XMLOutputter;
 import org.rssowl.core.Owl;
+import org.rssowl.core.interpreter.IStreamingElementHandler;
+import org.rssowl.core.interpreter.IStreamingFormatInterpreter;
 import org.rssowl.core.persist.IAttachment;
 import org.rssowl.core.persist.ICategory;
 import org.rssowl.core.persist.IEntity;
@@ -56,7 +58,7 @@ import java.util.List;
  *
  * @author bpasero
  */
-public class AtomInterpreter extends BasicInterpreter {
+public class AtomInterpreter extends BasicInterpreter implements IStreamingFormatInterpreter {
   private int fNewsCounter;
 
   /*
@@ -72,9 +74,49 @@ public class AtomInterpreter extends BasicInterpreter {
     processFeed(root, feed);
   }
 
+  /*
+   * @see
+   * org.rssowl.core.interpreter.IStreamingFormatInterpreter#createStreamingHandler
+   * (org.rssowl.core.persist.IFeed)
+   */
+  public IStreamingElementHandler createStreamingHandler(final IFeed feed) {
+
+    /* Use a new Interpreter to not share state with concurrently parsed Documents */
+    final AtomInterpreter interpreter = new AtomInterpreter();
+
+    return new IStreamingElementHandler() {
+      public boolean startElement(Element element) {
+
+        /* Root: Interpret Attributes and stream Children */
+        if (element.isRootElement()) {
+          interpreter.setDefaultNamespaceUri(element.getNamespace().getURI());
+          interpreter.setRootElementName(element.getName());
+          feed.setFormat("Atom 1.0"); //$NON-NLS-1$
+          interpreter.processFeedAttributes(element, feed);
+          return true;
+        }
+
+        return false;
+      }
+
+      public void processElement(Element element) {
+        interpreter.processFeedChild(element, feed);
+      }
+    };
+  }
+
   private void processFeed(Element element, IFeed feed) {
 
     /* Interpret Attributes */
+    processFeedAttributes(element, feed);
+
+    /* Interpret Children */
+    List<?> feedChildren = element.getChildren();
+    for (Iterator<?> iter = feedChildren.iterator(); iter.hasNext();)
+      processFeedChild((Element) iter.next(), feed);
+  }
+
+  private void processFeedAttributes(Element element, IFeed feed) {
     List<?> attributes = element.getAttributes();
     for (Iterator<?> iter = attributes.iterator(); iter.hasNext();) {
       Attribute attribute = (Attribute) iter.next();
@@ -92,81 +134,78 @@ public class AtomInterpreter extends BasicInterpreter {
       else if ("lang".equals(name)) //$NON-NLS-1$
         feed.setLanguage(attribute.getValue());
     }
+  }
 
-    /* Interpret Children */
-    List<?> channelChildren = element.getChildren();
-    for (Iterator<?> iter = channelChildren.iterator(); iter.hasNext();) {
-      Element child = (Element) iter.next();
-      String name = child.getName().toLowerCase();
-
-      /* Check wether this Element is to be processed by a Contribution */
-      if (processElementExtern(child, feed))
-        continue;
+  private void processFeedChild(Element child, IFeed feed) {
+    String name = child.getName().toLowerCase();
 
-      /* Title */
-      else if ("title".equals(name)) { //$NON-NLS-1$
-        feed.setTitle(getContent(child));
-        processNamespaceAttributes(child, feed);
-      }
+    /* Check wether this Element is to be processed by a Contribution */
+    if (processElementExtern(child, feed))
+      return;
 
-      /* Tagline / Subtitle */
-      else if ("tagline".equals(name) || "subtitle".equals(name)) { //$NON-NLS-1$ //$NON-NLS-2$
-        feed.setDescription(getContent(child));
-        processNamespaceAttributes(child, feed);
-      }
+    /* Title */
+    else if ("title".equals(name)) { //$NON-NLS-1$
+      feed.setTitle(getContent(child));
+      processNamespaceAttributes(child, feed);
+    }
 
-      /* Generator */
-      else if ("generator".equals(name)) { //$NON-NLS-1$
-        feed.setGenerator(getContent(child));
-        processNamespaceAttributes(child, feed);
-      }
+    /* Tagline / Subtitle */
+    else if ("tagline".equals(name) || "subtitle".equals(name)) { //$NON-NLS-1$ //$NON-NLS-2$
+      feed.setDescription(getContent(child));
+      processNamespaceAttributes(child, feed);
+    }
 
-      /* Copyright / Rights */
-      else if ("copyright".equals(name) || "rights".equals(name)) { //$NON-NLS-1$ //$NON-NLS-2$
-        feed.setCopyright(getContent(child));
-        processNamespaceAttributes(child, feed);
-      }
+    /* Generator */
+    else if ("generator".equals(name)) { //$NON-NLS-1$
+      feed.setGenerator(getContent(child));
+      processNamespaceAttributes(child, feed);
+    }
 
-      /* Logo */
-      else if ("logo".equals(name)) { //$NON-NLS-1$
-        IImage image = Owl.getModelFactory().createImage(feed);
-        URI uri = URIUtils.createURI(child.getText());
-        if (uri != null)
-          image.setLink(uri);
+    /* Copyright / Rights */
+    else if ("copyright".equals(name) || "rights".equals(name)) { //$NON-NLS-1$ //$NON-NLS-2$
+      feed.setCopyright(getContent(child));
+      processNamespaceAttributes(child, feed);
+    }
 
-        processNamespaceAttributes(child, image);
-      }
+    /* Logo */
+    else if ("logo".equals(name)) { //$NON-NLS-1$
+      IImage image = Owl.getModelFactory().createImage(feed);
+      URI uri = URIUtils.createURI(child.getText());
+      if (uri != null)
+        image.setLink(uri);
 
-      /* Modified / Updated */
-      else if ("modified".equals(name) || "updated".equals(name)) { //$NON-NLS-1$ //$NON-NLS-2$
-        feed.setLastModifiedDate(DateUtils.parseDate(child.getText()));
-        processNamespaceAttributes(child, feed);
-      }
+      processNamespaceAttributes(child, image);
+    }
 
-      /* Link */
-      else if ("link".equals(name)) { //$NON-NLS-1$
-        String rel = child.getAttributeValue("rel"); //$NON-NLS-1$
-        if ("alternate".equals(rel)) { //$NON-NLS-1$
-          URI uri = URIUtils.createURI(child.getAttributeValue("href")); //$NON-NLS-1$
-          if (uri != null)
-            feed.setHomepage(uri);
-        }
+    /* Modified / Updated */
+    else if ("modified".equals(name) || "updated".equals(name)) { //$NON-NLS-1$ //$NON-NLS-2$
+      feed.setLastModifiedDate(DateUtils.parseDate(child.getText()));
+      processNamespaceAttributes(child, feed);
+    }
 
-        processNamespaceAttributes(child, feed);
+    /* Link */
+    else if ("link".equals(name)) { //$NON-NLS-1$
+      String rel = child.getAttributeValue("rel"); //$NON-NLS-1$
+      if ("alternate".equals(rel)) { //$NON-NLS-1$
+        URI uri = URIUtils.createURI(child.getAttributeValue("href")); //$NON-NLS-1$
+        if (uri != null)
+          feed.setHomepage(uri);
       }
 
-      /* Entry */
-      else if ("entry".equals(name)) //$NON-NLS-1$
-        processEntry(child, feed);
+      processNamespaceAttributes(child, feed);
+    }
 
-      /* Category */
-      else if ("category".equals(name)) //$NON-NLS-1$
-        processCategory(child, feed);
+    /* Entry */
+    else if ("entry".equals(name)) //$NON-NLS-1$
+      processEntry(child, feed);
 
-      /* Author */
-      else if ("author".equals(name)) //$NON-NLS-1$
-        processAuthor(child, feed);
-    }
+    /* Category */
+    else if ("category".equals(name)) //$NON-NLS-1$
+      processCategory(child, feed);
+
+    /* Author */
+    else if ("author".equals(name)) //$NON-NLS-1$
+      processAuthor(child, feed);
   }
 
   private void processEntry(Element element, IFeed feed) {
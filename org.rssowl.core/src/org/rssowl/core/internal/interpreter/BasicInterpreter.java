@@ -153,6 +153,30 @@ public abstract class BasicInterpreter implements IFormatInterpreter {
     return false;
   }
 
+  /**
+   * Check if the Element would be processed by a contributed Element or
+   * Namespace Handler without processing it. Only the name and namespace of
+   * the Element are required.
+   * 
+   * @param element The Element to check.
+   * @return TRUE in case a Handler is provided for this Element, FALSE
+   * otherwise.
+   */
+  protected boolean isProcessedExtern(Element element) {
+    String name = element.getName().toLowerCase();
+    String namespaceURI = element.getNamespaceURI();
+
+    /* First check for contributed Element Handlers */
+    if (getDefaultNamespaceUri().equals(namespaceURI))
+      return Owl.getInterpreter().getElementHandler(name, getRootElementName()) != null;
+
+    /* Second check for contributed Namespace Handlers */
+    else if (namespaceURI != null)
+      return Owl.getInterpreter().getNamespaceHandler(namespaceURI) != null;
+
+    return false;
+  }
+
   /**
    * Check the Attribute for contributed Namespace Handler.
    * 
@@ -25,17 +25,22 @@
 package org.rssowl.core.internal.interpreter;
 
 import org.jdom.Document;
+import org.jdom.Element;
 import org.jdom.JDOMException;
 import org.jdom.input.JDOMParseException;
 import org.jdom.input.SAXBuilder;
+import org.jdom.input.SAXHandler;
 import org.rssowl.core.connection.IAbortable;
 import org.rssowl.core.internal.Activator;
 import org.rssowl.core.internal.connection.DefaultProtocolHandler;
 import org.rssowl.core.interpreter.EncodingException;
+import org.rssowl.core.interpreter.IStreamingElementHandler;
 import org.rssowl.core.interpreter.IXMLParser;
 import org.rssowl.core.interpreter.ParserException;
 import org.rssowl.core.util.StringUtils;
+import org.xml.sax.Attributes;
 import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
 import org.xml.sax.ext.EntityResolver2;
 
 import java.io.BufferedInputStream;
@@ -43,6 +48,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -76,6 +83,69 @@ public class DefaultSaxParserImpl implements IXMLParser {
     }
   }
 
+  /* A Handler that remembers if any Element has been passed to it */
+  private static class RecordingElementHandler implements IStreamingElementHandler {
+    private final IStreamingElementHandler fHandler;
+    private boolean fCalled;
+
+    RecordingElementHandler(IStreamingElementHandler handler) {
+      fHandler = handler;
+    }
+
+    public boolean startElement(Element element) {
+      fCalled = true;
+      return fHandler.startElement(element);
+    }
+
+    public void processElement(Element element) {
+      fCalled = true;
+      fHandler.processElement(element);
+    }
+
+    boolean isCalled() {
+      return fCalled;
+    }
+  }
+
+  /* A SAXHandler that passes Elements to a Handler and removes them afterwards */
+  private static class StreamingSAXHandler extends SAXHandler {
+    private final IStreamingElementHandler fHandler;
+    private final List<Boolean> fStreamedElements = new ArrayList<Boolean>();
+
+    StreamingSAXHandler(IStreamingElementHandler handler) {
+      fHandler = handler;
+    }
+
+    /*
+     * @see org.jdom.input.SAXHandler#startElement(java.lang.String,
+     * java.lang.String, java.lang.String, org.xml.sax.Attributes)
+     */
+    @Override
+    public void startElement(String namespaceURI, String localName, String qName, Attributes atts) throws SAXException {
+      boolean isParentStreamed = fStreamedElements.isEmpty() || fStreamedElements.get(fStreamedElements.size() - 1);
+      super.startElement(namespaceURI, localName, qName, atts);
+      fStreamedElements.add(isParentStreamed && fHandler.startElement(getCurrentElement()));
+    }
+
+    /*
+     * @see org.jdom.input.SAXHandler#endElement(java.lang.String,
+     * java.lang.String, java.lang.String)
+     */
+    @Override
+    public void endElement(String namespaceURI, String localName, String qName) throws SAXException {
+      Element element = getCurrentElement();
+      boolean isStreamed = fStreamedElements.remove(fStreamedElements.size() - 1);
+      super.endElement(namespaceURI, localName, qName);
+
+      /* Pass complete Element to Handler and remove it together with processed siblings */
+      if (!isStreamed && !fStreamedElements.isEmpty() && fStreamedElements.get(fStreamedElements.size() - 1)) {
+        Element parent = element.getParentElement();
+        fHandler.processElement(element);
+        parent.removeContent();
+      }
+    }
+  }
+
   /*
    * @see org.rssowl.core.interpreter.ISAXParser#init()
    */
@@ -88,9 +158,28 @@ public class DefaultSaxParserImpl implements IXMLParser {
    * java.util.Map)
    */
   public Document parse(InputStream inS, Map<Object, Object> properties) throws ParserException {
+    return parse(inS, properties, null);
+  }
+
+  /**
+   * Parse the given InputStream and pass its Elements to the given handler if
+   * provided.
+   *
+   * @param inS The InputStream to parse.
+   * @param properties a map of properties to configure parsing or
+   * <code>null</code> if none.
+   * @param handler the handler to pass Elements to while parsing or
+   * <code>null</code> to build the entire Document.
+   * @return An instance of <code>org.jdom.Document</code> as parsed
+   * InputStream without the Elements that have been passed to the handler.
+   * @throws ParserException Checked Exception to be used in case of any
+   * Exception.
+   */
+  protected Document parse(InputStream inS, Map<Object, Object> properties, IStreamingElementHandler handler) throws ParserException {
     Document document = null;
     Exception ex = null;
-    SAXBuilder builder = getBuilder();
+    RecordingElementHandler recordingHandler = (handler != null) ? new RecordingElementHandler(handler) : null;
+    SAXBuilder builder = getBuilder(recordingHandler);
     boolean encodingIssue = false;
     boolean usePlatformEncoding = (properties != null && properties.containsKey(DefaultProtocolHandler.USE_PLATFORM_ENCODING));
 
@@ -108,10 +197,13 @@ public class DefaultSaxParserImpl implements IXMLParser {
       ex = e;
     } catch (IOException e) {
       ex = e;
+    } catch (RuntimeException e) {
+      abort(inS, keepAliveIns);
+      throw e;
     }
 
-    /* Second Run - Try with Platform Default Encoding from existing Stream */
-    if (!usePlatformEncoding && isEncodingIssue(ex)) {
+    /* Second Run - Try with Platform Default Encoding from existing Stream (unless Elements have been handled already) */
+    if (!usePlatformEncoding && isEncodingIssue(ex) && (recordingHandler == null || !recordingHandler.isCalled())) {
       encodingIssue = true;
 
       /* Try to reset the Stream to 0 */
@@ -131,10 +223,17 @@ public class DefaultSaxParserImpl implements IXMLParser {
           ex = e;
         } catch (IOException e) {
           ex = e;
+        } catch (RuntimeException e) {
+          abort(inS, keepAliveIns);
+          throw e;
         }
       }
     }
 
+    /* Elements have been handled already, let the caller retry with a new Stream */
+    else if (!usePlatformEncoding && isEncodingIssue(ex))
+      encodingIssue = true;
+
     /* Close Stream */
     try {
       if (ex != null && inS instanceof IAbortable)
@@ -156,6 +255,17 @@ public class DefaultSaxParserImpl implements IXMLParser {
     return document;
   }
 
+  private void abort(InputStream inS, KeepAliveInputStream keepAliveIns) {
+    try {
+      if (inS instanceof IAbortable)
+        ((IAbortable) inS).abort();
+      else
+        keepAliveIns.reallyClose();
+    } catch (IOException e) {
+      /* Ignore */
+    }
+  }
+
   private boolean isEncodingIssue(Exception ex) {
     if (ex == null)
       return false;
@@ -167,8 +277,22 @@ public class DefaultSaxParserImpl implements IXMLParser {
     return (StringUtils.isSet(name) && name.contains("MalformedByteSequenceException")); //$NON-NLS-1$
   }
 
-  private SAXBuilder getBuilder() {
-    SAXBuilder builder = new SAXBuilder();
+  private SAXBuilder getBuilder(final IStreamingElementHandler handler) {
+    SAXBuilder builder;
+
+    /* Build the entire Document */
+    if (handler == null)
+      builder = new SAXBuilder();
+
+    /* Pass Elements to the Handler while building */
+    else {
+      builder = new SAXBuilder() {
+        @Override
+        protected SAXHandler createContentHandler() {
+          return new StreamingSAXHandler(handler);
+        }
+      };
+    }
 
     /* Support Java Encoding Names */
     builder.setFeature(ALLOW_JAVA_ENCODINGS, true);
@@ -34,6 +34,7 @@ import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.osgi.util.NLS;
 import org.jdom.Document;
+import org.jdom.Element;
 import org.jdom.input.DOMBuilder;
 import org.rssowl.core.internal.Activator;
 import org.rssowl.core.internal.interpreter.json.JSONInterpreter;
@@ -42,6 +43,9 @@ import org.rssowl.core.interpreter.IElementHandler;
 import org.rssowl.core.interpreter.IFormatInterpreter;
 import org.rssowl.core.interpreter.IInterpreterService;
 import org.rssowl.core.interpreter.INamespaceHandler;
+import org.rssowl.core.interpreter.IStreamingElementHandler;
+import org.rssowl.core.interpreter.IStreamingFormatInterpreter;
+import org.rssowl.core.interpreter.IStreamingXMLParser;
 import org.rssowl.core.interpreter.ITypeExporter;
 import org.rssowl.core.interpreter.ITypeExporter.Options;
 import org.rssowl.core.interpreter.ITypeImporter;
@@ -69,6 +73,11 @@ import java.util.Set;
  * The Document is then passed to the Contribution responsible for the given
  * Format.
  * </p>
+ * <p>
+ * In case both the XML-Parser and the Contribution responsible for the Format
+ * support streaming, the Feed is interpreted while it is being parsed without
+ * building the entire Document.
+ * </p>
  * The following kind of Extensions are possible:
  * <ul>
  * <li>SAXParser allows to contribute the XML Parser to be used</li>
@@ -107,6 +116,46 @@ public class InterpreterServiceImpl implements IInterpreterService {
   private volatile IXMLParser fXMLParserImpl;
   private ITypeExporter fDefaultExporter = new OPMLExporter();
 
+  /* Passes the Elements of a Document to the Interpreter of its Format if streaming is supported */
+  private class FeedStreamingHandler implements IStreamingElementHandler {
+    private final IFeed fFeed;
+    private IStreamingElementHandler fInterpreterHandler;
+
+    FeedStreamingHandler(IFeed feed) {
+      fFeed = feed;
+    }
+
+    public boolean startElement(Element element) {
+
+      /* Determine Interpreter from the Root Element */
+      if (element.isRootElement()) {
+        fInterpreterHandler = null;
+
+        IFormatInterpreter interpreter = fFormatInterpreters.get(element.getName().toLowerCase());
+        if (!(interpreter instanceof IStreamingFormatInterpreter))
+          return false;
+
+        fInterpreterHandler = ((IStreamingFormatInterpreter) interpreter).createStreamingHandler(fFeed);
+        if (!fInterpreterHandler.startElement(element)) {
+          fInterpreterHandler = null;
+          return false;
+        }
+
+        return true;
+      }
+
+      return fInterpreterHandler.startElement(element);
+    }
+
+    public void processElement(Element element) {
+      fInterpreterHandler.processElement(element);
+    }
+
+    boolean isStreamed() {
+      return fInterpreterHandler != null;
+    }
+  }
+
   /** */
   public InterpreterServiceImpl() {
     startup();
@@ -118,6 +167,18 @@ public class InterpreterServiceImpl implements IInterpreterService {
    * , org.rssowl.core.persist.IFeed, java.util.Map)
    */
   public void interpret(InputStream inS, IFeed feed, Map<Object, Object> properties) throws ParserException, InterpreterException {
+
+    /* Interpret the Feed while parsing if supported */
+    if (fXMLParserImpl instanceof IStreamingXMLParser) {
+      FeedStreamingHandler handler = new FeedStreamingHandler(feed);
+      Document document = ((IStreamingXMLParser) fXMLParserImpl).parse(inS, properties, handler);
+
+      if (document != null && !handler.isStreamed())
+        interpretJDomDocument(document, feed);
+
+      return;
+    }
+
     Document document = fXMLParserImpl.parse(inS, properties);
 
     if (document != null)
@@ -248,7 +309,7 @@ public class InterpreterServiceImpl implements IInterpreterService {
 
       /* Use Default XML Parser Impl */
       public void handleException(Throwable exception) {
-        fXMLParserImpl = new DefaultSaxParserImpl();
+        fXMLParserImpl = new StreamingSaxParserImpl();
         try {
           fXMLParserImpl.init();
         } catch (ParserException e) {
@@ -28,6 +28,8 @@ import org.jdom.Attribute;
 import org.jdom.Document;
 import org.jdom.Element;
 import org.rssowl.core.Owl;
+import org.rssowl.core.interpreter.IStreamingElementHandler;
+import org.rssowl.core.interpreter.IStreamingFormatInterpreter;
 import org.rssowl.core.persist.IFeed;
 import org.rssowl.core.persist.IImage;
 import org.rssowl.core.persist.INews;
@@ -44,7 +46,7 @@ import java.util.List;
  *
  * @author bpasero
  */
-public class RDFInterpreter extends BasicInterpreter {
+public class RDFInterpreter extends BasicInterpreter implements IStreamingFormatInterpreter {
   private int fNewsCounter;
 
   /*
@@ -59,6 +61,37 @@ public class RDFInterpreter extends BasicInterpreter {
     processFeed(root, feed);
   }
 
+  /*
+   * @see
+   * org.rssowl.core.interpreter.IStreamingFormatInterpreter#createStreamingHandler
+   * (org.rssowl.core.persist.IFeed)
+   */
+  public IStreamingElementHandler createStreamingHandler(final IFeed feed) {
+
+    /* Use a new Interpreter to not share state with concurrently parsed Documents */
+    final RDFInterpreter interpreter = new RDFInterpreter();
+
+    return new IStreamingElementHandler() {
+      public boolean startElement(Element element) {
+
+        /* Root: Interpret Attributes and stream Children */
+        if (element.isRootElement()) {
+          interpreter.setDefaultNamespaceUri(element.getNamespace().getURI());
+          interpreter.setRootElementName(element.getName());
+          feed.setFormat("RDF"); //$NON-NLS-1$
+          interpreter.processNamespaceAttributes(element, feed);
+          return true;
+        }
+
+        return false;
+      }
+
+      public void processElement(Element element) {
+        interpreter.processFeedChild(element, feed);
+      }
+    };
+  }
+
   private void processFeed(Element element, IFeed feed) {
 
     /* Interpret Attributes */
@@ -66,30 +99,32 @@ public class RDFInterpreter extends BasicInterpreter {
 
     /* Interpret Children */
     List< ? > feedChildren = element.getChildren();
-    for (Iterator< ? > iter = feedChildren.iterator(); iter.hasNext();) {
-      Element child = (Element) iter.next();
-      String name = child.getName().toLowerCase();
+    for (Iterator< ? > iter = feedChildren.iterator(); iter.hasNext();)
+      processFeedChild((Element) iter.next(), feed);
+  }
 
-      /* Check wether this Element is to be processed by a Contribution */
-      if (processElementExtern(child, feed))
-        continue;
+  private void processFeedChild(Element child, IFeed feed) {
+    String name = child.getName().toLowerCase();
 
-      /* Process Channel */
-      else if ("channel".equals(name)) //$NON-NLS-1$
-        processChannel(child, feed);
+    /* Check wether this Element is to be processed by a Contribution */
+    if (processElementExtern(child, feed))
+      return;
 
-      /* Process Item */
-      else if ("item".equals(name)) //$NON-NLS-1$
-        processItem(child, feed);
+    /* Process Channel */
+    else if ("channel".equals(name)) //$NON-NLS-1$
+      processChannel(child, feed);
 
-      /* Process Image */
-      else if ("image".equals(name)) //$NON-NLS-1$
-        processImage(child, feed);
+    /* Process Item */
+    else if ("item".equals(name)) //$NON-NLS-1$
+      processItem(child, feed);
 
-      /* Process TextInput */
-      else if ("textinput".equals(name)) //$NON-NLS-1$
-        processTextInput(child, feed);
-    }
+    /* Process Image */
+    else if ("image".equals(name)) //$NON-NLS-1$
+      processImage(child, feed);
+
+    /* Process TextInput */
+    else if ("textinput".equals(name)) //$NON-NLS-1$
+      processTextInput(child, feed);
   }
 
   private void processChannel(Element element, IFeed feed) {
@@ -0,0 +1,51 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2009 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.internal.interpreter;
+
+import org.jdom.Document;
+import org.rssowl.core.interpreter.IStreamingElementHandler;
+import org.rssowl.core.interpreter.IStreamingXMLParser;
+import org.rssowl.core.interpreter.ParserException;
+
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * Extension of the {@link DefaultSaxParserImpl} that passes Elements to an
+ * {@link IStreamingElementHandler} while parsing. Elements are removed from
+ * the Document once handled, which avoids holding the entire Document of a
+ * large Feed in memory.
+ */
+public class StreamingSaxParserImpl extends DefaultSaxParserImpl implements IStreamingXMLParser {
+
+  /*
+   * @see org.rssowl.core.interpreter.IStreamingXMLParser#parse(java.io.InputStream,
+   * java.util.Map, org.rssowl.core.interpreter.IStreamingElementHandler)
+   */
+  @Override
+  public Document parse(InputStream inS, Map<Object, Object> properties, IStreamingElementHandler handler) throws ParserException {
+    return super.parse(inS, properties, handler);
+  }
+}
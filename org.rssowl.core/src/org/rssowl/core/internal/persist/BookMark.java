@@ -201,6 +201,10 @@ public class BookMark extends Mark implements IBookMark {
    */
   public synchronized int getNewsCount(Set<State> states) {
     if (fNewsCounter != null) {
+      int count = fNewsCounter.getCount(fFeedLink, states);
+      if (count >= 0)
+        return count;
+
       if (states.equals(EnumSet.of(INews.State.NEW)))
         return fNewsCounter.getNewCount(fFeedLink);
 
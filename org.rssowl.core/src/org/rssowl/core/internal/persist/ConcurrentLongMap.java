@@ -0,0 +1,306 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2009 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+
+package org.rssowl.core.internal.persist;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A Map from primitive <code>long</code> keys to values that can be read
+ * concurrently without locking and without boxing the key. Writes are
+ * serialized on the Map.
+ * <p>
+ * The Map uses open addressing with linear probing. Removed keys leave a
+ * marker in their slot so that concurrent readers never miss a key that is
+ * further down the same probe sequence. The table is rebuilt when it gets too
+ * full and readers keep using the previous table until the new one is
+ * published.
+ * </p>
+ * <p>
+ * Iterators are weakly consistent like the ones of
+ * {@link java.util.concurrent.ConcurrentHashMap}: they never throw a
+ * {@link java.util.ConcurrentModificationException} and may or may not reflect
+ * changes made after they were created.
+ * </p>
+ *
+ * @param <V> the type of values in this Map.
+ */
+public final class ConcurrentLongMap<V> {
+
+  /* Minimum Capacity of the Table (must be a power of 2) */
+  private static final int MIN_CAPACITY = 16;
+
+  /* Marker for a Slot whose Key was removed */
+  private static final Entry<Object> REMOVED = new Entry<Object>(0, null);
+
+  /* An immutable Key-Value Pair, safely published through the Table */
+  private static final class Entry<V> {
+    final long fKey;
+    final V fValue;
+
+    Entry(long key, V value) {
+      fKey = key;
+      fValue = value;
+    }
+  }
+
+  private volatile AtomicReferenceArray<Entry<V>> fTable;
+  private volatile int fSize;
+  private int fUsedSlots;
+
+  /**
+   * Creates an empty Map.
+   */
+  public ConcurrentLongMap() {
+    this(MIN_CAPACITY);
+  }
+
+  /**
+   * @param expectedSize the number of keys this Map is expected to hold.
+   */
+  public ConcurrentLongMap(int expectedSize) {
+    fTable = new AtomicReferenceArray<Entry<V>>(capacityFor(expectedSize));
+  }
+
+  /**
+   * @param key the key whose value to return.
+   * @return the value that is mapped to the key or <code>null</code> if none.
+   */
+  public V get(long key) {
+    AtomicReferenceArray<Entry<V>> table = fTable;
+    int mask = table.length() - 1;
+    for (int i = indexFor(key, mask);; i = (i + 1) & mask) {
+      Entry<V> entry = table.get(i);
+      if (entry == null)
+        return null;
+
+      if (entry.fKey == key && entry != REMOVED)
+        return entry.fValue;
+    }
+  }
+
+  /**
+   * @param key the key to look for.
+   * @return <code>true</code> if a value is mapped to the key.
+   */
+  public boolean containsKey(long key) {
+    return get(key) != null;
+  }
+
+  /**
+   * @param key the key to map the value to.
+   * @param value the value to map to the key (must not be <code>null</code>).
+   * @return the value that was previously mapped to the key or
+   * <code>null</code> if none.
+   */
+  public synchronized V put(long key, V value) {
+    if (value == null)
+      throw new NullPointerException();
+
+    AtomicReferenceArray<Entry<V>> table = fTable;
+    int mask = table.length() - 1;
+    int free = -1;
+    int i = indexFor(key, mask);
+    for (Entry<V> entry; (entry = table.get(i)) != null; i = (i + 1) & mask) {
+      if (entry == REMOVED) {
+        if (free < 0)
+          free = i;
+      } else if (entry.fKey == key) {
+        table.set(i, new Entry<V>(key, value));
+        return entry.fValue;
+      }
+    }
+
+    /* Reuse the first removed Slot of the Probe Sequence if any */
+    if (free >= 0)
+      table.set(free, new Entry<V>(key, value));
+    else {
+      table.set(i, new Entry<V>(key, value));
+      fUsedSlots++;
+    }
+
+    fSize++;
+
+    /* Rebuild the Table when more than half of the Slots are used */
+    if (fUsedSlots * 2 > table.length())
+      rebuild();
+
+    return null;
+  }
+
+  /**
+   * @param key the key to remove.
+   * @return the value that was mapped to the key or <code>null</code> if none.
+   */
+  public synchronized V remove(long key) {
+    return remove(key, null);
+  }
+
+  /**
+   * Removes the key only if it is currently mapped to the given value.
+   *
+   * @param key the key to remove.
+   * @param value the value that must be mapped to the key or <code>null</code>
+   * to remove any value.
+   * @return the value that was removed or <code>null</code> if none.
+   */
+  @SuppressWarnings("unchecked")
+  public synchronized V remove(long key, Object value) {
+    AtomicReferenceArray<Entry<V>> table = fTable;
+    int mask = table.length() - 1;
+    for (int i = indexFor(key, mask);; i = (i + 1) & mask) {
+      Entry<V> entry = table.get(i);
+      if (entry == null)
+        return null;
+
+      if (entry.fKey == key && entry != REMOVED) {
+        if (value != null && !value.equals(entry.fValue))
+          return null;
+
+        table.set(i, (Entry<V>) REMOVED);
+        fSize--;
+        return entry.fValue;
+      }
+    }
+  }
+
+  /**
+   * Removes all keys from this Map.
+   */
+  public synchronized void clear() {
+    fTable = new AtomicReferenceArray<Entry<V>>(MIN_CAPACITY);
+    fSize = 0;
+    fUsedSlots = 0;
+  }
+
+  /**
+   * @return the number of keys in this Map.
+   */
+  public int size() {
+    return fSize;
+  }
+
+  /**
+   * @return <code>true</code> if this Map contains no keys.
+   */
+  public boolean isEmpty() {
+    return fSize == 0;
+  }
+
+  /**
+   * @return a Collection view of the values in this Map. The Collection does
+   * not support modifications and its Iterator is weakly consistent.
+   */
+  public Collection<V> values() {
+    return new AbstractCollection<V>() {
+      @Override
+      public Iterator<V> iterator() {
+        return new ValueIterator<V>(fTable);
+      }
+
+      @Override
+      public int size() {
+        return fSize;
+      }
+    };
+  }
+
+  /* Iterates over the Values of a Table */
+  private static final class ValueIterator<V> implements Iterator<V> {
+    private final AtomicReferenceArray<Entry<V>> fIteratedTable;
+    private int fIndex;
+    private V fNext;
+
+    ValueIterator(AtomicReferenceArray<Entry<V>> table) {
+      fIteratedTable = table;
+      advance();
+    }
+
+    private void advance() {
+      fNext = null;
+      while (fNext == null && fIndex < fIteratedTable.length()) {
+        Entry<V> entry = fIteratedTable.get(fIndex++);
+        if (entry != null && entry != REMOVED)
+          fNext = entry.fValue;
+      }
+    }
+
+    public boolean hasNext() {
+      return fNext != null;
+    }
+
+    public V next() {
+      if (fNext == null)
+        throw new NoSuchElementException();
+
+      V next = fNext;
+      advance();
+      return next;
+    }
+
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  /* Copies all Entries into a new Table that is large enough for them */
+  private void rebuild() {
+    AtomicReferenceArray<Entry<V>> table = fTable;
+    AtomicReferenceArray<Entry<V>> newTable = new AtomicReferenceArray<Entry<V>>(capacityFor(fSize));
+    int mask = newTable.length() - 1;
+    for (int j = 0; j < table.length(); j++) {
+      Entry<V> entry = table.get(j);
+      if (entry != null && entry != REMOVED) {
+        int i = indexFor(entry.fKey, mask);
+        while (newTable.get(i) != null)
+          i = (i + 1) & mask;
+
+        newTable.set(i, entry);
+      }
+    }
+
+    fUsedSlots = fSize;
+    fTable = newTable;
+  }
+
+  /* Smallest power of 2 that keeps the Table at most a quarter full */
+  private static int capacityFor(int size) {
+    int capacity = MIN_CAPACITY;
+    while (capacity < size * 4L)
+      capacity <<= 1;
+
+    return capacity;
+  }
+
+  /* Spreads sequential IDs over the Table */
+  private static int indexFor(long key, int mask) {
+    long hash = key * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32)) & mask;
+  }
+}
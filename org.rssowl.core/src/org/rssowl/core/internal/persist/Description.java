@@ -27,12 +27,36 @@ package org.rssowl.core.internal.persist;
 import org.eclipse.core.runtime.Assert;
 import org.rssowl.core.persist.INews;
 import org.rssowl.core.persist.reference.NewsReference;
+import org.rssowl.core.persist.service.PersistenceException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 
 /**
  * A fully resolved Description for a News with textual content.
+ * <p>
+ * Descriptions of at least {@link #COMPRESSION_THRESHOLD} characters are kept
+ * as deflated UTF-8 and only inflated when {@link #getValue()} is called.
+ * </p>
  */
 public class Description extends Persistable {
+
+  /** Descriptions with at least this number of characters are compressed */
+  public static final int COMPRESSION_THRESHOLD = 256;
+
+  /* Encoding of compressed Descriptions */
+  private static final String ENCODING = "UTF-8"; //$NON-NLS-1$
+
   private String fValue;
+  private byte[] fCompressedValue;
 
   /* Also used as its own identifier */
   private long fNewsId;
@@ -50,7 +74,7 @@ public class Description extends Persistable {
     Assert.isNotNull(news.getId(), "news.getId()"); //$NON-NLS-1$
     fNewsId = news.getId();
 
-    fValue = value;
+    setDescription(value);
   }
 
   /**
@@ -64,6 +88,9 @@ public class Description extends Persistable {
    * @return the textual content of this description.
    */
   public synchronized String getValue() {
+    if (fCompressedValue != null)
+      return decompress(fCompressedValue);
+
     return fValue;
   }
 
@@ -72,5 +99,58 @@ public class Description extends Persistable {
    */
   public synchronized void setDescription(String description) {
     fValue = description;
+    fCompressedValue = null;
+
+    /* Only keep the compressed Value if it actually saves space */
+    if (description != null && description.length() >= COMPRESSION_THRESHOLD) {
+      byte[] compressedValue = compress(description);
+      if (compressedValue.length < description.length()) {
+        fValue = null;
+        fCompressedValue = compressedValue;
+      }
+    }
+  }
+
+  /**
+   * @return <code>true</code> if the textual content of this description is
+   * stored compressed and <code>false</code> otherwise.
+   */
+  public synchronized boolean isCompressed() {
+    return fCompressedValue != null;
+  }
+
+  private static byte[] compress(String value) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(value.length() / 3);
+    Deflater deflater = new Deflater();
+    try {
+      Writer writer = new OutputStreamWriter(new DeflaterOutputStream(bytes, deflater), ENCODING);
+      writer.write(value);
+      writer.close();
+    } catch (IOException e) {
+      throw new PersistenceException(e); //Will never happen with an in-memory Stream
+    } finally {
+      deflater.end();
+    }
+
+    return bytes.toByteArray();
+  }
+
+  private static String decompress(byte[] compressedValue) {
+    StringBuilder value = new StringBuilder(compressedValue.length * 4);
+    try {
+      Reader reader = new InputStreamReader(new InflaterInputStream(new ByteArrayInputStream(compressedValue)), ENCODING);
+      try {
+        char[] buffer = new char[4096];
+        int read;
+        while ((read = reader.read(buffer)) != -1)
+          value.append(buffer, 0, read);
+      } finally {
+        reader.close();
+      }
+    } catch (IOException e) {
+      throw new PersistenceException("Failed to decompress the description", e); //$NON-NLS-1$
+    }
+
+    return value.toString();
   }
 }
\ No newline at end of file
@@ -73,6 +73,10 @@ public class Feed extends AbstractEntity implements IFeed {
   private String fWebmaster;
   private Date fLastModifiedDate;
   private int fTTL;
+  private int fHoursToSkip;
+  private int fDaysToSkip;
+  private int fUpdatePeriod;
+  private int fUpdateFrequency;
   private String fFormat;
   private String fBaseUri;
   private transient URI fLink;
@@ -131,15 +135,6 @@ public class Feed extends AbstractEntity implements IFeed {
     fNews.add(news);
   }
 
-  private int findNews(List<INews> newsList, INews news) {
-    for (int i = 0, c = newsList.size(); i < c; ++i) {
-      if (news.isEquivalent(newsList.get(i)))
-        return i;
-    }
-
-    return -1;
-  }
-
   /*
    * @see org.rssowl.core.model.types.IFeed#getNews()
    */
@@ -470,6 +465,10 @@ public class Feed extends AbstractEntity implements IFeed {
           && (fPublishDate == null ? f.fPublishDate == null : fPublishDate.equals(f.fPublishDate))
           && (fTitle == null ? f.fTitle == null : fTitle.equals(f.fTitle))
           && fTTL == f.fTTL
+          && fHoursToSkip == f.fHoursToSkip
+          && fDaysToSkip == f.fDaysToSkip
+          && fUpdatePeriod == f.fUpdatePeriod
+          && fUpdateFrequency == f.fUpdateFrequency
           && (fWebmaster == null ? f.fWebmaster == null : fWebmaster.equals(f.fWebmaster))
           && (getProperties() == null ? f.getProperties() == null : getProperties().equals(f.getProperties()));
     }
@@ -495,25 +494,21 @@ public class Feed extends AbstractEntity implements IFeed {
    */
   public void setTextInput(ITextInput input) {}
 
-  /**
-   * This type is not handled by the Application! Use Properties instead.
-   * <p>
-   * The Methods <code>setProperty()</code> and <code>getProperty()</code>
-   * allows to store and retrieve extensible Data that is not part of this Types
-   * model.
-   * </p>
+  /*
+   * @see org.rssowl.core.persist.IFeed#addHourToSkip(int)
    */
-  public void addHourToSkip(int hour) {}
+  public synchronized void addHourToSkip(int hour) {
+    if (0 <= hour && hour < 24)
+      fHoursToSkip |= (1 << hour);
+  }
 
-  /**
-   * This type is not handled by the Application! Use Properties instead.
-   * <p>
-   * The Methods <code>setProperty()</code> and <code>getProperty()</code>
-   * allows to store and retrieve extensible Data that is not part of this Types
-   * model.
-   * </p>
+  /*
+   * @see org.rssowl.core.persist.IFeed#addDayToSkip(int)
    */
-  public void addDayToSkip(int day) {}
+  public synchronized void addDayToSkip(int day) {
+    if (0 <= day && day < DAYS.size())
+      fDaysToSkip |= (1 << day);
+  }
 
   /**
    * This type is not handled by the Application! Use Properties instead.
@@ -556,28 +551,31 @@ public class Feed extends AbstractEntity implements IFeed {
     return null;
   }
 
-  /**
-   * This type is not handled by the Application! Use Properties instead
-   * <p>
-   * The Methods <code>setProperty()</code> and <code>getProperty()</code>
-   * allows to store and retrieve extensible Data that is not part of this Types
-   * model.
-   * </p>
+  /*
+   * @see org.rssowl.core.persist.IFeed#getDaysToSkip()
    */
-  public int[] getDaysToSkip() {
-    return null;
+  public synchronized int[] getDaysToSkip() {
+    return toIndices(fDaysToSkip);
   }
 
-  /**
-   * This type is not handled by the Application! Use Properties instead
-   * <p>
-   * The Methods <code>setProperty()</code> and <code>getProperty()</code>
-   * allows to store and retrieve extensible Data that is not part of this Types
-   * model.
-   * </p>
+  /*
+   * @see org.rssowl.core.persist.IFeed#getHoursToSkip()
    */
-  public int[] getHoursToSkip() {
-    return null;
+  public synchronized int[] getHoursToSkip() {
+    return toIndices(fHoursToSkip);
+  }
+
+  private static int[] toIndices(int bits) {
+    if (bits == 0)
+      return null;
+
+    int[] indices = new int[Integer.bitCount(bits)];
+    for (int i = 0, j = 0; j < indices.length; i++) {
+      if ((bits & (1 << i)) != 0)
+        indices[j++] = i;
+    }
+
+    return indices;
   }
 
   /*
@@ -624,49 +622,36 @@ public class Feed extends AbstractEntity implements IFeed {
     return null;
   }
 
-  /**
-   * This type is not handled by the Application! Use Properties instead
-   * <p>
-   * The Methods <code>setProperty()</code> and <code>getProperty()</code>
-   * allows to store and retrieve extensible Data that is not part of this Types
-   * model.
-   * </p>
+  /*
+   * @see org.rssowl.core.persist.IFeed#getUpdateFrequency()
    */
-  public int getUpdateFrequency() {
-    return 0;
+  public synchronized int getUpdateFrequency() {
+    return fUpdateFrequency;
   }
 
-  /**
-   * This type is not handled by the Application! Use Properties instead
-   * <p>
-   * The Methods <code>setProperty()</code> and <code>getProperty()</code>
-   * allows to store and retrieve extensible Data that is not part of this Types
-   * model.
-   * </p>
+  /*
+   * @see org.rssowl.core.persist.IFeed#setUpdateFrequency(int)
    */
-  public void setUpdateFrequency(int updateFrequency) {}
+  public synchronized void setUpdateFrequency(int updateFrequency) {
+    fUpdateFrequency = Math.max(0, updateFrequency);
+  }
 
-  /**
-   * This type is not handled by the Application! Use Properties instead
-   * <p>
-   * The Methods <code>setProperty()</code> and <code>getProperty()</code>
-   * allows to store and retrieve extensible Data that is not part of this Types
-   * model.
-   * </p>
+  /*
+   * @see org.rssowl.core.persist.IFeed#getUpdatePeriod()
    */
-  public int getUpdatePeriod() {
-    return 0;
+  public synchronized int getUpdatePeriod() {
+
+    /* Stored with an offset of 1 to tell an unset Period from "hourly" */
+    return fUpdatePeriod - 1;
   }
 
-  /**
-   * This type is not handled by the Application! Use Properties instead
-   * <p>
-   * The Methods <code>setProperty()</code> and <code>getProperty()</code>
-   * allows to store and retrieve extensible Data that is not part of this Types
-   * model.
-   * </p>
+  /*
+   * @see org.rssowl.core.persist.IFeed#setUpdatePeriod(int)
    */
-  public void setUpdatePeriod(int updatePeriod) {}
+  public synchronized void setUpdatePeriod(int updatePeriod) {
+    if (0 <= updatePeriod && updatePeriod < PERIODS.size())
+      fUpdatePeriod = updatePeriod + 1;
+  }
 
   /*
    * @see org.rssowl.core.persist.IFeed#mergeAndCleanUp(org.rssowl.core.persist.IFeed)
@@ -703,6 +688,10 @@ public class Feed extends AbstractEntity implements IFeed {
     fPublishDate = objectToMerge.getPublishDate();
     fTitle = objectToMerge.getTitle();
     fTTL = objectToMerge.getTTL();
+    fHoursToSkip = toBits(objectToMerge.getHoursToSkip());
+    fDaysToSkip = toBits(objectToMerge.getDaysToSkip());
+    fUpdatePeriod = objectToMerge.getUpdatePeriod() + 1;
+    fUpdateFrequency = objectToMerge.getUpdateFrequency();
     fWebmaster = objectToMerge.getWebmaster();
 
     ComplexMergeResult<?> propertiesResult = MergeUtils.mergeProperties(this, objectToMerge);
@@ -713,6 +702,16 @@ public class Feed extends AbstractEntity implements IFeed {
     return result;
   }
 
+  private static int toBits(int[] indices) {
+    int bits = 0;
+    if (indices != null) {
+      for (int index : indices)
+        bits |= (1 << index);
+    }
+
+    return bits;
+  }
+
   private boolean simpleFieldsEqual(IFeed feed) {
     return MergeUtils.equals(getBase(), feed.getBase()) &&
         MergeUtils.equals(fCopyright, feed.getCopyright()) &&
@@ -727,6 +726,10 @@ public class Feed extends AbstractEntity implements IFeed {
         MergeUtils.equals(fPublishDate, feed.getPublishDate()) &&
         MergeUtils.equals(fTitle, feed.getTitle()) &&
         MergeUtils.equals(fTTL, feed.getTTL()) &&
+        fHoursToSkip == toBits(feed.getHoursToSkip()) &&
+        fDaysToSkip == toBits(feed.getDaysToSkip()) &&
+        fUpdatePeriod == feed.getUpdatePeriod() + 1 &&
+        fUpdateFrequency == feed.getUpdateFrequency() &&
         MergeUtils.equals(fWebmaster, feed.getWebmaster());
   }
 
@@ -807,16 +810,17 @@ public class Feed extends AbstractEntity implements IFeed {
       }
     }
 
-    /* Non Synchronized Feed */
+    /* Non Synchronized Feed (speed up by indexing the equivalence keys) */
     else {
+      NewsEquivalenceIndex index = new NewsEquivalenceIndex(newsListCopy);
       for (int i = fNews.size() - 1; i >= 0; --i) {
         INews existingNews = fNews.get(i);
-        int existingNewsIndex = findNews(newsListCopy, existingNews);
+        int existingNewsIndex = index.indexOf(NewsEquivalenceIndex.keyOf(existingNews));
 
         /* News exists in feed: Merge it */
         if (existingNewsIndex > -1) {
           mergeResult.addAll(existingNews.merge(newsListCopy.get(existingNewsIndex)));
-          newsListCopy.remove(existingNewsIndex);
+          index.remove(existingNewsIndex);
         }
 
         /* News does not exist in feed: Delete it */
@@ -825,6 +829,20 @@ public class Feed extends AbstractEntity implements IFeed {
           newsToCleanUp[newsToCleanUpSize++] = i;
         }
       }
+
+      /* Remove merged News from the incoming News keeping their order */
+      if (index.getRemovedCount() > 0) {
+        int newIndex = 0;
+        for (int i = 0, c = newsListCopy.size(); i < c; ++i) {
+          if (!index.isRemoved(i)) {
+            newsListCopy.set(newIndex, newsListCopy.get(i));
+            ++newIndex;
+          }
+        }
+        for (int i = newsListCopy.size() - 1; i >= newIndex; --i) {
+          newsListCopy.remove(i);
+        }
+      }
     }
 
     /* Delete News as necessary */
@@ -881,19 +899,15 @@ public class Feed extends AbstractEntity implements IFeed {
     if (SyncUtils.isSynchronized(fLinkText))
       return copyWithoutDuplicatesSynced(newsList);
 
-    /* Otherwise search rawly */
+    /* Otherwise lookup equivalent News by their keys */
     List<INews> newsListCopy = new ArrayList<INews>(newsList.size());
-    for (INews outerNews : newsList) {
-      boolean containsNews = false;
-      for (INews innerNews : newsListCopy) {
-        if (innerNews.isEquivalent(outerNews)) {
-          containsNews = true;
-          break;
-        }
+    NewsEquivalenceIndex index = new NewsEquivalenceIndex(newsList.size());
+    for (INews news : newsList) {
+      NewsEquivalenceIndex.Key key = NewsEquivalenceIndex.keyOf(news);
+      if (index.indexOf(key) < 0) {
+        index.add(key);
+        newsListCopy.add(news);
       }
-
-      if (!containsNews)
-        newsListCopy.add(outerNews);
     }
 
     return newsListCopy;
@@ -983,6 +997,14 @@ public class Feed extends AbstractEntity implements IFeed {
       str.append("\nGenerator: ").append(getGenerator()); //$NON-NLS-1$
     if (getTTL() != 0)
       str.append("\nTTL: ").append(getTTL()); //$NON-NLS-1$
+    if (fHoursToSkip != 0)
+      str.append("\nHours to Skip: ").append(Arrays.toString(getHoursToSkip())); //$NON-NLS-1$
+    if (fDaysToSkip != 0)
+      str.append("\nDays to Skip: ").append(Arrays.toString(getDaysToSkip())); //$NON-NLS-1$
+    if (fUpdatePeriod != 0)
+      str.append("\nUpdate Period: ").append(PERIODS.get(getUpdatePeriod())); //$NON-NLS-1$
+    if (fUpdateFrequency != 0)
+      str.append("\nUpdate Frequency: ").append(getUpdateFrequency()); //$NON-NLS-1$
     if (getDocs() != null)
       str.append("\nDocs: ").append(getDocs()); //$NON-NLS-1$
     if (getAuthor() != null)
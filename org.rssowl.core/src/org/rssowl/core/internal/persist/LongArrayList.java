@@ -27,6 +27,7 @@ package org.rssowl.core.internal.persist;
 import org.rssowl.core.util.ArrayUtils;
 
 import java.util.Arrays;
+import java.util.Set;
 
 /**
  * A List providing access to an array of {@link Long}.
@@ -211,6 +212,35 @@ public class LongArrayList {
       removeByElement(element);
   }
 
+  /**
+   * Removes all elements that are contained in the given {@link Set} in a
+   * single pass, keeping the order of the remaining elements.
+   *
+   * @param elements the {@link Set} of values to remove from this list.
+   * @param removed a {@link LongArrayList} to add the removed values to or
+   * <code>null</code> if none.
+   * @return <code>true</code> if any element was removed and
+   * <code>false</code> otherwise.
+   */
+  public final boolean removeAll(Set<Long> elements, LongArrayList removed) {
+    int size = 0;
+    for (int i = 0; i < fSize; i++) {
+      long element = fElements[i];
+      if (elements.contains(element)) {
+        if (removed != null)
+          removed.add(element);
+      } else
+        fElements[size++] = element;
+    }
+
+    if (size == fSize)
+      return false;
+
+    Arrays.fill(fElements, size, fSize, 0L);
+    fSize = size;
+    return true;
+  }
+
   /**
    * @return the list of long values as array.
    */
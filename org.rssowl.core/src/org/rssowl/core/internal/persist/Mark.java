@@ -28,10 +28,10 @@ import org.eclipse.core.runtime.Assert;
 import org.rssowl.core.persist.IFolder;
 import org.rssowl.core.persist.IMark;
 import org.rssowl.core.persist.INews;
+import org.rssowl.core.persist.dao.DynamicDAO;
 import org.rssowl.core.persist.reference.NewsReference;
 
 import java.text.DateFormat;
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
@@ -145,15 +145,11 @@ public abstract class Mark extends AbstractEntity implements IMark {
   }
 
   protected static List<INews> getNews(List<NewsReference> newsRefs) {
-    List<INews> news = new ArrayList<INews>(newsRefs.size());
+    long[] ids = new long[newsRefs.size()];
+    for (int i = 0; i < ids.length; i++)
+      ids[i] = newsRefs.get(i).getId();
 
-    for (NewsReference newsRef : newsRefs) {
-      INews newsItem = newsRef.resolve();
-      if (newsItem != null)
-        news.add(newsItem);
-    }
-
-    return news;
+    return DynamicDAO.loadAll(INews.class, ids);
   }
 
   /*
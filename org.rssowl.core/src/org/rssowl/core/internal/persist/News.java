@@ -53,7 +53,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 /**
  * A News is a single entry inside a Feed. The attributes IsRead, IsNew and
@@ -68,40 +69,28 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  */
 public class News extends AbstractEntity implements INews {
 
-  /* A Lock used for read/write access of the News getters and setters */
-  static final class Lock {
-    private final transient ReentrantReadWriteLock fLock = new ReentrantReadWriteLock();
-    private volatile transient Thread fReadLockThread;
+  /* Number of Monitors shared by all News to wait for the Lock */
+  private static final int LOCK_STRIPES = 64;
 
-    void acquireWriteLock() {
-      if (fReadLockThread == Thread.currentThread()) {
-        throw new IllegalStateException("Cannot acquire the write lock from the " + //$NON-NLS-1$
-            "same thread as the read lock."); //$NON-NLS-1$
-      }
-      fLock.writeLock().lock();
-    }
-
-    void releaseWriteLock() {
-      fLock.writeLock().unlock();
-    }
-
-    void acquireReadLock() {
-      fLock.readLock().lock();
-    }
+  /* Monitors and Waiters by Stripe (see #getLockStripe()) */
+  private static final Object[] fgLockMonitors = new Object[LOCK_STRIPES];
+  private static final AtomicIntegerArray fgLockWaiters = new AtomicIntegerArray(LOCK_STRIPES);
+  private static final AtomicIntegerFieldUpdater<News> fgLockState = AtomicIntegerFieldUpdater.newUpdater(News.class, "fLockState"); //$NON-NLS-1$
 
-    void acquireReadLockSpecial() {
-      fLock.readLock().lock();
-      fReadLockThread = Thread.currentThread();
-    }
+  /* Flag of the Lock State that is set while a Thread waits for the write lock */
+  private static final int WRITER_WAITING = 1 << 30;
 
-    void releaseReadLock() {
-      fLock.readLock().unlock();
+  /* Number of read locks on any News held by the current Thread */
+  private static final ThreadLocal<int[]> fgReadHolds = new ThreadLocal<int[]>() {
+    @Override
+    protected int[] initialValue() {
+      return new int[1];
     }
+  };
 
-    void releaseReadLockSpecial() {
-      fReadLockThread = null;
-      fLock.readLock().unlock();
-    }
+  static {
+    for (int i = 0; i < LOCK_STRIPES; i++)
+      fgLockMonitors[i] = new Object();
   }
 
   private String fTitle;
@@ -132,7 +121,17 @@ public class News extends AbstractEntity implements INews {
   private transient String fTransientDescription;
   private transient boolean fTransientDescriptionSet;
 
-  private transient final Lock fLock = new Lock();
+  /*
+   * State of the Lock used for read/write access of the News getters and
+   * setters. A positive value is the number of read holds (plus the
+   * WRITER_WAITING flag), a negative value the number of (reentrant) write
+   * holds. The Lock is kept in two fields instead of a ReentrantReadWriteLock
+   * per News to keep the footprint of a News small.
+   */
+  private transient volatile int fLockState;
+
+  /* The Thread holding the write lock or the special read lock */
+  private transient volatile Thread fLockThread;
 
   /**
    * Constructor used by <code>DefaultModelFactory</code>
@@ -170,7 +169,7 @@ public class News extends AbstractEntity implements INews {
   public News(News news, long parentId) {
     super(null, news);
     fParentId = parentId;
-    news.fLock.acquireReadLock();
+    news.acquireReadLock();
     try {
       for (IAttachment attachment : news.getAttachments())
         addAttachment(new Attachment(attachment, this));
@@ -212,7 +211,7 @@ public class News extends AbstractEntity implements INews {
       fStateOrdinal = news.fStateOrdinal;
       fTitle = news.fTitle;
     } finally {
-      news.fLock.releaseReadLock();
+      news.releaseReadLock();
     }
     init();
   }
@@ -228,12 +227,12 @@ public class News extends AbstractEntity implements INews {
    * Initialises object after deserialization. Should not be used otherwise.
    */
   public final void init() {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       if (fGuidValue != null)
         fGuid = new Guid(fGuidValue, fGuidIsPermaLink);
     } finally {
-      fLock.releaseWriteLock();
+      releaseWriteLock();
     }
   }
 
@@ -251,7 +250,11 @@ public class News extends AbstractEntity implements INews {
    * @see #releaseReadLockSpecial()
    */
   public final void acquireReadLockSpecial() {
-    fLock.acquireReadLockSpecial();
+    acquireReadLock();
+
+    /* Not recorded if nested in the write lock of this Thread */
+    if (fLockState > 0)
+      fLockThread = Thread.currentThread();
   }
 
   /**
@@ -263,7 +266,155 @@ public class News extends AbstractEntity implements INews {
    * @see #acquireReadLockSpecial()
    */
   public final void releaseReadLockSpecial() {
-    fLock.releaseReadLockSpecial();
+    if (fLockState > 0)
+      fLockThread = null;
+
+    releaseReadLock();
+  }
+
+  private void acquireReadLock() {
+    if (!tryAcquireReadLock())
+      awaitLock(false);
+  }
+
+  private boolean tryAcquireReadLock() {
+    int[] readHolds = null;
+    while (true) {
+      int state = fLockState;
+
+      /* Write Lock held: Only succeeds if held by this Thread */
+      if (state < 0)
+        return fLockThread == Thread.currentThread();
+
+      if (readHolds == null)
+        readHolds = fgReadHolds.get();
+
+      /* Writer waiting: Only Threads already holding a read lock may continue (avoids deadlocks) */
+      if ((state & WRITER_WAITING) != 0 && readHolds[0] == 0)
+        return false;
+
+      if (fgLockState.compareAndSet(this, state, state + 1)) {
+        readHolds[0]++;
+        return true;
+      }
+    }
+  }
+
+  private void releaseReadLock() {
+    int[] readHolds = null;
+    while (true) {
+      int state = fLockState;
+
+      /* Read Lock was nested in the write lock of this Thread */
+      if (state < 0 && fLockThread == Thread.currentThread())
+        return;
+
+      if (readHolds == null)
+        readHolds = fgReadHolds.get();
+
+      if (state <= 0 || (state & ~WRITER_WAITING) == 0 || readHolds[0] == 0)
+        throw new IllegalStateException("Cannot release a read lock that is not held by the current thread."); //$NON-NLS-1$
+
+      if (fgLockState.compareAndSet(this, state, state - 1)) {
+        readHolds[0]--;
+        if ((state & ~WRITER_WAITING) == 1)
+          signalLockWaiters();
+
+        return;
+      }
+    }
+  }
+
+  private void acquireWriteLock() {
+    if (fLockState > 0 && fLockThread == Thread.currentThread()) {
+      throw new IllegalStateException("Cannot acquire the write lock from the " + //$NON-NLS-1$
+          "same thread as the read lock."); //$NON-NLS-1$
+    }
+
+    if (!tryAcquireWriteLock())
+      awaitLock(true);
+  }
+
+  private boolean tryAcquireWriteLock() {
+    Thread currentThread = Thread.currentThread();
+    int state = fLockState;
+
+    /* Reentrant: Only the owning Thread changes the state now */
+    if (state < 0 && fLockThread == currentThread) {
+      fLockState = state - 1;
+      return true;
+    }
+
+    /* Free or only the WRITER_WAITING flag set */
+    if ((state == 0 || state == WRITER_WAITING) && fgLockState.compareAndSet(this, state, -1)) {
+      fLockThread = currentThread;
+      return true;
+    }
+
+    return false;
+  }
+
+  /* Makes new readers wait until a waiting writer got the Lock */
+  private void announceWriter() {
+    while (true) {
+      int state = fLockState;
+      if (state <= 0 || (state & WRITER_WAITING) != 0 || fgLockState.compareAndSet(this, state, state | WRITER_WAITING))
+        return;
+    }
+  }
+
+  private void releaseWriteLock() {
+    int state = fLockState;
+    if (state >= 0 || fLockThread != Thread.currentThread())
+      throw new IllegalStateException("Cannot release a write lock that is not held by the current thread."); //$NON-NLS-1$
+
+    if (state == -1) {
+      fLockThread = null;
+      fLockState = 0;
+      signalLockWaiters();
+    } else
+      fLockState = state + 1;
+  }
+
+  private void awaitLock(boolean write) {
+    int stripe = getLockStripe();
+    Object monitor = fgLockMonitors[stripe];
+    boolean interrupted = false;
+
+    fgLockWaiters.incrementAndGet(stripe);
+    try {
+      synchronized (monitor) {
+        while (write ? !tryAcquireWriteLock() : !tryAcquireReadLock()) {
+          if (write)
+            announceWriter();
+
+          try {
+            monitor.wait();
+          } catch (InterruptedException e) {
+            interrupted = true;
+          }
+        }
+      }
+    } finally {
+      fgLockWaiters.decrementAndGet(stripe);
+    }
+
+    if (interrupted)
+      Thread.currentThread().interrupt();
+  }
+
+  private void signalLockWaiters() {
+    int stripe = getLockStripe();
+    if (fgLockWaiters.get(stripe) > 0) {
+      Object monitor = fgLockMonitors[stripe];
+      synchronized (monitor) {
+        monitor.notifyAll();
+      }
+    }
+  }
+
+  private int getLockStripe() {
+    return System.identityHashCode(this) & (LOCK_STRIPES - 1);
   }
 
   private <T> Boolean isEquivalentCompare(T o1, T o2) {
@@ -279,11 +430,11 @@ public class News extends AbstractEntity implements INews {
   @Override
   @SuppressWarnings("all")
   public Map<String, Serializable> getProperties() {
-    fLock.acquireReadLock();
+    acquireReadLock();
     try {
       return super.getProperties();
     } finally {
-      fLock.releaseReadLock();
+      releaseReadLock();
     }
   }
 
@@ -293,11 +444,11 @@ public class News extends AbstractEntity implements INews {
   @Override
   @SuppressWarnings("all")
   public Object getProperty(String key) {
-    fLock.acquireReadLock();
+    acquireReadLock();
     try {
       return super.getProperty(key);
     } finally {
-      fLock.releaseReadLock();
+      releaseReadLock();
     }
   }
 
@@ -307,11 +458,11 @@ public class News extends AbstractEntity implements INews {
   @Override
   @SuppressWarnings("all")
   public Object removeProperty(String key) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       return super.removeProperty(key);
     } finally {
-      fLock.releaseWriteLock();
+      releaseWriteLock();
     }
   }
 
@@ -321,11 +472,11 @@ public class News extends AbstractEntity implements INews {
   @Override
   @SuppressWarnings("all")
   public void setProperty(String key, Serializable value) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       super.setProperty(key, value);
     } finally {
-      fLock.releaseWriteLock();
+      releaseWriteLock();
     }
   }
 
@@ -338,8 +489,8 @@ public class News extends AbstractEntity implements INews {
    */
   public boolean isEquivalent(INews o) {
     News other = (News) o;
-    fLock.acquireReadLock();
-    other.fLock.acquireReadLock();
+    acquireReadLock();
+    other.acquireReadLock();
     try {
       Assert.isNotNull(other, "other cannot be null"); //$NON-NLS-1$
 
@@ -369,8 +520,21 @@ public class News extends AbstractEntity implements INews {
 
       return false;
     } finally {
-      fLock.releaseReadLock();
-      other.fLock.releaseReadLock();
+      releaseReadLock();
+      other.releaseReadLock();
+    }
+  }
+
+  /**
+   * @return a snapshot of the values compared by {@link #isEquivalent(INews)}
+   * taken under a single read lock.
+   */
+  NewsEquivalenceIndex.Key getEquivalenceKey() {
+    acquireReadLock();
+    try {
+      return new NewsEquivalenceIndex.Key(slashTrim(fGuidValue), fGuidIsPermaLink, slashTrim(fLinkText), fFeedLink, fTitle);
+    } finally {
+      releaseReadLock();
     }
   }
 
@@ -388,7 +552,7 @@ public class News extends AbstractEntity implements INews {
    */
   public void addAttachment(IAttachment attachment) {
     Assert.isNotNull(attachment, "Exception adding NULL as Attachment into News"); //$NON-NLS-1$
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       if (fAttachments == null)
         fAttachments = new ArrayList<IAttachment>(1);
@@ -397,7 +561,7 @@ public class News extends AbstractEntity implements INews {
       Assert.isTrue(equals(attachment.getNews()), "The Attachment has a different News set!"); //$NON-NLS-1$
       fAttachments.add(attachment);
     } finally {
-      fLock.releaseWriteLock();
+      releaseWriteLock();
     }
   }
 
@@ -405,7 +569,7 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.persist.INews#getLabels()
    */
   public Set<ILabel> getLabels() {
-    fLock.acquireReadLock();
+    acquireReadLock();
     try {
       if (fLabels == null)
         return new HashSet<ILabel>(0);
@@ -421,7 +585,7 @@ public class News extends AbstractEntity implements INews {
 
       return labels;
     } finally {
-      fLock.releaseReadLock();
+      releaseReadLock();
     }
   }
 
@@ -430,26 +594,26 @@ public class News extends AbstractEntity implements INews {
    */
   public boolean addLabel(ILabel label) {
     Assert.isNotNull(label, "label"); //$NON-NLS-1$
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       if (fLabels == null)
         fLabels = new HashSet<ILabel>(1);
 
       return fLabels.add(label);
     } finally {
-      fLock.releaseWriteLock();
+      releaseWriteLock();
     }
   }
 
   void clearLabels() {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       if (fLabels == null)
         return;
 
       fLabels.clear();
     } finally {
-      fLock.releaseWriteLock();
+      releaseWriteLock();
     }
   }
 
@@ -458,14 +622,14 @@ public class News extends AbstractEntity implements INews {
    */
   public boolean removeLabel(ILabel label) {
     Assert.isNotNull(label, "label"); //$NON-NLS-1$
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       if (fLabels == null)
         return false;
 
       return fLabels.remove(label);
     } finally {
-      fLock.releaseWriteLock();
+      releaseWriteLock();
     }
   }
 
@@ -473,13 +637,13 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#getAttachments()
    */
   public List<IAttachment> getAttachments() {
-    fLock.acquireReadLock();
+    acquireReadLock();
     try {
       if (fAttachments == null)
         return new ArrayList<IAttachment>(0);
       return new ArrayList<IAttachment>(fAttachments);
     } finally {
-      fLock.releaseReadLock();
+      releaseReadLock();
     }
   }
 
@@ -487,11 +651,11 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#getAuthor()
    */
   public IPerson getAuthor() {
-    fLock.acquireReadLock();
+    acquireReadLock();
     try {
       return fAuthor;
     } finally {
-      fLock.releaseReadLock();
+      releaseReadLock();
     }
   }
 
@@ -499,11 +663,11 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#setAuthor(org.rssowl.core.model.types.IPerson)
    */
   public void setAuthor(IPerson author) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fAuthor = author;
     } finally {
-      fLock.releaseWriteLock();
+      releaseWriteLock();
     }
   }
 
@@ -511,12 +675,12 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#getDescription()
    */
   public String getDescription() {
-    fLock.acquireReadLock();
+    acquireReadLock();
     try {
       if (fTransientDescriptionSet)
         return fTransientDescription;
     } finally {
-      fLock.releaseReadLock();
+      releaseReadLock();
     }
 
     if (getId() == null)
@@ -530,12 +694,12 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.persist.INews#setDescription(java.lang.String)
    */
   public void setDescription(String description) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fTransientDescription = description;
       fTransientDescriptionSet = true;
     } finally {
-      fLock.releaseWriteLock();
+      releaseWriteLock();
     }
   }
 
@@ -543,11 +707,11 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#getLink()
    */
   public URI getLink() {
-    fLock.acquireReadLock();
+    acquireReadLock();
     try {
       return fLinkText == null ? null : createURI(fLinkText);
     } finally {
-      fLock.releaseReadLock();
+      releaseReadLock();
     }
   }
 
@@ -555,11 +719,11 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#setLink(java.lang.String)
    */
   public void setLink(URI link) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fLinkText = link == null ? null : link.toString();
     } finally {
-      fLock.releaseWriteLock();
+      releaseWriteLock();
     }
   }
 
@@ -567,11 +731,11 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#getPublishDate()
    */
   public Date getPublishDate() {
-    fLock.acquireReadLock();
+    acquireReadLock();
     try {
       return fPublishDate;
     } finally {
-      fLock.releaseReadLock();
+      releaseReadLock();
     }
   }
 
@@ -579,11 +743,11 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#setPublishDate(java.util.Date)
    */
   public void setPublishDate(Date publishDate) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fPublishDate = publishDate;
     } finally {
-      fLock.releaseWriteLock();
+      releaseWriteLock();
     }
   }
 
@@ -591,11 +755,11 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#getTitle()
    */
   public String getTitle() {
-    fLock.acquireReadLock();
+    acquireReadLock();
     try {
       return fTitle;
     } finally {
-      fLock.releaseReadLock();
+      releaseReadLock();
     }
   }
 
@@ -603,11 +767,11 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#setTitle(java.lang.String)
    */
   public void setTitle(String title) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fTitle = title;
     } finally {
-      fLock.releaseWriteLock();
+      releaseWriteLock();
     }
   }
 
@@ -615,11 +779,11 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#getFeed()
    */
   public FeedLinkReference getFeedReference() {
-    fLock.acquireReadLock();
+    acquireReadLock();
     try {
       return fFeedLink == null ? null : new FeedLinkReference(createURI(fFeedLink));
     } finally {
-      fLock.releaseReadLock();
+      releaseReadLock();
     }
   }
 
@@ -627,11 +791,11 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#setReceiveDate(java.util.Date)
    */
   public void setReceiveDate(Date receiveDate) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fReceiveDate = receiveDate;
     } finally {
-      fLock.releaseWriteLock();
+      releaseWriteLock();
     }
   }
 
@@ -639,11 +803,11 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#getReceiveDate()
    */
   public Date getReceiveDate() {
-    fLock.acquireReadLock();
+    acquireReadLock();
     try {
       return fReceiveDate;
     } finally {
-      fLock.releaseReadLock();
+      releaseReadLock();
     }
   }
 
@@ -651,11 +815,11 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#setComments(java.lang.String)
    */
   public void setComments(String comments) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fComments = comments;
     } finally {
-      fLock.releaseWriteLock();
+      releaseWriteLock();
     }
   }
 
@@ -663,13 +827,13 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#setGuid(org.rssowl.core.model.types.IGuid)
    */
   public void setGuid(IGuid guid) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fGuid = guid;
       fGuidValue = (guid == null ? null : guid.getValue());
       fGuidIsPermaLink = (guid == null ? false : guid.isPermaLink());
     } finally {
-      fLock.releaseWriteLock();
+      releaseWriteLock();
     }
   }
 
@@ -677,11 +841,11 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#setSource(org.rssowl.core.model.types.ISource)
    */
   public void setSource(ISource source) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fSource = source;
     } finally {
-      fLock.releaseWriteLock();
+      releaseWriteLock();
     }
   }
 
@@ -689,11 +853,11 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#setInReplyTo(java.lang.String)
    */
   public void setInReplyTo(String guid) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fInReplyTo = guid;
     } finally {
-      fLock.releaseWriteLock();
+      releaseWriteLock();
     }
   }
 
@@ -701,11 +865,11 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#setModifiedDate(java.util.Date)
    */
   public void setModifiedDate(Date modifiedDate) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fModifiedDate = modifiedDate;
     } finally {
-      fLock.releaseWriteLock();
+      releaseWriteLock();
     }
   }
 
@@ -713,11 +877,11 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#getModifiedDate()
    */
   public Date getModifiedDate() {
-    fLock.acquireReadLock();
+    acquireReadLock();
     try {
       return fModifiedDate;
     } finally {
-      fLock.releaseReadLock();
+      releaseReadLock();
     }
   }
 
@@ -725,13 +889,13 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#addCategory(org.rssowl.core.model.types.ICategory)
    */
   public void addCategory(ICategory category) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       if (fCategories == null)
         fCategories = new ArrayList<ICategory>(1);
       fCategories.add(category);
     } finally {
-      fLock.releaseWriteLock();
+      releaseWriteLock();
     }
   }
 
@@ -739,11 +903,11 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#getComments()
    */
   public String getComments() {
-    fLock.acquireReadLock();
+    acquireReadLock();
     try {
       return fComments;
     } finally {
-      fLock.releaseReadLock();
+      releaseReadLock();
     }
   }
 
@@ -751,11 +915,11 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#isFlagged()
    */
   public boolean isFlagged() {
-    fLock.acquireReadLock();
+    acquireReadLock();
     try {
       return fIsFlagged;
     } finally {
-      fLock.releaseReadLock();
+      releaseReadLock();
     }
   }
 
@@ -763,11 +927,11 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#setFlagged(boolean)
    */
   public void setFlagged(boolean isFlagged) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fIsFlagged = isFlagged;
     } finally {
-      fLock.releaseWriteLock();
+      releaseWriteLock();
     }
   }
 
@@ -775,11 +939,11 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#getGuid()
    */
   public IGuid getGuid() {
-    fLock.acquireReadLock();
+    acquireReadLock();
     try {
       return fGuid;
     } finally {
-      fLock.releaseReadLock();
+      releaseReadLock();
     }
   }
 
@@ -787,11 +951,11 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#setBase(java.net.URI)
    */
   public void setBase(URI baseUri) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fBaseUri = getURIText(baseUri);
     } finally {
-      fLock.releaseWriteLock();
+      releaseWriteLock();
     }
   }
 
@@ -799,11 +963,11 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#getBase()
    */
   public URI getBase() {
-    fLock.acquireReadLock();
+    acquireReadLock();
     try {
       return createURI(fBaseUri);
     } finally {
-      fLock.releaseReadLock();
+      releaseReadLock();
     }
   }
 
@@ -811,13 +975,13 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#getCategories()
    */
   public List<ICategory> getCategories() {
-    fLock.acquireReadLock();
+    acquireReadLock();
     try {
       if (fCategories == null)
         return new ArrayList<ICategory>(0);
       return new ArrayList<ICategory>(fCategories);
     } finally {
-      fLock.releaseReadLock();
+      releaseReadLock();
     }
   }
 
@@ -826,11 +990,11 @@ public class News extends AbstractEntity implements INews {
    */
   public void setState(State state) {
     Assert.isNotNull(state, "state cannot be null"); //$NON-NLS-1$
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fStateOrdinal = state.ordinal();
     } finally {
-      fLock.releaseWriteLock();
+      releaseWriteLock();
     }
   }
 
@@ -838,11 +1002,11 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#getState()
    */
   public State getState() {
-    fLock.acquireReadLock();
+    acquireReadLock();
     try {
       return INews.State.getState(fStateOrdinal);
     } finally {
-      fLock.releaseReadLock();
+      releaseReadLock();
     }
   }
 
@@ -850,11 +1014,11 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#setRating(int)
    */
   public void setRating(int rating) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fRating = rating;
     } finally {
-      fLock.releaseWriteLock();
+      releaseWriteLock();
     }
   }
 
@@ -862,11 +1026,11 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#getRating()
    */
   public int getRating() {
-    fLock.acquireReadLock();
+    acquireReadLock();
     try {
       return fRating;
     } finally {
-      fLock.releaseReadLock();
+      releaseReadLock();
     }
   }
 
@@ -874,11 +1038,11 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#getSource()
    */
   public ISource getSource() {
-    fLock.acquireReadLock();
+    acquireReadLock();
     try {
       return fSource;
     } finally {
-      fLock.releaseReadLock();
+      releaseReadLock();
     }
   }
 
@@ -886,11 +1050,11 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.model.types.INews#getInReplyTo()
    */
   public String getInReplyTo() {
-    fLock.acquireReadLock();
+    acquireReadLock();
     try {
       return fInReplyTo;
     } finally {
-      fLock.releaseReadLock();
+      releaseReadLock();
     }
   }
 
@@ -907,11 +1071,11 @@ public class News extends AbstractEntity implements INews {
    */
   public void setParent(IFeed feed) {
     Assert.isNotNull(feed, "feed"); //$NON-NLS-1$
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       this.fFeedLink = feed.getLink().toString();
     } finally {
-      fLock.releaseWriteLock();
+      releaseWriteLock();
     }
   }
 
@@ -919,12 +1083,12 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.persist.INews#removeAttachment(org.rssowl.core.persist.IAttachment)
    */
   public void removeAttachment(IAttachment attachment) {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       if (fAttachments != null)
         fAttachments.remove(attachment);
     } finally {
-      fLock.releaseWriteLock();
+      releaseWriteLock();
     }
   }
 
@@ -932,11 +1096,11 @@ public class News extends AbstractEntity implements INews {
    * @see org.rssowl.core.persist.INews#getParentId()
    */
   public long getParentId() {
-    fLock.acquireReadLock();
+    acquireReadLock();
     try {
       return fParentId;
     } finally {
-      fLock.releaseReadLock();
+      releaseReadLock();
     }
   }
 
@@ -952,11 +1116,11 @@ public class News extends AbstractEntity implements INews {
    * <code>null</code> if none.
    */
   public String getTransientDescription() {
-    fLock.acquireReadLock();
+    acquireReadLock();
     try {
       return fTransientDescription;
     } finally {
-      fLock.releaseReadLock();
+      releaseReadLock();
     }
   }
 
@@ -964,12 +1128,12 @@ public class News extends AbstractEntity implements INews {
    * Removes the description element from this news to free memory.
    */
   public void clearTransientDescription() {
-    fLock.acquireWriteLock();
+    acquireWriteLock();
     try {
       fTransientDescription = null;
       fTransientDescriptionSet = false;
     } finally {
-      fLock.releaseWriteLock();
+      releaseWriteLock();
     }
   }
 
@@ -1007,8 +1171,8 @@ public class News extends AbstractEntity implements INews {
       return false;
 
     News n = (News) news;
-    fLock.acquireReadLock();
-    n.fLock.acquireReadLock();
+    acquireReadLock();
+    n.acquireReadLock();
     try {
       return (getId() == null ? n.getId() == null : getId().equals(n.getId())) &&
           fFeedLink.equals(n.fFeedLink) &&
@@ -1024,8 +1188,8 @@ public class News extends AbstractEntity implements INews {
           getState() == n.getState() && fIsFlagged == n.fIsFlagged && fRating == n.fRating &&
           (getProperties() == null ? n.getProperties() == null : getProperties().equals(n.getProperties()));
     } finally {
-      fLock.releaseReadLock();
-      n.fLock.releaseReadLock();
+      releaseReadLock();
+      n.releaseReadLock();
     }
 
   }
@@ -1048,9 +1212,9 @@ public class News extends AbstractEntity implements INews {
     Assert.isLegal(this != news, "Trying to merge the same news, this is most likely a mistake, news: " + news); //$NON-NLS-1$
 
     News n = (News) news;
-    n.fLock.acquireReadLock();
+    n.acquireReadLock();
     try {
-      fLock.acquireWriteLock();
+      acquireWriteLock();
       try {
         boolean isSynchronized = SyncUtils.isSynchronized(this);
         boolean wasModified = !MergeUtils.equals(fModifiedDate, n.fModifiedDate) || !MergeUtils.equals(fPublishDate, n.fPublishDate) || !MergeUtils.equals(fTitle, n.fTitle);
@@ -1102,10 +1266,10 @@ public class News extends AbstractEntity implements INews {
 
         return newsMergeResult;
       } finally {
-        fLock.releaseWriteLock();
+        releaseWriteLock();
       }
     } finally {
-      n.fLock.releaseReadLock();
+      n.releaseReadLock();
     }
   }
 
@@ -1298,7 +1462,7 @@ public class News extends AbstractEntity implements INews {
   public synchronized String toString() {
     StringBuilder str = new StringBuilder();
     str.append("\n\n****************************** News ******************************\n"); //$NON-NLS-1$
-    fLock.acquireReadLock();
+    acquireReadLock();
     try {
       str.append("\nNews ID: ").append(getId()); //$NON-NLS-1$
       if (getTitle() != null)
@@ -1306,7 +1470,7 @@ public class News extends AbstractEntity implements INews {
       if (getLinkAsText() != null)
         str.append("\nLink: ").append(getLinkAsText()); //$NON-NLS-1$
     } finally {
-      fLock.releaseReadLock();
+      releaseReadLock();
     }
     return str.toString();
   }
@@ -1320,7 +1484,7 @@ public class News extends AbstractEntity implements INews {
     StringBuilder str = new StringBuilder();
 
     str.append("\n\n****************************** News ******************************\n"); //$NON-NLS-1$
-    fLock.acquireReadLock();
+    acquireReadLock();
     try {
       str.append("\nNews ID: ").append(getId()); //$NON-NLS-1$
       if (fFeedLink != null)
@@ -1357,7 +1521,7 @@ public class News extends AbstractEntity implements INews {
       str.append("\nIs Flagged: ").append(fIsFlagged); //$NON-NLS-1$
       str.append("\nProperties: ").append(getProperties()); //$NON-NLS-1$
     } finally {
-      fLock.releaseReadLock();
+      releaseReadLock();
     }
 
     return str.toString();
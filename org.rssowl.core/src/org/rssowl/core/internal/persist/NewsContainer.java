@@ -34,6 +34,7 @@ import org.rssowl.core.util.Pair;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -150,6 +151,65 @@ public final class NewsContainer {
     return Pair.create(changed, isNewNewsAdded);
   }
 
+  /**
+   * Replaces the news with the given ids by the news of the given map. News of
+   * this container with one of the given ids that are not part of the map are
+   * removed, all other news of this container are left untouched.
+   *
+   * @param newsIds the ids of the news that have changed.
+   * @param newsMap the map of news references by state that replace the news
+   * with the given ids.
+   * @return a {@link Pair} where the first boolean indicates if the container
+   * has changed at all and the second boolean indicates if new news have been
+   * added.
+   */
+  public Pair<Boolean, Boolean> updateNews(Set<Long> newsIds, Map<INews.State, List<NewsReference>> newsMap) {
+    Assert.isNotNull(newsIds, "newsIds"); //$NON-NLS-1$
+    Assert.isNotNull(newsMap, "newsMap"); //$NON-NLS-1$
+
+    boolean changed = false;
+    boolean isNewNewsAdded = false;
+
+    /* Remove the changed News from all States and remember their old State */
+    Map<Long, INews.State> oldStates = new HashMap<Long, INews.State>();
+    LongArrayList removed = new LongArrayList(0);
+    for (INews.State state : INews.State.values()) {
+      removed.clear();
+      if (fNewsIds[state.ordinal()].removeAll(newsIds, removed)) {
+        for (int i = 0; i < removed.size(); i++)
+          oldStates.put(removed.get(i), state);
+      }
+    }
+
+    /* Add the changed News that are still matching */
+    for (Map.Entry<INews.State, List<NewsReference>> mapEntry : newsMap.entrySet()) {
+      List<NewsReference> news = mapEntry.getValue();
+      INews.State state = mapEntry.getKey();
+
+      Assert.isNotNull(news, "news"); //$NON-NLS-1$
+      Assert.isNotNull(state, "state"); //$NON-NLS-1$
+
+      LongArrayList currentArrayList = fNewsIds[state.ordinal()];
+      for (NewsReference newsRef : news) {
+        long id = newsRef.getId();
+        currentArrayList.add(id);
+
+        /* News is added or has changed its State */
+        if (oldStates.remove(id) != state) {
+          changed = true;
+          if (state == INews.State.NEW)
+            isNewNewsAdded = true;
+        }
+      }
+    }
+
+    /* Some News are no longer matching */
+    if (!oldStates.isEmpty())
+      changed = true;
+
+    return Pair.create(changed, isNewNewsAdded);
+  }
+
   /**
    * @param news the news to add to this container.
    */
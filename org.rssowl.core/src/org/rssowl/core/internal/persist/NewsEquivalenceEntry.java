@@ -0,0 +1,122 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2009 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.internal.persist;
+
+import org.eclipse.core.runtime.Assert;
+import org.rssowl.core.persist.INews;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps the lower-cased GUID or Link of a News to the identifier of that News.
+ * The entries form a persistent index that is used to find the equivalent
+ * News of a News without asking the search index.
+ */
+public class NewsEquivalenceEntry extends Persistable {
+  private static final String GUID_KEY_PREFIX = "guid:"; //$NON-NLS-1$
+  private static final String LINK_KEY_PREFIX = "link:"; //$NON-NLS-1$
+
+  private String fKey;
+  private long fNewsId;
+
+  protected NewsEquivalenceEntry() {
+    super();
+  }
+
+  /**
+   * @param key the key of the equivalence as returned from
+   * {@link #createGuidKey(String)} or {@link #createLinkKey(String)}.
+   * @param newsId the identifier of the news with the given key.
+   */
+  public NewsEquivalenceEntry(String key, long newsId) {
+    Assert.isNotNull(key, "key"); //$NON-NLS-1$
+    fKey = key;
+    fNewsId = newsId;
+  }
+
+  /**
+   * @return the key of the equivalence.
+   */
+  public synchronized String getKey() {
+    return fKey;
+  }
+
+  /**
+   * @return the identifier of the news with the key of this entry.
+   */
+  public synchronized long getNewsId() {
+    return fNewsId;
+  }
+
+  /**
+   * @param guidValue the value of a GUID.
+   * @return the key for all news with the given GUID.
+   */
+  public static String createGuidKey(String guidValue) {
+    return GUID_KEY_PREFIX + guidValue.toLowerCase();
+  }
+
+  /**
+   * @param link the Link as text.
+   * @return the key for all news with the given Link.
+   */
+  public static String createLinkKey(String link) {
+    return LINK_KEY_PREFIX + link.toLowerCase();
+  }
+
+  /**
+   * @param news the news to get the keys for.
+   * @return the keys of all equivalences the news takes part in.
+   */
+  public static List<String> getKeys(INews news) {
+    List<String> keys = new ArrayList<String>(2);
+    if (news.getGuid() != null)
+      keys.add(createGuidKey(news.getGuid().getValue()));
+
+    String link = news.getLinkAsText();
+    if (link != null)
+      keys.add(createLinkKey(link));
+
+    return keys;
+  }
+
+  /**
+   * @param news the news to get the key for.
+   * @return the key that is used to find the equivalent news of the given
+   * news, or <code>null</code> if the news has neither a perma-link GUID nor
+   * a Link.
+   */
+  public static String getLookupKey(INews news) {
+    if (news.getGuid() != null && news.getGuid().isPermaLink())
+      return createGuidKey(news.getGuid().getValue());
+
+    String link = news.getLinkAsText();
+    if (link != null)
+      return createLinkKey(link);
+
+    return null;
+  }
+}
@@ -0,0 +1,264 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2009 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.internal.persist;
+
+import org.rssowl.core.persist.INews;
+import org.rssowl.core.util.Pair;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index over a List of {@link News} that finds the first element being
+ * equivalent to a given News in constant time. Equivalence is exactly as
+ * defined by {@link News#isEquivalent(INews)}:
+ * <ul>
+ * <li>Two News with the same GUID are equivalent.</li>
+ * <li>Otherwise, if both GUIDs are <code>null</code> or permalinks, two News
+ * with different GUIDs are not equivalent.</li>
+ * <li>Otherwise, if any News has a Link, two News are equivalent if they have
+ * the same Link.</li>
+ * <li>Otherwise two News are equivalent if they have the same Title and Feed.</li>
+ * </ul>
+ * The index therefore keeps one lookup table per step and partitions the Link
+ * and Title tables by the kind of GUID. The position of a News is the order in
+ * which it was added to the index and stays stable when other News are
+ * removed.
+ */
+final class NewsEquivalenceIndex {
+
+  /* News without GUID */
+  private static final int GUID_NONE = 0;
+
+  /* News with a GUID that is a permalink */
+  private static final int GUID_PERMALINK = 1;
+
+  /* News with a GUID that is not a permalink */
+  private static final int GUID_OTHER = 2;
+
+  /* GUID kinds that proceed to compare Link or Title, indexed by GUID kind */
+  private static final int[][] COMPARABLE_GUID_KINDS = new int[][] { { GUID_NONE, GUID_OTHER }, { GUID_OTHER }, { GUID_NONE, GUID_PERMALINK, GUID_OTHER } };
+
+  /**
+   * A snapshot of the values of a News that are used to determine
+   * equivalence.
+   */
+  static final class Key {
+    private final String fGuid;
+    private final int fGuidKind;
+    private final String fLink;
+    private final String fFeedLink;
+    private final String fTitle;
+
+    Key(String guid, boolean guidIsPermaLink, String link, String feedLink, String title) {
+      fGuid = guid;
+      fGuidKind = (guid == null) ? GUID_NONE : guidIsPermaLink ? GUID_PERMALINK : GUID_OTHER;
+      fLink = link;
+      fFeedLink = feedLink;
+      fTitle = title;
+    }
+  }
+
+  /* Positions of indexed News in increasing order */
+  private final class PositionQueue {
+    private int[] fPositions = new int[2];
+    private int fHead;
+    private int fSize;
+
+    void add(int position) {
+      if (fSize == fPositions.length) {
+        int[] positions = new int[fSize * 2];
+        System.arraycopy(fPositions, 0, positions, 0, fSize);
+        fPositions = positions;
+      }
+
+      fPositions[fSize++] = position;
+    }
+
+    int first() {
+      while (fHead < fSize && fRemoved[fPositions[fHead]])
+        fHead++;
+
+      return fHead < fSize ? fPositions[fHead] : -1;
+    }
+  }
+
+  private final Map<String, PositionQueue> fGuidTable;
+  private final Map<String, PositionQueue[]> fLinkTable;
+  private final Map<Pair<String, String>, PositionQueue[]> fTitleTable;
+  private boolean[] fRemoved;
+  private int fSize;
+  private int fRemovedCount;
+
+  /**
+   * @param expectedSize the expected number of News to add.
+   */
+  NewsEquivalenceIndex(int expectedSize) {
+    fGuidTable = new HashMap<String, PositionQueue>(expectedSize);
+    fLinkTable = new HashMap<String, PositionQueue[]>(expectedSize);
+    fTitleTable = new HashMap<Pair<String, String>, PositionQueue[]>();
+    fRemoved = new boolean[Math.max(expectedSize, 1)];
+  }
+
+  /**
+   * Creates an index with all News of the given List. The position of each
+   * News is its index in the List.
+   *
+   * @param newsList the List of News to index.
+   */
+  NewsEquivalenceIndex(List<INews> newsList) {
+    this(newsList.size());
+    for (INews news : newsList)
+      add(keyOf(news));
+  }
+
+  /**
+   * @param news the News to create the {@link Key} for.
+   * @return the {@link Key} of the given News.
+   */
+  static Key keyOf(INews news) {
+    return ((News) news).getEquivalenceKey();
+  }
+
+  /**
+   * @param key the {@link Key} of the News to add.
+   * @return the position of the added News.
+   */
+  int add(Key key) {
+    int position = fSize++;
+    if (position == fRemoved.length) {
+      boolean[] removed = new boolean[position * 2];
+      System.arraycopy(fRemoved, 0, removed, 0, position);
+      fRemoved = removed;
+    }
+
+    if (key.fGuid != null)
+      getQueue(fGuidTable, key.fGuid).add(position);
+
+    if (key.fLink != null)
+      getQueue(getQueues(fLinkTable, key.fLink), key.fGuidKind).add(position);
+    else if (key.fTitle != null)
+      getQueue(getQueues(fTitleTable, Pair.create(key.fFeedLink, key.fTitle)), key.fGuidKind).add(position);
+
+    return position;
+  }
+
+  /**
+   * @param key the {@link Key} of the News to find an equivalent News for.
+   * @return the smallest position of a News that is equivalent to the given
+   * one and not removed, or <code>-1</code> if none.
+   */
+  int indexOf(Key key) {
+    int result = -1;
+
+    /* Same GUID */
+    if (key.fGuid != null) {
+      PositionQueue queue = fGuidTable.get(key.fGuid);
+      if (queue != null)
+        result = min(result, queue.first());
+    }
+
+    /* Same Link or same Title */
+    PositionQueue[] queues;
+    if (key.fLink != null)
+      queues = fLinkTable.get(key.fLink);
+    else if (key.fTitle != null)
+      queues = fTitleTable.get(Pair.create(key.fFeedLink, key.fTitle));
+    else
+      queues = null;
+
+    if (queues != null) {
+      for (int guidKind : COMPARABLE_GUID_KINDS[key.fGuidKind]) {
+        if (queues[guidKind] != null)
+          result = min(result, queues[guidKind].first());
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * @param position the position of the News to remove from the index.
+   */
+  void remove(int position) {
+    if (!fRemoved[position]) {
+      fRemoved[position] = true;
+      fRemovedCount++;
+    }
+  }
+
+  /**
+   * @param position the position of a News in this index.
+   * @return <code>true</code> if the News at the given position was removed.
+   */
+  boolean isRemoved(int position) {
+    return fRemoved[position];
+  }
+
+  /**
+   * @return the number of News that were removed from this index.
+   */
+  int getRemovedCount() {
+    return fRemovedCount;
+  }
+
+  private static int min(int position, int otherPosition) {
+    if (position < 0)
+      return otherPosition;
+
+    if (otherPosition < 0)
+      return position;
+
+    return Math.min(position, otherPosition);
+  }
+
+  private <K> PositionQueue getQueue(Map<K, PositionQueue> table, K key) {
+    PositionQueue queue = table.get(key);
+    if (queue == null) {
+      queue = new PositionQueue();
+      table.put(key, queue);
+    }
+
+    return queue;
+  }
+
+  private PositionQueue getQueue(PositionQueue[] queues, int guidKind) {
+    if (queues[guidKind] == null)
+      queues[guidKind] = new PositionQueue();
+
+    return queues[guidKind];
+  }
+
+  private <K> PositionQueue[] getQueues(Map<K, PositionQueue[]> table, K key) {
+    PositionQueue[] queues = table.get(key);
+    if (queues == null) {
+      queues = new PositionQueue[3];
+      table.put(key, queues);
+    }
+
+    return queues;
+  }
+}
@@ -94,6 +94,14 @@ public class SearchMark extends Mark implements ISearchMark {
     return fNewsContainer.setNews(results);
   }
 
+  /*
+   * @see org.rssowl.core.persist.ISearchMark#updateNewsRefs(java.util.Set,
+   * java.util.Map)
+   */
+  public synchronized Pair<Boolean, Boolean> updateNewsRefs(Set<Long> newsIds, Map<INews.State, List<NewsReference>> results) {
+    return fNewsContainer.updateNews(newsIds, results);
+  }
+
   /*
    * @see org.rssowl.core.model.types.ISearchMark#addSearchCondition(org.rssowl.core.model.reference.SearchConditionReference)
    */
@@ -33,12 +33,17 @@ import org.rssowl.core.persist.event.EntityListener;
 import org.rssowl.core.persist.event.ModelEvent;
 import org.rssowl.core.persist.event.runnable.EventType;
 import org.rssowl.core.persist.service.PersistenceException;
+import org.rssowl.core.util.CoreUtils;
 import org.rssowl.core.util.LoggingSafeRunnable;
 
 import com.db4o.ext.Db4oException;
 import com.db4o.query.Query;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -51,6 +56,9 @@ import java.util.concurrent.CopyOnWriteArrayList;
  */
 public abstract class AbstractEntityDAO<T extends IEntity, L extends EntityListener<E, T>, E extends ModelEvent> extends AbstractPersistableDAO<T> implements IEntityDAO<T, L, E> {
 
+  /* Depth to activate loaded Entities to */
+  private static final int ACTIVATION_DEPTH = CoreUtils.getIntProperty("rssowl.dao.activationdepth", Integer.MAX_VALUE); //$NON-NLS-1$
+
   /** The List of Listeners for this DAO */
   protected final List<L> fEntityListeners = new CopyOnWriteArrayList<L>();
 
@@ -106,7 +114,7 @@ public abstract class AbstractEntityDAO<T extends IEntity, L extends EntityListe
       T entity = list.get(0);
 
       // TODO Activate completely by default for now. Must decide how to deal with this.
-      fDb.activate(entity, Integer.MAX_VALUE);
+      fDb.activate(entity, ACTIVATION_DEPTH);
 
       return entity;
     } catch (Db4oException e) {
@@ -114,6 +122,47 @@ public abstract class AbstractEntityDAO<T extends IEntity, L extends EntityListe
     }
   }
 
+  /*
+   * @see org.rssowl.core.persist.dao.IEntityDAO#loadAll(long[])
+   */
+  public List<T> loadAll(long[] ids) {
+    if (ids.length == 0)
+      return new ArrayList<T>(0);
+
+    try {
+      final long[] sortedIds = ids.clone();
+      Arrays.sort(sortedIds);
+
+      /* Load ids that are close to each other with a single range query */
+      final Map<Long, T> entities = new HashMap<Long, T>(ids.length);
+      DBHelper.queryRanges(fDb, fEntityClass, "fId", sortedIds, new DBHelper.RangeQueryCallback<T>() { //$NON-NLS-1$
+        public void handle(List<T> list) {
+
+          /* The Range can contain Entities that have not been asked for */
+          for (T entity : list) {
+            Long id = entity.getId();
+            if (id != null && Arrays.binarySearch(sortedIds, id) >= 0) {
+              fDb.activate(entity, ACTIVATION_DEPTH);
+              entities.put(id, entity);
+            }
+          }
+        }
+      });
+
+      /* Return in the order of the given ids */
+      List<T> result = new ArrayList<T>(entities.size());
+      for (long id : ids) {
+        T entity = entities.get(id);
+        if (entity != null)
+          result.add(entity);
+      }
+
+      return result;
+    } catch (Db4oException e) {
+      throw new PersistenceException(e);
+    }
+  }
+
   private List<T> loadList(long id) throws Db4oException {
     Query query = fDb.query();
     query.constrain(fEntityClass);
@@ -0,0 +1,318 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2009 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+
+package org.rssowl.core.internal.persist.dao;
+
+import org.rssowl.core.internal.persist.ConcurrentLongMap;
+import org.rssowl.core.persist.IEntity;
+import org.rssowl.core.persist.dao.IEntityDAO;
+import org.rssowl.core.persist.service.PersistenceException;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A cache of entities that is filled on demand from a DAO and holds at most a
+ * maximum number of entities strongly. When the cache is full, entities that
+ * have not been used since the last time the eviction passed them are evicted
+ * first (CLOCK, an approximation of LRU that does not need a lock on cache
+ * hits).
+ * <p>
+ * Evicted entities are only referenced weakly. As long as an evicted entity is
+ * still referenced from somewhere else (e.g. the tree of folders shown in the
+ * UI), it is returned from the cache without accessing the database. That way
+ * the cache never hands out two instances of the same entity.
+ * </p>
+ *
+ * @param <T> the type of entities in this cache.
+ */
+public final class BoundedEntityCache<T extends IEntity> {
+
+  /* An entity that is strongly referenced by the cache, linked into the clock */
+  private static final class Node<T> {
+    final T fEntity;
+    volatile boolean fUsed;
+    Node<T> fPrevious = this;
+    Node<T> fNext = this;
+
+    Node(T entity) {
+      fEntity = entity;
+    }
+  }
+
+  /* An evicted entity that is only weakly referenced by the cache */
+  private static final class ReleasedReference<T> extends WeakReference<T> {
+    final long fId;
+
+    ReleasedReference(T entity, long id, ReferenceQueue<T> queue) {
+      super(entity, queue);
+      fId = id;
+    }
+  }
+
+  private final IEntityDAO<T, ?, ?> fDAO;
+  private final int fMaxSize;
+  private final ConcurrentLongMap<Node<T>> fEntries = new ConcurrentLongMap<Node<T>>();
+  private final ConcurrentLongMap<ReleasedReference<T>> fReleased = new ConcurrentLongMap<ReleasedReference<T>>();
+  private final ReferenceQueue<T> fReleasedQueue = new ReferenceQueue<T>();
+  private final Node<T> fClock = new Node<T>(null); // Head of the circular List, also used as Lock
+  private final AtomicInteger fRemovals = new AtomicInteger();
+  private final AtomicLong fHits = new AtomicLong();
+  private final AtomicLong fMisses = new AtomicLong();
+  private final AtomicLong fEvictions = new AtomicLong();
+
+  /**
+   * @param dao the DAO to load entities from that are not cached.
+   * @param maxSize the maximum number of entities to reference strongly.
+   */
+  public BoundedEntityCache(IEntityDAO<T, ?, ?> dao, int maxSize) {
+    fDAO = dao;
+    fMaxSize = Math.max(1, maxSize);
+  }
+
+  /**
+   * @param id the id of the entity to load.
+   * @return the entity with the given id from the cache or the DAO, or
+   * <code>null</code> if none.
+   * @throws PersistenceException in case of an error while loading.
+   */
+  public T load(long id) throws PersistenceException {
+
+    /* Cached */
+    Node<T> node = fEntries.get(id);
+    if (node != null) {
+      node.fUsed = true;
+      fHits.incrementAndGet();
+      return node.fEntity;
+    }
+
+    /* Evicted but still referenced (no need to cache it strongly again) */
+    T entity = getReleased(id);
+    if (entity != null) {
+      fHits.incrementAndGet();
+      return entity;
+    }
+
+    /* Not cached: only cache if the entity was not removed while loading */
+    fMisses.incrementAndGet();
+    int removals = fRemovals.get();
+    entity = fDAO.load(id);
+    if (entity != null) {
+      synchronized (fClock) {
+        if (removals == fRemovals.get())
+          put(entity);
+      }
+    }
+
+    return entity;
+  }
+
+  /**
+   * @param id the id of the entity to check.
+   * @return <code>true</code> if an entity with the given id exists.
+   * @throws PersistenceException in case of an error while loading.
+   */
+  public boolean exists(long id) throws PersistenceException {
+    if (fEntries.containsKey(id) || getReleased(id) != null)
+      return true;
+
+    return fDAO.exists(id);
+  }
+
+  /**
+   * Adds the entity to the cache, possibly evicting others.
+   *
+   * @param entity the entity to add.
+   */
+  public void put(T entity) {
+    Long id = entity.getId();
+    if (id == null)
+      return;
+
+    synchronized (fClock) {
+      expungeReleased();
+
+      Node<T> node = fEntries.get(id);
+      if (node != null && node.fEntity == entity) {
+        node.fUsed = true;
+        return;
+      }
+
+      if (node != null)
+        unlink(node);
+
+      node = new Node<T>(entity);
+      fEntries.put(id, node);
+      fReleased.remove(id);
+      linkLast(node);
+
+      while (fEntries.size() > fMaxSize)
+        evictNext();
+    }
+  }
+
+  /**
+   * Removes the entity from the cache.
+   *
+   * @param entity the entity to remove.
+   */
+  public void remove(T entity) {
+    Long id = entity.getId();
+    if (id == null)
+      return;
+
+    synchronized (fClock) {
+      fRemovals.incrementAndGet();
+
+      Node<T> node = fEntries.get(id);
+      if (node != null && node.fEntity.equals(entity)) {
+        fEntries.remove(id);
+        unlink(node);
+      }
+
+      ReleasedReference<T> reference = fReleased.get(id);
+      if (reference != null && (reference.get() == null || entity.equals(reference.get())))
+        fReleased.remove(id);
+    }
+  }
+
+  /**
+   * Removes all entities from the cache and resets the statistics.
+   */
+  public void clear() {
+    synchronized (fClock) {
+      fRemovals.incrementAndGet();
+      fEntries.clear();
+      fReleased.clear();
+      fClock.fPrevious = fClock;
+      fClock.fNext = fClock;
+      while (fReleasedQueue.poll() != null) {
+        /* Drain */
+      }
+    }
+
+    fHits.set(0);
+    fMisses.set(0);
+    fEvictions.set(0);
+  }
+
+  /**
+   * @return the number of entities that are strongly referenced.
+   */
+  public int size() {
+    return fEntries.size();
+  }
+
+  /**
+   * @return the number of loads that were served from the cache.
+   */
+  public long getHitCount() {
+    return fHits.get();
+  }
+
+  /**
+   * @return the number of loads that required the DAO.
+   */
+  public long getMissCount() {
+    return fMisses.get();
+  }
+
+  /**
+   * @return the number of entities that were evicted.
+   */
+  public long getEvictionCount() {
+    return fEvictions.get();
+  }
+
+  /**
+   * @return the ratio of loads that were served from the cache, between 0 and
+   * 1.
+   */
+  public double getHitRate() {
+    long hits = fHits.get();
+    long requests = hits + fMisses.get();
+    return requests == 0 ? 0 : (double) hits / requests;
+  }
+
+  /*
+   * @see java.lang.Object#toString()
+   */
+  @Override
+  @SuppressWarnings("nls")
+  public String toString() {
+    return "Size: " + size() + "/" + fMaxSize + ", Hits: " + getHitCount() + ", Misses: " + getMissCount() + ", Evictions: " + getEvictionCount() + ", Hit Rate: " + Math.round(getHitRate() * 100) + "%";
+  }
+
+  private T getReleased(long id) {
+    ReleasedReference<T> reference = fReleased.get(id);
+    return reference != null ? reference.get() : null;
+  }
+
+  /* Evicts the next entity that was not used since the last pass */
+  private void evictNext() {
+    while (true) {
+      Node<T> node = fClock.fNext;
+      unlink(node);
+      if (node.fUsed) {
+        node.fUsed = false;
+        linkLast(node);
+      } else {
+        long id = node.fEntity.getId();
+        fEntries.remove(id, node);
+        fReleased.put(id, new ReleasedReference<T>(node.fEntity, id, fReleasedQueue));
+        fEvictions.incrementAndGet();
+        return;
+      }
+    }
+  }
+
+  /* Appends the node to the end of the clock (caller holds the lock) */
+  private void linkLast(Node<T> node) {
+    node.fPrevious = fClock.fPrevious;
+    node.fNext = fClock;
+    fClock.fPrevious.fNext = node;
+    fClock.fPrevious = node;
+  }
+
+  /* Removes the node from the clock in constant time (caller holds the lock) */
+  private void unlink(Node<T> node) {
+    node.fPrevious.fNext = node.fNext;
+    node.fNext.fPrevious = node.fPrevious;
+    node.fPrevious = node;
+    node.fNext = node;
+  }
+
+  /* Forgets evicted entities that are no longer referenced */
+  private void expungeReleased() {
+    Reference<? extends T> reference;
+    while ((reference = fReleasedQueue.poll()) != null) {
+      ReleasedReference<?> released = (ReleasedReference<?>) reference;
+      fReleased.remove(released.fId, released);
+    }
+  }
+}
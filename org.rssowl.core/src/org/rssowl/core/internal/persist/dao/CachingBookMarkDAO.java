@@ -45,7 +45,7 @@ import java.util.Set;
 public final class CachingBookMarkDAO extends CachingDAO<BookMarkDAOImpl, IBookMark, BookMarkListener, BookMarkEvent> implements IBookMarkDAO {
 
   public CachingBookMarkDAO() {
-    super(new BookMarkDAOImpl());
+    super(new BookMarkDAOImpl(), true);
   }
 
   /*
@@ -63,7 +63,7 @@ public final class CachingBookMarkDAO extends CachingDAO<BookMarkDAOImpl, IBookM
       Set<IBookMark> bookmarks = new HashSet<IBookMark>();
       CoreUtils.fillBookMarks(bookmarks, roots);
       for (IBookMark bookmark : bookmarks) {
-        getCache().put(bookmark.getId(), bookmark);
+        cache(bookmark);
       }
     }
   }
@@ -76,12 +76,12 @@ public final class CachingBookMarkDAO extends CachingDAO<BookMarkDAOImpl, IBookM
     return new BookMarkListener() {
       public void entitiesAdded(Set<BookMarkEvent> events) {
         for (BookMarkEvent event : events)
-          getCache().put(event.getEntity().getId(), event.getEntity());
+          cache(event.getEntity());
       }
 
       public void entitiesDeleted(Set<BookMarkEvent> events) {
         for (BookMarkEvent event : events)
-          getCache().remove(event.getEntity().getId(), event.getEntity());
+          uncache(event.getEntity());
       }
 
       public void entitiesUpdated(Set<BookMarkEvent> events) {
@@ -96,6 +96,9 @@ public final class CachingBookMarkDAO extends CachingDAO<BookMarkDAOImpl, IBookM
    * .reference.FeedLinkReference)
    */
   public Collection<IBookMark> loadAll(FeedLinkReference feedRef) {
+    if (!isCachingAll())
+      return getDAO().loadAll(feedRef);
+
     Set<IBookMark> marks = new HashSet<IBookMark>(1);
     for (IBookMark mark : getCache().values()) {
       if (mark.getFeedLinkReference().equals(feedRef))
@@ -111,6 +114,9 @@ public final class CachingBookMarkDAO extends CachingDAO<BookMarkDAOImpl, IBookM
    * .reference.FeedLinkReference)
    */
   public boolean exists(FeedLinkReference feedRef) {
+    if (!isCachingAll())
+      return getDAO().exists(feedRef);
+
     for (IBookMark mark : getCache().values()) {
       if (mark.getFeedLinkReference().equals(feedRef))
         return true;
@@ -24,6 +24,8 @@
 
 package org.rssowl.core.internal.persist.dao;
 
+import org.rssowl.core.internal.Activator;
+import org.rssowl.core.internal.persist.ConcurrentLongMap;
 import org.rssowl.core.internal.persist.service.DBManager;
 import org.rssowl.core.internal.persist.service.DatabaseEvent;
 import org.rssowl.core.internal.persist.service.DatabaseListener;
@@ -33,17 +35,22 @@ import org.rssowl.core.persist.event.EntityListener;
 import org.rssowl.core.persist.event.ModelEvent;
 import org.rssowl.core.persist.event.runnable.EventType;
 import org.rssowl.core.persist.service.PersistenceException;
+import org.rssowl.core.util.CoreUtils;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 /**
- * Cache that stores all entities of type T in memory. In the future, we could
- * improve it to store only entities that have been requested. We could also add
- * eviction strategies at some point.
+ * Cache that stores all entities of type T in memory.
+ * <p>
+ * Caches that are created as evictable can instead be bounded by setting the
+ * system property <code>rssowl.cache.size</code> to the maximum number of
+ * entities to keep per cache. A bounded cache is filled on demand and evicts
+ * entities that are not in use (see {@link BoundedEntityCache}).
+ * </p>
  *
  * @param <D>
  * @param <T>
@@ -53,13 +60,27 @@ import java.util.concurrent.ConcurrentMap;
 public abstract class CachingDAO<D extends AbstractEntityDAO<T, L, E>, T extends IEntity, L extends EntityListener<E, T>, E extends ModelEvent> implements IEntityDAO<T, L, E> {
   protected static final boolean USE_LEGACY_CACHE_ACTIVATION = true;
 
+  /* Maximum number of Entities in evictable Caches (unset or not positive to cache all) */
+  private static final int MAX_CACHE_SIZE = CoreUtils.getIntProperty("rssowl.cache.size", 0); //$NON-NLS-1$
+
   private final D fDAO;
-  private final ConcurrentMap<Long, T> fCache;
+  private final ConcurrentLongMap<T> fCache;
+  private final BoundedEntityCache<T> fBoundedCache;
 
   public CachingDAO(D dao) {
+    this(dao, false);
+  }
+
+  /**
+   * @param dao the DAO this cache is wrapping around.
+   * @param evictable if <code>true</code>, the cache is bounded in case a
+   * maximum cache size is configured.
+   */
+  public CachingDAO(D dao, boolean evictable) {
     fDAO = dao;
     fDAO.addEntityListener(createEntityListener());
-    fCache = new ConcurrentHashMap<Long, T>(16, 0.75f, 1);
+    fCache = new ConcurrentLongMap<T>();
+    fBoundedCache = (evictable && MAX_CACHE_SIZE > 0) ? new BoundedEntityCache<T>(dao, MAX_CACHE_SIZE) : null;
 
     /* Update the Cache based on Database Events */
     DBManager.getDefault().addEntityStoreListener(new DatabaseListener() {
@@ -75,17 +96,46 @@ public abstract class CachingDAO<D extends AbstractEntityDAO<T, L, E>, T extends
 
   protected void putAll(Set<E> events) {
     for (E event : events) {
-      fCache.put(event.getEntity().getId(), fDAO.getEntityClass().cast(event.getEntity()));
+      cache(fDAO.getEntityClass().cast(event.getEntity()));
     }
   }
 
   protected void removeAll(Set<E> events) {
     for (E event : events) {
-      fCache.remove(event.getEntity().getId());
+      uncache(fDAO.getEntityClass().cast(event.getEntity()));
     }
   }
 
+  /**
+   * Adds the entity to the cache.
+   *
+   * @param entity the entity to add.
+   */
+  protected final void cache(T entity) {
+    if (fBoundedCache != null)
+      fBoundedCache.put(entity);
+    else
+      fCache.put(entity.getId(), entity);
+  }
+
+  /**
+   * Removes the entity from the cache.
+   *
+   * @param entity the entity to remove.
+   */
+  protected final void uncache(T entity) {
+    if (fBoundedCache != null)
+      fBoundedCache.remove(entity);
+    else
+      fCache.remove(entity.getId(), entity);
+  }
+
   protected void onDatabaseClosed(@SuppressWarnings("unused") DatabaseEvent event) {
+    if (fBoundedCache != null) {
+      Activator.safeLogInfo(fDAO.getEntityClass().getSimpleName() + " Cache - " + fBoundedCache); //$NON-NLS-1$
+      fBoundedCache.clear();
+    }
+
     fCache.clear();
   }
 
@@ -94,12 +144,35 @@ public abstract class CachingDAO<D extends AbstractEntityDAO<T, L, E>, T extends
     /* Ensure we start with a fresh cache */
     fCache.clear();
 
+    /* Bounded caches are filled on demand */
+    if (fBoundedCache != null) {
+      fBoundedCache.clear();
+      return;
+    }
+
     /* Add all from DAO */
     for (T entity : fDAO.loadAll()) {
       fCache.put(entity.getId(), entity);
     }
   }
 
+  /**
+   * @return <code>true</code> if this cache contains all entities and
+   * <code>false</code> if it is bounded. Only a cache with all entities can be
+   * searched through {@link #getCache()}.
+   */
+  protected final boolean isCachingAll() {
+    return fBoundedCache == null;
+  }
+
+  /**
+   * @return the {@link BoundedEntityCache} with hit-rate statistics if this
+   * cache is bounded or <code>null</code> otherwise.
+   */
+  public final BoundedEntityCache<T> getBoundedCache() {
+    return fBoundedCache;
+  }
+
   /**
    * @return the listener to properly handle updates to the cache.
    */
@@ -113,9 +186,9 @@ public abstract class CachingDAO<D extends AbstractEntityDAO<T, L, E>, T extends
   }
 
   /**
-   * @return the cache implementation (Map).
+   * @return the cache implementation (Map with primitive long keys).
    */
-  protected final ConcurrentMap<Long, T> getCache() {
+  protected final ConcurrentLongMap<T> getCache() {
     return fCache;
   }
 
@@ -123,6 +196,9 @@ public abstract class CachingDAO<D extends AbstractEntityDAO<T, L, E>, T extends
    * @see org.rssowl.core.persist.dao.IEntityDAO#exists(long)
    */
   public final boolean exists(long id) throws PersistenceException {
+    if (fBoundedCache != null)
+      return fBoundedCache.exists(id);
+
     return fCache.containsKey(id);
   }
 
@@ -130,13 +206,33 @@ public abstract class CachingDAO<D extends AbstractEntityDAO<T, L, E>, T extends
    * @see org.rssowl.core.persist.dao.IEntityDAO#load(long)
    */
   public final T load(long id) throws PersistenceException {
+    if (fBoundedCache != null)
+      return fBoundedCache.load(id);
+
     return fCache.get(id);
   }
 
+  /*
+   * @see org.rssowl.core.persist.dao.IEntityDAO#loadAll(long[])
+   */
+  public final List<T> loadAll(long[] ids) throws PersistenceException {
+    List<T> entities = new ArrayList<T>(ids.length);
+    for (long id : ids) {
+      T entity = load(id);
+      if (entity != null)
+        entities.add(entity);
+    }
+
+    return entities;
+  }
+
   /*
    * @see org.rssowl.core.persist.dao.IPersistableDAO#loadAll()
    */
   public final Collection<T> loadAll() throws PersistenceException {
+    if (fBoundedCache != null)
+      return fDAO.loadAll();
+
     return Collections.unmodifiableCollection(fCache.values());
   }
 
@@ -152,6 +248,9 @@ public abstract class CachingDAO<D extends AbstractEntityDAO<T, L, E>, T extends
    * @see org.rssowl.core.persist.dao.IPersistableDAO#countAll()
    */
   public final long countAll() throws PersistenceException {
+    if (fBoundedCache != null)
+      return fDAO.countAll();
+
     return fCache.size();
   }
 
@@ -89,14 +89,14 @@ public class CachingFolderDAO extends CachingDAO<FolderDAOImpl, IFolder, FolderL
       Collection<IFolder> roots = getDAO().loadRoots();
       for (IFolder folder : roots) {
         fRootFolders.put(folder, PRESENT);
-        getCache().put(folder.getId(), folder);
+        cache(folder);
       }
 
       /* Cache all Folders from Roots */
       Set<IFolder> folders = new HashSet<IFolder>();
       CoreUtils.fillFolders(folders, roots);
       for (IFolder folder : folders) {
-        getCache().put(folder.getId(), folder);
+        cache(folder);
       }
     }
   }
@@ -110,7 +110,7 @@ public class CachingFolderDAO extends CachingDAO<FolderDAOImpl, IFolder, FolderL
       public void entitiesAdded(Set<FolderEvent> events) {
         for (FolderEvent folderEvent : events) {
           IFolder folder = folderEvent.getEntity();
-          getCache().put(folder.getId(), folder);
+          cache(folder);
           if (folder.getParent() == null)
             fRootFolders.put(folder, PRESENT);
         }
@@ -119,7 +119,7 @@ public class CachingFolderDAO extends CachingDAO<FolderDAOImpl, IFolder, FolderL
       public void entitiesDeleted(Set<FolderEvent> events) {
         for (FolderEvent folderEvent : events) {
           IFolder folder = folderEvent.getEntity();
-          getCache().remove(folder.getId(), folder);
+          uncache(folder);
           if (folder.getParent() == null)
             fRootFolders.remove(folder);
         }
@@ -49,12 +49,12 @@ public class CachingLabelDAO extends CachingDAO<LabelDAOImpl, ILabel, LabelListe
 
       public void entitiesAdded(Set<LabelEvent> events) {
         for (LabelEvent event : events)
-          getCache().put(event.getEntity().getId(), event.getEntity());
+          cache(event.getEntity());
       }
 
       public void entitiesDeleted(Set<LabelEvent> events) {
         for (LabelEvent event : events)
-          getCache().remove(event.getEntity().getId(), event.getEntity());
+          uncache(event.getEntity());
       }
 
       public void entitiesUpdated(Set<LabelEvent> events) {
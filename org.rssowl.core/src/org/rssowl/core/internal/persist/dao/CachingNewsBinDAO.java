@@ -44,7 +44,7 @@ import java.util.Set;
 public final class CachingNewsBinDAO extends CachingDAO<NewsBinDaoImpl, INewsBin, NewsBinListener, NewsBinEvent> implements INewsBinDAO {
 
   public CachingNewsBinDAO() {
-    super(new NewsBinDaoImpl());
+    super(new NewsBinDaoImpl(), true);
   }
 
   /*
@@ -62,7 +62,7 @@ public final class CachingNewsBinDAO extends CachingDAO<NewsBinDaoImpl, INewsBin
       Set<INewsBin> newsbins = new HashSet<INewsBin>();
       CoreUtils.fillNewsBins(newsbins, roots);
       for (INewsBin newsbin : newsbins) {
-        getCache().put(newsbin.getId(), newsbin);
+        cache(newsbin);
       }
     }
   }
@@ -75,12 +75,12 @@ public final class CachingNewsBinDAO extends CachingDAO<NewsBinDaoImpl, INewsBin
     return new NewsBinListener() {
       public void entitiesAdded(Set<NewsBinEvent> events) {
         for (NewsBinEvent event : events)
-          getCache().put(event.getEntity().getId(), event.getEntity());
+          cache(event.getEntity());
       }
 
       public void entitiesDeleted(Set<NewsBinEvent> events) {
         for (NewsBinEvent event : events)
-          getCache().remove(event.getEntity().getId(), event.getEntity());
+          uncache(event.getEntity());
       }
 
       public void entitiesUpdated(Set<NewsBinEvent> events) {
@@ -49,12 +49,12 @@ public class CachingSearchDAO extends CachingDAO<SearchDAOImpl, ISearch, SearchL
 
       public void entitiesAdded(Set<SearchEvent> events) {
         for (SearchEvent event : events)
-          getCache().put(event.getEntity().getId(), event.getEntity());
+          cache(event.getEntity());
       }
 
       public void entitiesDeleted(Set<SearchEvent> events) {
         for (SearchEvent event : events)
-          getCache().remove(event.getEntity().getId(), event.getEntity());
+          uncache(event.getEntity());
       }
 
       public void entitiesUpdated(Set<SearchEvent> events) {
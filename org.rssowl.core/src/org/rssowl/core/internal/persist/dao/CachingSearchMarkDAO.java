@@ -45,7 +45,7 @@ import java.util.Set;
 public class CachingSearchMarkDAO extends CachingDAO<SearchMarkDAOImpl, ISearchMark, SearchMarkListener, SearchMarkEvent> implements ISearchMarkDAO {
 
   public CachingSearchMarkDAO() {
-    super(new SearchMarkDAOImpl());
+    super(new SearchMarkDAOImpl(), true);
   }
 
   /*
@@ -63,7 +63,7 @@ public class CachingSearchMarkDAO extends CachingDAO<SearchMarkDAOImpl, ISearchM
       Set<ISearchMark> searchmarks = new HashSet<ISearchMark>();
       CoreUtils.fillSearchMarks(searchmarks, roots);
       for (ISearchMark searchmark : searchmarks) {
-        getCache().put(searchmark.getId(), searchmark);
+        cache(searchmark);
       }
     }
   }
@@ -76,12 +76,12 @@ public class CachingSearchMarkDAO extends CachingDAO<SearchMarkDAOImpl, ISearchM
     return new SearchMarkListener() {
       public void entitiesAdded(Set<SearchMarkEvent> events) {
         for (SearchMarkEvent event : events)
-          getCache().put(event.getEntity().getId(), event.getEntity());
+          cache(event.getEntity());
       }
 
       public void entitiesDeleted(Set<SearchMarkEvent> events) {
         for (SearchMarkEvent event : events)
-          getCache().remove(event.getEntity().getId(), event.getEntity());
+          uncache(event.getEntity());
       }
 
       public void entitiesUpdated(Set<SearchMarkEvent> events) {
@@ -107,6 +107,9 @@ public class CachingSearchMarkDAO extends CachingDAO<SearchMarkDAOImpl, ISearchM
    * .ISearchCondition)
    */
   public ISearchMark load(ISearchCondition searchCondition) {
+    if (!isCachingAll())
+      return getDAO().load(searchCondition);
+
     for (ISearchMark mark : getCache().values()) {
       if (mark.containsSearchCondition(searchCondition))
         return mark;
@@ -25,9 +25,17 @@
 package org.rssowl.core.internal.persist.dao;
 
 import org.rssowl.core.internal.persist.Description;
+import org.rssowl.core.internal.persist.service.DBHelper;
+import org.rssowl.core.persist.service.PersistenceException;
 
+import com.db4o.ext.Db4oException;
 import com.db4o.query.Query;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * A data-access-object for <code>Description</code>s.
  */
@@ -57,6 +65,41 @@ public class DescriptionDAOImpl extends AbstractPersistableDAO<Description> impl
     return description == null ? null : description.getValue();
   }
 
+  /*
+   * @see org.rssowl.core.internal.persist.dao.IDescriptionDAO#loadValues(long[])
+   */
+  public Map<Long, String> loadValues(long[] newsIds) {
+    final Map<Long, String> values = new HashMap<Long, String>(newsIds.length);
+    if (newsIds.length == 0)
+      return values;
+
+    try {
+      final long[] sortedIds = newsIds.clone();
+      Arrays.sort(sortedIds);
+
+      /* Load descriptions of news that are close to each other with a single range query */
+      DBHelper.queryRanges(fDb, Description.class, "fNewsId", sortedIds, new DBHelper.RangeQueryCallback<Description>() { //$NON-NLS-1$
+        public void handle(List<Description> descriptions) {
+
+          /* The Range can contain Descriptions that have not been asked for */
+          for (Description description : descriptions) {
+            long newsId = description.getNews().getId();
+            if (Arrays.binarySearch(sortedIds, newsId) >= 0) {
+              fDb.activate(description, Integer.MAX_VALUE);
+              String value = description.getValue();
+              if (value != null)
+                values.put(newsId, value);
+            }
+          }
+        }
+      });
+
+      return values;
+    } catch (Db4oException e) {
+      throw new PersistenceException(e);
+    }
+  }
+
   /*
    * @see
    * org.rssowl.core.internal.persist.dao.AbstractPersistableDAO#preCommit()
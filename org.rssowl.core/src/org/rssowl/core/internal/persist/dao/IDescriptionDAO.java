@@ -27,6 +27,8 @@ package org.rssowl.core.internal.persist.dao;
 import org.rssowl.core.internal.persist.Description;
 import org.rssowl.core.persist.dao.IPersistableDAO;
 
+import java.util.Map;
+
 /**
  * A data-access-object for <code>Description</code>s.
  */
@@ -43,4 +45,11 @@ public interface IDescriptionDAO extends IPersistableDAO<Description> {
    * @return the textual content of the resolved {@link Description}.
    */
   public String loadValue(long newsId);
+
+  /**
+   * @param newsIds the identifiers of the news the descriptions belong to
+   * @return a map of news identifier to the textual content of the resolved
+   * {@link Description}. News without description are not contained.
+   */
+  public Map<Long, String> loadValues(long[] newsIds);
 }
\ No newline at end of file
@@ -35,7 +35,6 @@ import org.rssowl.core.persist.dao.INewsCounterDAO;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.EnumSet;
 import java.util.List;
 
 /**
@@ -60,6 +59,13 @@ public final class NewsCounterDAOImpl extends AbstractPersistableDAO<NewsCounter
   protected void onDatabaseOpened(DatabaseEvent event) {
     super.onDatabaseOpened(event);
     NewsCounter newsCounter = doLoad();
+
+    /* Counter from a previous Version without Counts per State */
+    if (newsCounter != null && !newsCounter.hasStateCounters()) {
+      super.delete(newsCounter);
+      newsCounter = null;
+    }
+
     if (newsCounter == null) {
       newsCounter = doCountAll();
       save(newsCounter);
@@ -116,21 +122,18 @@ public final class NewsCounterDAOImpl extends AbstractPersistableDAO<NewsCounter
   }
 
   private NewsCounterItem doCount(IFeed feed) {
-    NewsCounterItem counterItem = new NewsCounterItem();
+    int[] stateCounters = new int[INews.State.values().length];
+    int stickyCounter = 0;
 
-    List<INews> newsList = feed.getVisibleNews();
+    List<INews> newsList = feed.getNews();
     for (INews news : newsList) {
-      if (EnumSet.of(INews.State.NEW, INews.State.UNREAD, INews.State.UPDATED).contains(news.getState()))
-        counterItem.incrementUnreadCounter();
-
-      if (INews.State.NEW.equals(news.getState()))
-        counterItem.incrementNewCounter();
+      ++stateCounters[news.getState().ordinal()];
 
-      if (news.isFlagged())
-        counterItem.incrementStickyCounter();
+      if (news.isFlagged() && news.isVisible())
+        ++stickyCounter;
     }
 
-    return counterItem;
+    return new NewsCounterItem(stateCounters, stickyCounter);
   }
 
   /*
@@ -25,20 +25,18 @@
 package org.rssowl.core.internal.persist.dao;
 
 import org.eclipse.core.runtime.Assert;
-import org.rssowl.core.Owl;
 import org.rssowl.core.internal.persist.LazyList;
 import org.rssowl.core.internal.persist.News;
-import org.rssowl.core.internal.persist.search.ModelSearchImpl;
+import org.rssowl.core.internal.persist.NewsEquivalenceEntry;
 import org.rssowl.core.internal.persist.service.DBHelper;
+import org.rssowl.core.internal.persist.service.NewsEquivalenceService;
 import org.rssowl.core.persist.INews;
 import org.rssowl.core.persist.INews.State;
 import org.rssowl.core.persist.dao.INewsDAO;
 import org.rssowl.core.persist.event.NewsEvent;
 import org.rssowl.core.persist.event.NewsListener;
 import org.rssowl.core.persist.reference.FeedLinkReference;
-import org.rssowl.core.persist.reference.NewsReference;
 import org.rssowl.core.persist.service.PersistenceException;
-import org.rssowl.core.util.CoreUtils;
 
 import com.db4o.ext.Db4oException;
 import com.db4o.query.Constraint;
@@ -48,9 +46,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -151,6 +151,7 @@ public final class NewsDAOImpl extends AbstractEntityDAO<INews, NewsListener, Ne
          */
         int capacity = news.size() + (news.size() / 4);
         changedNews = new HashSet<INews>(capacity);
+        Map<String, List<INews>> equivalentNewsByKey = findEquivalentNews(news);
         for (INews newsItem : news) {
           if (newsItem.getId() == null)
             throw new IllegalArgumentException("newsItem was never saved to the database"); //$NON-NLS-1$
@@ -161,30 +162,17 @@ public final class NewsDAOImpl extends AbstractEntityDAO<INews, NewsListener, Ne
           if (!newsItem.isVisible() && affectEquivalentNews)
             continue; //It is possible that another thread marked the news as deleted meanwhile, in this case, continue.
 
-          List<INews> equivalentNews;
+          List<INews> equivalentNews = null;
 
-          /* Not supported for news inside bins */
-          if (newsItem.getParentId() != 0)
-            equivalentNews = Collections.singletonList(newsItem);
-
-          /* Search equivalent news by GUID */
-          else if (newsItem.getGuid() != null && newsItem.getGuid().isPermaLink()) {
-            equivalentNews = getNewsFromGuid(newsItem, true);
-            if (equivalentNews.isEmpty()) {
-              throw createIllegalException("No news were found with guid: " + newsItem.getGuid().getValue(), newsItem); //$NON-NLS-1$
-            }
-          }
-
-          /* Search equivalent news by Link */
-          else if (newsItem.getLinkAsText() != null) {
-            equivalentNews = getNewsFromLink(newsItem, true);
-            if (equivalentNews.isEmpty()) {
-              throw createIllegalException("No news were found with link: " + newsItem.getLinkAsText(), newsItem); //$NON-NLS-1$
-            }
+          /* Equivalent news by GUID or Link (not supported for news inside bins) */
+          if (newsItem.getParentId() == 0) {
+            String key = NewsEquivalenceEntry.getLookupKey(newsItem);
+            if (key != null)
+              equivalentNews = equivalentNewsByKey.get(key);
           }
 
           /* No equivalent news at all */
-          else
+          if (equivalentNews == null)
             equivalentNews = Collections.singletonList(newsItem);
 
           changedNews.addAll(setState(equivalentNews, state, force));
@@ -220,22 +208,6 @@ public final class NewsDAOImpl extends AbstractEntityDAO<INews, NewsListener, Ne
     }
   }
 
-  private RuntimeException createIllegalException(String message, INews newsItem) {
-    News dbNews = (News) DBHelper.peekPersistedNews(fDb, newsItem);
-    if (dbNews == null)
-      return new IllegalArgumentException("The news has been deleted from the persistence layer: " + newsItem); //$NON-NLS-1$
-
-    return new IllegalStateException(message + ". This news in the db looks like: " + dbNews.toLongString()); //$NON-NLS-1$
-  }
-
-  private List<INews> getNewsFromLink(INews newsItem, boolean newsSaved) {
-    return searchNews(newsItem, false, newsSaved);
-  }
-
-  private List<INews> getNewsFromGuid(INews newsItem, boolean newsSaved) {
-    return searchNews(newsItem, true, newsSaved);
-  }
-
   /*
    * @see
    * org.rssowl.core.internal.persist.dao.AbstractPersistableDAO#saveAll(java
@@ -249,53 +221,75 @@ public final class NewsDAOImpl extends AbstractEntityDAO<INews, NewsListener, Ne
     super.saveAll(map.keySet());
   }
 
-  private List<INews> searchNews(INews newsItem, boolean guid, boolean newsSaved) {
-    List<INews> news = doSearchNews(newsItem, guid);
-    if (!newsSaved)
-      return news;
+  /*
+   * Finds the visible equivalent news of the given news by GUID or Link. There
+   * is one lookup in the persistent equivalence index per distinct key and all
+   * news found are loaded in one batch. The given news are always part of the
+   * result for their own key.
+   */
+  private Map<String, List<INews>> findEquivalentNews(Collection<INews> news) {
+    Map<String, List<INews>> equivalentNews = new HashMap<String, List<INews>>();
+    Set<Long> knownIds = new HashSet<Long>(news.size());
+    for (INews newsItem : news) {
+      if (newsItem.getId() == null || newsItem.getParentId() != 0 || !newsItem.isVisible())
+        continue;
 
-    if (news.contains(newsItem))
-      return news;
+      String key = NewsEquivalenceEntry.getLookupKey(newsItem);
+      if (key == null || !knownIds.add(newsItem.getId()))
+        continue;
 
-    //TODO Get EntityIdsByEventType and check if the news is in there
-    try {
-      Thread.sleep(50);
-    } catch (InterruptedException e) {
-      /*
-       * If we're interrupted we act just as if the sleep time had finished
-       * since it's a short operation.
-       */
+      List<INews> newsWithKey = equivalentNews.get(key);
+      if (newsWithKey == null) {
+        newsWithKey = new ArrayList<INews>(2);
+        equivalentNews.put(key, newsWithKey);
+      }
+      newsWithKey.add(newsItem);
     }
 
-    news = doSearchNews(newsItem, guid);
-    if (!news.contains(newsItem))
-      news.add(newsItem);
-
-    return news;
-  }
+    /* Lookup other news with the same keys */
+    Map<String, List<Long>> keyToIds = new HashMap<String, List<Long>>(equivalentNews.size());
+    Set<Long> idsToLoad = new HashSet<Long>();
+    Map<String, List<NewsEquivalenceEntry>> entries = NewsEquivalenceService.loadEntries(fDb, equivalentNews.keySet());
+    for (Map.Entry<String, List<NewsEquivalenceEntry>> entriesWithKey : entries.entrySet()) {
+      String key = entriesWithKey.getKey();
+      for (NewsEquivalenceEntry entry : entriesWithKey.getValue()) {
+        Long id = entry.getNewsId();
+        if (knownIds.contains(id))
+          continue;
+
+        List<Long> ids = keyToIds.get(key);
+        if (ids == null) {
+          ids = new ArrayList<Long>(2);
+          keyToIds.put(key, ids);
+        }
+        ids.add(id);
+        idsToLoad.add(id);
+      }
+    }
 
-  private List<INews> doSearchNews(INews newsItem, boolean guid) {
-    ModelSearchImpl modelSearch = (ModelSearchImpl) Owl.getPersistenceService().getModelSearch();
-    List<NewsReference> hits;
-    if (guid)
-      hits = modelSearch.searchNewsByGuid(newsItem.getGuid(), false);
-    else
-      hits = modelSearch.searchNewsByLink(newsItem.getLink(), false);
-
-    List<INews> news = new ArrayList<INews>(hits.size());
-    for (NewsReference hit : hits) {
-      if (newsItem.getId() != null && (hit.getId() == newsItem.getId().longValue()))
-        news.add(newsItem);
-      else {
-        INews resolvedNewsItem = hit.resolve();
-        if (resolvedNewsItem != null && resolvedNewsItem.isVisible())
-          news.add(resolvedNewsItem);
-        else
-          CoreUtils.reportIndexIssue();
+    if (idsToLoad.isEmpty())
+      return equivalentNews;
+
+    /* Load all of them at once */
+    long[] ids = new long[idsToLoad.size()];
+    int i = 0;
+    for (Long id : idsToLoad)
+      ids[i++] = id;
+
+    Map<Long, INews> loadedNews = new HashMap<Long, INews>(ids.length);
+    for (INews newsItem : loadAll(ids))
+      loadedNews.put(newsItem.getId(), newsItem);
+
+    for (Map.Entry<String, List<Long>> entry : keyToIds.entrySet()) {
+      List<INews> newsWithKey = equivalentNews.get(entry.getKey());
+      for (Long id : entry.getValue()) {
+        INews newsItem = loadedNews.get(id);
+        if (newsItem != null && newsItem.isVisible())
+          newsWithKey.add(newsItem);
       }
     }
 
-    return news;
+    return equivalentNews;
   }
 
   private Set<INews> setState(Collection<INews> news, State state, boolean force) {
@@ -375,4 +369,11 @@ public final class NewsDAOImpl extends AbstractEntityDAO<INews, NewsListener, Ne
       throw DBHelper.rollbackAndPE(fDb, e);
     }
   }
+
+  /*
+   * @see org.rssowl.core.persist.dao.INewsDAO#loadDescriptions(long[])
+   */
+  public Map<Long, String> loadDescriptions(long[] newsIds) throws PersistenceException {
+    return DBHelper.getDescriptionDAO().loadValues(newsIds);
+  }
 }
\ No newline at end of file
@@ -31,6 +31,8 @@ public class Messages extends NLS {
   public static String Migration2To3_MIGRATING_DATA;
   public static String Migration2To5_MIGRATING_DATA;
   public static String Migration3To4_MIGRATING_DATA;
+  public static String Migration5To6_MIGRATING_DATA;
+  public static String Migration6To7_MIGRATING_DATA;
 
   private Messages() {}
 
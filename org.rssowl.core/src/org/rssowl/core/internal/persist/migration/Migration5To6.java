@@ -0,0 +1,94 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2009 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.internal.persist.migration;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.rssowl.core.internal.persist.News;
+import org.rssowl.core.internal.persist.service.ConfigurationFactory;
+import org.rssowl.core.internal.persist.service.Migration;
+import org.rssowl.core.internal.persist.service.NewsEquivalenceService;
+
+import com.db4o.Db4o;
+import com.db4o.ObjectContainer;
+import com.db4o.ObjectSet;
+import com.db4o.query.Query;
+
+/**
+ * Migration from version 5 (2.0M8) to version 6, which adds the persistent
+ * index of news by GUID and Link used to find equivalent news.
+ */
+public class Migration5To6 implements Migration {
+
+  /*
+   * @see
+   * org.rssowl.core.internal.persist.service.Migration#getDestinationFormat()
+   */
+  public int getDestinationFormat() {
+    return 6;
+  }
+
+  /*
+   * @see org.rssowl.core.internal.persist.service.Migration#getOriginFormat()
+   */
+  public int getOriginFormat() {
+    return 5;
+  }
+
+  /*
+   * @see
+   * org.rssowl.core.internal.persist.service.Migration#migrate(org.rssowl.core
+   * .internal.persist.service.ConfigurationFactory, java.lang.String,
+   * org.eclipse.core.runtime.IProgressMonitor)
+   */
+  public MigrationResult migrate(ConfigurationFactory configFactory, String dbFileName, IProgressMonitor progressMonitor) {
+    ObjectContainer oc = Db4o.openFile(configFactory.createConfiguration(), dbFileName);
+    try {
+      Query query = oc.query();
+      query.constrain(News.class);
+      query.descend("fParentId").constrain(0); //$NON-NLS-1$
+
+      @SuppressWarnings("unchecked")
+      ObjectSet<News> allNews = query.execute();
+      progressMonitor.beginTask(Messages.Migration5To6_MIGRATING_DATA, allNews.size());
+
+      int newsCounter = 0;
+      for (News news : allNews) {
+        NewsEquivalenceService.addEntries(oc, news);
+
+        /* Commit in chunks to limit the memory in use */
+        if (++newsCounter % 1000 == 0)
+          oc.commit();
+
+        progressMonitor.worked(1);
+      }
+
+      oc.commit();
+    } finally {
+      oc.close();
+    }
+
+    return new MigrationResult(false, false, false);
+  }
+}
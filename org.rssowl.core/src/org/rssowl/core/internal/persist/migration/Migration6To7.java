@@ -0,0 +1,93 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2009 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.internal.persist.migration;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.rssowl.core.internal.persist.Description;
+import org.rssowl.core.internal.persist.service.ConfigurationFactory;
+import org.rssowl.core.internal.persist.service.Migration;
+
+import com.db4o.Db4o;
+import com.db4o.ObjectContainer;
+import com.db4o.ObjectSet;
+
+/**
+ * Migration from version 6 to version 7, which stores large descriptions
+ * compressed. The database is defragmented afterwards to give the space of the
+ * uncompressed descriptions back.
+ */
+public class Migration6To7 implements Migration {
+
+  /*
+   * @see
+   * org.rssowl.core.internal.persist.service.Migration#getDestinationFormat()
+   */
+  public int getDestinationFormat() {
+    return 7;
+  }
+
+  /*
+   * @see org.rssowl.core.internal.persist.service.Migration#getOriginFormat()
+   */
+  public int getOriginFormat() {
+    return 6;
+  }
+
+  /*
+   * @see
+   * org.rssowl.core.internal.persist.service.Migration#migrate(org.rssowl.core
+   * .internal.persist.service.ConfigurationFactory, java.lang.String,
+   * org.eclipse.core.runtime.IProgressMonitor)
+   */
+  public MigrationResult migrate(ConfigurationFactory configFactory, String dbFileName, IProgressMonitor progressMonitor) {
+    ObjectContainer oc = Db4o.openFile(configFactory.createConfiguration(), dbFileName);
+    try {
+      ObjectSet<Description> allDescriptions = oc.query(Description.class);
+      progressMonitor.beginTask(Messages.Migration6To7_MIGRATING_DATA, allDescriptions.size());
+
+      int descriptionCounter = 0;
+      for (Description description : allDescriptions) {
+        oc.activate(description, Integer.MAX_VALUE);
+        if (!description.isCompressed()) {
+          description.setDescription(description.getValue());
+          if (description.isCompressed())
+            oc.set(description);
+        }
+
+        /* Commit in chunks to limit the memory in use */
+        if (++descriptionCounter % 1000 == 0)
+          oc.commit();
+
+        progressMonitor.worked(1);
+      }
+
+      oc.commit();
+    } finally {
+      oc.close();
+    }
+
+    return new MigrationResult(false, false, true);
+  }
+}
@@ -98,7 +98,7 @@ public final class Migrations {
    * Creates an instance of this object.
    */
   public Migrations() {
-    fMigrations = Arrays.<Migration> asList(new Migration2To3(), new Migration3To4(), new Migration4To5(), new Migration2To5());
+    fMigrations = Arrays.<Migration> asList(new Migration2To3(), new Migration3To4(), new Migration4To5(), new Migration2To5(), new Migration5To6(), new Migration6To7());
   }
 
   public Migrations(Migration... migrations) {
@@ -76,6 +76,13 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The Indexer takes care to update the index for {@link SearchDocument} to be
@@ -92,6 +99,18 @@ public class Indexer {
   /* Lucene only allows 1 Indexer to run at the same time */
   private static final int MAX_INDEX_JOBS_COUNT = 1;
 
+  /* Number of Threads building and adding Documents in parallel */
+  private static final int DOCUMENT_BUILDERS = CoreUtils.getIntProperty("rssowl.index.threads", Runtime.getRuntime().availableProcessors()); //$NON-NLS-1$
+
+  /* Minimum number of News to index before Documents are built in parallel */
+  private static final int MIN_PARALLEL_DOCUMENTS = 16;
+
+  /* Memory in MB to buffer added Documents before writing a Segment */
+  private static final int RAM_BUFFER_SIZE = CoreUtils.getIntProperty("rssowl.index.rambuffer", 16); //$NON-NLS-1$
+
+  /* Number of Segments of equal size before they are merged */
+  private static final int MERGE_FACTOR = CoreUtils.getIntProperty("rssowl.index.mergefactor", 6); //$NON-NLS-1$
+
   /* DWord to disable stop words when Indexing */
   private static final String DISABLE_STOP_WORDS_PROPERTY = "disableStopWords"; //$NON-NLS-1$
   static final boolean DISABLE_STOP_WORDS = System.getProperty(DISABLE_STOP_WORDS_PROPERTY) != null;
@@ -108,6 +127,7 @@ public class Indexer {
   private final ModelSearchImpl fSearch;
   private final EntityIdsByEventType fUncommittedNews;
   private volatile boolean fFlushRequired;
+  private ExecutorService fDocumentBuilders;
 
   /* The Default Analyzer */
   private static class DefaultAnalyzer extends KeywordAnalyzer {
@@ -161,37 +181,22 @@ public class Indexer {
   synchronized void index(List<INews> entities, boolean isUpdate, boolean acid) {
     int docCount = 0;
 
+    /* Build and add the Documents in parallel (IndexWriter is thread safe) */
+    if (DOCUMENT_BUILDERS > 1 && entities.size() >= MIN_PARALLEL_DOCUMENTS)
+      docCount = indexInParallel(entities, isUpdate, acid);
+
     /* For each Event */
-    for (ListIterator<INews> it = entities.listIterator(entities.size()); it.hasPrevious();) {
-      INews news = it.previous();
-      it.remove();
+    else {
+      for (ListIterator<INews> it = entities.listIterator(entities.size()); it.hasPrevious();) {
+        INews news = it.previous();
+        it.remove();
 
-      /* React on shutting down while indexing */
-      if (Owl.isShuttingDown())
-        break;
+        /* React on shutting down while indexing */
+        if (Owl.isShuttingDown())
+          break;
 
-      NewsDocument newsDoc = new NewsDocument(news);
-      try {
-        if (newsDoc.addFields()) {
+        if (addDocument(news, isUpdate, acid))
           docCount++;
-
-          /* Update Event */
-          if (isUpdate) {
-            Term term = createTerm(news);
-            if (acid)
-              fUncommittedNews.addUpdatedEntity(news);
-            fIndexWriter.updateDocument(term, newsDoc.getDocument());
-          }
-
-          /* Added Event */
-          else {
-            if (acid)
-              fUncommittedNews.addPersistedEntity(news);
-            fIndexWriter.addDocument(newsDoc.getDocument());
-          }
-        }
-      } catch (IOException e) {
-        Activator.getDefault().getLog().log(Activator.getDefault().createErrorStatus(e.getMessage(), e));
       }
     }
 
@@ -210,6 +215,109 @@ public class Indexer {
     }
   }
 
+  private boolean addDocument(INews news, boolean isUpdate, boolean acid) {
+    NewsDocument newsDoc = new NewsDocument(news);
+    try {
+      if (newsDoc.addFields()) {
+
+        /* Update Event */
+        if (isUpdate) {
+          Term term = createTerm(news);
+          if (acid)
+            fUncommittedNews.addUpdatedEntity(news);
+          fIndexWriter.updateDocument(term, newsDoc.getDocument());
+        }
+
+        /* Added Event */
+        else {
+          if (acid)
+            fUncommittedNews.addPersistedEntity(news);
+          fIndexWriter.addDocument(newsDoc.getDocument());
+        }
+
+        return true;
+      }
+    } catch (IOException e) {
+      Activator.getDefault().getLog().log(Activator.getDefault().createErrorStatus(e.getMessage(), e));
+    }
+
+    return false;
+  }
+
+  /*
+   * Distributes the News over the Document Builders. The caller holds the lock
+   * of the Indexer, so the IndexWriter can not change until all Builders are
+   * done.
+   */
+  private int indexInParallel(List<INews> entities, final boolean isUpdate, final boolean acid) {
+    final INews[] newsToIndex = entities.toArray(new INews[entities.size()]);
+    entities.clear();
+
+    if (fDocumentBuilders == null)
+      fDocumentBuilders = createDocumentBuilders();
+
+    final AtomicInteger nextIndex = new AtomicInteger();
+    List<Future<Integer>> results = new ArrayList<Future<Integer>>(DOCUMENT_BUILDERS);
+    for (int i = 0; i < DOCUMENT_BUILDERS; i++) {
+      results.add(fDocumentBuilders.submit(new Callable<Integer>() {
+        public Integer call() {
+          int docCount = 0;
+          int index;
+          while ((index = nextIndex.getAndIncrement()) < newsToIndex.length) {
+
+            /* React on shutting down while indexing */
+            if (Owl.isShuttingDown())
+              break;
+
+            if (addDocument(newsToIndex[index], isUpdate, acid))
+              docCount++;
+          }
+
+          return docCount;
+        }
+      }));
+    }
+
+    /* Wait for all Builders even if interrupted since they use the IndexWriter */
+    int docCount = 0;
+    boolean interrupted = false;
+    RuntimeException failure = null;
+    for (Future<Integer> result : results) {
+      while (true) {
+        try {
+          docCount += result.get();
+          break;
+        } catch (InterruptedException e) {
+          interrupted = true;
+        } catch (ExecutionException e) {
+          if (failure == null)
+            failure = (e.getCause() instanceof RuntimeException) ? (RuntimeException) e.getCause() : new PersistenceException(e.getCause());
+          break;
+        }
+      }
+    }
+
+    if (interrupted)
+      Thread.currentThread().interrupt();
+
+    if (failure != null)
+      throw failure;
+
+    return docCount;
+  }
+
+  private ExecutorService createDocumentBuilders() {
+    return Executors.newFixedThreadPool(DOCUMENT_BUILDERS, new ThreadFactory() {
+      private final AtomicInteger fCount = new AtomicInteger();
+
+      public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "RSSOwl Index Document Builder " + fCount.incrementAndGet()); //$NON-NLS-1$
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+  }
+
   /**
    * Remove Entities from the Index.
    */
@@ -272,6 +380,11 @@ public class Indexer {
 
     dispose();
 
+    if (fDocumentBuilders != null) {
+      fDocumentBuilders.shutdown();
+      fDocumentBuilders = null;
+    }
+
     if (!emergency) {
       saveCommittedNews(true, fUncommittedNews);
       fUncommittedNews.clear();
@@ -529,7 +642,8 @@ public class Indexer {
 
   private IndexWriter createIndexWriter(Directory directory, boolean create) throws IOException {
     IndexWriter indexWriter = new IndexWriter(directory, false, createAnalyzer(), create);
-    indexWriter.setMergeFactor(6);
+    indexWriter.setMergeFactor(MERGE_FACTOR);
+    indexWriter.setRAMBufferSizeMB(RAM_BUFFER_SIZE);
     fFlushRequired = false;
     return indexWriter;
   }
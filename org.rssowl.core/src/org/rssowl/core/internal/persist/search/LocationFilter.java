@@ -0,0 +1,385 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2009 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.internal.persist.search;
+
+import org.apache.lucene.document.NumberTools;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.index.TermDocs;
+import org.apache.lucene.index.TermEnum;
+import org.apache.lucene.search.ExtendedFieldCache;
+import org.apache.lucene.search.Filter;
+import org.rssowl.core.persist.IBookMark;
+import org.rssowl.core.persist.IFolder;
+import org.rssowl.core.persist.IMark;
+import org.rssowl.core.persist.INews;
+import org.rssowl.core.persist.INewsBin;
+import org.rssowl.core.persist.event.BookMarkEvent;
+import org.rssowl.core.persist.reference.BookMarkReference;
+import org.rssowl.core.persist.reference.FolderReference;
+import org.rssowl.core.persist.reference.NewsBinReference;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * A {@link Filter} that matches the News of a Location Condition: News of the
+ * Feeds of all BookMarks and News of all News Bins inside the selected Folders,
+ * BookMarks and News Bins. Unlike a Query with a Clause per BookMark, the cost
+ * of this Filter does not depend on the number of Clauses and can not exceed
+ * the maximum Clause Count.
+ * <p>
+ * Both the resolved Locations and the matching Documents per
+ * {@link IndexReader} are cached. The matching Documents are carried over to a
+ * reopened Reader via {@link #readerReopened(IndexReader, IndexReader)}, so
+ * that only added Documents are read. The resolved Locations have to be cleared
+ * via {@link #clearCache()} whenever Folders, BookMarks or News Bins are added,
+ * deleted or moved to a different parent.
+ * </p>
+ */
+final class LocationFilter extends Filter {
+
+  /* Filters are Serializable */
+  private static final long serialVersionUID = 1L;
+
+  /* Maximum Number of resolved Locations to cache */
+  private static final int MAX_CACHED_LOCATIONS = 256;
+
+  /* Value of the Parent ID Field of News that are not inside a News Bin */
+  private static final String NO_PARENT = NumberTools.longToString(0);
+
+  /* Resolved Locations by Value of the Location Condition */
+  private static final Map<String, LocationFilter> LOCATIONS = new HashMap<String, LocationFilter>();
+
+  /* Matching Documents of the Locations per Reader */
+  private static final Map<IndexReader, Map<LocationFilter, BitSet>> DOCUMENTS = Collections.synchronizedMap(new WeakHashMap<IndexReader, Map<LocationFilter, BitSet>>());
+
+  /* Feed Link of BookMarks that are part of cached Locations */
+  private static final Map<Long, String> BOOKMARK_FEEDS = new HashMap<Long, String>();
+
+  private final Set<String> fFeeds = new HashSet<String>();
+  private final Set<String> fNewsBins = new HashSet<String>();
+  private final Map<Long, String> fBookMarkFeeds = new HashMap<Long, String>();
+  private final int fHashCode;
+
+  private LocationFilter(Long[][] value) {
+    if (value != null) {
+
+      /* Receive Folders */
+      for (int i = 0; value[0] != null && i < value[0].length; i++) {
+        if (value[0][i] != null) {
+          IFolder folder = new FolderReference(value[0][i]).resolve();
+          if (folder != null)
+            addFolder(folder);
+        }
+      }
+
+      /* Receive BookMarks */
+      for (int i = 0; value[1] != null && i < value[1].length; i++) {
+        if (value[1][i] != null) {
+          IBookMark bookmark = new BookMarkReference(value[1][i]).resolve();
+          if (bookmark != null)
+            addBookMark(bookmark);
+        }
+      }
+
+      /* Receive NewsBins */
+      if (value.length == 3) {
+        for (int i = 0; value[2] != null && i < value[2].length; i++) {
+          if (value[2][i] != null) {
+            INewsBin newsbin = new NewsBinReference(value[2][i]).resolve();
+            if (newsbin != null)
+              addNewsBin(newsbin);
+          }
+        }
+      }
+    }
+
+    fHashCode = 31 * fFeeds.hashCode() + fNewsBins.hashCode();
+  }
+
+  /**
+   * Returns the {@link LocationFilter} for the value of a Location Condition.
+   * The Folders, BookMarks and News Bins of the value are resolved only once
+   * until the cache is cleared.
+   *
+   * @param value the value of a Location Condition.
+   * @return the {@link LocationFilter} for the value of a Location Condition.
+   */
+  static LocationFilter getFilter(Long[][] value) {
+    String key = Arrays.deepToString(value);
+    synchronized (LOCATIONS) {
+      LocationFilter filter = LOCATIONS.get(key);
+      if (filter == null) {
+        filter = new LocationFilter(value);
+        if (LOCATIONS.size() >= MAX_CACHED_LOCATIONS)
+          clearCache();
+
+        LOCATIONS.put(key, filter);
+        BOOKMARK_FEEDS.putAll(filter.fBookMarkFeeds);
+      }
+
+      return filter;
+    }
+  }
+
+  /**
+   * Clears all resolved Locations. Needs to be called when Folders, BookMarks or
+   * News Bins are added, deleted or moved to a different parent.
+   */
+  static void clearCache() {
+    synchronized (LOCATIONS) {
+      LOCATIONS.clear();
+      BOOKMARK_FEEDS.clear();
+    }
+  }
+
+  /**
+   * Clears all resolved Locations in case any of the updated BookMarks moved to
+   * a different parent or points to a different Feed than when it was
+   * resolved.
+   *
+   * @param events the events of updated BookMarks.
+   */
+  static void bookMarksUpdated(Set<BookMarkEvent> events) {
+    synchronized (LOCATIONS) {
+      for (BookMarkEvent event : events) {
+        IBookMark bookmark = event.getEntity();
+        if (event.getOldParent() != null) {
+          clearCache();
+          return;
+        }
+
+        String feed = BOOKMARK_FEEDS.get(bookmark.getId());
+        if (feed != null && !feed.equals(toFeedTerm(bookmark))) {
+          clearCache();
+          return;
+        }
+      }
+    }
+  }
+
+  private void addFolder(IFolder folder) {
+
+    /* Child Folders */
+    for (IFolder childFolder : folder.getFolders())
+      addFolder(childFolder);
+
+    /* BookMarks and Newsbins */
+    for (IMark mark : folder.getMarks()) {
+      if (mark instanceof IBookMark)
+        addBookMark((IBookMark) mark);
+      else if (mark instanceof INewsBin)
+        addNewsBin((INewsBin) mark);
+    }
+  }
+
+  private void addBookMark(IBookMark bookmark) {
+    String feed = toFeedTerm(bookmark);
+    fFeeds.add(feed);
+    fBookMarkFeeds.put(bookmark.getId(), feed);
+  }
+
+  private void addNewsBin(INewsBin newsbin) {
+    fNewsBins.add(NumberTools.longToString(newsbin.getId()));
+  }
+
+  private static String toFeedTerm(IBookMark bookmark) {
+    return bookmark.getFeedLinkReference().getLinkAsText().toLowerCase();
+  }
+
+  /*
+   * @see org.apache.lucene.search.Filter#bits(org.apache.lucene.index.IndexReader)
+   */
+  @Override
+  public BitSet bits(IndexReader reader) throws IOException {
+    Map<LocationFilter, BitSet> readerDocuments;
+    synchronized (DOCUMENTS) {
+      readerDocuments = DOCUMENTS.get(reader);
+      if (readerDocuments == null) {
+        readerDocuments = new HashMap<LocationFilter, BitSet>();
+        DOCUMENTS.put(reader, readerDocuments);
+      }
+    }
+
+    synchronized (readerDocuments) {
+      BitSet documents = readerDocuments.get(this);
+      if (documents == null) {
+        documents = readDocuments(reader);
+        readerDocuments.put(this, documents);
+      }
+
+      return documents;
+    }
+  }
+
+  /**
+   * Carries the matching Documents of all Filters over from the given
+   * {@link IndexReader} to the one it was reopened as. This is only done if the
+   * Documents of the old Reader kept their numbers (i.e. no Segments were
+   * merged), in which case only the Documents that were added since are read.
+   *
+   * @param oldReader the {@link IndexReader} that was reopened.
+   * @param newReader the {@link IndexReader} it was reopened as.
+   * @throws IOException in case of an error reading from the Index.
+   */
+  static void readerReopened(IndexReader oldReader, IndexReader newReader) throws IOException {
+    Map<LocationFilter, BitSet> oldDocuments = DOCUMENTS.get(oldReader);
+    if (oldDocuments == null || !hasSameNumbers(oldReader, newReader))
+      return;
+
+    Map<LocationFilter, BitSet> copiedDocuments;
+    synchronized (oldDocuments) {
+      copiedDocuments = new HashMap<LocationFilter, BitSet>(oldDocuments);
+    }
+
+    int oldMaxDoc = oldReader.maxDoc();
+    Map<LocationFilter, BitSet> newDocuments = new HashMap<LocationFilter, BitSet>(copiedDocuments.size());
+    for (Map.Entry<LocationFilter, BitSet> entry : copiedDocuments.entrySet()) {
+      BitSet documents = (BitSet) entry.getValue().clone();
+      entry.getKey().readDocuments(newReader, oldMaxDoc, documents);
+      newDocuments.put(entry.getKey(), documents);
+    }
+
+    synchronized (DOCUMENTS) {
+      if (!DOCUMENTS.containsKey(newReader))
+        DOCUMENTS.put(newReader, newDocuments);
+    }
+  }
+
+  /*
+   * Documents keep their number unless Segments are merged, which removes the
+   * deleted Documents and shifts all following ones. This is detected from the
+   * identifiers: a number that belongs to a different (or a previously deleted)
+   * Document in the new Reader.
+   */
+  private static boolean hasSameNumbers(IndexReader oldReader, IndexReader newReader) throws IOException {
+    if (newReader.maxDoc() < oldReader.maxDoc())
+      return false;
+
+    long[] oldIds = ExtendedFieldCache.EXT_DEFAULT.getLongs(oldReader, SearchDocument.ENTITY_ID_TEXT);
+    long[] newIds = ExtendedFieldCache.EXT_DEFAULT.getLongs(newReader, SearchDocument.ENTITY_ID_TEXT);
+    for (int i = 0; i < oldIds.length; i++) {
+      if (newIds[i] != 0 && newIds[i] != oldIds[i])
+        return false;
+    }
+
+    return true;
+  }
+
+  private BitSet readDocuments(IndexReader reader) throws IOException {
+    BitSet documents = new BitSet(reader.maxDoc());
+    readDocuments(reader, 0, documents);
+    return documents;
+  }
+
+  /* Reads the matching Documents starting from the given Document number */
+  private void readDocuments(IndexReader reader, int from, BitSet documents) throws IOException {
+    if (fFeeds.isEmpty() && fNewsBins.isEmpty())
+      return;
+
+    TermDocs termDocs = reader.termDocs();
+    try {
+
+      /* Match on Feed */
+      String feedField = String.valueOf(INews.FEED);
+      for (String feed : fFeeds) {
+        termDocs.seek(new Term(feedField, feed));
+        if (termDocs.skipTo(from)) {
+          do {
+            documents.set(termDocs.doc());
+          } while (termDocs.next());
+        }
+      }
+
+      /* But ignore News from Bins unless the Bin is part of the Location */
+      String parentField = String.valueOf(INews.PARENT_ID);
+      TermEnum parentTerms = reader.terms(new Term(parentField, "")); //$NON-NLS-1$
+      try {
+        do {
+          Term term = parentTerms.term();
+          if (term == null || !parentField.equals(term.field()))
+            break;
+
+          if (NO_PARENT.equals(term.text()))
+            continue;
+
+          boolean isIncluded = fNewsBins.contains(term.text());
+          termDocs.seek(parentTerms);
+          if (termDocs.skipTo(from)) {
+            do {
+              if (isIncluded)
+                documents.set(termDocs.doc());
+              else
+                documents.clear(termDocs.doc());
+            } while (termDocs.next());
+          }
+        } while (parentTerms.next());
+      } finally {
+        parentTerms.close();
+      }
+    } finally {
+      termDocs.close();
+    }
+  }
+
+  /*
+   * @see java.lang.Object#hashCode()
+   */
+  @Override
+  public int hashCode() {
+    return fHashCode;
+  }
+
+  /*
+   * @see java.lang.Object#equals(java.lang.Object)
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj)
+      return true;
+
+    if (!(obj instanceof LocationFilter))
+      return false;
+
+    LocationFilter other = (LocationFilter) obj;
+    return fHashCode == other.fHashCode && fFeeds.equals(other.fFeeds) && fNewsBins.equals(other.fNewsBins);
+  }
+
+  /*
+   * @see java.lang.Object#toString()
+   */
+  @Override
+  public String toString() {
+    return "LocationFilter (Feeds: " + fFeeds.size() + ", News Bins: " + fNewsBins.size() + ")"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+  }
+}
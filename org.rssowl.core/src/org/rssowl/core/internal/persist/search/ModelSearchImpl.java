@@ -24,17 +24,16 @@
 
 package org.rssowl.core.internal.persist.search;
 
-import org.apache.lucene.document.Document;
 import org.apache.lucene.document.NumberTools;
 import org.apache.lucene.index.CorruptIndexException;
 import org.apache.lucene.index.IndexFileNameFilter;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanClause.Occur;
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.BooleanQuery.TooManyClauses;
-import org.apache.lucene.search.HitCollector;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
@@ -44,8 +43,14 @@ import org.apache.lucene.store.FSDirectory;
 import org.apache.lucene.store.LockFactory;
 import org.apache.lucene.store.LockObtainFailedException;
 import org.apache.lucene.store.NativeFSLockFactory;
+import org.apache.lucene.store.NoLockFactory;
+import org.apache.lucene.store.RAMDirectory;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.rssowl.core.Owl;
 import org.rssowl.core.internal.Activator;
 import org.rssowl.core.internal.InternalOwl;
 import org.rssowl.core.internal.persist.service.DBManager;
@@ -53,12 +58,20 @@ import org.rssowl.core.persist.IGuid;
 import org.rssowl.core.persist.INews;
 import org.rssowl.core.persist.ISearch;
 import org.rssowl.core.persist.ISearchCondition;
+import org.rssowl.core.persist.dao.DAOService;
 import org.rssowl.core.persist.dao.INewsDAO;
+import org.rssowl.core.persist.event.BookMarkEvent;
+import org.rssowl.core.persist.event.BookMarkListener;
+import org.rssowl.core.persist.event.FolderEvent;
+import org.rssowl.core.persist.event.FolderListener;
+import org.rssowl.core.persist.event.NewsBinEvent;
+import org.rssowl.core.persist.event.NewsBinListener;
 import org.rssowl.core.persist.reference.NewsReference;
 import org.rssowl.core.persist.service.IModelSearch;
 import org.rssowl.core.persist.service.IndexListener;
 import org.rssowl.core.persist.service.PersistenceException;
 import org.rssowl.core.persist.service.ProfileLockedException;
+import org.rssowl.core.util.CoreUtils;
 import org.rssowl.core.util.SearchHit;
 
 import java.io.File;
@@ -85,20 +98,30 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public class ModelSearchImpl implements IModelSearch {
 
-  /* Cached News States */
-  private static final INews.State[] NEWS_STATES = INews.State.values();
-
   /* Number of news to resolve for indexing at once */
   private static final int INDEX_CHUNK_SIZE = 500;
 
   /* An increased clauses count to set in case of a MaxClouseCountException */
   static final int MAX_CLAUSE_COUNT = 65536;
 
+  /* Default Interval in millies to make changes to the Index visible to searches */
+  private static final long DEFAULT_REFRESH_INTERVAL = 500;
+
+  /* Default Number of changed Documents to refresh the Searcher immediately */
+  private static final long DEFAULT_REFRESH_CHANGES = 1000;
+
   private volatile IndexSearcher fSearcher;
+  private volatile Job fRefreshJob;
+  private final AtomicInteger fPendingChanges = new AtomicInteger();
+  private final long fRefreshInterval = CoreUtils.getLongProperty("rssowl.search.refresh.interval", DEFAULT_REFRESH_INTERVAL); //$NON-NLS-1$
+  private final long fRefreshChanges = CoreUtils.getLongProperty("rssowl.search.refresh.changes", DEFAULT_REFRESH_CHANGES); //$NON-NLS-1$
   private volatile Indexer fIndexer;
   private volatile Directory fDirectory;
   private final List<IndexListener> fIndexListeners = new CopyOnWriteArrayList<IndexListener>();
   private final Map<IndexSearcher, AtomicInteger> fSearchers = new ConcurrentHashMap<IndexSearcher, AtomicInteger>(3, 0.75f, 1);
+  private FolderListener fFolderListener;
+  private BookMarkListener fBookMarkListener;
+  private NewsBinListener fNewsBinListener;
 
   /*
    * @see org.rssowl.core.model.search.IModelSearch#startup()
@@ -141,8 +164,14 @@ public class ModelSearchImpl implements IModelSearch {
       fIndexer.initIfNecessary(clearIndex);
 
       synchronized (this) {
+        registerListeners();
+
         if (fSearcher == null)
           fSearcher = createIndexSearcher();
+
+        /* Refresh the Searcher in the Background unless Tests rely on fresh Results */
+        if (fRefreshJob == null && !InternalOwl.TESTING)
+          fRefreshJob = createRefreshJob();
       }
     } catch (LockObtainFailedException e) {
       throw new ProfileLockedException(e.getMessage(), e);
@@ -157,6 +186,25 @@ public class ModelSearchImpl implements IModelSearch {
   public void shutdown(boolean emergency) throws PersistenceException {
     try {
 
+      /* Stop refreshing the Searcher and wait for a running refresh to complete */
+      Job refreshJob = fRefreshJob;
+      fRefreshJob = null;
+      if (refreshJob != null && !refreshJob.cancel() && !emergency) {
+        try {
+          refreshJob.join();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+
+      /* Stop caching the resolved Locations of Searches */
+      synchronized (this) {
+        if (Owl.isStarted())
+          unregisterListeners();
+
+        LocationFilter.clearCache();
+      }
+
       /*
        * Close fIndexer first because it's more important (reduces the chance of
        * a corrupt index). Can be null if exception thrown during start-up
@@ -208,47 +256,96 @@ public class ModelSearchImpl implements IModelSearch {
     }
   }
 
-  private BooleanClause createIsCopyTermQuery(boolean copy) {
-    String field = String.valueOf(INews.PARENT_ID);
-    TermQuery termQuery = new TermQuery(new Term(field, NumberTools.longToString(0)));
-    Occur occur = copy ? Occur.MUST_NOT : Occur.MUST;
-    return new BooleanClause(termQuery, occur);
-  }
+  /* Clear resolved Locations of Searches when the Folder Tree changes */
+  private void registerListeners() {
 
-  private static final class SimpleHitCollector extends HitCollector {
+    /* Listener already registered */
+    if (fFolderListener != null)
+      return;
 
-    private final IndexSearcher fSearcher;
-    private final List<NewsReference> fResultList;
-    private final Map<Long, Long> fSearchResultNewsIds = new HashMap<Long, Long>();
+    /* Listen to Folder-Events */
+    fFolderListener = new FolderListener() {
+      public void entitiesAdded(Set<FolderEvent> events) {
+        LocationFilter.clearCache();
+      }
 
-    SimpleHitCollector(IndexSearcher searcher, List<NewsReference> resultList) {
-      fSearcher = searcher;
-      fResultList = resultList;
-    }
+      public void entitiesUpdated(Set<FolderEvent> events) {
+        for (FolderEvent event : events) {
+          if (event.getOldParent() != null) {
+            LocationFilter.clearCache();
+            break;
+          }
+        }
+      }
 
-    @Override
-    public void collect(int doc, float score) {
-      try {
-        Document document = fSearcher.doc(doc);
+      public void entitiesDeleted(Set<FolderEvent> events) {
+        LocationFilter.clearCache();
+      }
+    };
 
-        /* Receive Stored Fields */
-        long newsId = Long.parseLong(document.get(SearchDocument.ENTITY_ID_TEXT));
+    /* Listen to BookMark-Events */
+    fBookMarkListener = new BookMarkListener() {
+      public void entitiesAdded(Set<BookMarkEvent> events) {
+        LocationFilter.clearCache();
+      }
 
-        /*
-         * Under some circumstances the index might contain the same news twice.
-         * This can happen in situations where RSSOwl is quitting in an emergent
-         * way (e.g. the OS shutting down while RSSOwl is running). To avoid
-         * issues, we filter out duplicate results from the search. See
-         * http://dev.rssowl.org/show_bug.cgi?id=1264
-         */
-        if (!fSearchResultNewsIds.containsKey(newsId)) {
-          fResultList.add(new NewsReference(newsId));
-          fSearchResultNewsIds.put(newsId, newsId);
+      public void entitiesUpdated(Set<BookMarkEvent> events) {
+        LocationFilter.bookMarksUpdated(events);
+      }
+
+      public void entitiesDeleted(Set<BookMarkEvent> events) {
+        LocationFilter.clearCache();
+      }
+    };
+
+    /* Listen to NewsBin-Events */
+    fNewsBinListener = new NewsBinListener() {
+      public void entitiesAdded(Set<NewsBinEvent> events) {
+        LocationFilter.clearCache();
+      }
+
+      public void entitiesUpdated(Set<NewsBinEvent> events) {
+        for (NewsBinEvent event : events) {
+          if (event.getOldParent() != null) {
+            LocationFilter.clearCache();
+            break;
+          }
         }
-      } catch (IOException e) {
-        Activator.safeLogError(e.getMessage(), e);
       }
-    }
+
+      public void entitiesDeleted(Set<NewsBinEvent> events) {
+        LocationFilter.clearCache();
+      }
+    };
+
+    /* We register listeners as part of initialisation, we must use InternalOwl */
+    DAOService daoService = InternalOwl.getDefault().getPersistenceService().getDAOService();
+    daoService.getFolderDAO().addEntityListener(fFolderListener);
+    daoService.getBookMarkDAO().addEntityListener(fBookMarkListener);
+    daoService.getNewsBinDao().addEntityListener(fNewsBinListener);
+  }
+
+  private void unregisterListeners() {
+    DAOService daoService = Owl.getPersistenceService().getDAOService();
+    if (fFolderListener != null)
+      daoService.getFolderDAO().removeEntityListener(fFolderListener);
+
+    if (fBookMarkListener != null)
+      daoService.getBookMarkDAO().removeEntityListener(fBookMarkListener);
+
+    if (fNewsBinListener != null)
+      daoService.getNewsBinDao().removeEntityListener(fNewsBinListener);
+
+    fFolderListener = null;
+    fBookMarkListener = null;
+    fNewsBinListener = null;
+  }
+
+  private BooleanClause createIsCopyTermQuery(boolean copy) {
+    String field = String.valueOf(INews.PARENT_ID);
+    TermQuery termQuery = new TermQuery(new Term(field, NumberTools.longToString(0)));
+    Occur occur = copy ? Occur.MUST_NOT : Occur.MUST;
+    return new BooleanClause(termQuery, occur);
   }
 
   /**
@@ -260,7 +357,7 @@ public class ModelSearchImpl implements IModelSearch {
    */
   public Map<IGuid, List<NewsReference>> searchNewsByGuids(List<IGuid> guids, boolean copy, IProgressMonitor monitor) {
     Map<IGuid, List<NewsReference>> linkToRefs = new HashMap<IGuid, List<NewsReference>>(guids.size());
-    IndexSearcher currentSearcher = getCurrentSearcher();
+    IndexSearcher currentSearcher = getCurrentSearcher(true);
     try {
       for (IGuid guid : guids) {
 
@@ -288,7 +385,7 @@ public class ModelSearchImpl implements IModelSearch {
    */
   public Map<URI, List<NewsReference>> searchNewsByLinks(List<URI> links, boolean copy, IProgressMonitor monitor) {
     Map<URI, List<NewsReference>> linkToRefs = new HashMap<URI, List<NewsReference>>(links.size());
-    IndexSearcher currentSearcher = getCurrentSearcher();
+    IndexSearcher currentSearcher = getCurrentSearcher(true);
     try {
       for (URI link : links) {
 
@@ -345,7 +442,7 @@ public class ModelSearchImpl implements IModelSearch {
 
   private List<NewsReference> simpleSearch(Query query) {
     /* Make sure the searcher is in sync */
-    IndexSearcher currentSearcher = getCurrentSearcher();
+    IndexSearcher currentSearcher = getCurrentSearcher(true);
     try {
       List<NewsReference> newsRefs = simpleSearch(currentSearcher, query);
       return newsRefs;
@@ -355,12 +452,12 @@ public class ModelSearchImpl implements IModelSearch {
   }
 
   private List<NewsReference> simpleSearch(IndexSearcher currentSearcher, Query query) {
-    List<NewsReference> resultList = new ArrayList<NewsReference>(2);
 
     /* Use custom hit collector for performance reasons */
     try {
-      currentSearcher.search(query, new SimpleHitCollector(currentSearcher, resultList));
-      return resultList;
+      NewsHitCollector collector = new NewsHitCollector(currentSearcher.getIndexReader());
+      currentSearcher.search(query, collector);
+      return collector.toNewsReferences();
     } catch (IOException e) {
       throw new PersistenceException(e);
     }
@@ -430,52 +527,85 @@ public class ModelSearchImpl implements IModelSearch {
     try {
       Query bQuery = ModelSearchQueries.createQuery(conditions, scope, matchAllConditions);
 
-      /* Make sure the searcher is in sync */
-      final IndexSearcher currentSearcher = getCurrentSearcher();
-      final List<SearchHit<NewsReference>> resultList = new ArrayList<SearchHit<NewsReference>>();
-      final Map<Long, Long> searchResultNewsIds = new HashMap<Long, Long>();
+      /* Use the current Searcher without waiting for pending changes */
+      IndexSearcher currentSearcher = getCurrentSearcher(false);
+      try {
+        return doSearchNews(currentSearcher, bQuery);
+      } finally {
+        disposeIfNecessary(currentSearcher);
+      }
+    } catch (IOException e) {
+      throw new PersistenceException(Messages.ModelSearchImpl_ERROR_SEARCH, e);
+    }
+  }
 
-      /* Use custom hit collector for performance reasons */
-      HitCollector collector = new HitCollector() {
-        @Override
-        public void collect(int doc, float score) {
-          try {
-            Document document = currentSearcher.doc(doc);
+  private List<SearchHit<NewsReference>> doSearchNews(IndexSearcher currentSearcher, Query bQuery) throws IOException {
 
-            /* Receive Stored Fields */
-            long newsId = Long.parseLong(document.get(SearchDocument.ENTITY_ID_TEXT));
-            INews.State newsState = NEWS_STATES[Integer.parseInt(document.get(NewsDocument.STATE_ID_TEXT))];
+    /* Use custom hit collector for performance reasons */
+    NewsHitCollector collector = new NewsHitCollector(currentSearcher.getIndexReader());
 
-            Map<Integer, INews.State> data = new HashMap<Integer, INews.State>(1);
-            data.put(INews.STATE, newsState);
+    /* Perform the Search */
+    currentSearcher.search(bQuery, collector);
+    return collector.toSearchHits();
+  }
 
-            /*
-             * Under some circumstances the index might contain the same news
-             * twice. This can happen in situations where RSSOwl is quitting in
-             * an emergent way (e.g. the OS shutting down while RSSOwl is
-             * running). To avoid issues, we filter out duplicate results from
-             * the search. See http://dev.rssowl.org/show_bug.cgi?id=1264
-             */
-            if (!searchResultNewsIds.containsKey(newsId)) {
-              resultList.add(new SearchHit<NewsReference>(new NewsReference(newsId), score, data));
-              searchResultNewsIds.put(newsId, newsId);
-            }
-          } catch (IOException e) {
-            Activator.safeLogError(e.getMessage(), e);
-          }
+  /*
+   * @see
+   * org.rssowl.core.persist.service.IModelSearch#matchNews(java.util.Collection
+   * , java.util.Collection)
+   */
+  public <T extends ISearch> Map<T, List<SearchHit<NewsReference>>> matchNews(Collection<INews> news, Collection<T> searches) throws PersistenceException {
+    Map<T, List<SearchHit<NewsReference>>> matches = new HashMap<T, List<SearchHit<NewsReference>>>();
+    if (news.isEmpty() || searches.isEmpty())
+      return matches;
+
+    RAMDirectory directory = new RAMDirectory();
+    directory.setLockFactory(NoLockFactory.getNoLockFactory());
+    try {
+
+      /* Index News */
+      IndexWriter indexWriter = new IndexWriter(directory, Indexer.createAnalyzer());
+      try {
+        for (INews item : news) {
+          NewsDocument document = new NewsDocument(item);
+          if (document.addFields())
+            indexWriter.addDocument(document.getDocument());
         }
-      };
+      } finally {
+        indexWriter.close();
+      }
 
-      /* Perform the Search */
+      /* Match each Search */
+      IndexSearcher searcher = new IndexSearcher(directory);
       try {
-        currentSearcher.search(bQuery, collector);
-        return resultList;
+        for (T search : searches) {
+          List<SearchHit<NewsReference>> hits;
+          try {
+            hits = doSearchNews(searcher, ModelSearchQueries.createQuery(search));
+          }
+
+          /* Too Many Clauses - Increase Clauses Limit */
+          catch (TooManyClauses e) {
+            if (BooleanQuery.getMaxClauseCount() == MAX_CLAUSE_COUNT)
+              throw new PersistenceException(Messages.ModelSearchImpl_ERROR_WILDCARDS, e);
+
+            BooleanQuery.setMaxClauseCount(MAX_CLAUSE_COUNT);
+            hits = doSearchNews(searcher, ModelSearchQueries.createQuery(search));
+          }
+
+          if (!hits.isEmpty())
+            matches.put(search, hits);
+        }
       } finally {
-        disposeIfNecessary(currentSearcher);
+        searcher.close();
       }
     } catch (IOException e) {
       throw new PersistenceException(Messages.ModelSearchImpl_ERROR_SEARCH, e);
+    } finally {
+      directory.close();
     }
+
+    return matches;
   }
 
   private IndexSearcher createIndexSearcher() throws CorruptIndexException, IOException {
@@ -484,7 +614,22 @@ public class ModelSearchImpl implements IModelSearch {
     return searcher;
   }
 
-  private IndexSearcher getCurrentSearcher() throws PersistenceException {
+  /*
+   * Returns the current Searcher with an incremented reference count. If sync is
+   * true or the Searcher is not refreshed in the Background, pending changes of
+   * the Indexer are flushed first so that the Searcher reflects all of them.
+   */
+  private IndexSearcher getCurrentSearcher(boolean sync) throws PersistenceException {
+    if (sync || fRefreshJob == null)
+      refreshSearcher();
+
+    synchronized (this) {
+      fSearchers.get(fSearcher).incrementAndGet();
+      return fSearcher;
+    }
+  }
+
+  private void refreshSearcher() throws PersistenceException {
     try {
       boolean flushed = fIndexer.flushIfNecessary();
 
@@ -504,8 +649,11 @@ public class ModelSearchImpl implements IModelSearch {
           IndexReader newReader = currentReader.reopen();
           if (newReader != currentReader) {
 
+            /* Keep the matching Documents of Location Filters */
+            LocationFilter.readerReopened(currentReader, newReader);
+
             IndexSearcher newSearcher = new IndexSearcher(newReader);
-            fSearchers.put(newSearcher, new AtomicInteger(1));
+            fSearchers.put(newSearcher, new AtomicInteger(0));
 
             /*
              * Assign to field before we check the referenceCount to ensure that
@@ -526,18 +674,43 @@ public class ModelSearchImpl implements IModelSearch {
                */
               dispose(currentSearcher);
             }
-
-            return fSearcher;
           }
         }
-        fSearchers.get(fSearcher).incrementAndGet();
-        return fSearcher;
       }
     } catch (IOException e) {
       throw new PersistenceException(e.getMessage(), e);
     }
   }
 
+  private Job createRefreshJob() {
+    Job job = new Job("") { //$NON-NLS-1$
+      @Override
+      protected IStatus run(IProgressMonitor monitor) {
+        if (monitor.isCanceled() || Owl.isShuttingDown())
+          return Status.CANCEL_STATUS;
+
+        /* Make all changes visible that were indexed until now */
+        int changes = fPendingChanges.getAndSet(0);
+        try {
+          refreshSearcher();
+        } catch (PersistenceException e) {
+          Activator.safeLogError(e.getMessage(), e);
+        }
+
+        /* Notify Listeners once the changes can be found */
+        if (changes > 0)
+          fireIndexUpdated(changes);
+
+        return Status.OK_STATUS;
+      }
+    };
+
+    job.setSystem(true);
+    job.setUser(false);
+
+    return job;
+  }
+
   /**
    * Can be called multiple times safely because: - close is safe to be called
    * many times in IndexReader and IndexSearcher - No IndexSearcher is ever
@@ -558,6 +731,7 @@ public class ModelSearchImpl implements IModelSearch {
       synchronized (this) {
         IndexSearcher currentSearcher = fSearcher;
         fIndexer.clearIndex();
+        LocationFilter.clearCache();
         fSearcher = createIndexSearcher();
 
         /*
@@ -625,6 +799,23 @@ public class ModelSearchImpl implements IModelSearch {
   }
 
   void notifyIndexUpdated(int docCount) {
+    Job refreshJob = fRefreshJob;
+
+    /* Searcher is refreshed on demand */
+    if (refreshJob == null) {
+      fireIndexUpdated(docCount);
+      return;
+    }
+
+    /* Refresh soon after the first change or right away after many changes */
+    int pendingChanges = fPendingChanges.addAndGet(docCount);
+    if (pendingChanges >= fRefreshChanges)
+      refreshJob.schedule();
+    else if (pendingChanges == docCount)
+      refreshJob.schedule(fRefreshInterval);
+  }
+
+  private void fireIndexUpdated(int docCount) {
     for (IndexListener listener : fIndexListeners) {
       listener.indexUpdated(docCount);
     }
@@ -699,34 +890,23 @@ public class ModelSearchImpl implements IModelSearch {
         if (!isFirstRun)
           fIndexer.flushIfNecessary();
 
-        /* Index News Items */
-        for (INews newsitem : newsChunkToBeIndexed) {
-
-          /* User might have canceled, so give feedback that work needs to complete */
-          if (!userCanceled && monitor.isCanceled()) {
-            monitor.setTaskName(Messages.ModelSearchImpl_WAIT_TASK_COMPLETION);
-            userCanceled = true;
-          }
-
-          /* We don't pass the whole list at once to be able to report progress. */
-          List<INews> indexList = new ArrayList<INews>(1);
-          indexList.add(newsitem);
-          fIndexer.index(indexList, false, false); //Disable ACID Support
-          monitor.worked(1);
+        /* User might have canceled, so give feedback that work needs to complete */
+        if (!userCanceled && monitor.isCanceled()) {
+          monitor.setTaskName(Messages.ModelSearchImpl_WAIT_TASK_COMPLETION);
+          userCanceled = true;
         }
 
+        /* Index News Items (the whole chunk at once to build Documents in parallel) */
+        int chunkSize = newsChunkToBeIndexed.size();
+        fIndexer.index(newsChunkToBeIndexed, false, false); //Disable ACID Support
+        monitor.worked(chunkSize);
+
         isFirstRun = false;
       }
     }
 
     /* Finally we refresh the searchers (this will trigger flushIfNecessary()) */
-    IndexSearcher currentSearcher = null;
-    try {
-      currentSearcher = getCurrentSearcher();
-    } finally {
-      if (currentSearcher != null)
-        disposeIfNecessary(currentSearcher);
-    }
+    refreshSearcher();
   }
 
   /*
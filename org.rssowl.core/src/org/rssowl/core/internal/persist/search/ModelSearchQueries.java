@@ -38,6 +38,7 @@ import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanClause.Occur;
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.BooleanQuery.TooManyClauses;
+import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.ConstantScoreRangeQuery;
 import org.apache.lucene.search.FuzzyQuery;
 import org.apache.lucene.search.MatchAllDocsQuery;
@@ -46,22 +47,15 @@ import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.WildcardQuery;
 import org.rssowl.core.Owl;
 import org.rssowl.core.internal.Activator;
-import org.rssowl.core.persist.IBookMark;
 import org.rssowl.core.persist.IEntity;
-import org.rssowl.core.persist.IFolder;
-import org.rssowl.core.persist.IMark;
 import org.rssowl.core.persist.IModelFactory;
 import org.rssowl.core.persist.INews;
 import org.rssowl.core.persist.INews.State;
-import org.rssowl.core.persist.INewsBin;
 import org.rssowl.core.persist.ISearch;
 import org.rssowl.core.persist.ISearchCondition;
 import org.rssowl.core.persist.ISearchField;
 import org.rssowl.core.persist.ISearchValueType;
 import org.rssowl.core.persist.SearchSpecifier;
-import org.rssowl.core.persist.reference.BookMarkReference;
-import org.rssowl.core.persist.reference.FolderReference;
-import org.rssowl.core.persist.reference.NewsBinReference;
 import org.rssowl.core.util.StringUtils;
 
 import java.io.IOException;
@@ -154,11 +148,8 @@ public class ModelSearchQueries {
     /* Handle Location Scope Query separately */
     for (ISearchCondition condition : conditions) {
       if (isLocationScopeCondition(condition)) {
-        BooleanQuery locationScopeClause = createLocationClause(condition);
-        if (!locationScopeClause.clauses().isEmpty()) {
-          bQuery.add(locationScopeClause, Occur.MUST);
-          isScoped = true;
-        }
+        bQuery.add(createLocationClause(condition), Occur.MUST);
+        isScoped = true;
       }
     }
 
@@ -500,84 +491,8 @@ public class ModelSearchQueries {
   }
 
   /* This Clause needs to be generated dynamically */
-  private static BooleanQuery createLocationClause(ISearchCondition condition) {
-    BooleanQuery bQuery = new BooleanQuery();
-    Long[][] value = (Long[][]) condition.getValue();
-    if (value != null) {
-
-      /* Receive Folders */
-      for (int i = 0; value[0] != null && i < value[0].length; i++) {
-        if (value[0][i] != null) {
-          IFolder folder = new FolderReference(value[0][i]).resolve();
-          if (folder != null)
-            addFolderLocationClause(bQuery, folder);
-        }
-      }
-
-      /* Receive BookMarks */
-      for (int i = 0; value[1] != null && i < value[1].length; i++) {
-        if (value[1][i] != null) {
-          IBookMark bookmark = new BookMarkReference(value[1][i]).resolve();
-          if (bookmark != null)
-            addBookMarkLocationClause(bQuery, bookmark);
-        }
-      }
-
-      /* Receive NewsBins */
-      if (value.length == 3) {
-        for (int i = 0; value[2] != null && i < value[2].length; i++) {
-          if (value[2][i] != null) {
-            INewsBin newsbin = new NewsBinReference(value[2][i]).resolve();
-            if (newsbin != null)
-              addNewsBinLocationClause(bQuery, newsbin);
-          }
-        }
-      }
-    }
-
-    /* The folder could be empty, make sure to add at least 1 Clause */
-    if (bQuery.clauses().isEmpty())
-      bQuery.add(new TermQuery(new Term(String.valueOf(INews.FEED), "")), Occur.SHOULD); //$NON-NLS-1$
-
-    return bQuery;
-  }
-
-  private static void addFolderLocationClause(BooleanQuery bQuery, IFolder folder) {
-    if (folder != null) {
-      List<IFolder> folders = folder.getFolders();
-      List<IMark> marks = folder.getMarks();
-
-      /* Child Folders */
-      for (IFolder childFolder : folders)
-        addFolderLocationClause(bQuery, childFolder);
-
-      /* BookMarks and Newsbins */
-      for (IMark mark : marks)
-        if (mark instanceof IBookMark)
-          addBookMarkLocationClause(bQuery, (IBookMark) mark);
-        else if (mark instanceof INewsBin)
-          addNewsBinLocationClause(bQuery, (INewsBin) mark);
-    }
-  }
-
-  private static void addBookMarkLocationClause(BooleanQuery bQuery, IBookMark bookmark) {
-    if (bookmark != null) {
-      BooleanQuery bookMarkLocationQuery = new BooleanQuery();
-
-      /* Match on Feed */
-      String feed = bookmark.getFeedLinkReference().getLinkAsText().toLowerCase();
-      bookMarkLocationQuery.add(new TermQuery(new Term(String.valueOf(INews.FEED), feed)), Occur.MUST);
-
-      /* But ignore News from Bins */
-      bookMarkLocationQuery.add(new TermQuery(new Term(String.valueOf(INews.PARENT_ID), NumberTools.longToString(0))), Occur.MUST);
-
-      bQuery.add(bookMarkLocationQuery, Occur.SHOULD);
-    }
-  }
-
-  private static void addNewsBinLocationClause(BooleanQuery bQuery, INewsBin newsbin) {
-    if (newsbin != null)
-      bQuery.add(new TermQuery(new Term(String.valueOf(INews.PARENT_ID), NumberTools.longToString(newsbin.getId()))), Occur.SHOULD);
+  private static Query createLocationClause(ISearchCondition condition) {
+    return new ConstantScoreQuery(LocationFilter.getFilter((Long[][]) condition.getValue()));
   }
 
   @SuppressWarnings("unchecked")
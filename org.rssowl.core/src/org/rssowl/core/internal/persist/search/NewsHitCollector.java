@@ -0,0 +1,268 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2009 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.internal.persist.search;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.FieldSelector;
+import org.apache.lucene.document.MapFieldSelector;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.ExtendedFieldCache;
+import org.apache.lucene.search.FieldCache;
+import org.apache.lucene.search.HitCollector;
+import org.rssowl.core.persist.INews;
+import org.rssowl.core.persist.reference.NewsReference;
+import org.rssowl.core.util.SearchHit;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * A {@link HitCollector} that only remembers document numbers and scores of
+ * News in primitive arrays. Once the search is done, the ID and State of the
+ * News are read for all hits at once: From columns of the {@link FieldCache}
+ * for large results or from the stored fields of the few documents otherwise.
+ * <p>
+ * Note: Lucene caches the columns per {@link IndexReader}, so they are read
+ * again after the index changed. This is only worth for results that contain a
+ * good share of all documents or if the columns are in the cache already.
+ * </p>
+ */
+final class NewsHitCollector extends HitCollector {
+
+  /* Results with more than 1 of this many documents of the index use the columns */
+  private static final int COLUMNS_MIN_HIT_RATIO = 8;
+
+  /* Only load the ID and State from the stored fields */
+  private static final FieldSelector ID_AND_STATE_SELECTOR = new MapFieldSelector(new String[] { SearchDocument.ENTITY_ID_TEXT, NewsDocument.STATE_ID_TEXT });
+
+  /* Map a State to the data of a Search Hit */
+  private static final Map<?, ?>[] STATE_DATA;
+
+  /* The Columns of Readers that have been used before */
+  private static final Map<IndexReader, Columns> COLUMNS = Collections.synchronizedMap(new WeakHashMap<IndexReader, Columns>());
+
+  static {
+    INews.State[] states = INews.State.values();
+    STATE_DATA = new Map<?, ?>[states.length];
+    for (int i = 0; i < states.length; i++)
+      STATE_DATA[i] = Collections.singletonMap(INews.STATE, states[i]);
+  }
+
+  /* The ID and State of each document of an IndexReader */
+  private static final class Columns {
+    private final long[] fIds;
+    private final byte[] fStates;
+    private final boolean fUniqueIds;
+
+    Columns(IndexReader reader) throws IOException {
+      fIds = ExtendedFieldCache.EXT_DEFAULT.getLongs(reader, SearchDocument.ENTITY_ID_TEXT);
+      fStates = FieldCache.DEFAULT.getBytes(reader, NewsDocument.STATE_ID_TEXT);
+
+      /* Documents that are deleted or not a News have the ID 0 */
+      long[] sortedIds = fIds.clone();
+      Arrays.sort(sortedIds);
+      boolean uniqueIds = true;
+      for (int i = 1; i < sortedIds.length && uniqueIds; i++) {
+        if (sortedIds[i] != 0 && sortedIds[i] == sortedIds[i - 1])
+          uniqueIds = false;
+      }
+      fUniqueIds = uniqueIds;
+    }
+  }
+
+  /* A List of Search Hits that are created from the arrays on first access */
+  private static final class SearchHitList extends AbstractList<SearchHit<NewsReference>> implements RandomAccess {
+    private final long[] fIds;
+    private final byte[] fStates;
+    private final float[] fScores;
+    private final SearchHit<?>[] fHits;
+
+    SearchHitList(long[] ids, byte[] states, float[] scores) {
+      fIds = ids;
+      fStates = states;
+      fScores = scores;
+      fHits = new SearchHit<?>[ids.length];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public SearchHit<NewsReference> get(int index) {
+      SearchHit<?> hit = fHits[index];
+      if (hit == null) {
+        hit = new SearchHit<NewsReference>(new NewsReference(fIds[index]), fScores[index], STATE_DATA[fStates[index]]);
+        fHits[index] = hit;
+      }
+
+      return (SearchHit<NewsReference>) hit;
+    }
+
+    @Override
+    public int size() {
+      return fIds.length;
+    }
+  }
+
+  private final IndexReader fReader;
+  private int[] fDocs = new int[16];
+  private float[] fScores = new float[16];
+  private int fSize;
+
+  /**
+   * @param reader the {@link IndexReader} of the searcher this collector is
+   * used with.
+   */
+  NewsHitCollector(IndexReader reader) {
+    fReader = reader;
+  }
+
+  /*
+   * @see org.apache.lucene.search.HitCollector#collect(int, float)
+   */
+  @Override
+  public void collect(int doc, float score) {
+    if (fSize == fDocs.length) {
+      int[] docs = new int[fSize * 2];
+      System.arraycopy(fDocs, 0, docs, 0, fSize);
+      fDocs = docs;
+
+      float[] scores = new float[fSize * 2];
+      System.arraycopy(fScores, 0, scores, 0, fSize);
+      fScores = scores;
+    }
+
+    fDocs[fSize] = doc;
+    fScores[fSize] = score;
+    fSize++;
+  }
+
+  /**
+   * @return the collected hits as {@link NewsReference}s.
+   * @throws IOException in case of an error reading from the index.
+   */
+  List<NewsReference> toNewsReferences() throws IOException {
+    long[] ids = new long[fSize];
+    readFields(ids, null);
+
+    List<NewsReference> newsRefs = new ArrayList<NewsReference>(fSize);
+    for (int i = 0; i < fSize; i++) {
+      if (ids[i] != 0)
+        newsRefs.add(new NewsReference(ids[i]));
+    }
+
+    return newsRefs;
+  }
+
+  /**
+   * @return the collected hits as unmodifiable List of {@link SearchHit}s that
+   * provide the {@link INews.State} as data.
+   * @throws IOException in case of an error reading from the index.
+   */
+  List<SearchHit<NewsReference>> toSearchHits() throws IOException {
+    long[] ids = new long[fSize];
+    byte[] states = new byte[fSize];
+    readFields(ids, states);
+
+    /* Remove Hits that got filtered (ID is 0) */
+    int size = 0;
+    float[] scores = fScores;
+    for (int i = 0; i < fSize; i++) {
+      if (ids[i] != 0) {
+        ids[size] = ids[i];
+        states[size] = states[i];
+        scores[size] = scores[i];
+        size++;
+      }
+    }
+
+    if (size != ids.length) {
+      long[] newIds = new long[size];
+      System.arraycopy(ids, 0, newIds, 0, size);
+      ids = newIds;
+    }
+
+    return new SearchHitList(ids, states, scores);
+  }
+
+  /*
+   * Reads ID and State (if states is not null) of the collected documents.
+   * Duplicate News are filtered by setting the ID to 0.
+   */
+  private void readFields(long[] ids, byte[] states) throws IOException {
+    Columns columns = COLUMNS.get(fReader);
+    if (columns == null && fSize > 0 && (long) fSize * COLUMNS_MIN_HIT_RATIO >= fReader.maxDoc()) {
+      columns = new Columns(fReader);
+      COLUMNS.put(fReader, columns);
+    }
+
+    boolean uniqueIds;
+
+    /* Read from Columns */
+    if (columns != null) {
+      for (int i = 0; i < fSize; i++) {
+        ids[i] = columns.fIds[fDocs[i]];
+        if (states != null)
+          states[i] = columns.fStates[fDocs[i]];
+      }
+
+      uniqueIds = columns.fUniqueIds;
+    }
+
+    /* Read from stored Fields */
+    else {
+      for (int i = 0; i < fSize; i++) {
+        Document document = fReader.document(fDocs[i], ID_AND_STATE_SELECTOR);
+        ids[i] = Long.parseLong(document.get(SearchDocument.ENTITY_ID_TEXT));
+        if (states != null)
+          states[i] = Byte.parseByte(document.get(NewsDocument.STATE_ID_TEXT));
+      }
+
+      uniqueIds = (fSize < 2);
+    }
+
+    /*
+     * Under some circumstances the index might contain the same news twice.
+     * This can happen in situations where RSSOwl is quitting in an emergent
+     * way (e.g. the OS shutting down while RSSOwl is running). To avoid issues,
+     * we filter out duplicate results from the search. See
+     * http://dev.rssowl.org/show_bug.cgi?id=1264
+     */
+    if (!uniqueIds) {
+      Set<Long> newsIds = new HashSet<Long>(fSize);
+      for (int i = 0; i < fSize; i++) {
+        if (!newsIds.add(ids[i]))
+          ids[i] = 0;
+      }
+    }
+  }
+}
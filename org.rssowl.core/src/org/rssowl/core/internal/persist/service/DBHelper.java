@@ -95,6 +95,24 @@ import java.util.Set;
 public final class DBHelper {
   static final int BUFFER = 32768;
 
+  /* Maximum average distance of sorted ids to load them with a single range query */
+  private static final int MAX_RANGE_GAP = 4;
+
+  /**
+   * Callback for the results of each range query issued by
+   * {@link DBHelper#queryRanges(ObjectContainer, Class, String, long[], RangeQueryCallback)}.
+   *
+   * @param <T> the type of the queried objects.
+   */
+  public interface RangeQueryCallback<T> {
+
+    /**
+     * @param results the objects whose field lies within the range. This can
+     * include objects with a field value that has not been asked for.
+     */
+    void handle(List<T> results);
+  }
+
   private DBHelper() {
     super();
   }
@@ -400,6 +418,7 @@ public final class DBHelper {
   public static void preCommit(ObjectContainer db) {
     updateNewsCounter(db);
     updateNewsToBeIndexed(db);
+    updateNewsEquivalence(db);
     updateNewsBins(db);
   }
 
@@ -439,6 +458,17 @@ public final class DBHelper {
     db.ext().set(newsToBeIndexed, Integer.MAX_VALUE);
   }
 
+  private static void updateNewsEquivalence(ObjectContainer db) {
+    NewsEventRunnable newsEventRunnable = getNewsEventRunnables(EventsMap.getInstance().getEventRunnables());
+    if (newsEventRunnable == null)
+      return;
+
+    NewsEquivalenceService newsEquivalenceService = new NewsEquivalenceService(db);
+    newsEquivalenceService.onNewsAdded(newsEventRunnable.getPersistEvents());
+    newsEquivalenceService.onNewsUpdated(newsEventRunnable.getUpdateEvents());
+    newsEquivalenceService.onNewsRemoved(newsEventRunnable.getRemoveEvents());
+  }
+
   public static Set<NewsEvent> filterPersistedNewsForIndexing(Collection<NewsEvent> events) {
     Set<NewsEvent> result = new HashSet<NewsEvent>(events.size());
     for (NewsEvent event : events)
@@ -581,6 +611,40 @@ public final class DBHelper {
     }
   }
 
+  /**
+   * Queries objects of the given class by a <code>long</code> field. Ids that
+   * are close to each other are grouped and loaded with a single range query,
+   * so the callback can receive objects that were not asked for.
+   *
+   * @param <T> the type of the queried objects.
+   * @param db the database to query.
+   * @param clazz the class of the queried objects.
+   * @param field the name of the <code>long</code> field to constrain.
+   * @param sortedIds the values of the field to load, sorted ascending.
+   * @param callback called with the results of each query.
+   * @throws Db4oException in case of an error while querying.
+   */
+  public static <T> void queryRanges(ObjectContainer db, Class<? extends T> clazz, String field, long[] sortedIds, RangeQueryCallback<T> callback) throws Db4oException {
+    int start = 0;
+    for (int i = 1; i <= sortedIds.length; i++) {
+      if (i == sortedIds.length || sortedIds[i] - sortedIds[start] > (long) MAX_RANGE_GAP * (i - start)) {
+        Query query = db.query();
+        query.constrain(clazz);
+        Query fieldQuery = query.descend(field);
+        if (i - start == 1)
+          fieldQuery.constrain(Long.valueOf(sortedIds[start]));
+        else {
+          fieldQuery.constrain(Long.valueOf(sortedIds[start])).greater().equal();
+          fieldQuery.constrain(Long.valueOf(sortedIds[i - 1])).smaller().equal();
+        }
+
+        List<T> results = query.execute();
+        callback.handle(results);
+        start = i;
+      }
+    }
+  }
+
   public static Collection<IFeed> loadAllFeeds(ObjectContainer db) {
     ObjectSet<? extends IFeed> entities = db.query(Feed.class);
     return new LazyList<IFeed>(entities, db);
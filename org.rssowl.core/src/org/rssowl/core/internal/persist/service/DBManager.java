@@ -44,6 +44,7 @@ import org.rssowl.core.internal.persist.Folder;
 import org.rssowl.core.internal.persist.Label;
 import org.rssowl.core.internal.persist.News;
 import org.rssowl.core.internal.persist.NewsBin;
+import org.rssowl.core.internal.persist.NewsEquivalenceEntry;
 import org.rssowl.core.internal.persist.Preference;
 import org.rssowl.core.internal.persist.SearchFilter;
 import org.rssowl.core.internal.persist.migration.MigrationResult;
@@ -83,11 +84,9 @@ import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -132,6 +131,10 @@ public class DBManager {
   private static final int ONLINE_BACKUP_SHORT_INTERVAL = 1000 * 60 * 55; //55 Minutes
   private static final int ONLINE_BACKUP_LONG_INTERVAL = 1000 * 60 * 60 * 10; //10 Hours
 
+  /* Group Commit Settings */
+  private static final int GROUP_COMMIT_MAX_BATCH_SIZE = 32; //Units per Transaction
+  private static final int GROUP_COMMIT_MAX_DELAY = 10; //10 Milliseconds
+
   /* Defrag Tasks Work Ticks */
   private static final int DEFRAG_TOTAL_WORK = 10000000; //100% (but don't fill to 100% to leave room for backup)
   private static final int DEFRAG_SUB_WORK_LABELS = 100000; //1%
@@ -150,6 +153,7 @@ public class DBManager {
   private static final int DEFRAG_SUB_WORK_FINISH = 100000; //1%
 
   private ObjectContainer fObjectContainer;
+  private GroupCommit fGroupCommit;
   private final AtomicLong fNextOnlineBackup = new AtomicLong();
   private final ReadWriteLock fLock = new ReentrantReadWriteLock();
   private final List<DatabaseListener> fEntityStoreListeners = new CopyOnWriteArrayList<DatabaseListener>();
@@ -263,6 +267,7 @@ public class DBManager {
       /* Open the DB */
       Configuration config = createConfiguration(false);
       createObjectContainer(config, forRestore);
+      fGroupCommit = createGroupCommit();
 
       /* Notify Listeners that DB is opened */
       fireDatabaseEvent(new DatabaseEvent(fObjectContainer, fLock), true);
@@ -401,23 +406,14 @@ public class DBManager {
     if (initial)
       return ONLINE_BACKUP_SHORT_INTERVAL;
 
-    return getLongProperty("rssowl.onlinebackup.interval", ONLINE_BACKUP_LONG_INTERVAL); //$NON-NLS-1$
+    return CoreUtils.getLongProperty("rssowl.onlinebackup.interval", ONLINE_BACKUP_LONG_INTERVAL); //$NON-NLS-1$
   }
 
-  private long getLongProperty(String propertyName, long defaultValue) {
-    String propertyValue = System.getProperty(propertyName);
+  private GroupCommit createGroupCommit() {
+    int maxBatchSize = CoreUtils.getIntProperty("rssowl.groupcommit.size", GROUP_COMMIT_MAX_BATCH_SIZE); //$NON-NLS-1$
+    long maxDelay = CoreUtils.getLongProperty("rssowl.groupcommit.delay", GROUP_COMMIT_MAX_DELAY); //$NON-NLS-1$
 
-    if (propertyValue != null) {
-      try {
-        long longProperty = Long.parseLong(propertyValue);
-        if (longProperty > 0) {
-          return longProperty;
-        }
-      } catch (NumberFormatException e) {
-        /* Let it fall through and use default */
-      }
-    }
-    return defaultValue;
+    return new GroupCommit(fObjectContainer, fLock.writeLock(), maxBatchSize, maxDelay);
   }
 
   public void addEntityStoreListener(DatabaseListener listener) {
@@ -668,7 +664,7 @@ public class DBManager {
     if (!new File(getDBFilePath()).exists())
       return;
 
-    long sevenDays = getLongProperty("rssowl.offlinebackup.interval", OFFLINE_BACKUP_INTERVAL); //$NON-NLS-1$
+    long sevenDays = CoreUtils.getLongProperty("rssowl.offlinebackup.interval", OFFLINE_BACKUP_INTERVAL); //$NON-NLS-1$
     try {
       createScheduledBackupService(sevenDays).backup(false, monitor);
     } catch (PersistenceException e) {
@@ -843,7 +839,7 @@ public class DBManager {
   }
 
   private int getCurrentFormatVersion() {
-    return 5;
+    return 7;
   }
 
   private boolean defragmentIfNecessary(LongOperationMonitor progressMonitor, SubMonitor subMonitor) {
@@ -965,7 +961,8 @@ public class DBManager {
    * Internal method. Made public for testing. Creates a copy of the database
    * that has all essential data structures. At the moment, this means not
    * copying NewsCounter and IConditionalGets since they will be re-populated
-   * eventually.
+   * eventually. The NewsEquivalenceEntry objects are re-created from the news
+   * of the copied feeds.
    *
    * @param source
    * @param destination
@@ -1122,6 +1119,7 @@ public class DBManager {
         sourceDb.activate(feed, Integer.MAX_VALUE);
         addNewsCounterItem(newsCounter, feed);
         destinationDb.ext().set(feed, Integer.MAX_VALUE);
+        addNewsEquivalenceEntries(destinationDb, feed);
 
         ++feedCounter;
         if (feedCounter % 40 == 0) {
@@ -1319,19 +1317,18 @@ public class DBManager {
     return false;
   }
 
+  private static void addNewsEquivalenceEntries(ObjectContainer destinationDb, Feed feed) {
+    for (INews news : feed.getNews())
+      NewsEquivalenceService.addEntries(destinationDb, (News) news);
+  }
+
   private static void addNewsCounterItem(NewsCounter newsCounter, Feed feed) {
     Map<State, Integer> stateToCountMap = feed.getNewsCount();
-    int unreadCount = getCount(stateToCountMap, EnumSet.of(State.NEW, State.UNREAD, State.UPDATED));
-    Integer newCount = stateToCountMap.get(INews.State.NEW);
-    newsCounter.put(feed.getLink().toString(), new NewsCounterItem(newCount, unreadCount, feed.getStickyCount()));
-  }
+    int[] stateCounts = new int[State.values().length];
+    for (State state : State.values())
+      stateCounts[state.ordinal()] = stateToCountMap.get(state);
 
-  private static int getCount(Map<State, Integer> stateToCountMap, Set<State> states) {
-    int count = 0;
-    for (State state : states) {
-      count += stateToCountMap.get(state);
-    }
-    return count;
+    newsCounter.put(feed.getLink().toString(), new NewsCounterItem(stateCounts, feed.getStickyCount()));
   }
 
   /**
@@ -1377,6 +1374,8 @@ public class DBManager {
     configureFolder(config);
     config.objectClass(Description.class).objectField("fNewsId").indexed(true); //$NON-NLS-1$
     config.objectClass(NewsCounter.class).cascadeOnDelete(true);
+    config.objectClass(NewsEquivalenceEntry.class).objectField("fKey").indexed(true); //$NON-NLS-1$
+    config.objectClass(NewsEquivalenceEntry.class).objectField("fNewsId").indexed(true); //$NON-NLS-1$
     config.objectClass(Preference.class).cascadeOnDelete(true);
     config.objectClass(Preference.class).objectField("fKey").indexed(true); //$NON-NLS-1$
     config.objectClass(SearchFilter.class).objectField("fActions").cascadeOnDelete(true); //$NON-NLS-1$
@@ -1446,6 +1445,16 @@ public class DBManager {
     return fObjectContainer;
   }
 
+  /**
+   * @return the {@link GroupCommit} to write units of work from different
+   * Threads in shared transactions. The maximum batch size and delay can be
+   * configured with the system properties <code>rssowl.groupcommit.size</code>
+   * and <code>rssowl.groupcommit.delay</code> (in milliseconds).
+   */
+  public final GroupCommit getGroupCommit() {
+    return fGroupCommit;
+  }
+
   Pair<File, Long> getProfile() {
     File profile = new File(getDBFilePath());
     Long timestamp = getProfileLastUsed();
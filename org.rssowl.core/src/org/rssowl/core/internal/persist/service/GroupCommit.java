@@ -0,0 +1,283 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2009 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.internal.persist.service;
+
+import org.rssowl.core.internal.Activator;
+import org.rssowl.core.persist.event.runnable.EventRunnable;
+import org.rssowl.core.persist.service.PersistenceException;
+
+import com.db4o.ObjectContainer;
+import com.db4o.ext.Db4oException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Writes {@link Unit}s that are submitted from different Threads in as few
+ * transactions as possible. The first Thread that acquires the global write
+ * lock writes all queued Units (up to a maximum batch size) in a single
+ * transaction and fires the events of that transaction before any of the
+ * submitting Threads returns from {@link #commit(Unit)}. Exceptions thrown by
+ * listeners of these events are logged, because the Units were committed.
+ * <p>
+ * While the database is busy (i.e. the last transaction contained more than
+ * one Unit), a submitting Thread waits up to a maximum delay for other Units to
+ * arrive before it starts the transaction.
+ * </p>
+ * <p>
+ * If the transaction of a batch fails, it is rolled back and its Units are
+ * written again in a transaction of their own, so that only the Units that
+ * caused the failure see it.
+ * </p>
+ */
+public final class GroupCommit {
+
+  /**
+   * A unit of work that is written as part of a group commit.
+   * <p>
+   * All methods are called from the Thread that writes the batch while holding
+   * the global write lock. Implementors must only use the
+   * {@link ObjectContainer} directly and never commit themselves. If the
+   * transaction of a batch is rolled back, the Unit is prepared, written and
+   * finished once more in a transaction of its own.
+   * </p>
+   */
+  public interface Unit {
+
+    /**
+     * Called before any Unit of the batch is written.
+     */
+    void prepare();
+
+    /**
+     * Writes the Unit into the current transaction.
+     */
+    void write();
+
+    /**
+     * Called after the batch was committed or rolled back for each Unit that
+     * was prepared.
+     */
+    void finish();
+  }
+
+  /* A queued Unit and the outcome of its transaction */
+  private static final class Entry {
+    private final Unit fUnit;
+    private boolean fTaken;
+    private boolean fDone;
+    private RuntimeException fFailure;
+
+    Entry(Unit unit) {
+      fUnit = unit;
+    }
+  }
+
+  private final ObjectContainer fDb;
+  private final Lock fWriteLock;
+  private final int fMaxBatchSize;
+  private final long fMaxDelay;
+  private final List<Entry> fQueue = new ArrayList<Entry>();
+  private int fLastBatchSize;
+
+  /**
+   * @param db the {@link ObjectContainer} to write to.
+   * @param writeLock the global write lock of the database.
+   * @param maxBatchSize the maximum number of Units to write in a single
+   * transaction.
+   * @param maxDelay the maximum time in milliseconds to wait for other Units
+   * before writing.
+   */
+  public GroupCommit(ObjectContainer db, Lock writeLock, int maxBatchSize, long maxDelay) {
+    fDb = db;
+    fWriteLock = writeLock;
+    fMaxBatchSize = Math.max(1, maxBatchSize);
+    fMaxDelay = Math.max(0, maxDelay);
+  }
+
+  /**
+   * Writes and commits the given Unit, possibly in the same transaction as
+   * Units from other Threads. Returns after the transaction was committed and
+   * its events have been fired.
+   *
+   * @param unit the {@link Unit} to write.
+   * @throws PersistenceException in case the transaction failed and was rolled
+   * back.
+   */
+  public void commit(Unit unit) throws PersistenceException {
+    Entry entry = new Entry(unit);
+    boolean interrupted = false;
+
+    synchronized (fQueue) {
+      fQueue.add(entry);
+      if (fQueue.size() >= fMaxBatchSize)
+        fQueue.notifyAll();
+
+      /* Give other Units the chance to join while the DB is busy */
+      if (fMaxDelay > 0 && fLastBatchSize > 1) {
+        long deadline = System.currentTimeMillis() + fMaxDelay;
+        long remaining = fMaxDelay;
+        while (!entry.fTaken && fQueue.size() < fMaxBatchSize && remaining > 0) {
+          try {
+            fQueue.wait(remaining);
+          } catch (InterruptedException e) {
+            interrupted = true;
+            break;
+          }
+          remaining = deadline - System.currentTimeMillis();
+        }
+      }
+    }
+
+    while (true) {
+
+      /* Wait while another Thread is writing this Unit */
+      synchronized (fQueue) {
+        while (entry.fTaken && !entry.fDone) {
+          try {
+            fQueue.wait();
+          } catch (InterruptedException e) {
+            interrupted = true;
+          }
+        }
+
+        if (entry.fDone)
+          break;
+      }
+
+      /* Write the next Batch (which may or may not contain this Unit) */
+      List<Entry> batch = null;
+      List<EventRunnable<?>> events = null;
+      fWriteLock.lock();
+      try {
+        synchronized (fQueue) {
+          if (!entry.fTaken)
+            batch = takeBatch();
+        }
+
+        if (batch != null)
+          events = write(batch);
+      } finally {
+        fWriteLock.unlock();
+      }
+
+      /* Fire Events outside the lock and release the waiting Threads */
+      if (batch != null) {
+        try {
+          fireEvents(events);
+        } finally {
+          synchronized (fQueue) {
+            for (Entry batchEntry : batch)
+              batchEntry.fDone = true;
+
+            fQueue.notifyAll();
+          }
+        }
+      }
+    }
+
+    if (interrupted)
+      Thread.currentThread().interrupt();
+
+    if (entry.fFailure != null)
+      throw entry.fFailure;
+  }
+
+  private List<Entry> takeBatch() {
+    List<Entry> head = fQueue.subList(0, Math.min(fQueue.size(), fMaxBatchSize));
+    List<Entry> batch = new ArrayList<Entry>(head);
+    head.clear();
+    for (Entry entry : batch)
+      entry.fTaken = true;
+
+    fLastBatchSize = batch.size();
+    return batch;
+  }
+
+  private List<EventRunnable<?>> write(List<Entry> batch) {
+    List<EventRunnable<?>> events = new ArrayList<EventRunnable<?>>();
+    RuntimeException failure = writeAndCommit(batch, events);
+
+    /* Retry the Units of a failed Batch one by one to only fail the broken Units */
+    if (failure != null && batch.size() > 1) {
+      for (Entry entry : batch)
+        setFailure(entry, writeAndCommit(Collections.singletonList(entry), events));
+    } else if (failure != null)
+      setFailure(batch.get(0), failure);
+
+    return events;
+  }
+
+  /* Writes and commits the given Entries and returns the failure if the transaction was rolled back */
+  private RuntimeException writeAndCommit(List<Entry> entries, List<EventRunnable<?>> events) {
+    int prepared = 0;
+    try {
+      for (Entry entry : entries) {
+        entry.fUnit.prepare();
+        prepared++;
+      }
+
+      for (Entry entry : entries)
+        entry.fUnit.write();
+
+      DBHelper.preCommit(fDb);
+      fDb.commit();
+
+      events.addAll(DBHelper.cleanUpEvents());
+      return null;
+    } catch (Db4oException e) {
+      return DBHelper.rollbackAndPE(fDb, e);
+    } catch (RuntimeException e) {
+      DBHelper.cleanUpEvents();
+      fDb.rollback();
+      return e;
+    } finally {
+      for (int i = 0; i < prepared; i++)
+        entries.get(i).fUnit.finish();
+    }
+  }
+
+  /*
+   * The Units of the Batch are committed at this point, so a failing listener
+   * is logged instead of being reported as failure to the submitting Threads.
+   */
+  private void fireEvents(List<EventRunnable<?>> events) {
+    for (EventRunnable<?> runnable : events) {
+      try {
+        runnable.run();
+      } catch (RuntimeException e) {
+        Activator.getDefault().logError(e.getMessage(), e);
+      }
+    }
+  }
+
+  private void setFailure(Entry entry, RuntimeException failure) {
+    synchronized (fQueue) {
+      entry.fFailure = failure;
+    }
+  }
+}
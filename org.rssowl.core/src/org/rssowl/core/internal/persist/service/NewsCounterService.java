@@ -43,6 +43,11 @@ import java.util.Map;
 /**
  * Service to update the news counter that is used for quick access of counts
  * per news state.
+ * <p>
+ * The counters are updated in memory while holding the lock of the
+ * <code>NewsCounter</code>. Changed items are written afterwards in one batch,
+ * so that readers of the counter are not blocked by the database.
+ * </p>
  */
 public final class NewsCounterService {
   private final ObjectContainer fDb;
@@ -71,37 +76,41 @@ public final class NewsCounterService {
         if (news.getParentId() != 0) //News is stored inside a Bin
           continue;
 
-        if (news.getState() == INews.State.DELETED) //Could be DELETED from filters
-          continue;
-
         NewsCounterItem newsCounterItem = fNewsCounter.get(news.getFeedLinkAsText());
 
         /* Create Counter if not yet done */
         if (newsCounterItem == null) {
-          newsCounterItem = new NewsCounterItem();
+          newsCounterItem = new NewsCounterItem(new int[INews.State.values().length], 0);
           fNewsCounter.put(news.getFeedLinkAsText(), newsCounterItem);
           newsCounterUpdated = true;
         }
 
         /* Update Counter */
+        if (newsCounterItem.hasStateCounters())
+          newsCounterItem.incrementCounter(news.getState());
+
+        updatedCounterItems.put(news.getFeedLinkAsText(), newsCounterItem);
+
+        if (news.getState() == INews.State.DELETED) //Could be DELETED from filters
+          continue;
+
         if (news.getState() == INews.State.NEW)
           newsCounterItem.incrementNewCounter();
         if (isUnread(news.getState()))
           newsCounterItem.incrementUnreadCounter();
         if (news.isFlagged())
           newsCounterItem.incrementStickyCounter();
-
-        if (!newsCounterUpdated)
-          updatedCounterItems.put(news.getFeedLinkAsText(), newsCounterItem);
       }
 
-      if (newsCounterUpdated)
+      /* Storing the Map of Counters also stores all Items */
+      if (newsCounterUpdated) {
         fDb.ext().set(fNewsCounter, Integer.MAX_VALUE);
-      else {
-        for (NewsCounterItem item : updatedCounterItems.values())
-          fDb.set(item);
+        return;
       }
     }
+
+    for (NewsCounterItem item : updatedCounterItems.values())
+      fDb.set(item);
   }
 
   /**
@@ -131,11 +140,17 @@ public final class NewsCounterService {
         boolean newStateSticky = currentNews.isFlagged() && currentNews.isVisible();
 
         /* No Change - continue */
-        if (oldStateUnread == currentStateUnread && oldStateNew == currentStateNew && oldStateSticky == newStateSticky)
+        if (oldNews.getState() == currentNews.getState() && oldStateSticky == newStateSticky)
           continue;
 
         NewsCounterItem counterItem = fNewsCounter.get(currentNews.getFeedLinkAsText());
 
+        /* State changed */
+        if (counterItem.hasStateCounters() && oldNews.getState() != currentNews.getState()) {
+          counterItem.decrementCounter(oldNews.getState());
+          counterItem.incrementCounter(currentNews.getState());
+        }
+
         /* News became read */
         if (oldStateUnread && !currentStateUnread)
           counterItem.decrementUnreadCounter();
@@ -162,10 +177,10 @@ public final class NewsCounterService {
 
         updatedCounterItems.put(currentNews.getFeedLinkAsText(), counterItem);
       }
-
-      for (NewsCounterItem counterItem : updatedCounterItems.values())
-        fDb.set(counterItem);
     }
+
+    for (NewsCounterItem counterItem : updatedCounterItems.values())
+      fDb.set(counterItem);
   }
 
   /**
@@ -178,14 +193,25 @@ public final class NewsCounterService {
 
     synchronized (fNewsCounter) {
       for (NewsEvent newsEvent : newsEvents) {
-        INews news = newsEvent.getEntity();
+        INews currentNews = newsEvent.getEntity();
 
-        if (news.getParentId() != 0) //News is stored inside a Bin
+        if (currentNews.getParentId() != 0) //News is stored inside a Bin
+          continue;
+
+        /*
+         * The Counter reflects the News as it was persisted. Changes within the
+         * same Transaction were never counted, since their events are dropped in
+         * favor of the remove event.
+         */
+        INews news = DBHelper.peekPersistedNews(fDb, currentNews);
+        if (news == null) //News was added in the same Transaction
           continue;
 
         NewsCounterItem counterItem = fNewsCounter.get(news.getFeedLinkAsText());
 
         /* Update Counter */
+        if (counterItem.hasStateCounters())
+          counterItem.decrementCounter(news.getState());
         if (news.getState() == INews.State.NEW)
           counterItem.decrementNewCounter();
         if (isUnread(news.getState()))
@@ -195,10 +221,10 @@ public final class NewsCounterService {
 
         updatedCounterItems.put(news.getFeedLinkAsText(), counterItem);
       }
-
-      for (NewsCounterItem counterItem : updatedCounterItems.values())
-        fDb.set(counterItem);
     }
+
+    for (NewsCounterItem counterItem : updatedCounterItems.values())
+      fDb.set(counterItem);
   }
 
   /**
@@ -213,7 +239,9 @@ public final class NewsCounterService {
     synchronized (fNewsCounter) {
       for (FeedEvent feedEvent : feedEvents) {
         IFeed feed = feedEvent.getEntity();
-        fNewsCounter.remove(feed.getLink().toString());
+        NewsCounterItem counterItem = fNewsCounter.remove(feed.getLink().toString());
+        if (counterItem != null)
+          fDb.delete(counterItem);
       }
 
       fDb.ext().set(fNewsCounter, Integer.MAX_VALUE);
@@ -223,4 +251,4 @@ public final class NewsCounterService {
   private static boolean isUnread(INews.State state) {
     return state == INews.State.NEW || state == INews.State.UPDATED || state == INews.State.UNREAD;
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,242 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2009 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.internal.persist.service;
+
+import org.rssowl.core.internal.persist.News;
+import org.rssowl.core.internal.persist.NewsEquivalenceEntry;
+import org.rssowl.core.persist.INews;
+import org.rssowl.core.persist.event.NewsEvent;
+import org.rssowl.core.util.CoreUtils;
+
+import com.db4o.ObjectContainer;
+import com.db4o.query.Constraint;
+import com.db4o.query.Query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service to update the {@link NewsEquivalenceEntry} objects that are used to
+ * find the equivalent news of a news by GUID or Link.
+ * <p>
+ * All news that are not stored inside a bin have entries. The entries are
+ * written in the same transaction as the news, so a lookup always includes
+ * news that have been saved before. The visibility of a news is checked when
+ * looking up equivalent news, so that changing the state of a news does not
+ * write any entries.
+ * </p>
+ */
+public final class NewsEquivalenceService {
+
+  /* Maximum number of Keys to look up with a single Query */
+  private static final int MAX_KEYS_PER_QUERY = 500;
+
+  private final ObjectContainer fDb;
+
+  public NewsEquivalenceService(ObjectContainer db) {
+    fDb = db;
+  }
+
+  /**
+   * Add the entries of the added news.
+   *
+   * @param newsEvents the added news
+   */
+  public void onNewsAdded(Collection<NewsEvent> newsEvents) {
+    for (NewsEvent newsEvent : newsEvents) {
+      INews news = newsEvent.getEntity();
+      for (String key : getKeys(news))
+        fDb.set(new NewsEquivalenceEntry(key, news.getId()));
+    }
+  }
+
+  /**
+   * Update the entries of the updated news. Nothing is written unless the GUID
+   * or Link of a news changed.
+   *
+   * @param newsEvents the updated news
+   */
+  public void onNewsUpdated(Collection<NewsEvent> newsEvents) {
+    for (NewsEvent newsEvent : newsEvents) {
+      INews oldNews = newsEvent.getOldNews();
+      INews currentNews = newsEvent.getEntity();
+
+      /* Old state is unknown, compare with the stored entries */
+      if (oldNews == null) {
+        updateEntries(currentNews);
+        continue;
+      }
+
+      if (!isKeyChanged(oldNews, currentNews))
+        continue;
+
+      List<String> oldKeys = getKeys(oldNews);
+      List<String> currentKeys = getKeys(currentNews);
+
+      long newsId = currentNews.getId();
+      for (String key : oldKeys) {
+        if (!currentKeys.contains(key))
+          deleteEntries(key, newsId);
+      }
+
+      for (String key : currentKeys) {
+        if (!oldKeys.contains(key))
+          fDb.set(new NewsEquivalenceEntry(key, newsId));
+      }
+    }
+  }
+
+  /**
+   * Delete the entries of the deleted news.
+   *
+   * @param newsEvents the deleted news
+   */
+  public void onNewsRemoved(Collection<NewsEvent> newsEvents) {
+    for (NewsEvent newsEvent : newsEvents) {
+      INews news = newsEvent.getEntity();
+      for (String key : getKeys(news))
+        deleteEntries(key, news.getId());
+    }
+  }
+
+  private void updateEntries(INews news) {
+    long newsId = news.getId();
+    List<String> currentKeys = new ArrayList<String>(getKeys(news));
+    for (NewsEquivalenceEntry entry : loadEntries(fDb, newsId)) {
+      if (!currentKeys.remove(entry.getKey()))
+        fDb.delete(entry);
+    }
+
+    for (String key : currentKeys)
+      fDb.set(new NewsEquivalenceEntry(key, newsId));
+  }
+
+  private boolean isKeyChanged(INews oldNews, INews currentNews) {
+    String oldGuid = oldNews.getGuid() != null ? oldNews.getGuid().getValue() : null;
+    String currentGuid = currentNews.getGuid() != null ? currentNews.getGuid().getValue() : null;
+    return !areEqual(oldGuid, currentGuid) || !areEqual(oldNews.getLinkAsText(), currentNews.getLinkAsText());
+  }
+
+  private boolean areEqual(Object o1, Object o2) {
+    return o1 == null ? o2 == null : o1.equals(o2);
+  }
+
+  private void deleteEntries(String key, long newsId) {
+    for (NewsEquivalenceEntry entry : loadEntries(fDb, key)) {
+      if (entry.getNewsId() == newsId)
+        fDb.delete(entry);
+    }
+  }
+
+  /**
+   * Adds the entries of a news that was loaded without activation callbacks,
+   * as done while migrating or defragmenting the database.
+   *
+   * @param db the database to add the entries to.
+   * @param news the news to add the entries for.
+   */
+  public static void addEntries(ObjectContainer db, News news) {
+    news.init();
+    for (String key : getKeys(news))
+      db.set(new NewsEquivalenceEntry(key, news.getId()));
+  }
+
+  /**
+   * @param news the news to get the keys for.
+   * @return the keys of the entries the news should have, which is an empty
+   * list for news that are stored inside a bin.
+   */
+  public static List<String> getKeys(INews news) {
+    if (news.getParentId() != 0) //News is stored inside a Bin
+      return Collections.emptyList();
+
+    return NewsEquivalenceEntry.getKeys(news);
+  }
+
+  /**
+   * @param db the database to query.
+   * @param key the key of the entries.
+   * @return all entries with the given key.
+   */
+  @SuppressWarnings("unchecked")
+  public static List<NewsEquivalenceEntry> loadEntries(ObjectContainer db, String key) {
+    Query query = db.query();
+    query.constrain(NewsEquivalenceEntry.class);
+    query.descend("fKey").constrain(key); //$NON-NLS-1$
+    return new ArrayList<NewsEquivalenceEntry>(query.execute());
+  }
+
+  /**
+   * @param db the database to query.
+   * @param keys the keys of the entries.
+   * @return all entries with one of the given keys, mapped by key. Keys without
+   * entries are not contained.
+   */
+  @SuppressWarnings("unchecked")
+  public static Map<String, List<NewsEquivalenceEntry>> loadEntries(ObjectContainer db, Collection<String> keys) {
+    Map<String, List<NewsEquivalenceEntry>> entries = new HashMap<String, List<NewsEquivalenceEntry>>(keys.size());
+    for (List<String> chunk : CoreUtils.toChunks(new ArrayList<String>(keys), MAX_KEYS_PER_QUERY)) {
+
+      /* One Query for all Keys of the Chunk */
+      Query query = db.query();
+      query.constrain(NewsEquivalenceEntry.class);
+      Query keyQuery = query.descend("fKey"); //$NON-NLS-1$
+      Constraint constraint = null;
+      for (String key : chunk) {
+        Constraint keyConstraint = keyQuery.constrain(key);
+        constraint = (constraint == null) ? keyConstraint : constraint.or(keyConstraint);
+      }
+
+      List<NewsEquivalenceEntry> result = query.execute();
+      for (NewsEquivalenceEntry entry : result) {
+        List<NewsEquivalenceEntry> entriesWithKey = entries.get(entry.getKey());
+        if (entriesWithKey == null) {
+          entriesWithKey = new ArrayList<NewsEquivalenceEntry>(2);
+          entries.put(entry.getKey(), entriesWithKey);
+        }
+        entriesWithKey.add(entry);
+      }
+    }
+
+    return entries;
+  }
+
+  /**
+   * @param db the database to query.
+   * @param newsId the identifier of the news.
+   * @return all entries of the news with the given identifier.
+   */
+  @SuppressWarnings("unchecked")
+  public static List<NewsEquivalenceEntry> loadEntries(ObjectContainer db, long newsId) {
+    Query query = db.query();
+    query.constrain(NewsEquivalenceEntry.class);
+    query.descend("fNewsId").constrain(Long.valueOf(newsId)); //$NON-NLS-1$
+    return new ArrayList<NewsEquivalenceEntry>(query.execute());
+  }
+}
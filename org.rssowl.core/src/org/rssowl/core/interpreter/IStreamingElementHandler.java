@@ -0,0 +1,64 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2009 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.interpreter;
+
+import org.jdom.Element;
+
+/**
+ * A handler that is called by an {@link IStreamingXMLParser} while a Document
+ * is being parsed. Elements are either <em>streamed</em>, in which case only
+ * their start is reported and their children are passed to the handler one by
+ * one, or built completely before they are passed to the handler.
+ * <p>
+ * Elements that have been passed to the handler are removed from the Document
+ * afterwards, so that the Document never has to be held in memory as a whole.
+ * </p>
+ *
+ * @see IStreamingXMLParser
+ * @see IStreamingFormatInterpreter
+ */
+public interface IStreamingElementHandler {
+
+  /**
+   * This Method is called for the root Element and for every direct child of a
+   * streamed Element once it has been started. The Element provides its name,
+   * namespace and attributes, but none of its children.
+   *
+   * @param element The Element that has been started.
+   * @return <code>true</code> to stream the children of this Element or
+   * <code>false</code> to have it built completely and passed to
+   * {@link #processElement(Element)} once ended.
+   */
+  boolean startElement(Element element);
+
+  /**
+   * This Method is called for every direct child of a streamed Element that
+   * has been built completely. The Element is still attached to its parent
+   * while this Method is called and removed afterwards.
+   *
+   * @param element The Element to process.
+   */
+  void processElement(Element element);
+}
@@ -0,0 +1,52 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2009 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.interpreter;
+
+import org.rssowl.core.persist.IFeed;
+
+/**
+ * An extension to the {@link IFormatInterpreter} for Interpreters that are able
+ * to interpret a Feed while it is being parsed by an
+ * {@link IStreamingXMLParser}. The produced Feed must be the same as if the
+ * parsed <code>org.jdom.Document</code> was passed to
+ * {@link IFormatInterpreter#interpret(org.jdom.Document, IFeed)}.
+ * <p>
+ * Contributed via <code>org.rssowl.core.FormatInterpreter</code> Extension
+ * Point.
+ * </p>
+ */
+public interface IStreamingFormatInterpreter extends IFormatInterpreter {
+
+  /**
+   * Creates a handler that interprets the Elements of a single Document into
+   * the given Feed while it is being parsed. Since Documents can be parsed
+   * concurrently, the handler must not share any state with other handlers.
+   *
+   * @param feed An instanceof IFeed that stores the interpreted Feed.
+   * @return a handler that interprets the Elements of a single Document into
+   * the given Feed.
+   */
+  IStreamingElementHandler createStreamingHandler(IFeed feed);
+}
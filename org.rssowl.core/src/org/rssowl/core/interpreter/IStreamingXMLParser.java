@@ -0,0 +1,58 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2009 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.core.interpreter;
+
+import org.jdom.Document;
+
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * An extension to the {@link IXMLParser} for Parsers that are able to pass
+ * Elements to an {@link IStreamingElementHandler} while the InputStream is
+ * being parsed, instead of building the entire <code>org.jdom.Document</code>
+ * first. If the contributed XML-Parser implements this interface, Feeds are
+ * interpreted by Interpreters implementing
+ * {@link IStreamingFormatInterpreter} while they are parsed.
+ * <p>
+ * Contributed via <code>org.rssowl.core.XMLParser</code> Extension Point.
+ * </p>
+ */
+public interface IStreamingXMLParser extends IXMLParser {
+
+  /**
+   * Parse the given InputStream and pass its Elements to the given handler.
+   *
+   * @param inS The InputStream to parse.
+   * @param properties a map of properties to configure parsing or
+   * <code>null</code> if none.
+   * @param handler the handler to pass Elements to while parsing.
+   * @return An instance of <code>org.jdom.Document</code> as parsed
+   * InputStream without the Elements that have been passed to the handler.
+   * @throws ParserException Checked Exception to be used in case of any
+   * Exception.
+   */
+  Document parse(InputStream inS, Map<Object, Object> properties, IStreamingElementHandler handler) throws ParserException;
+}
@@ -600,12 +600,13 @@ public interface IFeed extends IEntity, MergeCapable<IFeed> {
 
   /**
    * @return On of the constants defined in <code>IFeed</code> for Update
-   * Periods.
+   * Periods or <code>-1</code> if none.
    */
   int getUpdatePeriod();
 
   /**
-   * @return The frequency of updates in relation to the update period.
+   * @return The frequency of updates in relation to the update period or
+   * <code>0</code> if none.
    */
   int getUpdateFrequency();
 
@@ -701,12 +702,13 @@ public interface IFeed extends IEntity, MergeCapable<IFeed> {
   int getTTL();
 
   /**
-   * @return Days to Skip...
+   * @return Days to Skip as indices into <code>IFeed.DAYS</code> or
+   * <code>null</code> if none.
    */
   int[] getDaysToSkip();
 
   /**
-   * @return Hours to Skip...
+   * @return Hours to Skip (0-23) or <code>null</code> if none.
    */
   int[] getHoursToSkip();
 
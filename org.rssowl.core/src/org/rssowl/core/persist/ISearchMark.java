@@ -30,6 +30,7 @@ import org.rssowl.core.util.Pair;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * A SearchMark acts like a virtual folder. The user defines some criteria, e.g.
@@ -70,6 +71,24 @@ public interface ISearchMark extends INewsMark, ISearch {
    */
   Pair<Boolean, Boolean> setNewsRefs(Map<INews.State, List<NewsReference>> results);
 
+  /**
+   * Updates the result of this search mark for the News with the given IDs
+   * only. Any of these News that is part of the current result is replaced by
+   * the given results, all other News of the current result remain unchanged.
+   * This allows to update the result after a few News have changed without
+   * having to perform the search again.
+   *
+   * @param newsIds the IDs of the News that have changed.
+   * @param results the changed News that match the search represented by a
+   * non-null Map (typically an EnumMap) of <code>INews.State</code> to a List
+   * of <code>NewsReference</code>s.
+   * @return Returns a {@link Pair} where the first {@link Boolean} indicates
+   * whether the new result differs from the existing one and the second
+   * {@link Boolean} indicates if there is any *new* news that where added with
+   * the new result.
+   */
+  Pair<Boolean, Boolean> updateNewsRefs(Set<Long> newsIds, Map<INews.State, List<NewsReference>> results);
+
   /*
    * @see org.rssowl.core.persist.IEntity#toReference()
    */
@@ -28,6 +28,7 @@ import org.rssowl.core.internal.persist.Persistable;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * The <code>NewsCounter</code> stores and provides access to
@@ -84,6 +85,50 @@ public final class NewsCounter extends Persistable {
     return fCountersMap.remove(link);
   }
 
+  /**
+   * Returns whether all <code>NewsCounterItem</code> count the News of their
+   * feed per state.
+   *
+   * @return <code>true</code> if all <code>NewsCounterItem</code> count the
+   * News of their feed per state and <code>false</code> otherwise.
+   * @see NewsCounterItem#hasStateCounters()
+   */
+  public synchronized boolean hasStateCounters() {
+    if (fCountersMap == null)
+      return true;
+
+    for (NewsCounterItem counter : fCountersMap.values()) {
+      if (!counter.hasStateCounters())
+        return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * Returns the number of News for the feed with {@code feedLink} having any of
+   * the given states or <code>-1</code> if the <code>NewsCounterItem</code> of
+   * the feed does not count News per state.
+   *
+   * @param feedLink The link of the Feed.
+   * @param states The states of the News to count.
+   * @return the number of News for the Feed having the given link and any of
+   * the given states or <code>-1</code> if unknown.
+   */
+  public synchronized int getCount(String feedLink, Set<INews.State> states) {
+    NewsCounterItem counter = get(feedLink);
+
+    /* Feed has no news */
+    if (counter == null)
+      return 0;
+
+    /* Counter from a previous Version */
+    if (!counter.hasStateCounters())
+      return -1;
+
+    return counter.getCounter(states);
+  }
+
   /**
    * Returns the number of new News for the feed with {@code feedLink}.
    *
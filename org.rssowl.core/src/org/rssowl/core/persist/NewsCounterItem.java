@@ -27,6 +27,8 @@ package org.rssowl.core.persist;
 import org.eclipse.core.runtime.Assert;
 import org.rssowl.core.internal.persist.Persistable;
 
+import java.util.Set;
+
 /**
  * Instances of <code>NewsCounterItem</code> store number values and are kept by
  * a <code>NewsCounter</code>. They provide leightweight access to certain
@@ -38,6 +40,7 @@ public final class NewsCounterItem extends Persistable {
   private int fNewCounter;
   private int fUnreadCounter;
   private int fStickyCounter;
+  private int[] fStateCounters;
 
   /** Default constructor for reflection */
   public NewsCounterItem() {}
@@ -56,6 +59,78 @@ public final class NewsCounterItem extends Persistable {
     fStickyCounter = stickyCounter;
   }
 
+  /**
+   * @param stateCounters number of News per state, indexed by the ordinal of
+   * the state
+   * @param stickyCounter number of sticky news
+   */
+  public NewsCounterItem(int[] stateCounters, int stickyCounter) {
+    Assert.isLegal(stateCounters.length == INews.State.values().length, "stateCounters must have one value per state"); //$NON-NLS-1$
+    Assert.isLegal(stickyCounter >= 0, "stickyCounter should be >= 0"); //$NON-NLS-1$
+    fStateCounters = new int[stateCounters.length];
+    for (INews.State state : INews.State.values()) {
+      Assert.isLegal(stateCounters[state.ordinal()] >= 0, "stateCounters should be >= 0"); //$NON-NLS-1$
+      fStateCounters[state.ordinal()] = stateCounters[state.ordinal()];
+    }
+
+    fNewCounter = getCounter(INews.State.NEW);
+    fUnreadCounter = getCounter(INews.State.NEW) + getCounter(INews.State.UNREAD) + getCounter(INews.State.UPDATED);
+    fStickyCounter = stickyCounter;
+  }
+
+  /**
+   * @return <code>true</code> if this item counts the News of the feed per
+   * state and <code>false</code> if it was created before these counters
+   * existed.
+   */
+  public final boolean hasStateCounters() {
+    return fStateCounters != null;
+  }
+
+  /**
+   * @param state the state of the News to count
+   * @return Returns the number of News of the feed with the given state.
+   */
+  public final int getCounter(INews.State state) {
+    Assert.isNotNull(fStateCounters, "fStateCounters"); //$NON-NLS-1$
+    return fStateCounters[state.ordinal()];
+  }
+
+  /**
+   * @param states the states of the News to count
+   * @return Returns the number of News of the feed with any of the given
+   * states.
+   */
+  public final int getCounter(Set<INews.State> states) {
+    Assert.isNotNull(fStateCounters, "fStateCounters"); //$NON-NLS-1$
+    int count = 0;
+    for (INews.State state : states)
+      count += fStateCounters[state.ordinal()];
+
+    return count;
+  }
+
+  /**
+   * Increment the number of News of the feed with the given state.
+   *
+   * @param state the state of the News
+   */
+  public final void incrementCounter(INews.State state) {
+    Assert.isNotNull(fStateCounters, "fStateCounters"); //$NON-NLS-1$
+    ++fStateCounters[state.ordinal()];
+  }
+
+  /**
+   * Decrement the number of News of the feed with the given state.
+   *
+   * @param state the state of the News
+   */
+  public final void decrementCounter(INews.State state) {
+    Assert.isNotNull(fStateCounters, "fStateCounters"); //$NON-NLS-1$
+    Assert.isTrue(fStateCounters[state.ordinal()] > 0, "stateCounter must not be negative"); //$NON-NLS-1$
+    --fStateCounters[state.ordinal()];
+  }
+
   /**
    * @return Returns the value of *new* News contained in the feed.
    */
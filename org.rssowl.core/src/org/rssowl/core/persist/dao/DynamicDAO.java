@@ -94,6 +94,26 @@ public final class DynamicDAO {
     return dao.load(id);
   }
 
+  /**
+   * Loads the entities of type <code>entityClass</code> with the given ids
+   * from the persistence system. Ids for which no entity exists are ignored.
+   *
+   * @param <T> The type of the entities to be loaded.
+   * @param entityClass The Class of the entities to be loaded.
+   * @param ids The ids of the entities to load from the persistence system.
+   * @return a <code>List</code> of the entities in the same order as the
+   * provided <code>ids</code>.
+   * @throws PersistenceException In case of an error while loading the
+   * entities.
+   * @throws IllegalArgumentException if there is no DAO for
+   * <code>entityClass</code>.
+   */
+  public static <T extends IEntity> List<T> loadAll(Class<T> entityClass, long[] ids) throws PersistenceException {
+    IEntityDAO<T, ?, ?> dao = getDAOFromEntity(entityClass);
+    checkEntityDAO(entityClass, dao);
+    return dao.loadAll(ids);
+  }
+
   /**
    * Loads a <code>Collection</code> of all <code>IPersistable</code>s of type
    * <code>persistableClass</code>.
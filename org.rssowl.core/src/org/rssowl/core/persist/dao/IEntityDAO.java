@@ -30,6 +30,7 @@ import org.rssowl.core.persist.event.ModelEvent;
 import org.rssowl.core.persist.event.runnable.EventType;
 import org.rssowl.core.persist.service.PersistenceException;
 
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -68,6 +69,21 @@ public interface IEntityDAO<T extends IEntity, L extends EntityListener<E, T>, E
    */
   T load(long id) throws PersistenceException;
 
+  /**
+   * Loads the persistables with the given <code>ids</code> from the
+   * persistence system. This is considerably faster than calling
+   * {@link #load(long)} for each id. Ids for which no persistable exists are
+   * ignored.
+   *
+   * @param ids The ids of the persistables to load from the persistence
+   * system.
+   * @return a <code>List</code> of the persistables in the same order as the
+   * provided <code>ids</code>.
+   * @throws PersistenceException In case of an error while loading the
+   * persistables.
+   */
+  List<T> loadAll(long[] ids) throws PersistenceException;
+
   /**
    * Adds a listener to the collection of listeners who will be notified
    * whenever entities of type <code>T extends IEntity</code> get added,
@@ -31,6 +31,7 @@ import org.rssowl.core.persist.reference.FeedLinkReference;
 import org.rssowl.core.persist.service.PersistenceException;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -83,4 +84,16 @@ public interface INewsDAO extends IEntityDAO<INews, NewsListener, NewsEvent> {
    * @throws PersistenceException
    */
   void setState(Set<INews.State> originalStates, INews.State state, boolean affectEquivalentNews) throws PersistenceException;
+
+  /**
+   * Loads the descriptions of all the news with the given identifiers in one
+   * batch. This is faster than calling {@link INews#getDescription()} for each
+   * of the news when many of them are shown at once.
+   *
+   * @param newsIds The identifiers of the news to load the descriptions for.
+   * @return A Map of news identifier to description. News without description
+   * are not contained.
+   * @throws PersistenceException
+   */
+  Map<Long, String> loadDescriptions(long[] newsIds) throws PersistenceException;
 }
\ No newline at end of file
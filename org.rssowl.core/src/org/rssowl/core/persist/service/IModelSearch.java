@@ -25,6 +25,7 @@
 package org.rssowl.core.persist.service;
 
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.rssowl.core.persist.INews;
 import org.rssowl.core.persist.ISearch;
 import org.rssowl.core.persist.ISearchCondition;
 import org.rssowl.core.persist.reference.NewsReference;
@@ -32,10 +33,17 @@ import org.rssowl.core.util.SearchHit;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * The central interface for searching types from the persistance layer. The
  * implementation is contributable via extension-point mechanism.
+ * <p>
+ * Implementations may make changes to the index visible to searches with a
+ * short delay in order not to block searches while the index is written. In
+ * that case, {@link IndexListener}s are notified once the changes can be
+ * found.
+ * </p>
  *
  * @author bpasero
  */
@@ -46,8 +54,9 @@ public interface IModelSearch {
    *
    * @param search the instanceof {@link ISearch} describing the search to
    * perform.
-   * @return Returns the result of the search as <code>List</code>. In case no
-   * type is matching the search, an empty <code>List</code> is returned.
+   * @return Returns the result of the search as unmodifiable <code>List</code>.
+   * In case no type is matching the search, an empty <code>List</code> is
+   * returned.
    * @throws PersistenceException In case of an error while searching.
    */
   public List<SearchHit<NewsReference>> searchNews(ISearch search) throws PersistenceException;
@@ -60,8 +69,9 @@ public interface IModelSearch {
    * @param matchAllConditions If <code>TRUE</code>, require all conditions to
    * match, and if <code>FALSE</code>, News are considered a result when they
    * match at least 1 condition.
-   * @return Returns the result of the search as <code>List</code>. In case no
-   * type is matching the search, an empty <code>List</code> is returned.
+   * @return Returns the result of the search as unmodifiable <code>List</code>.
+   * In case no type is matching the search, an empty <code>List</code> is
+   * returned.
    * @throws PersistenceException In case of an error while searching.
    */
   List<SearchHit<NewsReference>> searchNews(Collection<ISearchCondition> conditions, boolean matchAllConditions) throws PersistenceException;
@@ -76,12 +86,29 @@ public interface IModelSearch {
    * @param matchAllConditions If <code>TRUE</code>, require all conditions to
    * match, and if <code>FALSE</code>, News are considered a result when they
    * match at least 1 condition.
-   * @return Returns the result of the search as <code>List</code>. In case no
-   * type is matching the search, an empty <code>List</code> is returned.
+   * @return Returns the result of the search as unmodifiable <code>List</code>.
+   * In case no type is matching the search, an empty <code>List</code> is
+   * returned.
    * @throws PersistenceException In case of an error while searching.
    */
   List<SearchHit<NewsReference>> searchNews(Collection<ISearchCondition> conditions, ISearchCondition scope, boolean matchAllConditions) throws PersistenceException;
 
+  /**
+   * Matches the given News against each of the given searches without using
+   * the search index. This allows to find out which searches are affected by a
+   * set of changed News without having to run every search against the entire
+   * index.
+   *
+   * @param <T> the type of {@link ISearch} to match against.
+   * @param news the News to match against the searches.
+   * @param searches the searches to match the News against.
+   * @return Returns a <code>Map</code> of search to the News that match the
+   * search as unmodifiable <code>List</code>. Searches that are not matching
+   * any of the News are not contained.
+   * @throws PersistenceException In case of an error while searching.
+   */
+  <T extends ISearch> Map<T, List<SearchHit<NewsReference>>> matchNews(Collection<INews> news, Collection<T> searches) throws PersistenceException;
+
   /**
    * Releases all resources used by the implementor of this interface. The
    * difference between this method and <code>stopIndexer</code> is that, in
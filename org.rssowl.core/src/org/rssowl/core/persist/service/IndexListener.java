@@ -35,6 +35,7 @@ public interface IndexListener {
   /**
    * Notifies that the Index of the <code>IModelSearch</code> implementation
    * has been updated (e.g. new entities indexed or existing entities updated).
+   * Searches performed after this notification will reflect the update.
    *
    * @param entitiesCount The number of entities that have been updated in the
    * index.
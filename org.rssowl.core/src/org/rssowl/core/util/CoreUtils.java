@@ -2150,4 +2150,38 @@ public class CoreUtils {
 
     return chunkList;
   }
+
+  /**
+   * @param propertyName the name of the System Property to read.
+   * @param defaultValue the value to use if the property is not set or not a
+   * positive number.
+   * @return the positive <code>int</code> value of the System Property or the
+   * provided default value.
+   */
+  public static int getIntProperty(String propertyName, int defaultValue) {
+    return (int) Math.min(Integer.MAX_VALUE, getLongProperty(propertyName, defaultValue));
+  }
+
+  /**
+   * @param propertyName the name of the System Property to read.
+   * @param defaultValue the value to use if the property is not set or not a
+   * positive number.
+   * @return the positive <code>long</code> value of the System Property or the
+   * provided default value.
+   */
+  public static long getLongProperty(String propertyName, long defaultValue) {
+    String propertyValue = System.getProperty(propertyName);
+
+    if (propertyValue != null) {
+      try {
+        long longProperty = Long.parseLong(propertyValue);
+        if (longProperty > 0)
+          return longProperty;
+      } catch (NumberFormatException e) {
+        /* Let it fall through and use default */
+      }
+    }
+
+    return defaultValue;
+  }
 }
\ No newline at end of file
@@ -29,6 +29,7 @@ import org.rssowl.core.persist.INews;
 
 import java.text.DateFormat;
 import java.text.ParseException;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
@@ -49,8 +50,52 @@ public class DateUtils {
   /** 1 Week in Millis */
   public static final long WEEK = 7 * DAY;
 
-  /* An array of custom date formats */
-  private static final DateFormat[] CUSTOM_DATE_FORMATS;
+  /* An array of custom date format patterns */
+  private static final String[] CUSTOM_DATE_PATTERNS;
+
+  /* The custom date formats per Thread, since SimpleDateFormat is not Thread-Safe */
+  private static final ThreadLocal<DateFormat[]> CUSTOM_DATE_FORMATS = new ThreadLocal<DateFormat[]>() {
+    @Override
+    protected DateFormat[] initialValue() {
+      DateFormat[] formats = new DateFormat[CUSTOM_DATE_PATTERNS.length];
+      for (int i = 0; i < CUSTOM_DATE_PATTERNS.length; i++)
+        formats[i] = createDateFormat(CUSTOM_DATE_PATTERNS[i]);
+
+      return formats;
+    }
+  };
+
+  /* Returned from the Fast Path of parseDate() for an unsupported String */
+  private static final long UNPARSED = Long.MIN_VALUE;
+
+  /* Marks a time zone name that can not be resolved to a fixed offset */
+  private static final int UNKNOWN_OFFSET = Integer.MIN_VALUE;
+
+  /* Days from 0001-01-01 to 1970-01-01 in the proleptic Gregorian Calendar */
+  private static final long DAYS_TO_EPOCH = 719162L;
+
+  /* Days before the first of each month in a non-leap year */
+  private static final int[] DAYS_BEFORE_MONTH = { 0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334 };
+
+  /* Abbreviated names of months and days as used by RFC 822 */
+  private static final String[] MONTHS = { "Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$ //$NON-NLS-11$ //$NON-NLS-12$
+  private static final String[] DAYS = { "Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
+
+  /* Years before are parsed by the Julian Calendar in SimpleDateFormat */
+  private static final int MIN_YEAR = 1600;
+
+  /* Start of the 100 Years that 2-digit Years are mapped into (like SimpleDateFormat) */
+  private static final int CENTURY_START_YEAR;
+
+  /* The time zone names of RFC 822 and their offset in hours */
+  private static final String[] ZONE_NAMES = { "EST", "EDT", "CST", "CDT", "MST", "MDT", "PST", "PDT" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$
+  private static final int[] ZONE_OFFSETS = { -5, -4, -6, -5, -7, -6, -8, -7 };
+
+  /* The custom formats apply the rules of a named zone at the date, which are stable since 1970 */
+  private static final int MIN_ZONE_NAME_YEAR = 1970;
+
+  /* Whether the custom formats agree on the offset of the time zone names */
+  private static final boolean[] ZONE_NAME_SUPPORTED = new boolean[ZONE_NAMES.length];
 
   /* The Default Timezone to be used */
   private static final TimeZone TIMEZONE = TimeZone.getTimeZone("UTC"); //$NON-NLS-1$
@@ -123,6 +168,11 @@ public class DateUtils {
   /**
    * Tries different date formats to parse against the given string
    * representation to retrieve a valid Date object.
+   * <p>
+   * The common forms of RFC 822 and ISO 8601 are parsed directly from the
+   * String and only other Strings are matched against a list of date formats.
+   * This Method is safe to be called from multiple Threads concurrently.
+   * </p>
    *
    * @param strdate Date as String
    * @return Date The parsed Date
@@ -133,8 +183,18 @@ public class DateUtils {
     if (strdate == null || strdate.length() == 0)
       return null;
 
-    Date result = null;
     strdate = strdate.trim();
+
+    /* Fast Path: Parse common formats directly */
+    long time = parseCommonFormats(strdate);
+    if (time != UNPARSED)
+      return new Date(time);
+
+    return parseCustomFormats(strdate);
+  }
+
+  private static Date parseCustomFormats(String strdate) {
+    Date result = null;
     if (strdate.length() > 10) {
 
       /* Open: deal with +4:00 (no zero before hour) */
@@ -159,17 +219,11 @@ public class DateUtils {
     }
 
     /* Try to parse the date */
+    DateFormat[] formats = CUSTOM_DATE_FORMATS.get();
     int i = 0;
-    while (i < CUSTOM_DATE_FORMATS.length) {
+    while (i < formats.length) {
       try {
-
-        /*
-         * This Block needs to be synchronized, because the parse-Method in
-         * SimpleDateFormat is not Thread-Safe.
-         */
-        synchronized (CUSTOM_DATE_FORMATS[i]) {
-          return CUSTOM_DATE_FORMATS[i].parse(strdate);
-        }
+        return formats[i].parse(strdate);
       } catch (ParseException e) {
         i++;
       } catch (NumberFormatException e) {
@@ -179,11 +233,323 @@ public class DateUtils {
     return result;
   }
 
+  /*
+   * Parses the RFC 822 and ISO 8601 forms that occur in most feeds without
+   * allocating or locking. The result is the same as from the custom date
+   * formats. Returns UNPARSED for any String that is not understood, even if
+   * the custom date formats would accept it.
+   */
+  private static long parseCommonFormats(String str) {
+    int length = str.length();
+    if (length < 10)
+      return UNPARSED;
+
+    if (isDigit(str.charAt(0)) && str.charAt(4) == '-')
+      return parseIso8601(str);
+
+    return parseRfc822(str);
+  }
+
+  /*
+   * yyyy-MM-dd or yyyy-MM-ddTHH:mm[:ss[.SSS]][zone] where zone is Z or a numeric
+   * offset. Seconds are required if no zone is given.
+   */
+  private static long parseIso8601(String str) {
+    int length = str.length();
+    if (str.charAt(7) != '-')
+      return UNPARSED;
+
+    int year = parseDigits(str, 0, 4);
+    int month = parseDigits(str, 5, 2) - 1;
+    int day = parseDigits(str, 8, 2);
+    if (!isValidDate(year, month, day))
+      return UNPARSED;
+
+    /* Date only */
+    if (length == 10)
+      return toMillis(year, month, day, 0, 0, 0, 0, 0);
+
+    /* Time */
+    if (length < 16 || str.charAt(10) != 'T' || str.charAt(13) != ':')
+      return UNPARSED;
+
+    int hour = parseDigits(str, 11, 2);
+    int minute = parseDigits(str, 14, 2);
+    int second = -1;
+    int millis = 0;
+    int pos = 16;
+    if (pos < length && str.charAt(pos) == ':') {
+      second = parseDigits(str, pos + 1, 2);
+      if (second < 0)
+        return UNPARSED;
+
+      pos += 3;
+      if (pos < length && str.charAt(pos) == '.') {
+        millis = parseDigits(str, pos + 1, 3);
+        if (millis < 0)
+          return UNPARSED;
+
+        pos += 4;
+      }
+    }
+
+    if (!isValidTime(hour, minute, second))
+      return UNPARSED;
+
+    /* Time Zone */
+    int offset;
+    if (pos == length || (pos == length - 1 && str.charAt(pos) == 'Z')) {
+
+      /* Without Seconds and Zone the custom formats only pick up the Date */
+      if (second < 0 && pos == length)
+        return UNPARSED;
+
+      /* The custom formats only read Milliseconds in front of a numeric offset */
+      offset = 0;
+      millis = 0;
+    } else {
+      offset = parseNumericOffset(str, pos);
+      if (offset == UNKNOWN_OFFSET)
+        return UNPARSED;
+    }
+
+    return toMillis(year, month, day, hour, minute, Math.max(second, 0), millis, offset);
+  }
+
+  /*
+   * [EEE, ]d MMM yy HH:mm[:ss][ zone] where yy has 2 or 4 digits and zone is
+   * a numeric offset or a time zone name. The zone is required if the day of
+   * week or the seconds are missing.
+   */
+  private static long parseRfc822(String str) {
+    int length = str.length();
+    int pos = 0;
+
+    /* Day of Week (ignored like in the custom formats) */
+    boolean hasDayOfWeek = !isDigit(str.charAt(0));
+    if (hasDayOfWeek) {
+      if (indexOfName(str, 0, DAYS) < 0 || str.charAt(3) != ',' || str.charAt(4) != ' ')
+        return UNPARSED;
+
+      pos = 5;
+    }
+
+    /* Day (optionally padded with a space) */
+    if (hasDayOfWeek && str.charAt(pos) == ' ')
+      pos++;
+
+    int day = parseDigits(str, pos, 1);
+    if (day < 0 || pos + 1 >= length)
+      return UNPARSED;
+
+    pos++;
+    if (isDigit(str.charAt(pos)))
+      day = day * 10 + (str.charAt(pos++) - '0');
+
+    /* Month */
+    if (pos + 5 > length || str.charAt(pos) != ' ' || str.charAt(pos + 4) != ' ')
+      return UNPARSED;
+
+    int month = indexOfName(str, pos + 1, MONTHS);
+    pos += 5;
+
+    /* Year */
+    int year;
+    if (pos + 3 <= length && str.charAt(pos + 2) == ' ') {
+      year = parseDigits(str, pos, 2);
+      if (year < 0 || year == CENTURY_START_YEAR % 100)
+        return UNPARSED;
+
+      year += (CENTURY_START_YEAR / 100) * 100 + (year < CENTURY_START_YEAR % 100 ? 100 : 0);
+      pos += 3;
+    } else if (pos + 5 <= length && str.charAt(pos + 4) == ' ') {
+      year = parseDigits(str, pos, 4);
+      pos += 5;
+    } else
+      return UNPARSED;
+
+    if (!isValidDate(year, month, day))
+      return UNPARSED;
+
+    /* Time */
+    if (pos + 5 > length || str.charAt(pos + 2) != ':')
+      return UNPARSED;
+
+    int hour = parseDigits(str, pos, 2);
+    int minute = parseDigits(str, pos + 3, 2);
+    int second = -1;
+    pos += 5;
+    if (pos < length && str.charAt(pos) == ':') {
+      second = parseDigits(str, pos + 1, 2);
+      if (second < 0)
+        return UNPARSED;
+
+      pos += 3;
+    }
+
+    if (!isValidTime(hour, minute, second))
+      return UNPARSED;
+
+    /* Time Zone */
+    int offset;
+    if (pos == length) {
+      if (!hasDayOfWeek || second < 0)
+        return UNPARSED;
+
+      offset = 0;
+    } else {
+      if (str.charAt(pos) != ' ' || pos + 1 == length)
+        return UNPARSED;
+
+      char c = str.charAt(pos + 1);
+      if (c == '+' || c == '-')
+        offset = parseNumericOffset(str, pos + 1);
+      else
+        offset = getZoneOffset(str, pos + 1, year);
+
+      if (offset == UNKNOWN_OFFSET)
+        return UNPARSED;
+    }
+
+    return toMillis(year, month, day, hour, minute, Math.max(second, 0), 0, offset);
+  }
+
+  /* +hhmm, +hh:mm or +h:mm up to the end of the String */
+  private static int parseNumericOffset(String str, int pos) {
+    int length = str.length() - pos;
+    char sign = str.charAt(pos);
+    if (sign != '+' && sign != '-')
+      return UNKNOWN_OFFSET;
+
+    int hours;
+    int minutes;
+    if (length == 5 && str.charAt(pos + 2) == ':') {
+      hours = parseDigits(str, pos + 1, 1);
+      minutes = parseDigits(str, pos + 3, 2);
+    } else if (length == 5) {
+      hours = parseDigits(str, pos + 1, 2);
+      minutes = parseDigits(str, pos + 3, 2);
+    } else if (length == 6 && str.charAt(pos + 3) == ':') {
+      hours = parseDigits(str, pos + 1, 2);
+      minutes = parseDigits(str, pos + 4, 2);
+    } else
+      return UNKNOWN_OFFSET;
+
+    if (hours < 0 || hours > 23 || minutes < 0 || minutes > 59)
+      return UNKNOWN_OFFSET;
+
+    int offset = (hours * 60 + minutes) * 60 * 1000;
+    return sign == '-' ? -offset : offset;
+  }
+
+  /* A time zone name up to the end of the String */
+  private static int getZoneOffset(String str, int pos, int year) {
+    if (str.length() - pos != 3)
+      return UNKNOWN_OFFSET;
+
+    if (str.startsWith("GMT", pos) || str.startsWith("UTC", pos)) //$NON-NLS-1$ //$NON-NLS-2$
+      return 0;
+
+    if (year >= MIN_ZONE_NAME_YEAR) {
+      for (int i = 0; i < ZONE_NAMES.length; i++) {
+        if (ZONE_NAME_SUPPORTED[i] && str.startsWith(ZONE_NAMES[i], pos))
+          return ZONE_OFFSETS[i] * 60 * 60 * 1000;
+      }
+    }
+
+    return UNKNOWN_OFFSET;
+  }
+
+  /*
+   * Returns the offset a custom date format uses for the time zone name at the
+   * given local time or UNKNOWN_OFFSET if the name is not understood. Depending
+   * on the default time zone, a name may refer to a zone other than in RFC 822
+   * (e.g. CST for China Standard Time).
+   */
+  private static long resolveZoneOffset(String name, int month) {
+    DateFormat format = createDateFormat("dd MMM yyyy HH:mm:ss z"); //$NON-NLS-1$
+    String str = "01 " + MONTHS[month] + " 2000 00:00:00 " + name; //$NON-NLS-1$ //$NON-NLS-2$
+    ParsePosition position = new ParsePosition(0);
+    Date date = format.parse(str, position);
+    if (date == null || position.getIndex() != str.length())
+      return UNKNOWN_OFFSET;
+
+    return toMillis(2000, month, 1, 0, 0, 0, 0, 0) - date.getTime();
+  }
+
+  /* The index of the name (case insensitive) at the position or -1 if none */
+  private static int indexOfName(String str, int pos, String[] names) {
+    for (int i = 0; i < names.length; i++) {
+      if (str.regionMatches(true, pos, names[i], 0, names[i].length()))
+        return i;
+    }
+
+    return -1;
+  }
+
+  /* The value of count digits at the position or -1 if any is not a digit */
+  private static int parseDigits(String str, int pos, int count) {
+    if (pos + count > str.length())
+      return -1;
+
+    int value = 0;
+    for (int i = pos; i < pos + count; i++) {
+      char c = str.charAt(i);
+      if (!isDigit(c))
+        return -1;
+
+      value = value * 10 + (c - '0');
+    }
+
+    return value;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isLeapYear(int year) {
+    return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+  }
+
+  /* Out of range values are not rejected by the lenient custom formats, but rolled */
+  private static boolean isValidDate(int year, int month, int day) {
+    if (year < MIN_YEAR || month < 0 || month > 11 || day < 1)
+      return false;
+
+    int daysInMonth = (month == 11 ? 365 : DAYS_BEFORE_MONTH[month + 1]) - DAYS_BEFORE_MONTH[month];
+    if (month == 1 && isLeapYear(year))
+      daysInMonth++;
+
+    return day <= daysInMonth;
+  }
+
+  private static boolean isValidTime(int hour, int minute, int second) {
+    return hour >= 0 && hour <= 23 && minute >= 0 && minute <= 59 && second <= 59;
+  }
+
+  private static long toMillis(int year, int month, int day, int hour, int minute, int second, int millis, int offset) {
+    long previousYear = year - 1;
+    long days = previousYear * 365 + previousYear / 4 - previousYear / 100 + previousYear / 400;
+    days += DAYS_BEFORE_MONTH[month] + day - 1;
+    if (month > 1 && isLeapYear(year))
+      days++;
+
+    days -= DAYS_TO_EPOCH;
+    return ((((days * 24 + hour) * 60 + minute) * 60 + second) * 1000) + millis - offset;
+  }
+
+  private static DateFormat createDateFormat(String pattern) {
+    DateFormat format = new SimpleDateFormat(pattern, Locale.ENGLISH);
+    format.setTimeZone(TIMEZONE);
+    return format;
+  }
+
   /** Initialize the array of common date formats and formatter */
   static {
 
     /* Create Date Formats */
-    final String[] possibleDateFormats = {
+    CUSTOM_DATE_PATTERNS = new String[] {
 
         /* RFC 1123 with 2-digit Year */
         "EEE, dd MMM yy HH:mm:ss z", //$NON-NLS-1$
@@ -252,12 +618,15 @@ public class DateUtils {
         "MMM dd, yyyy" //$NON-NLS-1$
     };
 
-    /* Create the dateformats */
-    CUSTOM_DATE_FORMATS = new SimpleDateFormat[possibleDateFormats.length];
+    /* Like SimpleDateFormat, map 2-digit Years into 80 Years before and 20 after now */
+    Calendar centuryStart = Calendar.getInstance();
+    centuryStart.add(Calendar.YEAR, -80);
+    CENTURY_START_YEAR = centuryStart.get(Calendar.YEAR);
 
-    for (int i = 0; i < possibleDateFormats.length; i++) {
-      CUSTOM_DATE_FORMATS[i] = new SimpleDateFormat(possibleDateFormats[i], Locale.ENGLISH);
-      CUSTOM_DATE_FORMATS[i].setTimeZone(TIMEZONE);
+    /* Only use time zone names that the custom formats resolve like RFC 822 in Winter and Summer */
+    for (int i = 0; i < ZONE_NAMES.length; i++) {
+      long offset = ZONE_OFFSETS[i] * 60L * 60L * 1000L;
+      ZONE_NAME_SUPPORTED[i] = (resolveZoneOffset(ZONE_NAMES[i], 0) == offset && resolveZoneOffset(ZONE_NAMES[i], 6) == offset);
     }
   }
 }
\ No newline at end of file
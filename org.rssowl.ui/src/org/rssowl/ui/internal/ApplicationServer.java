@@ -53,8 +53,12 @@ import org.rssowl.ui.internal.editors.feed.NewsBrowserViewer;
 import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.net.BindException;
 import java.net.InetAddress;
@@ -65,18 +69,32 @@ import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.StringTokenizer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The <code>NewsServer</code> is a Singleton that serves HTML for a request of
  * News. A Browser can navigate to a local URL with Port 8795 and use some
  * special parameters to request either a List of News or complete Feeds.
  * <p>
+ * Connections are served concurrently and kept alive between Requests. Bundled
+ * Resources are cached in Memory and validated by ETag and Last-Modified, while
+ * the HTML of Display-Operations is streamed in chunks as it is created.
+ * </p>
+ * <p>
  * TODO As more and more stuff is handled by this server, it should be
  * considered to make it extensible by allowing to register handlers for certain
  * operations.
@@ -117,6 +135,26 @@ public class ApplicationServer {
   /* Used after all HTTP-Headers */
   private static final String CRLF = "\r\n"; //$NON-NLS-1$
 
+  /* Encoding of HTTP-Headers */
+  private static final String HEADER_ENCODING = "US-ASCII"; //$NON-NLS-1$
+
+  /* HTTP-Headers of interest in a Request */
+  private static final String HEADER_CONNECTION = "connection"; //$NON-NLS-1$
+  private static final String HEADER_IF_NONE_MATCH = "if-none-match"; //$NON-NLS-1$
+  private static final String HEADER_IF_MODIFIED_SINCE = "if-modified-since"; //$NON-NLS-1$
+
+  /* Millis an idle Connection is kept alive waiting for the next Request */
+  private static final int KEEP_ALIVE_TIMEOUT = 5000;
+
+  /* Maximum number of Requests served over a single Connection */
+  private static final int KEEP_ALIVE_MAX_REQUESTS = 100;
+
+  /* Maximum number of Connections served at the same time */
+  private static final int MAX_REQUEST_HANDLERS = 8;
+
+  /* Maximum number of accepted Connections waiting for a Request Handler */
+  private static final int MAX_QUEUED_CONNECTIONS = 50;
+
   /* Registry of known Viewer */
   private static Map<String, ContentViewer> fRegistry = new ConcurrentHashMap<String, ContentViewer>();
 
@@ -146,11 +184,71 @@ public class ApplicationServer {
     void handle(String token);
   }
 
+  /* Writes the Body of a Response in Chunks (RFC 2616, Section 3.6.1) */
+  private static class ChunkedOutputStream extends FilterOutputStream {
+    private static final byte[] CHUNK_END = new byte[] { '\r', '\n' };
+    private static final byte[] LAST_CHUNK = new byte[] { '0', '\r', '\n', '\r', '\n' };
+
+    ChunkedOutputStream(OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      write(new byte[] { (byte) b }, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+
+      /* An empty Chunk would end the Body */
+      if (len == 0)
+        return;
+
+      out.write(Integer.toHexString(len).getBytes(HEADER_ENCODING));
+      out.write(CHUNK_END);
+      out.write(b, off, len);
+      out.write(CHUNK_END);
+    }
+
+    /* Ends the Body while keeping the Connection open */
+    void finish() throws IOException {
+      out.write(LAST_CHUNK);
+      out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      flush();
+    }
+  }
+
+  /* A bundled Resource cached in Memory */
+  private static class Resource {
+    private final byte[] fContent;
+    private final String fContentType;
+    private final String fETag;
+
+    Resource(byte[] content, String contentType) {
+      fContent = content;
+      fContentType = contentType;
+      fETag = "\"" + Integer.toHexString(Arrays.hashCode(content)) + "-" + Integer.toHexString(content.length) + "\""; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+  }
+
   private ServerSocket fSocket;
   private Job fServerJob;
+  private ThreadPoolExecutor fRequestHandlers;
   private int fPort;
   private HandshakeHandler fHandshakeHandler;
 
+  /* Viewers are not thread-safe, so Display-Operations are served one at a time */
+  private final Object fDisplayLock = new Object();
+
+  /* Resources by Path and the Date they are served as Last-Modified */
+  private final Map<String, Resource> fResources = new ConcurrentHashMap<String, Resource>();
+  private String fResourcesLastModified;
+
   /**
    * Returns the singleton instance of the ApplicationServer.
    *
@@ -189,6 +287,9 @@ public class ApplicationServer {
       }
     }
 
+    /* Resources do not change while running */
+    fResourcesLastModified = formatDate(new Date());
+
     /* Server not yet running */
     boolean usePortRange = Application.IS_ECLIPSE || System.getProperty(MULTI_INSTANCE_PROPERTY) != null;
     fSocket = createServerSocket(usePortRange);
@@ -199,6 +300,9 @@ public class ApplicationServer {
   /** Stop the Application Server */
   public void shutdown() {
     fServerJob.cancel();
+    if (fRequestHandlers != null)
+      fRequestHandlers.shutdownNow();
+
     try {
       if (fSocket != null)
         fSocket.close();
@@ -416,6 +520,9 @@ public class ApplicationServer {
 
   private void listen() {
 
+    /* Threads to serve accepted Connections */
+    fRequestHandlers = createRequestHandlers();
+
     /* Create a Job to listen for Requests */
     fServerJob = new Job("Local News Viewer Server") { //$NON-NLS-1$
       @Override
@@ -423,42 +530,25 @@ public class ApplicationServer {
 
         /* Listen as long not canceled */
         while (!monitor.isCanceled()) {
-          BufferedReader buffReader = null;
           Socket socket = null;
           try {
 
             /* Blocks until Socket accepted */
             socket = fSocket.accept();
 
-            /* Read Incoming Message */
-            buffReader = new BufferedReader(new InputStreamReader(socket.getInputStream()));
-            String message = buffReader.readLine();
-
-            /* Process Message */
-            if (StringUtils.isSet(message))
-              safeProcess(socket, message);
+            /* Serve the Connection from a Request Handler */
+            final Socket connection = socket;
+            fRequestHandlers.execute(new Runnable() {
+              public void run() {
+                serve(connection);
+              }
+            });
           } catch (IOException e) {
             /* Ignore */
-          }
+          } catch (RejectedExecutionException e) {
 
-          /* Cleanup */
-          finally {
-
-            /* Close the Reader */
-            try {
-              if (buffReader != null)
-                buffReader.close();
-            } catch (Exception e) {
-              /* Ignore */
-            }
-
-            /* Close the Socket */
-            try {
-              if (socket != null)
-                socket.close();
-            } catch (Exception e) {
-              /* Ignore */
-            }
+            /* Server is busy or shutting down */
+            close(socket);
           }
         }
         return Status.OK_STATUS;
@@ -470,21 +560,111 @@ public class ApplicationServer {
     fServerJob.schedule();
   }
 
-  /* Process Message in Safe-Runnable */
-  private void safeProcess(final Socket socket, final String message) {
+  /* Fixed number of Request Handlers, rejecting Connections once the Queue is full */
+  private ThreadPoolExecutor createRequestHandlers() {
+    BlockingQueue<Runnable> queue = new ArrayBlockingQueue<Runnable>(MAX_QUEUED_CONNECTIONS);
+    return new ThreadPoolExecutor(MAX_REQUEST_HANDLERS, MAX_REQUEST_HANDLERS, 0L, TimeUnit.MILLISECONDS, queue, new ThreadFactory() {
+      private final AtomicInteger fCount = new AtomicInteger();
+
+      public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "RSSOwl Local Server Request Handler " + fCount.incrementAndGet()); //$NON-NLS-1$
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+  }
+
+  /* Serve Requests of a Connection until it is closed or idle for too long */
+  private void serve(Socket socket) {
+    BufferedReader buffReader = null;
+    try {
+      socket.setSoTimeout(KEEP_ALIVE_TIMEOUT);
+      buffReader = new BufferedReader(new InputStreamReader(socket.getInputStream()));
+      OutputStream outS = new BufferedOutputStream(socket.getOutputStream());
+
+      for (int i = 0; i < KEEP_ALIVE_MAX_REQUESTS; i++) {
+
+        /* Read Incoming Message */
+        String message = buffReader.readLine();
+        if (!StringUtils.isSet(message))
+          break;
+
+        /* Read HTTP-Headers unless this is a startup handshake */
+        Map<String, String> headers = Collections.emptyMap();
+        if (isDisplayOperation(message) || isResourceOperation(message))
+          headers = readHeaders(buffReader);
+
+        /* HTTP/1.1 Connections are persistent unless the Client closes them or other Connections are waiting */
+        boolean keepAlive = (i < KEEP_ALIVE_MAX_REQUESTS - 1) && message.endsWith("HTTP/1.1") && !"close".equalsIgnoreCase(headers.get(HEADER_CONNECTION)); //$NON-NLS-1$ //$NON-NLS-2$
+        keepAlive = keepAlive && fRequestHandlers.getQueue().isEmpty();
+
+        /* Process Message */
+        keepAlive = safeProcess(outS, message, headers, keepAlive);
+        outS.flush();
+        if (!keepAlive)
+          break;
+      }
+    } catch (IOException e) {
+      /* Ignore (e.g. idle Connection timed out) */
+    }
+
+    /* Cleanup */
+    finally {
+
+      /* Close the Reader */
+      try {
+        if (buffReader != null)
+          buffReader.close();
+      } catch (Exception e) {
+        /* Ignore */
+      }
+
+      /* Close the Socket */
+      close(socket);
+    }
+  }
+
+  private void close(Socket socket) {
+    try {
+      if (socket != null)
+        socket.close();
+    } catch (Exception e) {
+      /* Ignore */
+    }
+  }
+
+  /* Read the HTTP-Headers of a Request up to the empty Line */
+  private Map<String, String> readHeaders(BufferedReader buffReader) throws IOException {
+    Map<String, String> headers = new HashMap<String, String>();
+    String line;
+    while ((line = buffReader.readLine()) != null && line.length() > 0) {
+      int index = line.indexOf(':');
+      if (index > 0)
+        headers.put(line.substring(0, index).trim().toLowerCase(Locale.ENGLISH), line.substring(index + 1).trim());
+    }
+
+    return headers;
+  }
+
+  /* Process Message in Safe-Runnable and return whether to keep the Connection alive */
+  private boolean safeProcess(final OutputStream outS, final String message, final Map<String, String> headers, final boolean keepAlive) {
     final boolean isDisplayOperation = isDisplayOperation(message);
     final boolean isResourceOperation = !isDisplayOperation && isResourceOperation(message);
+    final boolean[] keptAlive = new boolean[] { false };
 
     LoggingSafeRunnable runnable = new LoggingSafeRunnable() {
       public void run() throws Exception {
 
         /* This is a Display-Operation */
-        if (isDisplayOperation)
-          processDisplayOperation(socket, message);
+        if (isDisplayOperation) {
+          synchronized (fDisplayLock) {
+            keptAlive[0] = processDisplayOperation(outS, message, keepAlive);
+          }
+        }
 
         /* This is a Resource-Operation */
         else if (isResourceOperation)
-          processResourceOperation(socket, message);
+          keptAlive[0] = processResourceOperation(outS, message, headers, keepAlive);
 
         /* This is a startup handshake */
         else
@@ -505,6 +685,8 @@ public class ApplicationServer {
       }
     } else
       SafeRunner.run(runnable);
+
+    return keptAlive[0];
   }
 
   /* Process Handshake-Message */
@@ -513,36 +695,123 @@ public class ApplicationServer {
       fHandshakeHandler.handle(message);
   }
 
-  private void processResourceOperation(Socket socket, String message) {
+  private boolean processResourceOperation(OutputStream outS, String message, Map<String, String> headers, boolean keepAlive) {
 
     /* Substring to get the Parameters String */
     int start = message.indexOf(OP_RESOURCE) + OP_RESOURCE.length();
     int end = message.indexOf(' ', start);
     String parameter = message.substring(start, end);
 
-    /* Write HTML to the Receiver */
-    BufferedOutputStream outS = null;
+    /* Write Resource to the Receiver */
     try {
-      outS = new BufferedOutputStream(socket.getOutputStream());
-      CoreUtils.copy(OwlUI.class.getResourceAsStream(parameter), outS);
+      Resource resource = getResource(parameter);
+      boolean writeContent = false;
+      StringBuilder header;
+
+      /* Resource not found */
+      if (resource == null) {
+        header = createResponseHeader("HTTP/1.1 404 Not Found"); //$NON-NLS-1$
+        header.append("Content-Length: 0").append(CRLF); //$NON-NLS-1$
+      }
+
+      /* Resource not modified since cached by the Receiver */
+      else if (isNotModified(resource, headers)) {
+        header = createResponseHeader("HTTP/1.1 304 Not Modified"); //$NON-NLS-1$
+        header.append("ETag: ").append(resource.fETag).append(CRLF); //$NON-NLS-1$
+        header.append("Last-Modified: ").append(fResourcesLastModified).append(CRLF); //$NON-NLS-1$
+      }
+
+      /* Resource */
+      else {
+        header = createResponseHeader("HTTP/1.1 200 OK"); //$NON-NLS-1$
+        header.append("Content-Type: ").append(resource.fContentType).append(CRLF); //$NON-NLS-1$
+        header.append("Content-Length: ").append(resource.fContent.length).append(CRLF); //$NON-NLS-1$
+        header.append("ETag: ").append(resource.fETag).append(CRLF); //$NON-NLS-1$
+        header.append("Last-Modified: ").append(fResourcesLastModified).append(CRLF); //$NON-NLS-1$
+        writeContent = true;
+      }
+
+      if (!keepAlive)
+        header.append("Connection: close").append(CRLF); //$NON-NLS-1$
+
+      writeResponseHeader(outS, header);
+      if (writeContent)
+        outS.write(resource.fContent);
     } catch (IOException e) {
-      /* Ignore */
+      return false;
     }
 
-    /* Cleanup */
-    finally {
-      if (outS != null) {
-        try {
-          outS.close();
-        } catch (IOException e) {
-          /* Ignore */
-        }
-      }
+    return keepAlive;
+  }
+
+  /* Bundled Resources are read once and then served from Memory */
+  private Resource getResource(String path) {
+    Resource resource = fResources.get(path);
+    if (resource == null) {
+      InputStream inS = OwlUI.class.getResourceAsStream(path);
+      if (inS == null)
+        return null;
+
+      ByteArrayOutputStream outS = new ByteArrayOutputStream();
+      CoreUtils.copy(inS, outS);
+      resource = new Resource(outS.toByteArray(), getContentType(path));
+      fResources.put(path, resource);
+    }
+
+    return resource;
+  }
+
+  private boolean isNotModified(Resource resource, Map<String, String> headers) {
+    String ifNoneMatch = headers.get(HEADER_IF_NONE_MATCH);
+    if (ifNoneMatch != null)
+      return ifNoneMatch.contains(resource.fETag);
+
+    return fResourcesLastModified.equals(headers.get(HEADER_IF_MODIFIED_SINCE));
+  }
+
+  private String getContentType(String path) {
+    String lowerCasePath = path.toLowerCase(Locale.ENGLISH);
+    if (lowerCasePath.endsWith(".gif")) //$NON-NLS-1$
+      return "image/gif"; //$NON-NLS-1$
+    else if (lowerCasePath.endsWith(".png")) //$NON-NLS-1$
+      return "image/png"; //$NON-NLS-1$
+    else if (lowerCasePath.endsWith(".jpg") || lowerCasePath.endsWith(".jpeg")) //$NON-NLS-1$ //$NON-NLS-2$
+      return "image/jpeg"; //$NON-NLS-1$
+    else if (lowerCasePath.endsWith(".ico")) //$NON-NLS-1$
+      return "image/x-icon"; //$NON-NLS-1$
+    else if (lowerCasePath.endsWith(".css")) //$NON-NLS-1$
+      return "text/css"; //$NON-NLS-1$
+    else if (lowerCasePath.endsWith(".js")) //$NON-NLS-1$
+      return "text/javascript"; //$NON-NLS-1$
+    else if (lowerCasePath.endsWith(".html") || lowerCasePath.endsWith(".htm")) //$NON-NLS-1$ //$NON-NLS-2$
+      return "text/html"; //$NON-NLS-1$
+
+    return "application/octet-stream"; //$NON-NLS-1$
+  }
+
+  /* Status-Line and HTTP-Headers common to all Responses */
+  private StringBuilder createResponseHeader(String statusLine) {
+    StringBuilder header = new StringBuilder();
+    header.append(statusLine).append(CRLF);
+    header.append("Date: ").append(formatDate(new Date())).append(CRLF); //$NON-NLS-1$
+    header.append("Server: RSSOwl Local Server").append(CRLF); //$NON-NLS-1$
+
+    return header;
+  }
+
+  private void writeResponseHeader(OutputStream outS, StringBuilder header) throws IOException {
+    header.append(CRLF);
+    outS.write(header.toString().getBytes(HEADER_ENCODING));
+  }
+
+  private String formatDate(Date date) {
+    synchronized (RFC_1123_DATE) {
+      return RFC_1123_DATE.format(date);
     }
   }
 
   /* Process Message by looking for operations */
-  private void processDisplayOperation(Socket socket, String message) {
+  private boolean processDisplayOperation(OutputStream outS, String message, boolean keepAlive) {
     List<Object> elements = new ArrayList<Object>();
 
     /* Substring to get the Parameters String */
@@ -644,22 +913,22 @@ public class ApplicationServer {
     }
 
     /* Reply to the Socket */
-    reply(socket, viewerId, elements.toArray());
+    return reply(outS, viewerId, elements.toArray(), keepAlive);
   }
 
   /* Create HTML out of the Elements and reply to the Socket */
-  private void reply(Socket socket, String viewerId, Object[] elements) {
+  private boolean reply(OutputStream outS, String viewerId, Object[] elements, boolean keepAlive) {
 
     /* Only responsible for Viewer-Concerns */
     if (viewerId == null)
-      return;
+      return false;
 
     /* Retrieve Viewer */
     ContentViewer viewer = fRegistry.get(viewerId);
 
     /* Might be bad timing */
     if (viewer == null)
-      return;
+      return false;
 
     /* Ask for sorted Elements */
     NewsBrowserLabelProvider labelProvider = (NewsBrowserLabelProvider) viewer.getLabelProvider();
@@ -670,25 +939,26 @@ public class ApplicationServer {
     }
 
     /* Write HTML to the Receiver */
-    BufferedWriter writer = null;
     try {
       boolean portable = Controller.getDefault().isPortable();
-      writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream()));
 
+      StringBuilder header;
       if (Application.IS_WINDOWS && portable)
-        writer.append("HTTP/1.1 205 OK").append(CRLF); //$NON-NLS-1$
+        header = createResponseHeader("HTTP/1.1 205 OK"); //$NON-NLS-1$
       else
-        writer.append("HTTP/1.1 200 OK").append(CRLF); //$NON-NLS-1$
+        header = createResponseHeader("HTTP/1.1 200 OK"); //$NON-NLS-1$
 
-      synchronized (RFC_1123_DATE) {
-        writer.append("Date: ").append(RFC_1123_DATE.format(new Date())).append(CRLF); //$NON-NLS-1$
-      }
+      header.append("Content-Type: text/html; charset=UTF-8").append(CRLF); //$NON-NLS-1$
+      if (keepAlive)
+        header.append("Transfer-Encoding: chunked").append(CRLF); //$NON-NLS-1$
+      else
+        header.append("Connection: close").append(CRLF); //$NON-NLS-1$
+      header.append("Expires: 0").append(CRLF); //$NON-NLS-1$
+      writeResponseHeader(outS, header);
 
-      writer.append("Server: RSSOwl Local Server").append(CRLF); //$NON-NLS-1$
-      writer.append("Content-Type: text/html; charset=UTF-8").append(CRLF); //$NON-NLS-1$
-      writer.append("Connection: close").append(CRLF); //$NON-NLS-1$
-      writer.append("Expires: 0").append(CRLF); //$NON-NLS-1$
-      writer.write(CRLF);
+      /* Stream the Body in Chunks unless the Connection is closed after it */
+      ChunkedOutputStream chunkedOutS = keepAlive ? new ChunkedOutputStream(outS) : null;
+      BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(keepAlive ? chunkedOutS : outS, "UTF-8")); //$NON-NLS-1$
 
       /* Begin HTML */
       writer.write("<!DOCTYPE HTML PUBLIC \"-//W3C//DTD HTML 4.01 Transitional//EN\">\n"); //$NON-NLS-1$
@@ -718,28 +988,31 @@ public class ApplicationServer {
       /* Open Body */
       writer.write("  </head>\n  <body id=\"owlbody\">\n"); //$NON-NLS-1$
 
-      /* Output each Element as HTML */
-      for (int i = 0; i < children.length; i++) {
-        String html = unicodeToEntities(labelProvider.getText(children[i], true, true, i));
-        writer.write(html);
+      /* Let the Browser start rendering while the News are written */
+      writer.flush();
+
+      /* Output each Element as HTML (Descriptions are loaded at once) */
+      labelProvider.preloadDescriptions(children);
+      try {
+        for (int i = 0; i < children.length; i++) {
+          String html = unicodeToEntities(labelProvider.getText(children[i], true, true, i));
+          writer.write(html);
+        }
+      } finally {
+        labelProvider.clearPreloadedDescriptions(children);
       }
 
       /* End HTML */
       writer.write("\n  </body>\n</html>"); //$NON-NLS-1$
+      writer.flush();
+
+      if (chunkedOutS != null)
+        chunkedOutS.finish();
     } catch (IOException e) {
-      /* Ignore */
+      return false;
     }
 
-    /* Cleanup */
-    finally {
-      if (writer != null) {
-        try {
-          writer.close();
-        } catch (IOException e) {
-          /* Ignore */
-        }
-      }
-    }
+    return keepAlive;
   }
 
   /* Find BASE-Information from Elements */
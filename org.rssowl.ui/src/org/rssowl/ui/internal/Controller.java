@@ -186,11 +186,11 @@ public class Controller {
   /* System Property to override default Max. number of concurrent running reload Jobs */
   private static final String MAX_CONCURRENT_RELOAD_JOBS_PROPERTY = "maxReloadJobs"; //$NON-NLS-1$
 
-  /* Max. number of concurrent Jobs for saving a Feed */
-  private static final int MAX_CONCURRENT_SAVE_JOBS = 1;
+  /* Max. number of concurrent Jobs for saving a Feed (merging runs in parallel, writing is serialized) */
+  private static final int MAX_CONCURRENT_SAVE_JOBS = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
 
   /* Max number of jobs in the queue used for saving feeds before it blocks */
-  private static final int MAX_SAVE_QUEUE_SIZE = 1;
+  private static final int MAX_SAVE_QUEUE_SIZE = MAX_CONCURRENT_SAVE_JOBS * 2;
 
   /* Connection Timeouts in MS */
   private static final int DEFAULT_FEED_CON_TIMEOUT = 30000;
@@ -816,6 +816,10 @@ public class Controller {
       /* Remember Homepage of feed */
       feedHomepage = result.getFirst().getHomepage();
 
+      /* Let the Reload Service respect the update hints of the Feed */
+      if (fFeedReloadService != null)
+        fFeedReloadService.feedLoaded(bookmark, result.getFirst());
+
       /* Update ConditionalGet Entity */
       boolean conditionalGetIsNull = (conditionalGet == null);
       conditionalGet = updateConditionalGet(feedLink, conditionalGet, result.getSecond());
@@ -209,14 +209,12 @@ public class FolderNewsMark extends Mark implements INewsMark {
    */
   public List<INews> getNews() {
     synchronized (this) {
-      List<INews> news = new ArrayList<INews>(fNewsContainer.size());
-      for (Long id : fNewsContainer) {
-        INews item = fNewsDao.load(id);
-        if (item != null)
-          news.add(item);
-      }
+      long[] ids = new long[fNewsContainer.size()];
+      int i = 0;
+      for (Long id : fNewsContainer)
+        ids[i++] = id;
 
-      return news;
+      return fNewsDao.loadAll(ids);
     }
   }
 
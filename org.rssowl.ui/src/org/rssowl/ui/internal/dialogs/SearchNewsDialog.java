@@ -169,8 +169,10 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -278,6 +280,10 @@ public class SearchNewsDialog extends TitleAreaDialog {
       return fResolvedNews;
     }
 
+    void setNews(INews resolvedNews) {
+      fResolvedNews = resolvedNews;
+    }
+
     INews.State getState() {
       return fState;
     }
@@ -1343,8 +1349,23 @@ public class SearchNewsDialog extends TitleAreaDialog {
   }
 
   private void preload(List<ScoredNews> list) {
-    for (int i = 0; i < list.size() && i < NUM_PRELOADED; i++) {
-      list.get(i).getNews();
+    int count = Math.min(list.size(), NUM_PRELOADED);
+    long[] ids = new long[count];
+    for (int i = 0; i < count; i++)
+      ids[i] = list.get(i).getNewsReference().getId();
+
+    /* Resolve them at once */
+    Map<Long, INews> resolvedNews = new HashMap<Long, INews>(count);
+    for (INews news : fNewsDao.loadAll(ids))
+      resolvedNews.put(news.getId(), news);
+
+    for (int i = 0; i < count; i++) {
+      ScoredNews scoredNews = list.get(i);
+      INews news = resolvedNews.get(scoredNews.getNewsReference().getId());
+      if (news != null)
+        scoredNews.setNews(news);
+      else
+        scoredNews.getNews();
     }
   }
 
@@ -212,6 +212,7 @@ public class FeedView extends EditorPart implements IReusableEditor {
   /* Shared Viewer classes */
   private NewsFilter fNewsFilter;
   private NewsGrouping fNewsGrouping;
+  private NewsSortKeys fNewsSortKeys;
   private NewsContentProvider fContentProvider;
 
   /* Container for the News Table Viewer */
@@ -1173,7 +1174,7 @@ public class FeedView extends EditorPart implements IReusableEditor {
 
       /* Sorting changed and cache is at limit, so refresh cache */
       if (oldSortBy != newSortBy || oldIsAscending != newIsAscending) {
-        NewsComparator comparer = new NewsComparator();
+        NewsComparator comparer = new NewsComparator(fNewsSortKeys);
         comparer.setSortBy(newSortBy);
         comparer.setAscending(newIsAscending);
 
@@ -2076,6 +2077,15 @@ public class FeedView extends EditorPart implements IReusableEditor {
     return (NewsComparator) fNewsBrowserControl.getViewer().getComparator();
   }
 
+  /**
+   * Get the shared cache of keys used to sort and group News.
+   *
+   * @return the shared cache of keys used to sort and group News.
+   */
+  NewsSortKeys getSortKeys() {
+    return fNewsSortKeys;
+  }
+
   /**
    * Get the shared Viewer-Grouper used to group News.
    *
@@ -2107,7 +2117,8 @@ public class FeedView extends EditorPart implements IReusableEditor {
     fNewsFilter.setSearchTarget(fInitialSearchTarget);
     fNewsFilter.setNewsMark(fInput.getMark());
 
-    fNewsGrouping = new NewsGrouping();
+    fNewsSortKeys = new NewsSortKeys();
+    fNewsGrouping = new NewsGrouping(fNewsSortKeys);
     fNewsGrouping.setType(fInitialGroupType);
 
     /* Top-Most root Composite in Editor */
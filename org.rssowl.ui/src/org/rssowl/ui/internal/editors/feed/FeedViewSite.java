@@ -81,4 +81,11 @@ public class FeedViewSite implements IFeedViewSite {
 
     return Owl.getPreferenceService().getGlobalScope();
   }
+
+  /*
+   * @see org.rssowl.ui.internal.editors.feed.IFeedViewSite#getSortKeys()
+   */
+  public NewsSortKeys getSortKeys() {
+    return fFeedView.getSortKeys();
+  }
 }
\ No newline at end of file
@@ -58,4 +58,10 @@ public interface IFeedViewSite {
    * fallback to global preferences in any case.
    */
   IPreferenceScope getInputPreferences();
+
+  /**
+   * @return the {@link NewsSortKeys} shared by all viewers of the editor to
+   * sort and group News.
+   */
+  NewsSortKeys getSortKeys();
 }
\ No newline at end of file
@@ -262,7 +262,7 @@ public class NewsBrowserControl implements IFeedViewPart {
     fViewer.setLabelProvider(labelProvider);
 
     /* Create Sorter */
-    fNewsSorter = new NewsComparator();
+    fNewsSorter = new NewsComparator(fFeedViewSite.getSortKeys());
     fViewer.setComparator(fNewsSorter);
     updateSorting(fEditorInput.getMark(), false);
 
@@ -59,6 +59,8 @@ import org.rssowl.core.persist.INews;
 import org.rssowl.core.persist.INews.State;
 import org.rssowl.core.persist.IPerson;
 import org.rssowl.core.persist.ISource;
+import org.rssowl.core.persist.dao.DynamicDAO;
+import org.rssowl.core.persist.dao.INewsDAO;
 import org.rssowl.core.persist.reference.NewsBinReference;
 import org.rssowl.core.persist.reference.NewsReference;
 import org.rssowl.core.persist.reference.SearchMarkReference;
@@ -84,12 +86,14 @@ import java.net.URI;
 import java.text.DateFormat;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author bpasero
@@ -206,6 +210,11 @@ public class NewsBrowserLabelProvider extends LabelProvider {
   private boolean fForceNoPaging;
   private final long fTodayInMillies;
   private final Map<String, String> fMapFeedLinkToName = new HashMap<String, String>();
+  private final NewsFragmentCache fFragmentCache;
+  private final Map<Long, String> fPreloadedDescriptions = new ConcurrentHashMap<Long, String>();
+
+  /* Marks a preloaded News without Description (compared by identity) */
+  private static final String NO_DESCRIPTION = new String();
 
   /**
    * Creates a new Browser LabelProvider for News
@@ -231,6 +240,7 @@ public class NewsBrowserLabelProvider extends LabelProvider {
     fManageLinks = OwlUI.useExternalBrowser();
     fShowFooter = true;
     fTodayInMillies = DateUtils.getToday().getTimeInMillis();
+    fFragmentCache = (viewer != null) ? new NewsFragmentCache() : null;
 
     fImageAndMediaTags = new HashSet<String>();
     fImageAndMediaTags.addAll(fImageTags);
@@ -266,27 +276,35 @@ public class NewsBrowserLabelProvider extends LabelProvider {
 
   /* Highlight search terms if any */
   String highlightSearchTermsIfNecessary(String str) {
-    if (fViewer != null) {
-      Collection<String> wordsToHighlight = fViewer.getHighlightedWords();
-      if (!wordsToHighlight.isEmpty()) {
-        StringBuilder highlightedResult = new StringBuilder(str.length());
+    return highlightSearchTermsIfNecessary(str, getHighlightedWords());
+  }
 
-        RGB searchRGB = OwlUI.getThemeRGB(OwlUI.SEARCH_HIGHLIGHT_BG_COLOR_ID, new RGB(255, 255, 0));
-        String preHighlight = "<span style=\"background-color:rgb(" + OwlUI.toString(searchRGB) + ");\">"; //$NON-NLS-1$ //$NON-NLS-2$
-        String postHighlight = "</span>"; //$NON-NLS-1$
+  private Collection<String> getHighlightedWords() {
+    if (fViewer != null)
+      return fViewer.getHighlightedWords();
 
-        ExpandingReader resultHighlightReader = new ExpandingReader(new StringReader(str), wordsToHighlight, preHighlight, postHighlight, true);
+    return Collections.emptyList();
+  }
 
-        int len = 0;
-        char[] buf = new char[1000];
-        try {
-          while ((len = resultHighlightReader.read(buf)) != -1)
-            highlightedResult.append(buf, 0, len);
+  private String highlightSearchTermsIfNecessary(String str, Collection<String> wordsToHighlight) {
+    if (!wordsToHighlight.isEmpty()) {
+      StringBuilder highlightedResult = new StringBuilder(str.length());
 
-          return highlightedResult.toString();
-        } catch (IOException e) {
-          Activator.getDefault().logError(e.getMessage(), e);
-        }
+      RGB searchRGB = OwlUI.getThemeRGB(OwlUI.SEARCH_HIGHLIGHT_BG_COLOR_ID, new RGB(255, 255, 0));
+      String preHighlight = "<span style=\"background-color:rgb(" + OwlUI.toString(searchRGB) + ");\">"; //$NON-NLS-1$ //$NON-NLS-2$
+      String postHighlight = "</span>"; //$NON-NLS-1$
+
+      ExpandingReader resultHighlightReader = new ExpandingReader(new StringReader(str), wordsToHighlight, preHighlight, postHighlight, true);
+
+      int len = 0;
+      char[] buf = new char[1000];
+      try {
+        while ((len = resultHighlightReader.read(buf)) != -1)
+          highlightedResult.append(buf, 0, len);
+
+        return highlightedResult.toString();
+      } catch (IOException e) {
+        Activator.getDefault().logError(e.getMessage(), e);
       }
     }
 
@@ -330,6 +348,8 @@ public class NewsBrowserLabelProvider extends LabelProvider {
     super.dispose();
     unregisterListeners();
     fMapFeedLinkToName.clear();
+    if (fFragmentCache != null)
+      fFragmentCache.dispose();
   }
 
   private void registerListeners() {
@@ -388,6 +408,10 @@ public class NewsBrowserLabelProvider extends LabelProvider {
     RGB newsListRgb = OwlUI.getThemeRGB(OwlUI.NEWS_LIST_BG_COLOR_ID, new RGB(255, 255, 255));
     fNewsListBGColorCSS = "background-color: rgb(" + newsListRgb.red + "," + newsListRgb.green + "," + newsListRgb.blue + ");"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
     fIsNewsListBGColorDefined = !newsListRgb.equals(new RGB(255, 255, 255));
+
+    /* Colors are part of the rendered News */
+    if (fFragmentCache != null)
+      fFragmentCache.clear();
   }
 
   /*
@@ -818,10 +842,23 @@ public class NewsBrowserLabelProvider extends LabelProvider {
 
   String getLabel(INews news, boolean withInternalLinks, boolean withManagedLinks, boolean onlyInnerContent, int index) {
     boolean isVisible = isVisible(news) || fForceNoPaging;
+    Collection<String> wordsToHighlight = getHighlightedWords();
+
+    /* Reuse the Fragment if the News did not change since it was rendered with the same Options */
+    Long newsId = news.getId();
+    String options = null;
+    long stamp = 0;
+    if (fFragmentCache != null && newsId != null) {
+      options = getRenderOptions(withInternalLinks, withManagedLinks, onlyInnerContent, index, isVisible, wordsToHighlight);
+      stamp = fFragmentCache.getStamp();
+      String fragment = fFragmentCache.get(newsId, options);
+      if (fragment != null)
+        return fragment;
+    }
 
     String description = null; //Fetch description lazily if only headlines shown or news hidden
     if (!fHeadlinesOnly && isVisible)
-      description = stripMediaTagsIfNecessary(news.getDescription());
+      description = stripMediaTagsIfNecessary(getDescription(news));
 
     StringBuilder builder = getBuilder(news, description);
 
@@ -1225,7 +1262,28 @@ public class NewsBrowserLabelProvider extends LabelProvider {
     }
 
     /* Highlight Support (if search is active) */
-    return highlightSearchTermsIfNecessary(builder.toString());
+    String html = highlightSearchTermsIfNecessary(builder.toString(), wordsToHighlight);
+
+    /* Remember Fragment for the next Refresh */
+    if (options != null)
+      fFragmentCache.put(newsId, options, html, stamp);
+
+    return html;
+  }
+
+  /* Returns all Options that are used to render a News apart from the News itself */
+  private String getRenderOptions(boolean withInternalLinks, boolean withManagedLinks, boolean onlyInnerContent, int index, boolean isVisible, Collection<String> wordsToHighlight) {
+    int flags = 0;
+    boolean[] options = new boolean[] { withInternalLinks, withManagedLinks, onlyInnerContent, index == 0, index % 2 != 0, isVisible, fHeadlinesOnly, fShowFooter, fManageLinks, fStripImagesFromNews, fStripMediaFromNews, showFeedInformation() };
+    for (int i = 0; i < options.length; i++) {
+      if (options[i])
+        flags |= (1 << i);
+    }
+
+    if (wordsToHighlight.isEmpty())
+      return String.valueOf(flags);
+
+    return flags + wordsToHighlight.toString();
   }
 
   private boolean isVisible(EntityGroup group) {
@@ -1242,6 +1300,75 @@ public class NewsBrowserLabelProvider extends LabelProvider {
     return true;
   }
 
+  /**
+   * Loads the descriptions of all News among the given elements that will
+   * show their description with one batched lookup, instead of one lookup per
+   * News while rendering. News that have a cached fragment are skipped. Must
+   * be followed by a call to {@link #clearPreloadedDescriptions(Object[])}
+   * once the elements have been rendered.
+   *
+   * @param elements the elements that are about to be rendered.
+   */
+  public void preloadDescriptions(Object[] elements) {
+    if (fHeadlinesOnly)
+      return;
+
+    long[] newsIds = new long[elements.length];
+    int count = 0;
+    for (Object element : elements) {
+      if (element instanceof INews) {
+        INews news = (INews) element;
+        Long newsId = news.getId();
+        if (newsId != null && (isVisible(news) || fForceNoPaging) && (fFragmentCache == null || !fFragmentCache.contains(newsId)))
+          newsIds[count++] = newsId;
+      }
+    }
+
+    if (count == 0)
+      return;
+
+    if (count < newsIds.length) {
+      long[] visibleNewsIds = new long[count];
+      System.arraycopy(newsIds, 0, visibleNewsIds, 0, count);
+      newsIds = visibleNewsIds;
+    }
+    Map<Long, String> descriptions = DynamicDAO.getDAO(INewsDAO.class).loadDescriptions(newsIds);
+    for (long newsId : newsIds) {
+      String description = descriptions.get(newsId);
+      fPreloadedDescriptions.put(newsId, description != null ? description : NO_DESCRIPTION);
+    }
+  }
+
+  /**
+   * Releases the descriptions that were loaded for the given elements from
+   * {@link #preloadDescriptions(Object[])} and not used while rendering.
+   *
+   * @param elements the elements that have been rendered.
+   */
+  public void clearPreloadedDescriptions(Object[] elements) {
+    if (fPreloadedDescriptions.isEmpty())
+      return;
+
+    for (Object element : elements) {
+      if (element instanceof INews) {
+        Long newsId = ((INews) element).getId();
+        if (newsId != null)
+          fPreloadedDescriptions.remove(newsId);
+      }
+    }
+  }
+
+  private String getDescription(INews news) {
+    Long newsId = news.getId();
+    if (newsId != null && !fPreloadedDescriptions.isEmpty()) {
+      String description = fPreloadedDescriptions.remove(newsId);
+      if (description != null)
+        return description != NO_DESCRIPTION ? description : null;
+    }
+
+    return news.getDescription();
+  }
+
   private int getTotalNewsCount() {
     if (fViewer != null)
       return fViewer.getViewModel().getNewsCount();
@@ -1545,9 +1672,14 @@ public class NewsBrowserLabelProvider extends LabelProvider {
     html.append("  </head>\n  <body id=\"owlbody\">\n"); //$NON-NLS-1$
 
     /* Write News */
-    for (int i = 0; i < elements.length; i++) {
-      if (elements[i] instanceof INews)
-        html.append(getText(elements[i], false, withManagedLinks, i));
+    preloadDescriptions(elements);
+    try {
+      for (int i = 0; i < elements.length; i++) {
+        if (elements[i] instanceof INews)
+          html.append(getText(elements[i], false, withManagedLinks, i));
+      }
+    } finally {
+      clearPreloadedDescriptions(elements);
     }
 
     /* End HTML */
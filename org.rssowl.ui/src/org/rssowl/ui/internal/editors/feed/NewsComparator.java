@@ -60,10 +60,26 @@ public class NewsComparator extends ViewerComparator implements Comparator<INews
   private NewsColumn fSortBy;
   private boolean fAscending;
 
-  /* A cache for the Location Column */
+  /* Cached Keys of Headlines */
+  private final NewsSortKeys fSortKeys;
+
+  /* A cache of the Keys for the Location Column */
   private Map<Long, String> fMapBinIdToLocation = new HashMap<Long, String>();
   private Map<String, String> fMapFeedLinkToLocation = new HashMap<String, String>();
 
+  /** Creates a Comparator with its own cache of sort keys */
+  public NewsComparator() {
+    this(new NewsSortKeys());
+  }
+
+  /**
+   * @param sortKeys the cache of sort keys to use, typically shared with other
+   * Comparators and the Grouping of the same view.
+   */
+  public NewsComparator(NewsSortKeys sortKeys) {
+    fSortKeys = sortKeys;
+  }
+
   /**
    * @return Returns the ascending.
    */
@@ -180,7 +196,7 @@ public class NewsComparator extends ViewerComparator implements Comparator<INews
 
           /* Sort by Title */
         case TITLE:
-          result = compareByTitle(CoreUtils.getHeadline(news1, true), CoreUtils.getHeadline(news2, true));
+          result = compareByTitle(fSortKeys.getHeadlineKey(news1), fSortKeys.getHeadlineKey(news2));
           break;
 
         /* Sort by Author */
@@ -264,8 +280,8 @@ public class NewsComparator extends ViewerComparator implements Comparator<INews
     return fAscending && !forceDescending ? result : result * -1;
   }
 
-  private int compareByTitle(String title1, String title2) {
-    int result = compareByString(title1, title2);
+  private int compareByTitle(String titleKey1, String titleKey2) {
+    int result = compareByKey(titleKey1, titleKey2);
 
     /* Respect ascending / descending Order */
     return fAscending ? result : result * -1;
@@ -296,7 +312,7 @@ public class NewsComparator extends ViewerComparator implements Comparator<INews
   }
 
   private int compareByLocation(INews n1, INews n2) {
-    int result = compareByString(getLocation(n1), getLocation(n2));
+    int result = compareByKey(getLocationKey(n1), getLocationKey(n2));
 
     /* Respect ascending / descending Order */
     return fAscending ? result : result * -1;
@@ -309,7 +325,7 @@ public class NewsComparator extends ViewerComparator implements Comparator<INews
     return fAscending ? result : result * -1;
   }
 
-  private String getLocation(INews news) {
+  private String getLocationKey(INews news) {
 
     /* Location: Bin */
     if (news.getParentId() > 0) {
@@ -317,7 +333,7 @@ public class NewsComparator extends ViewerComparator implements Comparator<INews
       if (location == null) {
         NewsBinReference ref = new NewsBinReference(news.getParentId());
         INewsBin bin = ref.resolve();
-        location = bin.getName();
+        location = NewsSortKeys.toKey(bin.getName());
         fMapBinIdToLocation.put(news.getParentId(), location);
       }
 
@@ -329,7 +345,7 @@ public class NewsComparator extends ViewerComparator implements Comparator<INews
     if (location == null) {
       IBookMark bookmark = CoreUtils.getBookMark(news.getFeedLinkAsText());
       if (bookmark != null) {
-        location = bookmark.getName();
+        location = NewsSortKeys.toKey(bookmark.getName());
         fMapFeedLinkToLocation.put(news.getFeedLinkAsText(), location);
       }
     }
@@ -473,4 +489,14 @@ public class NewsComparator extends ViewerComparator implements Comparator<INews
 
     return 1;
   }
+
+  /* Same as compareByString() for Keys from NewsSortKeys */
+  private int compareByKey(String key1, String key2) {
+    if (key1 != null && key2 != null)
+      return key1.compareTo(key2);
+    else if (key1 != null)
+      return -1;
+
+    return 1;
+  }
 }
\ No newline at end of file
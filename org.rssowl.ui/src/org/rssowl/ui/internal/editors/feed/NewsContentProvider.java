@@ -107,6 +107,9 @@ public class NewsContentProvider implements ITreeContentProvider {
   /* The maximum number of items that will get resolved from a FolderNewsMark */
   private static final int MAX_RESOLVED_FOLDER_ELEMENTS = 5000;
 
+  /* The number of items that are resolved from the DB at once */
+  private static final int RESOLVE_CHUNK_SIZE = 500;
+
   /* The maximum number of items in a NewsMark before scoping the results as specified by the filter */
   private static final int NEWSMARK_SCOPE_SEARCH_LIMIT = 200;
 
@@ -351,33 +354,31 @@ public class NewsContentProvider implements ITreeContentProvider {
       Triple<Boolean, Boolean, List<NewsReference>> result = getNewsRefsFromInput(input, fFilter, states, monitor);
       needToFilter = !result.getFirst();
       List<NewsReference> newsReferences = result.getThird();
-      for (NewsReference newsRef : newsReferences) {
+      ResolveLoop: for (int i = 0; i < newsReferences.size(); i += RESOLVE_CHUNK_SIZE) {
 
         /* Check if ContentProvider was already disposed or RSSOwl shutting down */
         if (canceled(monitor))
           return;
 
-        INews resolvedNewsItem = null;
-
-        /* Ask the local cache first */
-        if (cacheCopy != null)
-          resolvedNewsItem = cacheCopy.get(newsRef.getId());
+        /* Resolve a chunk of News from the local cache or otherwise from DB */
+        List<NewsReference> chunk = newsReferences.subList(i, Math.min(i + RESOLVE_CHUNK_SIZE, newsReferences.size()));
+        Map<Long, INews> resolvedChunk = resolve(chunk, cacheCopy);
 
-        /* Otherwise resolve from DB */
-        if (resolvedNewsItem == null)
-          resolvedNewsItem = fNewsDao.load(newsRef.getId());
+        for (NewsReference newsRef : chunk) {
+          INews resolvedNewsItem = resolvedChunk.get(newsRef.getId());
 
-        /* Add if visible */
-        if (resolvedNewsItem != null && resolvedNewsItem.isVisible())
-          resolvedNews.add(resolvedNewsItem);
+          /* Add if visible */
+          if (resolvedNewsItem != null && resolvedNewsItem.isVisible())
+            resolvedNews.add(resolvedNewsItem);
 
-        /* News is null from a search, potential index issue - report it */
-        else if (result.getSecond()) //TRUE if search was involved
-          CoreUtils.reportIndexIssue();
+          /* News is null from a search, potential index issue - report it */
+          else if (result.getSecond()) //TRUE if search was involved
+            CoreUtils.reportIndexIssue();
 
-        /* Never resolve more than MAX_RESOLVED_FOLDER_ELEMENTS for a folder */
-        if (input instanceof FolderNewsMark && !fNoFolderLimit && resolvedNews.size() > MAX_RESOLVED_FOLDER_ELEMENTS)
-          break;
+          /* Never resolve more than MAX_RESOLVED_FOLDER_ELEMENTS for a folder */
+          if (input instanceof FolderNewsMark && !fNoFolderLimit && resolvedNews.size() > MAX_RESOLVED_FOLDER_ELEMENTS)
+            break ResolveLoop;
+        }
       }
 
       /* Special treat folders and limit them by size */
@@ -404,6 +405,31 @@ public class NewsContentProvider implements ITreeContentProvider {
     }
   }
 
+  private Map<Long, INews> resolve(List<NewsReference> newsRefs, Map<Long, INews> cache) {
+    Map<Long, INews> resolvedNews = new HashMap<Long, INews>(newsRefs.size());
+    long[] ids = new long[newsRefs.size()];
+    int idsCount = 0;
+
+    /* Ask the local cache first */
+    for (NewsReference newsRef : newsRefs) {
+      INews cachedNews = (cache != null) ? cache.get(newsRef.getId()) : null;
+      if (cachedNews != null)
+        resolvedNews.put(newsRef.getId(), cachedNews);
+      else
+        ids[idsCount++] = newsRef.getId();
+    }
+
+    /* Otherwise resolve from DB in one go */
+    if (idsCount > 0) {
+      long[] idsToLoad = new long[idsCount];
+      System.arraycopy(ids, 0, idsToLoad, 0, idsCount);
+      for (INews news : fNewsDao.loadAll(idsToLoad))
+        resolvedNews.put(news.getId(), news);
+    }
+
+    return resolvedNews;
+  }
+
   private boolean shouldResolveBookMarkWithSearch(IBookMark input, NewsFilter.Type filter) {
 
     /* Return if input is not a bookmark or not filtering at all */
@@ -0,0 +1,203 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2009 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+
+package org.rssowl.ui.internal.editors.feed;
+
+import org.rssowl.core.persist.ILabel;
+import org.rssowl.core.persist.INews;
+import org.rssowl.core.persist.dao.DynamicDAO;
+import org.rssowl.core.persist.event.LabelAdapter;
+import org.rssowl.core.persist.event.LabelEvent;
+import org.rssowl.core.persist.event.LabelListener;
+import org.rssowl.core.persist.event.NewsAdapter;
+import org.rssowl.core.persist.event.NewsEvent;
+import org.rssowl.core.persist.event.NewsListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A bounded cache of the HTML fragments that are rendered for News in the
+ * browser viewer. A fragment is reused as long as the News did not change and
+ * it is asked for with the same render options. Changes to News are picked up
+ * from <code>NewsEvent</code>s, changes to Labels drop all fragments.
+ * <p>
+ * Every invalidation increments a stamp. A fragment is only put into the cache
+ * if the stamp did not change while it was rendered, so that a News changing
+ * during rendering never leaves an outdated fragment behind.
+ * </p>
+ */
+public class NewsFragmentCache {
+
+  /* The maximum number of fragments to keep */
+  static final int MAX_SIZE = 200;
+
+  /* A rendered fragment along with the options it was rendered with */
+  private static class Fragment {
+    private final String fOptions;
+    private final String fHtml;
+
+    Fragment(String options, String html) {
+      fOptions = options;
+      fHtml = html;
+    }
+  }
+
+  private final Map<Long, Fragment> fFragments;
+  private long fStamp;
+  private NewsListener fNewsListener;
+  private LabelListener fLabelListener;
+
+  /**
+   * Creates a new cache that listens to changes of News and Labels until it
+   * is disposed.
+   */
+  public NewsFragmentCache() {
+    fFragments = new LinkedHashMap<Long, Fragment>(MAX_SIZE, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, Fragment> eldest) {
+        return size() > MAX_SIZE;
+      }
+    };
+
+    registerListeners();
+  }
+
+  private void registerListeners() {
+
+    /* News Listener */
+    fNewsListener = new NewsAdapter() {
+      @Override
+      public void entitiesUpdated(Set<NewsEvent> events) {
+        invalidate(events);
+      }
+
+      @Override
+      public void entitiesDeleted(Set<NewsEvent> events) {
+        invalidate(events);
+      }
+    };
+
+    DynamicDAO.addEntityListener(INews.class, fNewsListener);
+
+    /* Label Listener */
+    fLabelListener = new LabelAdapter() {
+      @Override
+      public void entitiesUpdated(Set<LabelEvent> events) {
+        clear();
+      }
+
+      @Override
+      public void entitiesDeleted(Set<LabelEvent> events) {
+        clear();
+      }
+    };
+
+    DynamicDAO.addEntityListener(ILabel.class, fLabelListener);
+  }
+
+  /**
+   * @return the current stamp of this cache. Must be obtained before a
+   * fragment is rendered and passed into
+   * {@link #put(long, String, String, long)} afterwards.
+   */
+  public synchronized long getStamp() {
+    return fStamp;
+  }
+
+  /**
+   * @param newsId the identifier of the News to get the fragment for.
+   * @param options the render options the fragment is asked for.
+   * @return the cached fragment or <code>null</code> if none is cached for the
+   * given News or it was rendered with different options.
+   */
+  public synchronized String get(long newsId, String options) {
+    Fragment fragment = fFragments.get(newsId);
+    if (fragment != null && fragment.fOptions.equals(options))
+      return fragment.fHtml;
+
+    return null;
+  }
+
+  /**
+   * @param newsId the identifier of the News the fragment was rendered for.
+   * @param options the render options the fragment was rendered with.
+   * @param html the rendered fragment.
+   * @param stamp the stamp of this cache from before the fragment was
+   * rendered.
+   */
+  public synchronized void put(long newsId, String options, String html, long stamp) {
+    if (stamp == fStamp)
+      fFragments.put(newsId, new Fragment(options, html));
+  }
+
+  /**
+   * @param newsId the identifier of the News.
+   * @return <code>true</code> if a fragment is cached for the given News with
+   * any options and <code>false</code> otherwise.
+   */
+  public synchronized boolean contains(long newsId) {
+    return fFragments.containsKey(newsId);
+  }
+
+  /**
+   * Removes the fragments of the News of the given events.
+   *
+   * @param events the events of the News that changed.
+   */
+  public synchronized void invalidate(Set<NewsEvent> events) {
+    fStamp++;
+    for (NewsEvent event : events) {
+      Long newsId = event.getEntity().getId();
+      if (newsId != null)
+        fFragments.remove(newsId);
+    }
+  }
+
+  /**
+   * Removes all fragments from this cache.
+   */
+  public synchronized void clear() {
+    fStamp++;
+    fFragments.clear();
+  }
+
+  /**
+   * @return the number of fragments in this cache.
+   */
+  public synchronized int size() {
+    return fFragments.size();
+  }
+
+  /**
+   * Stops listening to changes and removes all fragments.
+   */
+  public void dispose() {
+    DynamicDAO.removeEntityListener(INews.class, fNewsListener);
+    DynamicDAO.removeEntityListener(ILabel.class, fLabelListener);
+    clear();
+  }
+}
@@ -214,6 +214,22 @@ public class NewsGrouping {
   /* Current Type of Grouping */
   private Type fType = Type.NO_GROUPING;
 
+  /* Cached Headlines of News */
+  private final NewsSortKeys fSortKeys;
+
+  /** Creates a Grouping with its own cache of sort keys */
+  public NewsGrouping() {
+    this(new NewsSortKeys());
+  }
+
+  /**
+   * @param sortKeys the cache of sort keys to use, typically shared with the
+   * Comparators of the same view.
+   */
+  public NewsGrouping(NewsSortKeys sortKeys) {
+    fSortKeys = sortKeys;
+  }
+
   /* Get the Type of grouping as defined in the Type Enum */
   Type getType() {
     return fType;
@@ -331,7 +347,7 @@ public class NewsGrouping {
         EntityGroup group = gDefault;
 
         /* Normalize Title */
-        String normalizedTitle = CoreUtils.getHeadline(news, true);
+        String normalizedTitle = fSortKeys.getHeadline(news);
         normalizedTitle = CoreUtils.normalizeTitle(normalizedTitle);
 
         /* Determine Group ID */
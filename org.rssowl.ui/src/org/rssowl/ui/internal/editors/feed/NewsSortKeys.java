@@ -0,0 +1,135 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2009 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.ui.internal.editors.feed;
+
+import org.rssowl.core.persist.INews;
+import org.rssowl.core.util.CoreUtils;
+import org.rssowl.core.util.StringUtils;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A cache of the keys used to sort and group the News of a single view. Keys
+ * are computed once per News and reused as long as the value they were
+ * computed from did not change, so that sorting and grouping thousands of News
+ * does not strip tags and replace entities on every comparison.
+ * <p>
+ * All keys are folded per character, so that comparing them with
+ * {@link String#compareTo(String)} gives the same order as comparing the
+ * original values with {@link String#compareToIgnoreCase(String)}.
+ * </p>
+ */
+public class NewsSortKeys {
+
+  /* Keys of a News along with the values they are computed from */
+  private static class Keys {
+    private String fTitle;
+    private String fHeadline;
+    private String fHeadlineKey;
+  }
+
+  /* News are weakly referenced to not keep them from being collected */
+  private final Map<INews, Keys> fKeys = new WeakHashMap<INews, Keys>();
+
+  /**
+   * @param news the News to get the headline for.
+   * @return the headline of the News as returned from
+   * {@link CoreUtils#getHeadline(INews, boolean)} with entities replaced.
+   */
+  public synchronized String getHeadline(INews news) {
+    String title = news.getTitle();
+    Keys keys = getKeys(news);
+
+    /* Compute from Title unless cached */
+    if (keys.fHeadline == null || keys.fTitle != title) {
+      String headline = StringUtils.normalizeString(StringUtils.stripTags(title, true));
+
+      /* Headline from the Title */
+      if (StringUtils.isSet(headline)) {
+        keys.fTitle = title;
+        keys.fHeadline = headline;
+        keys.fHeadlineKey = null;
+      }
+
+      /* Headline from the Content (not cached as the Content can change alone) */
+      else {
+        keys.fTitle = null;
+        keys.fHeadline = null;
+        keys.fHeadlineKey = null;
+
+        return CoreUtils.getHeadline(news, true);
+      }
+    }
+
+    return keys.fHeadline;
+  }
+
+  /**
+   * @param news the News to get the sort key of the headline for.
+   * @return the folded headline of the News to compare with
+   * {@link String#compareTo(String)}.
+   */
+  public synchronized String getHeadlineKey(INews news) {
+    String headline = getHeadline(news);
+    Keys keys = getKeys(news);
+
+    /* Headline not cached */
+    if (keys.fHeadline == null)
+      return toKey(headline);
+
+    if (keys.fHeadlineKey == null)
+      keys.fHeadlineKey = toKey(headline);
+
+    return keys.fHeadlineKey;
+  }
+
+  private Keys getKeys(INews news) {
+    Keys keys = fKeys.get(news);
+    if (keys == null) {
+      keys = new Keys();
+      fKeys.put(news, keys);
+    }
+
+    return keys;
+  }
+
+  /**
+   * @param str the {@link String} to fold or <code>null</code>.
+   * @return the {@link String} with each character folded the same way as
+   * {@link String#compareToIgnoreCase(String)} does or <code>null</code> if
+   * the {@link String} is <code>null</code>.
+   */
+  public static String toKey(String str) {
+    if (str == null)
+      return null;
+
+    char[] chars = new char[str.length()];
+    for (int i = 0; i < chars.length; i++)
+      chars[i] = Character.toLowerCase(Character.toUpperCase(str.charAt(i)));
+
+    return new String(chars);
+  }
+}
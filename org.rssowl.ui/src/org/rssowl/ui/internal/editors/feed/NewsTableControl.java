@@ -268,7 +268,8 @@ public class NewsTableControl implements IFeedViewPart {
    * @see org.rssowl.ui.internal.editors.feed.IFeedViewPart#createPart(org.eclipse.swt.widgets.Composite)
    */
   public void createPart(Composite parent) {
-    int style = SWT.MULTI | SWT.FULL_SELECTION;
+    /* Virtual: Items exist for all News, but Labels are only created for visible Rows */
+    int style = SWT.MULTI | SWT.FULL_SELECTION | SWT.VIRTUAL;
 
     fCustomTree = new CTree(parent, style);
     fCustomTree.getControl().setHeaderVisible(true);
@@ -398,7 +399,7 @@ public class NewsTableControl implements IFeedViewPart {
     }
 
     /* Create Sorter */
-    fNewsSorter = new NewsComparator();
+    fNewsSorter = new NewsComparator(fFeedViewSite.getSortKeys());
     fViewer.setComparator(fNewsSorter);
 
     /* Set Comparer */
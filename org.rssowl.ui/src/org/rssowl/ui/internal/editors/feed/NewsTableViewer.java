@@ -28,6 +28,11 @@ import org.eclipse.jface.viewers.IContentProvider;
 import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.jface.viewers.StructuredSelection;
 import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Item;
+import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swt.widgets.Tree;
 import org.eclipse.swt.widgets.TreeItem;
 import org.rssowl.core.persist.INews;
@@ -41,11 +46,21 @@ import java.util.List;
 
 /**
  * The actual TreeViewer responsible for displaying the Headlines of a Feed.
+ * <p>
+ * If the underlying Tree was created with <code>SWT.VIRTUAL</code>, the labels
+ * of an item are only created once the item becomes visible. Sorting, filtering
+ * and grouping still operate on all elements, but the expensive work of the
+ * label provider is limited to the rows that are actually shown.
+ * </p>
  *
  * @author Ismael Juma (ismael@juma.me.uk)
  * @author bpasero
  */
 public class NewsTableViewer extends TreeViewer {
+
+  /* Key to mark Items of a virtual Tree that have been shown already */
+  private static final String MATERIALIZED_KEY = "org.rssowl.ui.internal.editors.feed.Materialized"; //$NON-NLS-1$
+
   private boolean fBlockRefresh;
 
   /**
@@ -55,6 +70,48 @@ public class NewsTableViewer extends TreeViewer {
     super(tree);
   }
 
+  /*
+   * @see org.eclipse.jface.viewers.TreeViewer#hookControl(org.eclipse.swt.widgets.Control)
+   */
+  @Override
+  protected void hookControl(Control control) {
+    super.hookControl(control);
+
+    /* Create the Labels of virtual Items once they are shown */
+    if ((control.getStyle() & SWT.VIRTUAL) != 0) {
+      control.addListener(SWT.SetData, new Listener() {
+        public void handleEvent(Event event) {
+          materialize((Item) event.item);
+        }
+      });
+    }
+  }
+
+  private void materialize(Item item) {
+    item.setData(MATERIALIZED_KEY, Boolean.TRUE);
+
+    Object element = item.getData();
+    if (element != null)
+      super.doUpdateItem(item, element);
+  }
+
+  /*
+   * @see org.eclipse.jface.viewers.TreeViewer#doUpdateItem(org.eclipse.swt.widgets.Item, java.lang.Object)
+   */
+  @Override
+  protected void doUpdateItem(Item item, Object element) {
+
+    /* Defer the Label Update of a virtual Item until it is shown */
+    if (isVirtual() && item.getData(MATERIALIZED_KEY) == null)
+      return;
+
+    super.doUpdateItem(item, element);
+  }
+
+  private boolean isVirtual() {
+    return (getTree().getStyle() & SWT.VIRTUAL) != 0;
+  }
+
   /*
    * @see org.eclipse.jface.viewers.StructuredViewer#refresh()
    */
@@ -0,0 +1,210 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2009 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.ui.internal.services;
+
+import org.rssowl.core.persist.IBookMark;
+import org.rssowl.core.persist.IFeed;
+import org.rssowl.core.util.DateUtils;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+
+/**
+ * Computes the time of the next automatic reload of a single Feed based on its
+ * configured update interval, the observed history of new News and the hints
+ * the Feed is providing:
+ * <ul>
+ * <li>The interval is stretched to half of the observed time between new News
+ * as reported by {@link IBookMark#getMostRecentNewsDate()}.</li>
+ * <li>After a number of reloads without new News (including reloads answered
+ * with "Not Modified"), the interval is doubled with each further reload.</li>
+ * <li>After failed reloads, the interval is doubled with each failure.</li>
+ * <li>The interval is never shorter than the TTL of the Feed or the update
+ * period and frequency of the Syndication Namespace.</li>
+ * <li>Reloads are moved out of the hours and days the Feed asks to skip (in
+ * GMT, as defined by RSS 2.0).</li>
+ * </ul>
+ * The interval is never shorter than the configured interval and never longer
+ * than a fixed multiple of it (or one day, whatever is less), unless the hints
+ * of the Feed ask for a longer one.
+ */
+public class AdaptiveReloadInterval {
+
+  /* Maximum factor by which the configured interval is stretched */
+  private static final int MAX_FACTOR = 32;
+
+  /* Number of reloads without new News before backing off */
+  private static final int UNCHANGED_THRESHOLD = 3;
+
+  /* One Hour in millis */
+  private static final long HOUR = 60 * 60 * 1000;
+
+  /* Length of the Update Periods as defined in IFeed.PERIODS in millis */
+  private static final long[] PERIODS = new long[] { HOUR, DateUtils.DAY, DateUtils.WEEK, 30 * DateUtils.DAY, 365 * DateUtils.DAY };
+
+  private final long fInterval;
+  private final long fMaxInterval;
+  private long fMostRecentNewsDate = -1;
+  private long fNewsInterval;
+  private int fUnchanged;
+  private int fErrors;
+  private long fHintInterval;
+  private int fHoursToSkip;
+  private int fDaysToSkip;
+
+  /**
+   * @param intervalInMillis the configured update interval in milliseconds.
+   */
+  public AdaptiveReloadInterval(long intervalInMillis) {
+    fInterval = Math.max(1, intervalInMillis);
+    fMaxInterval = Math.max(fInterval, Math.min(fInterval * MAX_FACTOR, DateUtils.DAY));
+  }
+
+  /**
+   * Updates the hints about its update schedule from the given Feed as loaded
+   * from the network.
+   *
+   * @param feed the {@link IFeed} as loaded from the network.
+   */
+  public synchronized void setHints(IFeed feed) {
+
+    /* Time to Live (in Minutes) */
+    long hintInterval = Math.max(0, feed.getTTL()) * 60L * 1000L;
+
+    /* Update Period and Frequency */
+    int period = feed.getUpdatePeriod();
+    if (period >= 0 && period < PERIODS.length)
+      hintInterval = Math.max(hintInterval, PERIODS[period] / Math.max(1, feed.getUpdateFrequency()));
+
+    fHintInterval = hintInterval;
+
+    /* Skip Hours and Days (ignored if nothing would be left) */
+    fHoursToSkip = toBits(feed.getHoursToSkip());
+    if (fHoursToSkip == (1 << 24) - 1)
+      fHoursToSkip = 0;
+
+    fDaysToSkip = toBits(feed.getDaysToSkip());
+    if (fDaysToSkip == (1 << 7) - 1)
+      fDaysToSkip = 0;
+  }
+
+  /**
+   * @param error <code>true</code> if the last reload of the Feed failed and
+   * <code>false</code> otherwise.
+   */
+  public synchronized void setError(boolean error) {
+    fErrors = error ? fErrors + 1 : 0;
+  }
+
+  /**
+   * Computes the time of the next reload. Should be called once for every
+   * reload that is performed.
+   *
+   * @param now the current time in millis.
+   * @param mostRecentNewsDate the date when new News where added to the Feed
+   * most recently or <code>null</code> if none.
+   * @return the time of the next reload in millis.
+   */
+  public synchronized long nextReload(long now, Date mostRecentNewsDate) {
+    long newsDate = (mostRecentNewsDate != null) ? mostRecentNewsDate.getTime() : -1;
+
+    /* Learn from the History of new News */
+    if (newsDate > fMostRecentNewsDate) {
+      if (fMostRecentNewsDate >= 0) {
+        long newsInterval = newsDate - fMostRecentNewsDate;
+        fNewsInterval = (fNewsInterval == 0) ? newsInterval : (fNewsInterval + newsInterval) / 2;
+      }
+
+      fMostRecentNewsDate = newsDate;
+      fUnchanged = 0;
+    } else
+      fUnchanged++;
+
+    long interval = fInterval;
+
+    /* Back off after Errors */
+    if (fErrors > 0)
+      interval = fInterval << Math.min(fErrors, 5);
+
+    /* Follow the rate of new News and back off while nothing changes */
+    else {
+      if (fNewsInterval > 0)
+        interval = Math.max(interval, fNewsInterval / 2);
+
+      if (fUnchanged >= UNCHANGED_THRESHOLD)
+        interval = Math.max(interval, fInterval << Math.min(fUnchanged - UNCHANGED_THRESHOLD + 1, 5));
+    }
+
+    interval = Math.min(interval, fMaxInterval);
+
+    /* Respect the Hints of the Feed */
+    interval = Math.max(interval, Math.min(fHintInterval, Math.max(fInterval, DateUtils.DAY)));
+
+    return skip(now + interval);
+  }
+
+  private long skip(long time) {
+    if (fHoursToSkip == 0 && fDaysToSkip == 0)
+      return time;
+
+    Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("GMT")); //$NON-NLS-1$
+    calendar.setTimeInMillis(time);
+    boolean moved = false;
+    while (isSkipped(calendar)) {
+      calendar.add(Calendar.HOUR_OF_DAY, 1);
+      moved = true;
+    }
+
+    /* Reload at the beginning of the first Hour not skipped */
+    if (moved) {
+      calendar.set(Calendar.MINUTE, 0);
+      calendar.set(Calendar.SECOND, 0);
+      calendar.set(Calendar.MILLISECOND, 0);
+    }
+
+    return calendar.getTimeInMillis();
+  }
+
+  private boolean isSkipped(Calendar calendar) {
+    int hour = calendar.get(Calendar.HOUR_OF_DAY);
+    if ((fHoursToSkip & (1 << hour)) != 0)
+      return true;
+
+    /* IFeed.DAYS starts with Monday */
+    int day = (calendar.get(Calendar.DAY_OF_WEEK) + 5) % 7;
+    return (fDaysToSkip & (1 << day)) != 0;
+  }
+
+  private static int toBits(int[] indices) {
+    int bits = 0;
+    if (indices != null) {
+      for (int index : indices)
+        bits |= (1 << index);
+    }
+
+    return bits;
+  }
+}
@@ -35,13 +35,18 @@ import org.eclipse.ui.PlatformUI;
 import org.rssowl.core.Owl;
 import org.rssowl.core.internal.persist.pref.DefaultPreferences;
 import org.rssowl.core.persist.IBookMark;
+import org.rssowl.core.persist.IFeed;
 import org.rssowl.core.persist.INewsBin;
 import org.rssowl.core.persist.INewsMark;
 import org.rssowl.core.persist.dao.DynamicDAO;
 import org.rssowl.core.persist.event.BookMarkAdapter;
 import org.rssowl.core.persist.event.BookMarkEvent;
 import org.rssowl.core.persist.pref.IPreferenceScope;
+import org.rssowl.core.persist.reference.FeedLinkReference;
+import org.rssowl.core.util.CoreUtils;
+import org.rssowl.core.util.URIUtils;
 import org.rssowl.ui.internal.Controller;
+import org.rssowl.ui.internal.Controller.BookMarkLoadListener;
 import org.rssowl.ui.internal.OwlUI;
 import org.rssowl.ui.internal.OwlUI.FeedViewOpenMode;
 import org.rssowl.ui.internal.util.EditorUtils;
@@ -50,16 +55,33 @@ import org.rssowl.ui.internal.util.JobRunner;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A Service managing automatic reload of Feeds in RSSOwl based on the user
  * preferences.
+ * <p>
+ * All automatic reloads are kept in a single queue ordered by due time that is
+ * processed from one scheduler Job. The first reload of each Feed is spread
+ * over the second half of its update interval by a jitter derived from the
+ * BookMark's ID, so that Feeds sharing an interval do not wake up at the same
+ * time. Due reloads are passed on to the {@link Controller} with a maximum rate
+ * per second and a maximum number of reloads per host that have not finished
+ * yet.
+ * </p>
+ * <p>
+ * If the System Property <code>rssowl.reload.adaptive</code> is set to
+ * <code>true</code>, the interval between two automatic reloads of a Feed is
+ * adapted to the Feed by an {@link AdaptiveReloadInterval}.
+ * </p>
  *
  * @author bpasero
  */
@@ -71,73 +93,126 @@ public class FeedReloadService {
   /* The delay-value in millis (30 Seconds) */
   private static final int DELAY_VALUE = 30 * 1000;
 
+  /* Interval in millis at which the scheduler runs while reloads are due */
+  private static final int TICK = 1000;
+
+  /* Default Maximum number of reloads to dispatch per Tick */
+  private static final int DEFAULT_MAX_RELOADS_PER_TICK = 10;
+
+  /* System Property to override the maximum number of reloads per Tick */
+  private static final String MAX_RELOADS_PER_TICK_PROPERTY = "rssowl.reload.maxpersecond"; //$NON-NLS-1$
+
+  /* Default Maximum number of unfinished reloads per host */
+  private static final int DEFAULT_MAX_RELOADS_PER_HOST = 4;
+
+  /* System Property to override the maximum number of unfinished reloads per host */
+  private static final String MAX_RELOADS_PER_HOST_PROPERTY = "rssowl.reload.maxperhost"; //$NON-NLS-1$
+
+  /* System Property to adapt the interval of each Feed to its History and Hints */
+  private static final String ADAPTIVE_RELOAD_PROPERTY = "rssowl.reload.adaptive"; //$NON-NLS-1$
+
+  /* Maximum number of due reloads to skip per Tick because their host is busy */
+  private static final int MAX_DEFERRED_PER_TICK = 100;
+
+  /* Time in millis after which a dispatched reload no longer counts for its host (10 Minutes) */
+  private static final int IN_FLIGHT_TIMEOUT = 10 * 60 * 1000;
+
   /* Listen to Bookmark Updates */
   private BookMarkAdapter fBookMarkListener;
 
+  /* Listen to Bookmarks done loading */
+  private BookMarkLoadListener fBookMarkLoadListener;
+
   /* Map IBookMark to Update-Intervals */
   private final Map<IBookMark, Long> fMapBookMarkToInterval;
 
+  /* Scheduled Reloads ordered by due time (all fields below are guarded by this Queue) */
+  private final PriorityQueue<ScheduledReload> fReloadQueue;
+  private final Map<IBookMark, ScheduledReload> fMapBookMarkToReload;
+  private final Map<Long, ScheduledReload> fInFlight;
+  private final Map<String, Integer> fInFlightPerHost;
+  private final Job fSchedulerJob;
+  private final int fMaxReloadsPerTick;
+  private final int fMaxReloadsPerHost;
+  private final boolean fAdaptive;
+  private long fNextRun;
+  private boolean fStopped;
+
+  /* Metrics */
+  private long fDispatchedReloads;
+  private long fTotalLag;
+  private long fMaxLag;
+
+  /* A Reload of a BookMark that is scheduled for a certain time */
+  private static final class ScheduledReload implements Comparable<ScheduledReload> {
+    private final IBookMark fBookMark;
+    private final long fId;
+    private final String fHost;
+    private final long fIntervalInMillis;
+    private final AdaptiveReloadInterval fAdaptiveInterval;
+    private long fDueTime;
+    private long fDispatchTime;
+
+    ScheduledReload(IBookMark bookMark, long intervalInSeconds, boolean adaptive) {
+      fBookMark = bookMark;
+      fId = bookMark.getId();
+      fHost = getHost(bookMark);
+      fIntervalInMillis = Math.max(1, intervalInSeconds) * 1000;
+      fAdaptiveInterval = adaptive ? new AdaptiveReloadInterval(fIntervalInMillis) : null;
+    }
+
+    long nextDueTime(long now) {
+      if (fAdaptiveInterval != null)
+        return fAdaptiveInterval.nextReload(now, fBookMark.getMostRecentNewsDate());
+
+      return now + fIntervalInMillis;
+    }
+
+    public int compareTo(ScheduledReload other) {
+      if (fDueTime != other.fDueTime)
+        return fDueTime < other.fDueTime ? -1 : 1;
+
+      return fId < other.fId ? -1 : (fId == other.fId ? 0 : 1);
+    }
+  }
+
   /*
-   * This subclass of a Job is making sure to delay the operation for <code>WAKEUP_DELAY</code>
-   * millis in case it is detecting that the last run of the Job was some amount
-   * of time (<code>DELAY_THRESHOLD</code>) after it was meant to be run due
-   * to the given Update-Interval. This fixes a problem, where all Update-Jobs
-   * would immediately run after waking up from an OS hibernate (e.g. on
-   * Windows). Since all Jobs are scheduled based on a time-dif, once waking up
-   * from hibernate, the dif is usually telling the Jobs to schedule
-   * immediately, even before network interfaces had any chance to start. Thus,
-   * all BookMarks will show errors.
+   * The scheduler is making sure to delay the reloads for <code>DELAY_VALUE</code>
+   * millis in case it is detecting that it runs some amount of time (<code>DELAY_THRESHOLD</code>)
+   * after it was meant to be run. This fixes a problem, where all reloads would
+   * immediately run after waking up from an OS hibernate (e.g. on Windows).
+   * Since the Job is scheduled based on a time-dif, once waking up from
+   * hibernate, the dif is usually telling the Job to schedule immediately, even
+   * before network interfaces had any chance to start. Thus, all BookMarks will
+   * show errors.
    */
-  private class ReloadJob extends Job {
-    private final IBookMark fBookMark;
-    private long fLastRunInMillis;
+  private class SchedulerJob extends Job {
 
-    ReloadJob(IBookMark bookMark, String name) {
-      super(name);
-      fBookMark = bookMark;
-      fLastRunInMillis = System.currentTimeMillis();
+    SchedulerJob() {
+      super(""); //$NON-NLS-1$
     }
 
     @Override
     protected IStatus run(IProgressMonitor monitor) {
+      if (monitor.isCanceled() || Controller.getDefault().isShuttingDown())
+        return Status.OK_STATUS;
 
-      /* Update Interval of this BookMark */
-      Long updateIntervalInSeconds = fMapBookMarkToInterval.get(fBookMark);
-
-      /* Delay execution if required */
-      if (delay(updateIntervalInSeconds) && !monitor.isCanceled()) {
-        try {
-          Thread.sleep(DELAY_VALUE);
-        } catch (InterruptedException e) {
-          /* Ignore */
-        }
-      }
-
-      /* Update field */
-      fLastRunInMillis = System.currentTimeMillis();
+      List<IBookMark> bookmarksToReload = dispatch(System.currentTimeMillis());
 
       /* Reload */
-      if (!monitor.isCanceled() && !Controller.getDefault().isShuttingDown())
-        Controller.getDefault().reloadQueued(fBookMark, null, null);
+      for (IBookMark bookmark : bookmarksToReload) {
+        if (monitor.isCanceled() || Controller.getDefault().isShuttingDown())
+          break;
 
-      /* Re-Schedule */
-      if (!monitor.isCanceled() && !Controller.getDefault().isShuttingDown() && updateIntervalInSeconds != null)
-        schedule(updateIntervalInSeconds * 1000);
+        Controller.getDefault().reloadQueued(bookmark, null, null);
+      }
 
       return Status.OK_STATUS;
     }
 
     @Override
     public boolean belongsTo(Object family) {
-      return family.equals(fBookMark) || family.equals(FeedReloadService.this);
-    }
-
-    private boolean delay(Long updateIntervalInSeconds) {
-      if (fLastRunInMillis == 0 || updateIntervalInSeconds == null)
-        return false;
-
-      long dif = System.currentTimeMillis() - fLastRunInMillis;
-      return dif > ((updateIntervalInSeconds * 1000) + DELAY_THRESHOLD);
+      return family.equals(FeedReloadService.this);
     }
   }
 
@@ -146,6 +221,15 @@ public class FeedReloadService {
    */
   public FeedReloadService() {
     fMapBookMarkToInterval = new ConcurrentHashMap<IBookMark, Long>();
+    fReloadQueue = new PriorityQueue<ScheduledReload>();
+    fMapBookMarkToReload = new HashMap<IBookMark, ScheduledReload>();
+    fInFlight = new HashMap<Long, ScheduledReload>();
+    fInFlightPerHost = new HashMap<String, Integer>();
+    fMaxReloadsPerTick = CoreUtils.getIntProperty(MAX_RELOADS_PER_TICK_PROPERTY, DEFAULT_MAX_RELOADS_PER_TICK);
+    fMaxReloadsPerHost = CoreUtils.getIntProperty(MAX_RELOADS_PER_HOST_PROPERTY, DEFAULT_MAX_RELOADS_PER_HOST);
+    fAdaptive = Boolean.getBoolean(ADAPTIVE_RELOAD_PROPERTY);
+    fSchedulerJob = new SchedulerJob();
+    fSchedulerJob.setSystem(true);
 
     /* Register Listeners */
     registerListeners();
@@ -161,9 +245,101 @@ public class FeedReloadService {
   /** Unregister from Listeners and cancel all Jobs */
   public void stopService() {
     unregisterListeners();
+    synchronized (fReloadQueue) {
+      fStopped = true;
+      fReloadQueue.clear();
+      fMapBookMarkToReload.clear();
+    }
     Job.getJobManager().cancel(this);
   }
 
+  /**
+   * @return the number of BookMarks that are scheduled for automatic reload.
+   */
+  public int getScheduledCount() {
+    synchronized (fReloadQueue) {
+      return fReloadQueue.size();
+    }
+  }
+
+  /**
+   * @return the number of BookMarks that are due for automatic reload but have
+   * not yet been passed on to the {@link Controller}.
+   */
+  public int getQueueDepth() {
+    long now = System.currentTimeMillis();
+    int depth = 0;
+    synchronized (fReloadQueue) {
+      for (ScheduledReload reload : fReloadQueue) {
+        if (reload.fDueTime <= now)
+          depth++;
+      }
+    }
+
+    return depth;
+  }
+
+  /**
+   * @return the number of automatic reloads that have been passed on to the
+   * {@link Controller} but did not yet finish.
+   */
+  public int getInFlightCount() {
+    synchronized (fReloadQueue) {
+      return fInFlight.size();
+    }
+  }
+
+  /**
+   * @return the number of automatic reloads that have been passed on to the
+   * {@link Controller}.
+   */
+  public long getDispatchedCount() {
+    synchronized (fReloadQueue) {
+      return fDispatchedReloads;
+    }
+  }
+
+  /**
+   * @return the average time in millis between the due time of an automatic
+   * reload and the time it was passed on to the {@link Controller}.
+   */
+  public long getAverageLag() {
+    synchronized (fReloadQueue) {
+      return fDispatchedReloads > 0 ? fTotalLag / fDispatchedReloads : 0;
+    }
+  }
+
+  /**
+   * @return the maximum time in millis between the due time of an automatic
+   * reload and the time it was passed on to the {@link Controller}.
+   */
+  public long getMaxLag() {
+    synchronized (fReloadQueue) {
+      return fMaxLag;
+    }
+  }
+
+  /**
+   * Informs the service about a Feed that has been loaded from the network for
+   * the given BookMark. Used to respect the update hints of the Feed when
+   * adapting the interval of automatic reloads.
+   *
+   * @param bookmark the {@link IBookMark} that was reloaded.
+   * @param feed the {@link IFeed} as loaded from the network.
+   */
+  public void feedLoaded(IBookMark bookmark, IFeed feed) {
+    if (!fAdaptive)
+      return;
+
+    ScheduledReload reload;
+    synchronized (fReloadQueue) {
+      reload = fMapBookMarkToReload.get(bookmark);
+    }
+
+    if (reload != null)
+      reload.fAdaptiveInterval.setHints(feed);
+  }
+
   private void init() {
 
     /* Query Update Intervals and reload/open state */
@@ -210,7 +386,7 @@ public class FeedReloadService {
       });
     }
 
-    /* Initialize the Jobs that manages Updates */
+    /* Schedule the Updates */
     Set<Entry<IBookMark, Long>> entries = fMapBookMarkToInterval.entrySet();
     for (Entry<IBookMark, Long> entry : entries) {
       IBookMark bookMark = entry.getKey();
@@ -239,10 +415,184 @@ public class FeedReloadService {
     }
   }
 
-  private void scheduleUpdate(final IBookMark bookMark, Long intervalInSeconds) {
-    Job updateJob = new ReloadJob(bookMark, ""); //$NON-NLS-1$
-    updateJob.setSystem(true);
-    updateJob.schedule(intervalInSeconds * 1000);
+  private void scheduleUpdate(IBookMark bookMark, Long intervalInSeconds) {
+    if (bookMark.getId() == null)
+      return;
+
+    ScheduledReload reload = new ScheduledReload(bookMark, intervalInSeconds, fAdaptive);
+    long now = System.currentTimeMillis();
+    reload.fDueTime = now + reload.fIntervalInMillis - jitter(reload.fId, reload.fIntervalInMillis / 2);
+
+    synchronized (fReloadQueue) {
+      if (fStopped)
+        return;
+
+      ScheduledReload oldReload = fMapBookMarkToReload.put(bookMark, reload);
+      if (oldReload != null)
+        fReloadQueue.remove(oldReload);
+
+      fReloadQueue.add(reload);
+      wakeUp(reload.fDueTime, now);
+    }
+  }
+
+  private void unscheduleUpdate(IBookMark bookMark) {
+    synchronized (fReloadQueue) {
+      ScheduledReload reload = fMapBookMarkToReload.remove(bookMark);
+      if (reload != null)
+        fReloadQueue.remove(reload);
+    }
+  }
+
+  /* Returns a value in [0, range) that is always the same for the given ID */
+  private static long jitter(long id, long range) {
+    if (range <= 0)
+      return 0;
+
+    long hash = id * 0x9E3779B97F4A7C15L;
+    hash ^= (hash >>> 32);
+
+    return (hash & Long.MAX_VALUE) % range;
+  }
+
+  private static String getHost(IBookMark bookMark) {
+    FeedLinkReference feedLinkReference = bookMark.getFeedLinkReference();
+    String host = (feedLinkReference != null) ? URIUtils.safeGetHost(feedLinkReference.getLink()) : null;
+
+    return (host != null) ? host.toLowerCase() : ""; //$NON-NLS-1$
+  }
+
+  /* Make sure the Scheduler runs no later than the given time. Must be called while holding the Queue */
+  private void wakeUp(long time, long now) {
+    if (fNextRun == 0 || time < fNextRun) {
+      long delay = Math.max(0, time - now);
+      if (reschedule(delay))
+        fNextRun = now + delay;
+    }
+  }
+
+  /* Job#schedule() has no effect while the Job is sleeping or waiting, so it is woken up instead */
+  private boolean reschedule(long delay) {
+    switch (fSchedulerJob.getState()) {
+
+      /* Sleeping until the previous (later) time */
+      case Job.SLEEPING:
+        fSchedulerJob.wakeUp(delay);
+        return true;
+
+      /* About to run right away, which is not later than the given time */
+      case Job.WAITING:
+        return false;
+
+      /* Not scheduled or running (will be re-scheduled when done) */
+      default:
+        fSchedulerJob.schedule(delay);
+        return true;
+    }
+  }
+
+  /* Takes the due Reloads from the Queue honoring the rate and host limits */
+  private List<IBookMark> dispatch(long now) {
+    List<IBookMark> bookmarksToReload = new ArrayList<IBookMark>();
+
+    synchronized (fReloadQueue) {
+      if (fStopped)
+        return bookmarksToReload;
+
+      long expectedRun = fNextRun;
+      fNextRun = 0;
+
+      /* Delay execution if the Scheduler ran a lot later than expected */
+      if (expectedRun != 0 && now - expectedRun > DELAY_THRESHOLD) {
+        wakeUp(now + DELAY_VALUE, now);
+        return bookmarksToReload;
+      }
+
+      /* Release Reloads that did not report back in time */
+      if (!fInFlight.isEmpty()) {
+        Iterator<ScheduledReload> iterator = fInFlight.values().iterator();
+        while (iterator.hasNext()) {
+          ScheduledReload reload = iterator.next();
+          if (now - reload.fDispatchTime > IN_FLIGHT_TIMEOUT) {
+            iterator.remove();
+            decrementInFlight(reload.fHost);
+          }
+        }
+      }
+
+      /* Dispatch due Reloads */
+      List<ScheduledReload> deferred = null;
+      while (bookmarksToReload.size() < fMaxReloadsPerTick && !fReloadQueue.isEmpty() && fReloadQueue.peek().fDueTime <= now) {
+        if (deferred != null && deferred.size() >= MAX_DEFERRED_PER_TICK)
+          break;
+
+        ScheduledReload reload = fReloadQueue.poll();
+
+        /* Host is busy: keep the Reload due and retry with the next Tick */
+        Integer inFlight = fInFlightPerHost.get(reload.fHost);
+        if (inFlight != null && inFlight >= fMaxReloadsPerHost) {
+          if (deferred == null)
+            deferred = new ArrayList<ScheduledReload>();
+          deferred.add(reload);
+          continue;
+        }
+
+        /* Update Metrics */
+        long lag = now - reload.fDueTime;
+        fDispatchedReloads++;
+        fTotalLag += lag;
+        fMaxLag = Math.max(fMaxLag, lag);
+
+        /* Track until done loading */
+        reload.fDispatchTime = now;
+        if (fInFlight.put(reload.fId, reload) == null)
+          fInFlightPerHost.put(reload.fHost, inFlight != null ? inFlight + 1 : 1);
+
+        /* Re-Schedule */
+        reload.fDueTime = reload.nextDueTime(now);
+        fReloadQueue.add(reload);
+
+        bookmarksToReload.add(reload.fBookMark);
+      }
+
+      if (deferred != null)
+        fReloadQueue.addAll(deferred);
+
+      /* Schedule next run */
+      if (!fReloadQueue.isEmpty()) {
+        long nextDueTime = fReloadQueue.peek().fDueTime;
+        wakeUp(nextDueTime > now ? nextDueTime : now + TICK, now);
+      }
+    }
+
+    return bookmarksToReload;
+  }
+
+  private void onBookMarkDoneLoading(IBookMark bookmark) {
+    Long id = bookmark.getId();
+    if (id == null)
+      return;
+
+    ScheduledReload scheduledReload;
+    synchronized (fReloadQueue) {
+      ScheduledReload reload = fInFlight.remove(id);
+      if (reload != null)
+        decrementInFlight(reload.fHost);
+
+      scheduledReload = fMapBookMarkToReload.get(bookmark);
+    }
+
+    /* Back off from Feeds that fail to load */
+    if (scheduledReload != null && scheduledReload.fAdaptiveInterval != null)
+      scheduledReload.fAdaptiveInterval.setError(bookmark.isErrorLoading());
+  }
+
+  private void decrementInFlight(String host) {
+    Integer inFlight = fInFlightPerHost.get(host);
+    if (inFlight == null || inFlight <= 1)
+      fInFlightPerHost.remove(host);
+    else
+      fInFlightPerHost.put(host, inFlight - 1);
   }
 
   private void registerListeners() {
@@ -268,10 +618,21 @@ public class FeedReloadService {
     };
 
     DynamicDAO.addEntityListener(IBookMark.class, fBookMarkListener);
+
+    fBookMarkLoadListener = new BookMarkLoadListener() {
+      public void bookMarkAboutToLoad(IBookMark bookmark) {}
+
+      public void bookMarkDoneLoading(IBookMark bookmark) {
+        onBookMarkDoneLoading(bookmark);
+      }
+    };
+
+    Controller.getDefault().addBookMarkLoadListener(fBookMarkLoadListener);
   }
 
   private void unregisterListeners() {
     DynamicDAO.removeEntityListener(IBookMark.class, fBookMarkListener);
+    Controller.getDefault().removeBookMarkLoadListener(fBookMarkLoadListener);
   }
 
   private void onBookMarksAdded(Set<BookMarkEvent> events) {
@@ -325,7 +686,6 @@ public class FeedReloadService {
 
       /* New Interval different to Old Interval */
       else if (!newInterval.equals(oldInterval)) {
-        Job.getJobManager().cancel(updatedBookmark);
         fMapBookMarkToInterval.put(updatedBookmark, newInterval);
         scheduleUpdate(updatedBookmark, newInterval);
       }
@@ -339,7 +699,7 @@ public class FeedReloadService {
 
   private void removeUpdate(IBookMark bookmark) {
     fMapBookMarkToInterval.remove(bookmark);
-    Job.getJobManager().cancel(bookmark);
+    unscheduleUpdate(bookmark);
   }
 
   private void addUpdate(IBookMark bookmark, Long intervalInSeconds) {
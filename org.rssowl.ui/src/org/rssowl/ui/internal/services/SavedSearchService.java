@@ -36,6 +36,7 @@ import org.rssowl.core.persist.IFolder;
 import org.rssowl.core.persist.INews;
 import org.rssowl.core.persist.INews.State;
 import org.rssowl.core.persist.INewsBin;
+import org.rssowl.core.persist.ISearchCondition;
 import org.rssowl.core.persist.ISearchMark;
 import org.rssowl.core.persist.dao.DynamicDAO;
 import org.rssowl.core.persist.dao.ISearchMarkDAO;
@@ -43,8 +44,10 @@ import org.rssowl.core.persist.event.BookMarkAdapter;
 import org.rssowl.core.persist.event.BookMarkEvent;
 import org.rssowl.core.persist.event.FolderAdapter;
 import org.rssowl.core.persist.event.FolderEvent;
+import org.rssowl.core.persist.event.NewsAdapter;
 import org.rssowl.core.persist.event.NewsBinAdapter;
 import org.rssowl.core.persist.event.NewsBinEvent;
+import org.rssowl.core.persist.event.NewsEvent;
 import org.rssowl.core.persist.event.SearchMarkEvent;
 import org.rssowl.core.persist.reference.NewsReference;
 import org.rssowl.core.persist.service.IModelSearch;
@@ -56,8 +59,12 @@ import org.rssowl.ui.internal.Controller;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -67,6 +74,13 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * The <code>SavedSearchService</code> is responsible to listen for updates to
  * the search-index and updating all <code>ISearchMark</code>s as a result to
  * that event in order to reflect changing search results in the UI.
+ * <p>
+ * News that changed since the last update are matched against all saved
+ * searches at once and only the results for these News are updated. A saved
+ * search is only performed again against the entire index on the first update,
+ * after a reparent, when the index was updated without any known change or
+ * when the search depends on the current time (e.g. the age of News).
+ * </p>
  *
  * @author bpasero
  */
@@ -81,6 +95,9 @@ public class SavedSearchService {
   /* Number of updated documents before using the long batch interval */
   private static final int SHORT_THRESHOLD = 1;
 
+  /* Maximum number of changed News to match against the saved searches at once */
+  private static final int MATCH_CHUNK_SIZE = 500;
+
   private final Job fBatchJob;
   private final AtomicBoolean fBatchInProcess = new AtomicBoolean(false);
   private final AtomicBoolean fUpdatedOnce = new AtomicBoolean(false);
@@ -89,6 +106,9 @@ public class SavedSearchService {
   private BookMarkAdapter fBookmarkListener;
   private NewsBinAdapter fNewsBinListener;
   private FolderAdapter fFolderListener;
+  private NewsAdapter fNewsListener;
+  private final Map<Long, INews> fChangedNews = new LinkedHashMap<Long, INews>();
+  private boolean fFullUpdateRequired;
 
   /** Creates and Starts this Service */
   public SavedSearchService() {
@@ -107,7 +127,7 @@ public class SavedSearchService {
         SafeRunner.run(new LoggingSafeRunnable() {
           public void run() throws Exception {
             if (!Controller.getDefault().isShuttingDown())
-              updateSavedSearches(true);
+              updateSavedSearchesFromChanges(false);
           }
         });
 
@@ -142,7 +162,7 @@ public class SavedSearchService {
             IFolder parent = event.getEntity().getParent();
 
             if (oldParent != null && !oldParent.equals(parent)) {
-              updateSavedSearchesFromEvent(1);
+              onReparent();
               break;
             }
           }
@@ -162,7 +182,7 @@ public class SavedSearchService {
             IFolder parent = event.getEntity().getParent();
 
             if (oldParent != null && !oldParent.equals(parent)) {
-              updateSavedSearchesFromEvent(1);
+              onReparent();
               break;
             }
           }
@@ -182,7 +202,7 @@ public class SavedSearchService {
             IFolder parent = event.getEntity().getParent();
 
             if (oldParent != null && !oldParent.equals(parent)) {
-              updateSavedSearchesFromEvent(1);
+              onReparent();
               break;
             }
           }
@@ -191,6 +211,44 @@ public class SavedSearchService {
     };
 
     DynamicDAO.addEntityListener(IFolder.class, fFolderListener);
+
+    /* News Listener: Remember changed News */
+    fNewsListener = new NewsAdapter() {
+      @Override
+      public void entitiesAdded(Set<NewsEvent> events) {
+        onNewsChanged(events, false);
+      }
+
+      @Override
+      public void entitiesUpdated(Set<NewsEvent> events) {
+        onNewsChanged(events, false);
+      }
+
+      @Override
+      public void entitiesDeleted(Set<NewsEvent> events) {
+        onNewsChanged(events, true);
+      }
+    };
+
+    DynamicDAO.addEntityListener(INews.class, fNewsListener);
+  }
+
+  private void onNewsChanged(Set<NewsEvent> events, boolean deleted) {
+    synchronized (fChangedNews) {
+      for (NewsEvent event : events) {
+        INews news = event.getEntity();
+        if (news.getId() != null)
+          fChangedNews.put(news.getId(), deleted ? null : news);
+      }
+    }
+  }
+
+  private void onReparent() {
+    synchronized (fChangedNews) {
+      fFullUpdateRequired = true;
+    }
+
+    updateSavedSearchesFromEvent(1);
   }
 
   private void updateSavedSearchesFromEvent(int entitiesCount) {
@@ -198,7 +256,7 @@ public class SavedSearchService {
       if (!InternalOwl.TESTING)
         onIndexUpdated(entitiesCount);
       else
-        updateSavedSearches(true);
+        updateSavedSearchesFromChanges(true);
     }
   }
 
@@ -207,6 +265,7 @@ public class SavedSearchService {
     DynamicDAO.removeEntityListener(IBookMark.class, fBookmarkListener);
     DynamicDAO.removeEntityListener(INewsBin.class, fNewsBinListener);
     DynamicDAO.removeEntityListener(IFolder.class, fFolderListener);
+    DynamicDAO.removeEntityListener(INews.class, fNewsListener);
   }
 
   private void onIndexUpdated(int entitiesCount) {
@@ -256,48 +315,75 @@ public class SavedSearchService {
    * a user initiated event or an automatic one.
    */
   public void updateSavedSearches(Collection<ISearchMark> searchMarks, boolean fromUserEvent) {
+    updateSavedSearches(searchMarks, Collections.<Long, INews> emptyMap(), true, fromUserEvent);
+  }
+
+  private void updateSavedSearchesFromChanges(boolean force) {
+    Map<Long, INews> changedNews;
+    boolean fullUpdate;
+
+    /* Take the News that changed since the last Update */
+    synchronized (fChangedNews) {
+      changedNews = new HashMap<Long, INews>(fChangedNews);
+      fChangedNews.clear();
+      fullUpdate = force || fFullUpdateRequired || changedNews.isEmpty() || !fUpdatedOnce.get();
+      fFullUpdateRequired = false;
+    }
+
+    Collection<ISearchMark> searchMarks = DynamicDAO.loadAll(ISearchMark.class);
+    updateSavedSearches(searchMarks, changedNews, fullUpdate, false);
+  }
+
+  private void updateSavedSearches(Collection<ISearchMark> searchMarks, Map<Long, INews> changedNews, boolean fullUpdate, boolean fromUserEvent) {
     boolean firstUpdate = !fUpdatedOnce.get();
 
     fUpdatedOnce.set(true);
     IModelSearch modelSearch = Owl.getPersistenceService().getModelSearch();
     Set<SearchMarkEvent> events = new HashSet<SearchMarkEvent>(searchMarks.size());
 
+    /* Match the changed News against all Search Marks at once */
+    Map<ISearchMark, List<SearchHit<NewsReference>>> matches = Collections.emptyMap();
+    if (!changedNews.isEmpty())
+      matches = matchNews(modelSearch, changedNews.values(), searchMarks);
+
     /* For each Search Mark */
     for (ISearchMark searchMark : searchMarks) {
+      boolean changed = false;
+      boolean newNewsAdded = false;
 
       /* Return early if shutting down */
       if (Controller.getDefault().isShuttingDown())
         return;
 
       /* Execute the search */
-      List<SearchHit<NewsReference>> results = modelSearch.searchNews(searchMark.getSearchConditions(), searchMark.matchAllConditions());
+      if (fullUpdate || isTimeDependent(searchMark)) {
+        List<SearchHit<NewsReference>> results = modelSearch.searchNews(searchMark.getSearchConditions(), searchMark.matchAllConditions());
+        Map<INews.State, List<NewsReference>> resultsMap = toResultsMap(results);
 
-      /* Fill Result into Map Buckets */
-      Map<INews.State, List<NewsReference>> resultsMap = new EnumMap<INews.State, List<NewsReference>>(INews.State.class);
+        /* Return early if shutting down */
+        if (resultsMap == null)
+          return;
+
+        /* Set Result */
+        Pair<Boolean, Boolean> result = searchMark.setNewsRefs(resultsMap);
+        changed = result.getFirst();
+        newNewsAdded = result.getSecond();
+      }
 
-      Set<State> visibleStates = INews.State.getVisible();
-      for (SearchHit<NewsReference> searchHit : results) {
+      /* Update Result for the changed News (the index might not contain them yet) */
+      if (!changedNews.isEmpty()) {
+        List<SearchHit<NewsReference>> results = matches.get(searchMark);
+        Map<INews.State, List<NewsReference>> resultsMap = toResultsMap(results != null ? results : Collections.<SearchHit<NewsReference>> emptyList());
 
         /* Return early if shutting down */
-        if (Controller.getDefault().isShuttingDown())
+        if (resultsMap == null)
           return;
 
-        INews.State state = (State) searchHit.getData(INews.STATE);
-        if (visibleStates.contains(state)) {
-          List<NewsReference> newsRefs = resultsMap.get(state);
-          if (newsRefs == null) {
-            newsRefs = new ArrayList<NewsReference>(results.size() / 3);
-            resultsMap.put(state, newsRefs);
-          }
-          newsRefs.add(searchHit.getResult());
-        }
+        Pair<Boolean, Boolean> result = searchMark.updateNewsRefs(changedNews.keySet(), resultsMap);
+        changed |= result.getFirst();
+        newNewsAdded |= result.getSecond();
       }
 
-      /* Set Result */
-      Pair<Boolean, Boolean> result = searchMark.setNewsRefs(resultsMap);
-      boolean changed = result.getFirst();
-      boolean newNewsAdded = result.getSecond();
-
       /* Create Event to indicate changed results if any */
       if (changed)
         events.add(new SearchMarkEvent(searchMark, null, true, !firstUpdate && !fromUserEvent && newNewsAdded));
@@ -308,6 +394,70 @@ public class SavedSearchService {
       DynamicDAO.getDAO(ISearchMarkDAO.class).fireNewsChanged(events);
   }
 
+  private Map<ISearchMark, List<SearchHit<NewsReference>>> matchNews(IModelSearch modelSearch, Collection<INews> changedNews, Collection<ISearchMark> searchMarks) {
+    Map<ISearchMark, List<SearchHit<NewsReference>>> matches = new HashMap<ISearchMark, List<SearchHit<NewsReference>>>();
+    List<INews> chunk = new ArrayList<INews>(Math.min(changedNews.size(), MATCH_CHUNK_SIZE));
+
+    /* Match in Chunks to limit the Memory used for the Index */
+    for (Iterator<INews> it = changedNews.iterator(); it.hasNext();) {
+      INews news = it.next();
+      if (news != null)
+        chunk.add(news);
+
+      if (!chunk.isEmpty() && (chunk.size() == MATCH_CHUNK_SIZE || !it.hasNext())) {
+        Map<ISearchMark, List<SearchHit<NewsReference>>> chunkMatches = modelSearch.matchNews(chunk, searchMarks);
+        for (Map.Entry<ISearchMark, List<SearchHit<NewsReference>>> entry : chunkMatches.entrySet()) {
+          List<SearchHit<NewsReference>> hits = matches.get(entry.getKey());
+          if (hits == null)
+            matches.put(entry.getKey(), new ArrayList<SearchHit<NewsReference>>(entry.getValue()));
+          else
+            hits.addAll(entry.getValue());
+        }
+
+        chunk.clear();
+      }
+    }
+
+    return matches;
+  }
+
+  private Map<INews.State, List<NewsReference>> toResultsMap(List<SearchHit<NewsReference>> results) {
+
+    /* Fill Result into Map Buckets */
+    Map<INews.State, List<NewsReference>> resultsMap = new EnumMap<INews.State, List<NewsReference>>(INews.State.class);
+
+    Set<State> visibleStates = INews.State.getVisible();
+    for (SearchHit<NewsReference> searchHit : results) {
+
+      /* Return early if shutting down */
+      if (Controller.getDefault().isShuttingDown())
+        return null;
+
+      INews.State state = (State) searchHit.getData(INews.STATE);
+      if (visibleStates.contains(state)) {
+        List<NewsReference> newsRefs = resultsMap.get(state);
+        if (newsRefs == null) {
+          newsRefs = new ArrayList<NewsReference>(results.size() / 3);
+          resultsMap.put(state, newsRefs);
+        }
+        newsRefs.add(searchHit.getResult());
+      }
+    }
+
+    return resultsMap;
+  }
+
+  /* Searches on the age of News change their results without any News changing */
+  private boolean isTimeDependent(ISearchMark searchMark) {
+    for (ISearchCondition condition : searchMark.getSearchConditions()) {
+      int fieldId = condition.getField().getId();
+      if (fieldId == INews.AGE_IN_DAYS || fieldId == INews.AGE_IN_MINUTES)
+        return true;
+    }
+
+    return false;
+  }
+
   /** Stops this service and unregisters any listeners added. */
   public void stopService() {
     unregisterListeners();
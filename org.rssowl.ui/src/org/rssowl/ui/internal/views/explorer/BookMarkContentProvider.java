@@ -91,6 +91,7 @@ public class BookMarkContentProvider implements ITreeContentProvider {
   private TreeViewer fViewer;
   private BookMarkFilter fBookmarkFilter;
   private BookMarkGrouping fBookmarkGrouping;
+  private FolderNewsCounter fFolderNewsCounter;
 
   /* Misc. */
   private IBookMarkDAO fBookMarkDAO = DynamicDAO.getDAO(IBookMarkDAO.class);
@@ -224,6 +225,11 @@ public class BookMarkContentProvider implements ITreeContentProvider {
     fBookmarkGrouping = bookmarkGrouping;
   }
 
+  /* The ContentProvider invalidates this Counter on Events */
+  void setFolderNewsCounter(FolderNewsCounter folderNewsCounter) {
+    fFolderNewsCounter = folderNewsCounter;
+  }
+
   private void registerListeners() {
 
     /* Folder Listener */
@@ -238,6 +244,9 @@ public class BookMarkContentProvider implements ITreeContentProvider {
 
             /* Retrieve Updated Folders */
             for (FolderEvent event : events) {
+              invalidateFolderNewsCounts(event.getEntity());
+              invalidateFolderNewsCounts(event.getOldParent());
+
               if (event.isRoot()) {
 
                 /* Folder got reparented */
@@ -323,6 +332,8 @@ public class BookMarkContentProvider implements ITreeContentProvider {
             /* Retrieve Removed Folders */
             Set<IFolder> removedFolders = null;
             for (FolderEvent event : events) {
+              invalidateFolderNewsCounts(event.getEntity());
+
               if (event.isRoot() && event.getEntity().getParent() != null) {
                 if (removedFolders == null)
                   removedFolders = new HashSet<IFolder>();
@@ -420,6 +431,10 @@ public class BookMarkContentProvider implements ITreeContentProvider {
         JobRunner.runInUIThread(fViewer.getControl(), new Runnable() {
           public void run() {
 
+            /* Folders are not shown while grouping */
+            if (fBookmarkGrouping.isActive())
+              clearFolderNewsCounts();
+
             /* Ask Filter for a refresh */
             if (fBookmarkFilter.needsRefresh(ISearchMark.class, events, true))
               fViewer.refresh(false);
@@ -521,17 +536,17 @@ public class BookMarkContentProvider implements ITreeContentProvider {
     DynamicDAO.addEntityListener(INews.class, fNewsListener);
   }
 
-  private void onMarksAdded(Set<? extends MarkEvent> events) {
+  private void onMarksAdded(final Set<? extends MarkEvent> events) {
+    JobRunner.runInUIThread(fViewer.getControl(), new Runnable() {
+      public void run() {
+        for (MarkEvent event : events)
+          invalidateFolderNewsCounts(event.getEntity().getParent());
 
-    /* Reveal and Select if single Entity added */
-    if (events.size() == 1) {
-      final MarkEvent event = events.iterator().next();
-      JobRunner.runInUIThread(fViewer.getControl(), new Runnable() {
-        public void run() {
-          expand(event.getEntity().getParent());
-        }
-      });
-    }
+        /* Reveal and Select if single Entity added */
+        if (events.size() == 1)
+          expand(events.iterator().next().getEntity().getParent());
+      }
+    });
   }
 
   private void onMarksRemoved(final Set<? extends MarkEvent> events) {
@@ -545,6 +560,8 @@ public class BookMarkContentProvider implements ITreeContentProvider {
         Class<? extends IMark> clazz = null;
         Set<IMark> removedMarks = null;
         for (MarkEvent event : events) {
+          invalidateFolderNewsCounts(event.getEntity().getParent());
+
           if (event.isRoot()) {
             if (removedMarks == null)
               removedMarks = new HashSet<IMark>();
@@ -595,6 +612,9 @@ public class BookMarkContentProvider implements ITreeContentProvider {
 
         /* Retrieve Updated Marks */
         for (MarkEvent event : events) {
+          invalidateFolderNewsCounts(event.getEntity().getParent());
+          invalidateFolderNewsCounts(event.getOldParent());
+
           if (event.isRoot()) {
             IFolder oldParent = event.getOldParent();
 
@@ -724,9 +744,14 @@ public class BookMarkContentProvider implements ITreeContentProvider {
     Set<IEntity> entitiesToUpdate = new HashSet<IEntity>();
     entitiesToUpdate.addAll(bookmarks);
 
+    /* Folders are not shown while grouping */
+    if (fBookmarkGrouping.isActive())
+      clearFolderNewsCounts();
+
     /* Collect parents */
-    if (!fBookmarkGrouping.isActive()) {
+    else {
       for (IBookMark bookmark : bookmarks) {
+        invalidateFolderNewsCounts(bookmark.getParent());
         List<IFolder> visibleParents = new ArrayList<IFolder>();
         collectParents(visibleParents, bookmark);
 
@@ -767,6 +792,8 @@ public class BookMarkContentProvider implements ITreeContentProvider {
   }
 
   private void updateFolderAndParents(IFolder folder) {
+    invalidateFolderNewsCounts(folder);
+
     Set<IEntity> entitiesToUpdate = new HashSet<IEntity>();
     entitiesToUpdate.add(folder);
 
@@ -783,6 +810,16 @@ public class BookMarkContentProvider implements ITreeContentProvider {
     fViewer.update(entitiesToUpdate.toArray(), null);
   }
 
+  private void invalidateFolderNewsCounts(IFolder folder) {
+    if (fFolderNewsCounter != null)
+      fFolderNewsCounter.invalidate(folder);
+  }
+
+  private void clearFolderNewsCounts() {
+    if (fFolderNewsCounter != null)
+      fFolderNewsCounter.clear();
+  }
+
   private void getAllMarks(IFolder folder, List<IMark> marks) {
 
     /* Add all Marks */
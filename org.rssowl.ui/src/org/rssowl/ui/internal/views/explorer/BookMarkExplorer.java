@@ -330,9 +330,14 @@ public class BookMarkExplorer extends ViewPart {
     fBookMarkGrouping = new BookMarkGrouping();
     fBookMarkGrouping.setType(fGroupingType);
 
+    /* Cache Counts of Folders (invalidated by the ContentProvider) */
+    FolderNewsCounter folderNewsCounter = new FolderNewsCounter();
+    fLabelProvider.setFolderNewsCounter(folderNewsCounter);
+
     /* Let the ContentProvider know */
     fContentProvider.setBookmarkFilter(fBookMarkFilter);
     fContentProvider.setBookmarkGrouping(fBookMarkGrouping);
+    fContentProvider.setFolderNewsCounter(folderNewsCounter);
 
     /* Set the initial Input based on selected Bookmark Set */
     fViewer.setInput(fSelectedBookMarkSet);
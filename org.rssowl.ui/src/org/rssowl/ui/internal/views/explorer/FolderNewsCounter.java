@@ -0,0 +1,150 @@
+/*   **********************************************************************  **
+ **   Copyright notice                                                       **
+ **                                                                          **
+ **   (c) 2005-2009 RSSOwl Development Team                                  **
+ **   http://www.rssowl.org/                                                 **
+ **                                                                          **
+ **   All rights reserved                                                    **
+ **                                                                          **
+ **   This program and the accompanying materials are made available under   **
+ **   the terms of the Eclipse Public License v1.0 which accompanies this    **
+ **   distribution, and is available at:                                     **
+ **   http://www.rssowl.org/legal/epl-v10.html                               **
+ **                                                                          **
+ **   A copy is found in the file epl-v10.html and important notices to the  **
+ **   license from the team is found in the textfile LICENSE.txt distributed **
+ **   in this package.                                                       **
+ **                                                                          **
+ **   This copyright notice MUST APPEAR in all copies of the file!           **
+ **                                                                          **
+ **   Contributors:                                                          **
+ **     RSSOwl Development Team - initial API and implementation             **
+ **                                                                          **
+ **  **********************************************************************  */
+
+package org.rssowl.ui.internal.views.explorer;
+
+import org.rssowl.core.persist.IBookMark;
+import org.rssowl.core.persist.IFolder;
+import org.rssowl.core.persist.IFolderChild;
+import org.rssowl.core.persist.INews;
+import org.rssowl.core.persist.INewsMark;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Aggregates the number of new and unread News as well as the presence of
+ * sticky News of all News Marks inside a Folder and its Sub-Folders.
+ * <p>
+ * The aggregate of a Folder is computed from its Marks and the aggregates of
+ * its Sub-Folders and then kept until the Folder or one of its children gets
+ * invalidated. Invalidating a Folder also invalidates all of its Parents, so
+ * that looking up the aggregate of any Folder is a constant time operation as
+ * long as nothing below it changed.
+ * </p>
+ * <p>
+ * Note: This class is not thread-safe and meant to be used from the UI Thread.
+ * </p>
+ */
+public class FolderNewsCounter {
+  private static final Set<INews.State> NEW_STATES = EnumSet.of(INews.State.NEW);
+  private static final Set<INews.State> UNREAD_STATES = EnumSet.of(INews.State.NEW, INews.State.UNREAD, INews.State.UPDATED);
+
+  private final Map<IFolder, Counts> fCounts = new HashMap<IFolder, Counts>();
+
+  /** The aggregated Counts of a Folder */
+  public static final class Counts {
+    private int fNewCount;
+    private int fUnreadCount;
+    private boolean fHasSticky;
+
+    /**
+     * @return the number of new News in the Folder and its Sub-Folders.
+     */
+    public int getNewCount() {
+      return fNewCount;
+    }
+
+    /**
+     * @return the number of unread News in the Folder and its Sub-Folders.
+     */
+    public int getUnreadCount() {
+      return fUnreadCount;
+    }
+
+    /**
+     * @return <code>true</code> if any Bookmark in the Folder or its
+     * Sub-Folders has sticky News and <code>false</code> otherwise.
+     */
+    public boolean hasSticky() {
+      return fHasSticky;
+    }
+  }
+
+  /**
+   * @param folder the Folder to get the aggregated Counts for.
+   * @return the aggregated Counts of all News Marks inside the Folder and its
+   * Sub-Folders.
+   */
+  public Counts getCounts(IFolder folder) {
+    Counts counts = fCounts.get(folder);
+    if (counts == null) {
+      counts = computeCounts(folder);
+      fCounts.put(folder, counts);
+    }
+
+    return counts;
+  }
+
+  /**
+   * Invalidates the aggregated Counts of the given Folder and all of its
+   * Parents. Has to be called whenever the Counts of a child of the Folder
+   * changed or a child was added, removed or moved.
+   *
+   * @param folder the Folder to invalidate including its Parents.
+   */
+  public void invalidate(IFolder folder) {
+
+    /* Parents of a Folder without Counts have no Counts either */
+    while (folder != null && fCounts.remove(folder) != null)
+      folder = folder.getParent();
+  }
+
+  /**
+   * Invalidates the aggregated Counts of all Folders.
+   */
+  public void clear() {
+    fCounts.clear();
+  }
+
+  private Counts computeCounts(IFolder folder) {
+    Counts counts = new Counts();
+    List<IFolderChild> children = folder.getChildren();
+    for (IFolderChild child : children) {
+
+      /* News Mark */
+      if (child instanceof INewsMark) {
+        INewsMark newsMark = (INewsMark) child;
+        counts.fUnreadCount += newsMark.getNewsCount(UNREAD_STATES);
+        counts.fNewCount += newsMark.getNewsCount(NEW_STATES);
+
+        if (!counts.fHasSticky && newsMark instanceof IBookMark && ((IBookMark) newsMark).getStickyNewsCount() > 0)
+          counts.fHasSticky = true;
+      }
+
+      /* Folder */
+      else if (child instanceof IFolder) {
+        Counts childCounts = getCounts((IFolder) child);
+        counts.fUnreadCount += childCounts.fUnreadCount;
+        counts.fNewCount += childCounts.fNewCount;
+        counts.fHasSticky |= childCounts.fHasSticky;
+      }
+    }
+
+    return counts;
+  }
+}